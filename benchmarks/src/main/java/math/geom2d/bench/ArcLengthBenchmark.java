@@ -0,0 +1,88 @@
+/**
+ * File: 	ArcLengthBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Conversions between positions and curvilinear abscissa on long
+ * polylines. Each benchmark processes a batch of queries, and results are
+ * reported per query.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ArcLengthBenchmark {
+
+	/** Number of queries processed by each benchmark */
+	final static int QUERIES = 1024;
+
+	@Param({"1000", "100000"})
+	int size;
+
+	Polyline2D polyline;
+	double[] positions;
+	double[] lengths;
+
+	@Setup
+	public void setup() {
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		double length = polyline.length();
+		Random random = new Random(Datasets.SEED);
+		positions = new double[QUERIES];
+		lengths = new double[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			positions[i] = random.nextDouble() * (size - 1);
+			lengths[i] = random.nextDouble() * length;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void lengthAtPosition(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(polyline.length(positions[i]));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void positionAtLength(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(polyline.position(lengths[i]));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void pointAtLength(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(polyline.point(polyline.position(lengths[i])));
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * File: 	BenchmarkRunner.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class of the benchmark jar. Runs the benchmarks selected by the
+ * command line (all benchmarks by default), always with the GC profiler such
+ * that allocation rates are reported, and writes the results in the
+ * 'jmh-result.json' file for comparison between releases.
+ * Other JMH options given on the command line are preserved.
+ *
+ * <pre><code>
+ * java -jar target/benchmarks.jar
+ * java -jar target/benchmarks.jar ConvexHull2D -p size=1000
+ * </code></pre>
+ * @author dlegland
+ *
+ */
+public class BenchmarkRunner {
+
+	public final static void main(String[] args) throws RunnerException,
+			CommandLineOptionException {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		Options options = new OptionsBuilder()
+				.parent(cmdOptions)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("jmh-result.json")
+				.build();
+		new Runner(options).run();
+	}
+}
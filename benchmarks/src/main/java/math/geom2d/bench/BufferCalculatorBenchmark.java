@@ -0,0 +1,111 @@
+/**
+ * File: 	BufferCalculatorBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.circulinear.CirculinearDomain2D;
+import math.geom2d.circulinear.buffer.BufferCalculator;
+import math.geom2d.point.PointArray2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computation of buffers of polylines, rings and point sets, using the
+ * default buffer calculator. The batch benchmarks compare the sequential
+ * computation of the buffers of a collection of polylines with the parallel
+ * computation by the 'computeBuffers' method.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BufferCalculatorBenchmark {
+
+	/** Number of vertices of the curves, and number of points of the set */
+	@Param({"50", "500"})
+	int size;
+
+	/** Buffer distance, relative to the average edge length of the curves */
+	@Param({"0.5", "4"})
+	double relativeDistance;
+
+	BufferCalculator calculator;
+	Polyline2D polyline;
+	LinearRing2D ring;
+	PointArray2D pointSet;
+	List<Polyline2D> polylines;
+
+	double polylineDist;
+	double ringDist;
+	double pointDist;
+
+	@Setup
+	public void setup() {
+		calculator = BufferCalculator.getDefaultInstance();
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		ring = Datasets.starRing(size, 500, 500, 300, Datasets.SEED);
+		pointSet = PointArray2D.create(Datasets.points(size,
+				Datasets.Distribution.UNIFORM, Datasets.SEED));
+
+		polylineDist = relativeDistance * polyline.length() / size;
+		ringDist = relativeDistance * ring.length() / size;
+		pointDist = relativeDistance * 1000 / Math.sqrt(size);
+
+		polylines = new ArrayList<Polyline2D>(16);
+		for (int i = 0; i < 16; i++)
+			polylines.add(Datasets.randomWalk(size, Datasets.SEED + i));
+	}
+
+	@Benchmark
+	public CirculinearDomain2D polyline() {
+		return calculator.computeBuffer(polyline, polylineDist);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D linearRing() {
+		return calculator.computeBuffer(ring, ringDist);
+	}
+
+	@Benchmark
+	public CirculinearDomain2D pointSet() {
+		return calculator.computeBuffer(pointSet, pointDist);
+	}
+
+	@Benchmark
+	public List<CirculinearDomain2D> batchSequential() {
+		List<CirculinearDomain2D> buffers = new ArrayList<CirculinearDomain2D>();
+		for (Polyline2D curve : polylines)
+			buffers.add(calculator.computeBuffer(curve, polylineDist));
+		return buffers;
+	}
+
+	@Benchmark
+	public List<CirculinearDomain2D> batchParallel() {
+		return calculator.computeBuffers(polylines, polylineDist);
+	}
+}
@@ -0,0 +1,87 @@
+/**
+ * File: 	ClippingBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Box2D;
+import math.geom2d.conic.Ellipse2D;
+import math.geom2d.curve.Curve2D;
+import math.geom2d.curve.CurveSet2D;
+import math.geom2d.curve.Curves2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polygons2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.Polylines2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Clipping of curves and polygons by a box that crosses them several times.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ClippingBenchmark {
+
+	/** Number of vertices of polylines and polygons */
+	@Param({"100", "10000"})
+	int size;
+
+	Box2D box;
+	Polyline2D polyline;
+	Polygon2D polygon;
+	Ellipse2D ellipse;
+
+	@Setup
+	public void setup() {
+		box = new Box2D(300, 700, 300, 700);
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		polygon = Datasets.starPolygon(size, 500, 500, 300, Datasets.SEED);
+		ellipse = new Ellipse2D(500, 500, 300, 150, Math.PI / 6);
+	}
+
+	/**
+	 * Clipping of a polyline using the generic clipping of curves.
+	 */
+	@Benchmark
+	public CurveSet2D<? extends Curve2D> curves2DPolyline() {
+		return Curves2D.clipCurve(polyline, box);
+	}
+
+	@Benchmark
+	public CurveSet2D<Polyline2D> polylines2D() {
+		return Polylines2D.clipPolyline(polyline, box);
+	}
+
+	@Benchmark
+	public Polygon2D polygons2D() {
+		return Polygons2D.clipPolygon(polygon, box);
+	}
+
+	@Benchmark
+	public CurveSet2D<? extends Curve2D> curves2DEllipse() {
+		return Curves2D.clipCurve(ellipse, box);
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * File: 	ConvexHull2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Point2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polygons2D;
+import math.geom2d.polygon.convhull.ChanHull2D;
+import math.geom2d.polygon.convhull.GrahamScan2D;
+import math.geom2d.polygon.convhull.IncrementalConvexHull2D;
+import math.geom2d.polygon.convhull.JarvisMarch2D;
+import math.geom2d.polygon.convhull.MonotoneChain2D;
+import math.geom2d.polygon.convhull.ParallelConvexHull2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computation of convex hulls of point sets. The CIRCLE distribution is the
+ * worst case for algorithms whose complexity depends on the size of the hull,
+ * like Jarvis march, which limits the size of the datasets.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ConvexHull2DBenchmark {
+
+	@Param({"1000", "10000"})
+	int size;
+
+	@Param({"UNIFORM", "GAUSSIAN", "CIRCLE"})
+	Datasets.Distribution distribution;
+
+	ArrayList<Point2D> points;
+	double[] xs, ys;
+	int[] hull;
+
+	@Setup
+	public void setup() {
+		points = Datasets.points(size, distribution, Datasets.SEED);
+		xs = new double[size];
+		ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			xs[i] = points.get(i).x();
+			ys[i] = points.get(i).y();
+		}
+		hull = new int[size];
+	}
+
+	@Benchmark
+	public Polygon2D grahamScan() {
+		return new GrahamScan2D().convexHull(points);
+	}
+
+	@Benchmark
+	public Polygon2D jarvisMarch() {
+		return new JarvisMarch2D().convexHull(points);
+	}
+
+	@Benchmark
+	public Polygon2D monotoneChain() {
+		return new MonotoneChain2D().convexHull(points);
+	}
+
+	@Benchmark
+	public int monotoneChainArrays() {
+		return new MonotoneChain2D().convexHull(xs, ys, size, hull);
+	}
+
+	@Benchmark
+	public int chanArrays() {
+		return new ChanHull2D().convexHull(xs, ys, size, hull);
+	}
+
+	/**
+	 * Parallel computation, with small chunks to use several threads even
+	 * for the smallest datasets.
+	 */
+	@Benchmark
+	public int parallelArrays() {
+		return new ParallelConvexHull2D(ForkJoinPool.commonPool(), 256)
+				.convexHull(xs, ys, size, hull);
+	}
+
+	/**
+	 * Insertion of the points one by one.
+	 */
+	@Benchmark
+	public int incremental() {
+		IncrementalConvexHull2D hull = new IncrementalConvexHull2D();
+		for (int i = 0; i < size; i++)
+			hull.add(points.get(i));
+		return hull.vertexNumber();
+	}
+
+	/**
+	 * The default algorithm used by the library.
+	 */
+	@Benchmark
+	public Polygon2D polygons2D() {
+		return Polygons2D.convexHull(points);
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * File: 	CurveDistanceBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Point2D;
+import math.geom2d.conic.CircleArc2D;
+import math.geom2d.conic.Ellipse2D;
+import math.geom2d.conic.EllipseArc2D;
+import math.geom2d.conic.Hyperbola2D;
+import math.geom2d.conic.HyperbolaBranch2D;
+import math.geom2d.conic.HyperbolaBranchArc2D;
+import math.geom2d.conic.Parabola2D;
+import math.geom2d.conic.ParabolaArc2D;
+import math.geom2d.curve.Curve2D;
+import math.geom2d.spline.CubicBezierCurve2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Distance and projection queries on conics and on Bezier curves. Each
+ * benchmark processes a batch of query points, and results are reported per
+ * query.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CurveDistanceBenchmark {
+
+	/** Number of query points processed by each benchmark */
+	final static int QUERIES = 1024;
+
+	public enum CurveType {
+		CIRCLE_ARC, ELLIPSE, ELLIPSE_ARC, PARABOLA_ARC, HYPERBOLA_ARC,
+		CUBIC_BEZIER
+	}
+
+	@Param({"CIRCLE_ARC", "ELLIPSE", "ELLIPSE_ARC", "PARABOLA_ARC",
+			"HYPERBOLA_ARC", "CUBIC_BEZIER"})
+	CurveType type;
+
+	Curve2D curve;
+	double[] queries;
+	Point2D[] points;
+
+	@Setup
+	public void setup() {
+		curve = createCurve(type);
+		queries = Datasets.queries(QUERIES, Datasets.SEED);
+		points = new Point2D[QUERIES];
+		for (int i = 0; i < QUERIES; i++)
+			points[i] = new Point2D(queries[2 * i], queries[2 * i + 1]);
+	}
+
+	/**
+	 * Creates a curve of the given type, centered around (500, 500) and with
+	 * a size comparable to the range of the query points.
+	 */
+	static Curve2D createCurve(CurveType type) {
+		switch (type) {
+		case CIRCLE_ARC:
+			return new CircleArc2D(500, 500, 300, Math.PI / 6, Math.PI);
+		case ELLIPSE:
+			return new Ellipse2D(500, 500, 400, 150, Math.PI / 6);
+		case ELLIPSE_ARC:
+			return new EllipseArc2D(new Ellipse2D(500, 500, 400, 150,
+					Math.PI / 6), Math.PI / 6, Math.PI);
+		case PARABOLA_ARC:
+			return new ParabolaArc2D(new Parabola2D(500, 200, .005, 0),
+					-300, 300);
+		case HYPERBOLA_ARC:
+			return new HyperbolaBranchArc2D(new HyperbolaBranch2D(
+					new Hyperbola2D(500, 500, 100, 50, 0), true), -2, 2);
+		case CUBIC_BEZIER:
+			return new CubicBezierCurve2D(100, 100, 300, 900, 700, -100,
+					900, 700);
+		}
+		throw new IllegalArgumentException("Unknown curve type: " + type);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void distance(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(curve.distance(queries[2 * i], queries[2 * i + 1]));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void project(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(curve.project(points[i]));
+	}
+}
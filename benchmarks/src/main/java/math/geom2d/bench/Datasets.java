@@ -0,0 +1,179 @@
+/**
+ * File: 	Datasets.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Generators of reproducible datasets used by the benchmarks. All generators
+ * use a seeded random generator, such that two runs of a benchmark (or two
+ * releases of the library) process exactly the same data.
+ * @author dlegland
+ *
+ */
+public class Datasets {
+
+	/** The seed used by default by all benchmarks */
+	public final static long SEED = 20261017L;
+
+	/**
+	 * The distributions of points that can be generated.
+	 */
+	public enum Distribution {
+		/** points uniformly distributed within the square [0 1000]^2 */
+		UNIFORM,
+		/** points following a normal distribution centered on (500, 500) */
+		GAUSSIAN,
+		/** points located on the circle of radius 500 centered on (500, 500) */
+		CIRCLE,
+		/** points grouped in ten dense clusters */
+		CLUSTERED
+	}
+
+	/**
+	 * Generates n points with the given distribution.
+	 */
+	public static ArrayList<Point2D> points(int n, Distribution distribution,
+			long seed) {
+		Random random = new Random(seed);
+		ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+
+		switch (distribution) {
+		case UNIFORM:
+			for (int i = 0; i < n; i++)
+				points.add(new Point2D(random.nextDouble() * 1000,
+						random.nextDouble() * 1000));
+			break;
+		case GAUSSIAN:
+			for (int i = 0; i < n; i++)
+				points.add(new Point2D(500 + random.nextGaussian() * 150,
+						500 + random.nextGaussian() * 150));
+			break;
+		case CIRCLE:
+			for (int i = 0; i < n; i++) {
+				double t = random.nextDouble() * Math.PI * 2;
+				points.add(new Point2D(500 + 500 * Math.cos(t),
+						500 + 500 * Math.sin(t)));
+			}
+			break;
+		case CLUSTERED:
+			double[] xc = new double[10];
+			double[] yc = new double[10];
+			for (int k = 0; k < 10; k++) {
+				xc[k] = random.nextDouble() * 1000;
+				yc[k] = random.nextDouble() * 1000;
+			}
+			for (int i = 0; i < n; i++) {
+				int k = random.nextInt(10);
+				points.add(new Point2D(xc[k] + random.nextGaussian() * 20,
+						yc[k] + random.nextGaussian() * 20));
+			}
+			break;
+		}
+		return points;
+	}
+
+	/**
+	 * Generates the coordinates of n query points uniformly distributed
+	 * within the square [-100 1100]^2, stored as [x0 y0 x1 y1 ...].
+	 */
+	public static double[] queries(int n, long seed) {
+		Random random = new Random(seed);
+		double[] coords = new double[n * 2];
+		for (int i = 0; i < n * 2; i++)
+			coords[i] = random.nextDouble() * 1200 - 100;
+		return coords;
+	}
+
+	/**
+	 * Generates a random star-shaped ring with n vertices, centered on the
+	 * given point, and whose radius varies between r/2 and r. The ring is
+	 * oriented counter-clockwise and is not self-intersecting.
+	 */
+	public static LinearRing2D starRing(int n, double xc, double yc,
+			double r, long seed) {
+		Random random = new Random(seed);
+		LinearRing2D ring = new LinearRing2D(n);
+		for (int i = 0; i < n; i++) {
+			double t = i * Math.PI * 2 / n;
+			double rho = r * (.5 + random.nextDouble() * .5);
+			ring.addVertex(new Point2D(xc + rho * Math.cos(t),
+					yc + rho * Math.sin(t)));
+		}
+		return ring;
+	}
+
+	/**
+	 * Generates a random star-shaped simple polygon with n vertices.
+	 * @see #starRing(int, double, double, double, long)
+	 */
+	public static Polygon2D starPolygon(int n, double xc, double yc,
+			double r, long seed) {
+		return new SimplePolygon2D(starRing(n, xc, yc, r, seed));
+	}
+
+	/**
+	 * Generates a grid of size*size overlapping random hexagons, with a grid
+	 * spacing of 10 units.
+	 */
+	public static ArrayList<Polygon2D> hexagonGrid(int size, long seed) {
+		Random random = new Random(seed);
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>(size * size);
+		for (int i = 0; i < size; i++) {
+			for (int j = 0; j < size; j++) {
+				double xc = i * 10 + random.nextDouble();
+				double yc = j * 10 + random.nextDouble();
+				Point2D[] vertices = new Point2D[6];
+				for (int k = 0; k < 6; k++) {
+					double t = k * Math.PI / 3 + random.nextDouble() * .3;
+					double r = 6 + random.nextDouble() * 2;
+					vertices[k] = new Point2D(xc + r * Math.cos(t),
+							yc + r * Math.sin(t));
+				}
+				polygons.add(new SimplePolygon2D(vertices));
+			}
+		}
+		return polygons;
+	}
+
+	/**
+	 * Generates a random walk with n vertices, starting from (500, 500), with
+	 * steps of length 1000/sqrt(n) and smoothly varying direction. The walk
+	 * is reflected on the boundary of the square [0 1000]^2.
+	 */
+	public static Polyline2D randomWalk(int n, long seed) {
+		Random random = new Random(seed);
+		double step = 1000 / Math.sqrt(n);
+		Polyline2D polyline = new Polyline2D(n);
+		double x = 500, y = 500;
+		double theta = 0;
+		for (int i = 0; i < n; i++) {
+			polyline.addVertex(new Point2D(x, y));
+			theta += random.nextGaussian() * .5;
+			x += step * Math.cos(theta);
+			y += step * Math.sin(theta);
+			if (x < 0 || x > 1000) {
+				x = x < 0 ? -x : 2000 - x;
+				theta = Math.PI - theta;
+			}
+			if (y < 0 || y > 1000) {
+				y = y < 0 ? -y : 2000 - y;
+				theta = -theta;
+			}
+		}
+		return polyline;
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * File: 	FlatteningBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Point2D;
+import math.geom2d.conic.Ellipse2D;
+import math.geom2d.spline.CubicBezierCurve2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion of smooth curves to polylines, either with a fixed number of
+ * vertices or with a maximal chord error.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FlatteningBenchmark {
+
+	@Param({"0.1", "0.001"})
+	double chordError;
+
+	Ellipse2D ellipse;
+	CubicBezierCurve2D bezier;
+
+	@Setup
+	public void setup() {
+		ellipse = new Ellipse2D(0, 0, 100, 5, Math.PI / 6);
+		bezier = new CubicBezierCurve2D(new Point2D(0, 0), 
+				new Point2D(100, 100), new Point2D(-50, 100), 
+				new Point2D(50, 0));
+	}
+
+	@Benchmark
+	public Object ellipseUniform() {
+		return ellipse.asPolyline(1000);
+	}
+
+	@Benchmark
+	public Object ellipseAdaptive() {
+		return ellipse.flatten(chordError);
+	}
+
+	@Benchmark
+	public Object bezierUniform() {
+		return bezier.asPolyline(1000);
+	}
+
+	@Benchmark
+	public Object bezierAdaptive() {
+		return bezier.flatten(chordError);
+	}
+}
@@ -0,0 +1,140 @@
+/**
+ * File: 	KDTree2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.point.KDTree2D;
+import math.geom2d.point.PackedKDTree2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Construction of KD-trees, and nearest neighbor and range queries. Query
+ * benchmarks process a batch of query points, and results are reported per
+ * query.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class KDTree2DBenchmark {
+
+	/** Number of query points processed by each query benchmark */
+	final static int QUERIES = 1024;
+
+	@Param({"1000", "100000"})
+	int size;
+
+	@Param({"UNIFORM", "CLUSTERED"})
+	Datasets.Distribution distribution;
+
+	ArrayList<Point2D> points;
+	double[] xs, ys;
+	double[] queries;
+
+	KDTree2D tree;
+	PackedKDTree2D packedTree;
+
+	int[] result;
+
+	@Setup
+	public void setup() {
+		points = Datasets.points(size, distribution, Datasets.SEED);
+		xs = new double[size];
+		ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			xs[i] = points.get(i).x();
+			ys[i] = points.get(i).y();
+		}
+		queries = Datasets.queries(QUERIES, Datasets.SEED + 1);
+
+		tree = new KDTree2D(points);
+		packedTree = new PackedKDTree2D(xs, ys);
+		result = new int[size];
+	}
+
+	@Benchmark
+	public KDTree2D build() {
+		return new KDTree2D(points);
+	}
+
+	@Benchmark
+	public PackedKDTree2D buildPacked() {
+		return new PackedKDTree2D(xs, ys);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void nearestNeighbor(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(tree.nearestNeighbor(
+					new Point2D(queries[2 * i], queries[2 * i + 1])));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void nearestNeighborArray(Blackhole bh) {
+		double[] out = new double[2];
+		for (int i = 0; i < QUERIES; i++) {
+			tree.nearestNeighbor(queries[2 * i], queries[2 * i + 1], out);
+			bh.consume(out[0]);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void nearestPacked(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(packedTree.nearest(queries[2 * i], queries[2 * i + 1]));
+	}
+
+	/**
+	 * Range search within boxes of side 20, containing about 0.04% of the
+	 * points for the uniform distribution.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void rangeSearch(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++) {
+			double x = queries[2 * i];
+			double y = queries[2 * i + 1];
+			bh.consume(tree.rangeSearch(new Box2D(x, x + 20, y, y + 20)));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void rangeSearchPacked(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++) {
+			double x = queries[2 * i];
+			double y = queries[2 * i + 1];
+			bh.consume(packedTree.rangeSearch(x, x + 20, y, y + 20, result));
+		}
+	}
+}
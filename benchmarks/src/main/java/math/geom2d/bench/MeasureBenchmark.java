@@ -0,0 +1,78 @@
+/**
+ * File: 	MeasureBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polygon2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Repeated computation of derived measures of polygons and rings, that are
+ * computed once and kept until the vertices are modified.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MeasureBenchmark {
+
+	@Param({"100", "10000"})
+	int size;
+
+	Polygon2D polygon;
+	LinearRing2D ring;
+
+	@Setup
+	public void setup() {
+		polygon = Datasets.starPolygon(size, 500, 500, 400, Datasets.SEED);
+		ring = Datasets.starRing(size, 500, 500, 400, Datasets.SEED);
+	}
+
+	@Benchmark
+	public double polygonArea() {
+		return polygon.area();
+	}
+
+	@Benchmark
+	public Object polygonCentroid() {
+		return polygon.centroid();
+	}
+
+	@Benchmark
+	public Object polygonBoundingBox() {
+		return polygon.boundingBox();
+	}
+
+	@Benchmark
+	public double ringArea() {
+		return ring.area();
+	}
+
+	@Benchmark
+	public double ringLength() {
+		return ring.length();
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * File: 	PointCloudBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.point.DirectPointArray2D;
+import math.geom2d.point.PackedKDTree2D;
+import math.geom2d.point.PointArray2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Operations on large point clouds, stored either as Point2D instances in a
+ * PointArray2D, or as packed coordinates in the native memory of a
+ * DirectPointArray2D.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PointCloudBenchmark {
+
+	@Param({"100000", "1000000"})
+	int size;
+
+	double[] xs, ys;
+
+	PointArray2D array;
+	DirectPointArray2D direct;
+
+	Box2D clipBox = new Box2D(200, 400, 300, 700);
+	AffineTransform2D transform = AffineTransform2D.createRotation(500, 500, .3);
+
+	@Setup
+	public void setup() {
+		ArrayList<Point2D> points = Datasets.points(size,
+				Datasets.Distribution.UNIFORM, Datasets.SEED);
+		xs = new double[size];
+		ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			xs[i] = points.get(i).x();
+			ys[i] = points.get(i).y();
+		}
+		array = new PointArray2D(points);
+		direct = new DirectPointArray2D(xs, ys, size);
+	}
+
+	@Benchmark
+	public PointArray2D buildArray() {
+		PointArray2D res = new PointArray2D(size);
+		for (int i = 0; i < size; i++)
+			res.add(new Point2D(xs[i], ys[i]));
+		return res;
+	}
+
+	@Benchmark
+	public DirectPointArray2D buildDirect() {
+		return new DirectPointArray2D(xs, ys, size);
+	}
+
+	@Benchmark
+	public Box2D boundingBoxArray() {
+		return array.boundingBox();
+	}
+
+	@Benchmark
+	public Box2D boundingBoxDirect() {
+		return direct.boundingBox();
+	}
+
+	@Benchmark
+	public double distanceArray() {
+		return array.distance(512.3, 487.1);
+	}
+
+	@Benchmark
+	public double distanceDirect() {
+		return direct.distance(512.3, 487.1);
+	}
+
+	@Benchmark
+	public PointArray2D clipArray() {
+		return array.clip(clipBox);
+	}
+
+	@Benchmark
+	public DirectPointArray2D clipDirect() {
+		return direct.clip(clipBox);
+	}
+
+	@Benchmark
+	public PointArray2D transformArray() {
+		return array.transform(transform);
+	}
+
+	@Benchmark
+	public DirectPointArray2D transformDirect() {
+		return direct.transform(transform);
+	}
+
+	@Benchmark
+	public PackedKDTree2D kdTreeArray() {
+		return new PackedKDTree2D(array.points());
+	}
+
+	@Benchmark
+	public PackedKDTree2D kdTreeDirect() {
+		return new PackedKDTree2D(direct);
+	}
+}
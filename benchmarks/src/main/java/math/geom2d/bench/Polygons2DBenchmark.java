@@ -0,0 +1,86 @@
+/**
+ * File: 	Polygons2DBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.Polygons2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boolean operations between two overlapping star-shaped polygons, and union
+ * of a grid of overlapping hexagons.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class Polygons2DBenchmark {
+
+	/** Number of vertices of each polygon */
+	@Param({"100", "10000"})
+	int size;
+
+	/** Number of hexagons in each direction of the grid */
+	@Param({"20"})
+	int gridSize;
+
+	Polygon2D polygon1;
+	Polygon2D polygon2;
+	ArrayList<Polygon2D> grid;
+
+	@Setup
+	public void setup() {
+		polygon1 = Datasets.starPolygon(size, 450, 500, 300, Datasets.SEED);
+		polygon2 = Datasets.starPolygon(size, 550, 500, 300, Datasets.SEED + 1);
+		grid = Datasets.hexagonGrid(gridSize, Datasets.SEED);
+	}
+
+	@Benchmark
+	public Polygon2D union() {
+		return Polygons2D.union(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D intersection() {
+		return Polygons2D.intersection(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D difference() {
+		return Polygons2D.difference(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D exclusiveOr() {
+		return Polygons2D.exclusiveOr(polygon1, polygon2);
+	}
+
+	@Benchmark
+	public Polygon2D unionAll() {
+		return Polygons2D.unionAll(grid);
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * File: 	PredicatesBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Predicates2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of the robust orientation and in circle predicates, compared with
+ * plain floating point evaluation. Degenerate inputs are nearly colinear or
+ * nearly cocircular points, that require exact arithmetic. Results are
+ * reported per predicate evaluation.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PredicatesBenchmark {
+
+	/** Number of point triplets processed by each benchmark */
+	final static int QUERIES = 1024;
+
+	@Param({"false", "true"})
+	boolean degenerate;
+
+	/** Coordinates of point triplets, as [ax ay bx by cx cy ...] */
+	double[] triplets;
+
+	/** Coordinates of point quadruplets, as [ax ay bx by cx cy dx dy ...] */
+	double[] quadruplets;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(Datasets.SEED);
+		triplets = new double[QUERIES * 6];
+		quadruplets = new double[QUERIES * 8];
+		for (int i = 0; i < QUERIES; i++) {
+			int k = i * 6;
+			for (int j = 0; j < 6; j++)
+				triplets[k + j] = random.nextDouble() * 1000;
+			if (degenerate) {
+				// third point on the segment joining the first two
+				double t = random.nextDouble();
+				triplets[k + 4] = triplets[k] + t * (triplets[k + 2] - triplets[k]);
+				triplets[k + 5] = triplets[k + 1] + t * (triplets[k + 3] - triplets[k + 1]);
+			}
+
+			// four points in counter-clockwise order around a circle
+			k = i * 8;
+			double r = 100 + random.nextDouble() * 400;
+			for (int j = 0; j < 4; j++) {
+				double theta = (j + random.nextDouble() * .5) * Math.PI / 2;
+				quadruplets[k + 2 * j] = 500 + r * Math.cos(theta);
+				quadruplets[k + 2 * j + 1] = 500 + r * Math.sin(theta);
+			}
+			if (!degenerate) {
+				// move the last point inside or outside the circle
+				quadruplets[k + 6] += random.nextGaussian() * 10;
+				quadruplets[k + 7] += random.nextGaussian() * 10;
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void orientPlain(Blackhole bh) {
+		double[] c = triplets;
+		for (int k = 0; k < QUERIES * 6; k += 6)
+			bh.consume((c[k] - c[k + 4]) * (c[k + 3] - c[k + 5])
+					- (c[k + 1] - c[k + 5]) * (c[k + 2] - c[k + 4]));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void orientRobust(Blackhole bh) {
+		double[] c = triplets;
+		for (int k = 0; k < QUERIES * 6; k += 6)
+			bh.consume(Predicates2D.orient2d(c[k], c[k + 1], c[k + 2],
+					c[k + 3], c[k + 4], c[k + 5]));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void incircleRobust(Blackhole bh) {
+		double[] c = quadruplets;
+		for (int k = 0; k < QUERIES * 8; k += 8)
+			bh.consume(Predicates2D.incircle(c[k], c[k + 1], c[k + 2],
+					c[k + 3], c[k + 4], c[k + 5], c[k + 6], c[k + 7]));
+	}
+}
@@ -0,0 +1,129 @@
+/**
+ * File: 	QueryBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.Point2D;
+import math.geom2d.conic.Circle2D;
+import math.geom2d.curve.Curve2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.point.PointBuffer2D;
+import math.geom2d.spline.CubicBezierCurve2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Curve queries that return new objects, compared with the variants that
+ * write into caller-provided buffers. Run with "-prof gc" to compare the
+ * allocation rates. Results are reported per query.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class QueryBenchmark {
+
+	/** Number of queries processed by each benchmark */
+	final static int QUERIES = 1024;
+
+	@Param({"CIRCLE", "BEZIER", "RING"})
+	String shape;
+
+	Curve2D curve;
+	LineSegment2D[] lines;
+
+	double[] out = new double[4];
+	PointBuffer2D buffer = new PointBuffer2D();
+
+	@Setup
+	public void setup() {
+		if (shape.equals("CIRCLE"))
+			curve = new Circle2D(500, 500, 400);
+		else if (shape.equals("BEZIER"))
+			curve = new CubicBezierCurve2D(new Point2D(100, 100),
+					new Point2D(300, 1200), new Point2D(700, -200),
+					new Point2D(900, 900));
+		else
+			curve = Datasets.starRing(200, 500, 500, 400, Datasets.SEED);
+
+		double[] coords = Datasets.queries(QUERIES * 2, Datasets.SEED + 1);
+		lines = new LineSegment2D[QUERIES];
+		for (int i = 0; i < QUERIES; i++)
+			lines[i] = new LineSegment2D(coords[4 * i], coords[4 * i + 1],
+					coords[4 * i + 2], coords[4 * i + 3]);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void point(Blackhole bh) {
+		double t0 = curve.t0();
+		double dt = (curve.t1() - t0) / QUERIES;
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(curve.point(t0 + i * dt));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void pointArray(Blackhole bh) {
+		double t0 = curve.t0();
+		double dt = (curve.t1() - t0) / QUERIES;
+		for (int i = 0; i < QUERIES; i++) {
+			curve.point(t0 + i * dt, out);
+			bh.consume(out[0]);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void intersections(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++)
+			bh.consume(curve.intersections(lines[i]));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(QUERIES)
+	public void intersectionsBuffer(Blackhole bh) {
+		for (int i = 0; i < QUERIES; i++) {
+			buffer.clear();
+			bh.consume(curve.intersections(lines[i], buffer));
+		}
+	}
+
+	/**
+	 * The bounding box of linear rings is cached, so the ring benchmarks
+	 * mostly measure the cost of the copy.
+	 */
+	@Benchmark
+	public void boundingBox(Blackhole bh) {
+		bh.consume(curve.boundingBox());
+	}
+
+	@Benchmark
+	public void boundingBoxArray(Blackhole bh) {
+		curve.boundingBox(out);
+		bh.consume(out[0]);
+	}
+}
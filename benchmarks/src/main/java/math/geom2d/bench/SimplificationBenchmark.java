@@ -0,0 +1,71 @@
+/**
+ * File: 	SimplificationBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.polygon.LinearCurve2D.Simplification;
+import math.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simplification of long random walks with the Douglas-Peucker and the
+ * Visvalingam-Whyatt algorithms, using either a tolerance or a target
+ * number of vertices.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SimplificationBenchmark {
+
+	@Param({"10000", "1000000"})
+	int size;
+
+	@Param({"DOUGLAS_PEUCKER", "VISVALINGAM_WHYATT"})
+	Simplification method;
+
+	Polyline2D polyline;
+	double tolerance;
+
+	@Setup
+	public void setup() {
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+
+		// the tolerance is a fraction of the step length, or of its square
+		double step = 1000 / Math.sqrt(size);
+		tolerance = method == Simplification.DOUGLAS_PEUCKER ? step / 2
+				: step * step / 4;
+	}
+
+	@Benchmark
+	public Polyline2D tolerance() {
+		return polyline.simplify(method, tolerance);
+	}
+
+	@Benchmark
+	public Polyline2D vertexNumber() {
+		return polyline.simplifyToVertexNumber(method, size / 100);
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * File: 	TransformBenchmark.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Point2D;
+import math.geom2d.polygon.Polyline2D;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Affine transforms of large sets of points, stored either as arrays of
+ * Point2D, as packed coordinate arrays, or as the vertices of a polyline.
+ * @author dlegland
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TransformBenchmark {
+
+	@Param({"1000", "1000000"})
+	int size;
+
+	AffineTransform2D trans;
+	Point2D[] points;
+	Point2D[] pointsOut;
+	double[] xy;
+	double[] xyOut;
+	Polyline2D polyline;
+
+	@Setup
+	public void setup() {
+		trans = AffineTransform2D.createRotation(500, 500, Math.PI / 7)
+				.chain(AffineTransform2D.createScaling(1.5, .8));
+		polyline = Datasets.randomWalk(size, Datasets.SEED);
+		points = new Point2D[size];
+		pointsOut = new Point2D[size];
+		xy = new double[2 * size];
+		xyOut = new double[2 * size];
+		for (int i = 0; i < size; i++) {
+			Point2D vertex = polyline.vertex(i);
+			points[i] = vertex;
+			xy[2 * i] = vertex.x();
+			xy[2 * i + 1] = vertex.y();
+		}
+	}
+
+	@Benchmark
+	public Point2D[] pointArray() {
+		return trans.transform(points, pointsOut);
+	}
+
+	@Benchmark
+	public double[] coordinateArray() {
+		trans.transform(xy, 0, xyOut, 0, size);
+		return xyOut;
+	}
+
+	@Benchmark
+	public Polyline2D polyline() {
+		return polyline.transform(trans);
+	}
+}
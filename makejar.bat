@@ -10,8 +10,6 @@
 @REM 	(Adapt version number according to your system)
 @REM
 
-@REM modified for incorporating external library gpcj (polygon clipping)
-
 @echo off
 
 @REM remove old copy of jar folder if it exists
@@ -23,12 +21,6 @@ robocopy bin jar *.* /s /njs /njh /ndl
 @REM remove '.svn' directories, created by Eclipse from subversion repository
 FOR /F "tokens=*" %%i IN ('dir /a:d /s /b jar\*.svn*') DO rmdir /S /Q %%i
 
-@REM change directory and uncompress external library
-cd jar
-jar xf ../lib/gpcj-2.2.0.jar
-rmdir /S /Q META-INF
-cd ..
-
 @REM remove old archive if it exists
 @REM FOR /F "tokens=*" %%i IN ('dir /b javaGeom.jar') DO del /f /q %%i
 if exist javaGeom.jar del /f /q javaGeom.jar
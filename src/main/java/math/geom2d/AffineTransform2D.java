@@ -701,6 +701,57 @@ public class AffineTransform2D implements Bijection2D, GeometricObject2D,
 		return dst;
 	}
 
+	/**
+	 * Transforms n points whose coordinates are stored in the array xy, in
+	 * the order x0, y0, x1, y1..., starting at index off. The coordinates of
+	 * the transformed points are stored in the array out, starting at index
+	 * outOff. The input and output arrays can be the same, even with
+	 * overlapping ranges.
+	 */
+	public void transform(double[] xy, int off, double[] out, int outOff,
+			int n) {
+		// copy coefficients in local variables, to help the JIT compiler
+		double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+
+		// overlapping ranges are processed backwards
+		if (xy == out && outOff > off) {
+			for (int i = 2 * (n - 1); i >= 0; i -= 2) {
+				double x = xy[off + i];
+				double y = xy[off + i + 1];
+				out[outOff + i] = x * m00 + y * m01 + m02;
+				out[outOff + i + 1] = x * m10 + y * m11 + m12;
+			}
+			return;
+		}
+
+		for (int i = 0; i < 2 * n; i += 2) {
+			double x = xy[off + i];
+			double y = xy[off + i + 1];
+			out[outOff + i] = x * m00 + y * m01 + m02;
+			out[outOff + i + 1] = x * m10 + y * m11 + m12;
+		}
+	}
+
+	/**
+	 * Transforms the n first points whose coordinates are stored in the
+	 * arrays xs and ys, and stores the result in the arrays xsOut and ysOut.
+	 * The input and output arrays can be the same.
+	 */
+	public void transform(double[] xs, double[] ys, double[] xsOut,
+			double[] ysOut, int n) {
+		// copy coefficients in local variables, to help the JIT compiler
+		double m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		double m10 = this.m10, m11 = this.m11, m12 = this.m12;
+
+		for (int i = 0; i < n; i++) {
+			double x = xs[i];
+			double y = ys[i];
+			xsOut[i] = x * m00 + y * m01 + m02;
+			ysOut[i] = x * m10 + y * m11 + m12;
+		}
+	}
+
 	// ===================================================================
 	// implements the GeometricObject2D interface
 
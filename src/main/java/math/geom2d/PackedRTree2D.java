@@ -0,0 +1,805 @@
+/**
+ * File: 	PackedRTree2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Implementation of ShapeSet2D that indexes the bounding boxes of its shapes
+ * with a packed R-tree. The tree is bulk loaded using the Sort-Tile-Recursive
+ * (STR) algorithm: at each level, entries are sorted by the x-coordinate of
+ * their center, split into vertical slices, and each slice is sorted by the
+ * y-coordinate before entries are packed into nodes.<p>
+ * The tree is used for window queries, point containment queries, distance
+ * and nearest-shape queries, and for clipping. Distance queries use a
+ * branch-and-bound search: the nodes are explored by increasing distance to
+ * their bounding box, until this distance exceeds the best distance found.
+ * <p>
+ * The set keeps the shapes in insertion order. Modifications of the set
+ * invalidate the tree, which is rebuilt before the next query. Unbounded
+ * shapes are not indexed, and are always processed by the queries.
+ *
+ * @author dlegland
+ *
+ */
+public class PackedRTree2D<T extends Shape2D>
+implements ShapeSet2D<T> {
+
+    // ===================================================================
+    // Static constructors
+
+	public static <T extends Shape2D> PackedRTree2D<T> create(Collection<T> shapes) {
+		return new PackedRTree2D<T>(shapes);
+	}
+
+
+    // ===================================================================
+    // Class variables
+
+	/** The default maximal number of entries within a node */
+	public final static int DEFAULT_NODE_CAPACITY = 16;
+
+    /** The inner array of shapes */
+    protected ArrayList<T> shapes;
+
+    /** The maximal number of entries within a node */
+    private int nodeCapacity = DEFAULT_NODE_CAPACITY;
+
+    /** True if the tree needs to be rebuilt */
+    private boolean dirty = true;
+
+    /** The index of the shapes referenced by leaves, in tree order */
+    private int[] items;
+
+    /** The bounds of the indexed shapes, in tree order, as xmin, xmax, ymin, ymax */
+    private double[] itemBounds;
+
+    /** The indices of shapes that are not indexed */
+    private int[] unbounded;
+
+    /** The number of nodes */
+    private int nNodes;
+
+    /** The bounds of the nodes, as xmin, xmax, ymin, ymax */
+    private double[] nodeBounds;
+
+    /**
+     * The range of children of each node, as indices of items for leaves,
+     * and as indices of nodes for other ones.
+     */
+    private int[] childStarts;
+    private int[] childEnds;
+
+    /** The number of leaves, stored as the first nodes */
+    private int nLeaves;
+
+
+    // ===================================================================
+    // Constructors
+
+    public PackedRTree2D() {
+    	this.shapes = new ArrayList<T>();
+    }
+
+    public PackedRTree2D(int n) {
+    	this.shapes = new ArrayList<T>(n);
+    }
+
+    public PackedRTree2D(Collection<? extends T> shapes) {
+    	this.shapes = new ArrayList<T>(shapes.size());
+    	this.shapes.addAll(shapes);
+    }
+
+    public PackedRTree2D(T[] shapes) {
+    	this.shapes = new ArrayList<T>(shapes.length);
+    	for(T shape : shapes)
+    		this.shapes.add(shape);
+    }
+
+    /**
+     * Creates a new tree with the given shapes, and the given maximal number
+     * of entries per node.
+     */
+    public PackedRTree2D(Collection<? extends T> shapes, int nodeCapacity) {
+    	this(shapes);
+    	if (nodeCapacity < 2)
+    		throw new IllegalArgumentException("Node capacity must be at least 2");
+    	this.nodeCapacity = nodeCapacity;
+    }
+
+
+    // ===================================================================
+    // Management of shapes
+
+    /**
+     * Adds the shape to the shape set, if it does not already belongs to the
+     * set.
+     *
+     * @param shape the shape to add
+     */
+    public boolean add(T shape) {
+        if(shapes.contains(shape))
+        	return false;
+        dirty = true;
+        return shapes.add(shape);
+    }
+
+	public void add(int index, T shape) {
+		this.shapes.add(index, shape);
+		dirty = true;
+	}
+
+    /**
+     * Returns the inner shape corresponding to the given index.
+     *
+     * @param index index of the shape
+     * @return the i-th inner curve
+     */
+    public T get(int index) {
+        return shapes.get(index);
+    }
+
+    /**
+     * Removes the specified shape from the shape set.
+     *
+     * @param shape the shape to remove
+     */
+    public boolean remove(T shape) {
+    	boolean res = shapes.remove(shape);
+    	dirty |= res;
+    	return res;
+    }
+
+	public T remove(int index) {
+		dirty = true;
+		return this.shapes.remove(index);
+	}
+
+    /**
+     * Checks if the shape set contains the given shape.
+     */
+    public boolean contains(T shape) {
+    	return shapes.contains(shape);
+    }
+
+	public int indexOf(T shape) {
+		return shapes.indexOf(shape);
+	}
+
+    /**
+     * Clears the inner shape collection.
+     */
+    public void clear() {
+    	shapes.clear();
+    	dirty = true;
+    }
+
+	public int size() {
+		return shapes.size();
+	}
+
+    /**
+     * Returns an unmodifiable view on the collection of shapes.
+     */
+    public Collection<T> shapes() {
+        return Collections.unmodifiableList(shapes);
+    }
+
+
+    // ===================================================================
+    // Construction of the tree
+
+    /**
+     * Builds the tree if the set was modified since last build.
+     */
+    private void update() {
+    	if (dirty) {
+    		build();
+    		dirty = false;
+    	}
+    }
+
+    /**
+     * Bulk loads the tree using the Sort-Tile-Recursive algorithm.
+     */
+    private void build() {
+    	int n = shapes.size();
+    	int M = nodeCapacity;
+
+    	// separate bounded and unbounded shapes
+    	int[] bounded = new int[n];
+    	int nb = 0;
+    	int[] others = new int[n];
+    	int no = 0;
+    	double[] bounds = new double[4 * n];
+    	for (int i = 0; i < n; i++) {
+    		T shape = shapes.get(i);
+    		if (shape.isBounded() && setBounds(shape, bounds, nb))
+    			bounded[nb++] = i;
+    		else
+    			others[no++] = i;
+    	}
+    	this.unbounded = Arrays.copyOf(others, no);
+
+    	// sort indexed shapes
+    	int[] order = sortTiles(bounds, nb);
+    	this.items = new int[nb];
+    	this.itemBounds = new double[4 * nb];
+    	for (int k = 0; k < nb; k++) {
+    		items[k] = bounded[order[k]];
+    		System.arraycopy(bounds, 4 * order[k], itemBounds, 4 * k, 4);
+    	}
+
+    	// compute number of nodes
+    	this.nLeaves = (nb + M - 1) / M;
+    	int total = 0;
+    	int count = nLeaves;
+    	while (count > 1) {
+    		total += count;
+    		count = (count + M - 1) / M;
+    	}
+    	total += count;
+
+    	this.nNodes = 0;
+    	this.nodeBounds = new double[4 * total];
+    	this.childStarts = new int[total];
+    	this.childEnds = new int[total];
+    	if (nb == 0)
+    		return;
+
+    	// create leaves
+    	for (int k = 0; k < nb; k += M)
+    		addNode(k, Math.min(k + M, nb), itemBounds);
+
+    	// create upper levels
+    	int first = 0;
+    	int last = nNodes;
+    	while (last - first > 1) {
+    		int m = last - first;
+
+    		// sort nodes of current level
+    		double[] levelBounds = new double[4 * m];
+    		System.arraycopy(nodeBounds, 4 * first, levelBounds, 0, 4 * m);
+    		int[] starts = Arrays.copyOfRange(childStarts, first, last);
+    		int[] ends = Arrays.copyOfRange(childEnds, first, last);
+    		order = sortTiles(levelBounds, m);
+    		for (int k = 0; k < m; k++) {
+    			int j = order[k];
+    			System.arraycopy(levelBounds, 4 * j, nodeBounds, 4 * (first + k), 4);
+    			childStarts[first + k] = starts[j];
+    			childEnds[first + k] = ends[j];
+    		}
+
+    		// create parent nodes
+    		for (int k = first; k < last; k += M)
+    			addNode(k, Math.min(k + M, last), nodeBounds);
+
+    		first = last;
+    		last = nNodes;
+    	}
+    }
+
+    /**
+     * Adds a new node with the given range of children, whose bounds are
+     * given by the array.
+     */
+    private void addNode(int start, int end, double[] bounds) {
+    	int node = nNodes++;
+    	childStarts[node] = start;
+    	childEnds[node] = end;
+
+    	double xmin = Double.POSITIVE_INFINITY;
+    	double xmax = Double.NEGATIVE_INFINITY;
+    	double ymin = Double.POSITIVE_INFINITY;
+    	double ymax = Double.NEGATIVE_INFINITY;
+    	for (int k = start; k < end; k++) {
+    		xmin = Math.min(xmin, bounds[4 * k]);
+    		xmax = Math.max(xmax, bounds[4 * k + 1]);
+    		ymin = Math.min(ymin, bounds[4 * k + 2]);
+    		ymax = Math.max(ymax, bounds[4 * k + 3]);
+    	}
+    	nodeBounds[4 * node] = xmin;
+    	nodeBounds[4 * node + 1] = xmax;
+    	nodeBounds[4 * node + 2] = ymin;
+    	nodeBounds[4 * node + 3] = ymax;
+    }
+
+    /**
+     * Stores the bounds of the shape in the array, and returns false if the
+     * bounds are not finite.
+     */
+    private static boolean setBounds(Shape2D shape, double[] bounds, int index) {
+    	Box2D box = shape.boundingBox();
+    	double x1 = box.getMinX(), x2 = box.getMaxX();
+    	double y1 = box.getMinY(), y2 = box.getMaxY();
+
+    	// some shapes do not return ordered bounds
+    	bounds[4 * index] = Math.min(x1, x2);
+    	bounds[4 * index + 1] = Math.max(x1, x2);
+    	bounds[4 * index + 2] = Math.min(y1, y2);
+    	bounds[4 * index + 3] = Math.max(y1, y2);
+
+    	for (int k = 0; k < 4; k++) {
+    		double v = bounds[4 * index + k];
+    		if (Double.isNaN(v) || Double.isInfinite(v))
+    			return false;
+    	}
+    	return true;
+    }
+
+    /**
+     * Computes the Sort-Tile-Recursive order of n boxes.
+     */
+    private int[] sortTiles(final double[] bounds, int n) {
+    	Integer[] order = new Integer[n];
+    	for (int i = 0; i < n; i++)
+    		order[i] = i;
+
+    	// sort by center x-coordinate
+    	Arrays.sort(order, new Comparator<Integer>() {
+    		public int compare(Integer i1, Integer i2) {
+    			return Double.compare(bounds[4 * i1] + bounds[4 * i1 + 1],
+    					bounds[4 * i2] + bounds[4 * i2 + 1]);
+    		}
+    	});
+
+    	// number of slices, and number of entries per slice
+    	int nNodes = (n + nodeCapacity - 1) / nodeCapacity;
+    	int nSlices = (int) Math.ceil(Math.sqrt(nNodes));
+    	int sliceSize = nSlices * nodeCapacity;
+
+    	// sort each slice by center y-coordinate
+    	Comparator<Integer> yComparator = new Comparator<Integer>() {
+    		public int compare(Integer i1, Integer i2) {
+    			return Double.compare(bounds[4 * i1 + 2] + bounds[4 * i1 + 3],
+    					bounds[4 * i2 + 2] + bounds[4 * i2 + 3]);
+    		}
+    	};
+    	for (int k = 0; k < n; k += sliceSize)
+    		Arrays.sort(order, k, Math.min(k + sliceSize, n), yComparator);
+
+    	int[] result = new int[n];
+    	for (int i = 0; i < n; i++)
+    		result[i] = order[i];
+    	return result;
+    }
+
+
+    // ===================================================================
+    // Queries
+
+    /**
+     * Returns the shapes whose bounding box intersects the given box.
+     * Unbounded shapes are always returned.
+     */
+    public Collection<T> windowQuery(Box2D box) {
+    	ArrayList<T> result = new ArrayList<T>();
+    	for (int index : windowQueryIndices(box))
+    		result.add(shapes.get(index));
+    	return result;
+    }
+
+    /**
+     * Returns the indices of the shapes whose bounding box intersects the
+     * given box, in increasing order. Unbounded shapes are always returned.
+     */
+    public int[] windowQueryIndices(Box2D box) {
+    	update();
+
+    	double xmin = box.getMinX();
+    	double xmax = box.getMaxX();
+    	double ymin = box.getMinY();
+    	double ymax = box.getMaxY();
+
+    	int[] result = new int[16];
+    	int n = 0;
+
+    	if (nNodes > 0) {
+    		int[] stack = new int[16];
+    		int ns = 0;
+    		stack[ns++] = nNodes - 1;
+    		while (ns > 0) {
+    			int node = stack[--ns];
+    			if (!intersects(nodeBounds, node, xmin, xmax, ymin, ymax))
+    				continue;
+
+    			if (node < nLeaves) {
+    				// add items whose bounds intersect the window
+    				for (int k = childStarts[node]; k < childEnds[node]; k++) {
+    					if (!intersects(itemBounds, k, xmin, xmax, ymin, ymax))
+    						continue;
+    					if (n == result.length)
+    						result = Arrays.copyOf(result, 2 * n);
+    					result[n++] = items[k];
+    				}
+    			} else {
+    				// push children nodes
+    				for (int k = childStarts[node]; k < childEnds[node]; k++) {
+    					if (ns == stack.length)
+    						stack = Arrays.copyOf(stack, 2 * ns);
+    					stack[ns++] = k;
+    				}
+    			}
+    		}
+    	}
+
+    	// add unbounded shapes
+    	result = Arrays.copyOf(result, n + unbounded.length);
+    	System.arraycopy(unbounded, 0, result, n, unbounded.length);
+    	Arrays.sort(result);
+    	return result;
+    }
+
+    /**
+     * Returns the shapes that contain the given point.
+     */
+    public Collection<T> containingShapes(Point2D point) {
+    	double x = point.x();
+    	double y = point.y();
+    	ArrayList<T> result = new ArrayList<T>();
+    	for (int index : windowQueryIndices(pointBox(x, y))) {
+    		T shape = shapes.get(index);
+    		if (shape.contains(x, y))
+    			result.add(shape);
+    	}
+    	return result;
+    }
+
+    /**
+     * Returns the shape closest to the given point, or null if the set is
+     * empty.
+     */
+    public T nearestShape(Point2D point) {
+    	int index = nearestIndex(point.x(), point.y());
+    	return index == -1 ? null : shapes.get(index);
+    }
+
+    /**
+     * Returns the index of the shape closest to the point (x,y), or -1 if the
+     * set is empty. Nodes are visited by increasing distance of their
+     * bounding box, and the search stops when this distance is greater than
+     * the distance to the best shape found so far.
+     */
+    public int nearestIndex(double x, double y) {
+    	update();
+
+    	int best = -1;
+    	double minDist = Double.POSITIVE_INFINITY;
+
+    	// first process unbounded shapes
+    	for (int index : unbounded) {
+    		double dist = shapes.get(index).distance(x, y);
+    		if (dist < minDist) {
+    			minDist = dist;
+    			best = index;
+    		}
+    	}
+
+    	if (nNodes == 0)
+    		return best;
+
+    	// a min-heap of nodes, ordered by distance to their bounds
+    	int[] heap = new int[16];
+    	double[] keys = new double[16];
+    	int nh = 0;
+    	heap[nh] = nNodes - 1;
+    	keys[nh] = boxDistance(nodeBounds, nNodes - 1, x, y);
+    	nh++;
+
+    	while (nh > 0) {
+    		// extract node with the smallest distance
+    		int node = heap[0];
+    		double nodeDist = keys[0];
+    		nh--;
+    		heap[0] = heap[nh];
+    		keys[0] = keys[nh];
+    		siftDown(heap, keys, nh);
+
+    		if (nodeDist >= minDist)
+    			break;
+
+    		if (node < nLeaves) {
+    			// compute distance to shapes of the leaf
+    			for (int k = childStarts[node]; k < childEnds[node]; k++) {
+    				if (boxDistance(itemBounds, k, x, y) >= minDist)
+    					continue;
+    				double dist = shapes.get(items[k]).distance(x, y);
+    				if (dist < minDist || (dist == minDist && items[k] < best)) {
+    					minDist = dist;
+    					best = items[k];
+    				}
+    			}
+    		} else {
+    			// add children closer than current best
+    			for (int k = childStarts[node]; k < childEnds[node]; k++) {
+    				double dist = boxDistance(nodeBounds, k, x, y);
+    				if (dist >= minDist)
+    					continue;
+    				if (nh == heap.length) {
+    					heap = Arrays.copyOf(heap, 2 * nh);
+    					keys = Arrays.copyOf(keys, 2 * nh);
+    				}
+    				heap[nh] = k;
+    				keys[nh] = dist;
+    				siftUp(heap, keys, nh);
+    				nh++;
+    			}
+    		}
+    	}
+
+    	return best;
+    }
+
+
+    // ===================================================================
+    // Methods implementing the Shape2D interface
+
+    /**
+     * Clips the shapes whose bounding box intersects the clipping box, and
+     * returns the set of clipped shapes.
+     */
+	public Shape2D clip(Box2D box) {
+		int[] indices = windowQueryIndices(box);
+		ArrayList<Shape2D> clippedShapes = new ArrayList<Shape2D>(indices.length);
+		for (int index : indices) {
+			Shape2D clipped = shapes.get(index).clip(box);
+			if (clipped != null && !clipped.isEmpty())
+				clippedShapes.add(clipped);
+		}
+		return new ShapeArray2D<Shape2D>(clippedShapes);
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#contains(double, double)
+	 */
+	public boolean contains(double x, double y) {
+    	for (int index : windowQueryIndices(pointBox(x, y))) {
+    		if (shapes.get(index).contains(x, y))
+    			return true;
+    	}
+    	return false;
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#contains(java.awt.geom.Point2D)
+	 */
+	public boolean contains(Point2D p) {
+		return contains(p.x(), p.y());
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#draw(java.awt.Graphics2D)
+	 */
+	public void draw(Graphics2D g2) {
+    	for(Shape2D shape : shapes)
+    		shape.draw(g2);
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#getBoundingBox()
+	 */
+	public Box2D boundingBox() {
+		update();
+
+		double xmin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		if (nNodes > 0) {
+			int root = nNodes - 1;
+			xmin = nodeBounds[4 * root];
+			xmax = nodeBounds[4 * root + 1];
+			ymin = nodeBounds[4 * root + 2];
+			ymax = nodeBounds[4 * root + 3];
+		}
+
+		for (int index : unbounded) {
+			Box2D box = shapes.get(index).boundingBox();
+			xmin = Math.min(xmin, box.getMinX());
+			xmax = Math.max(xmax, box.getMaxX());
+			ymin = Math.min(ymin, box.getMinY());
+			ymax = Math.max(ymax, box.getMaxY());
+		}
+
+        return new Box2D(xmin, xmax, ymin, ymax);
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#getDistance(Point2D)
+	 */
+	public double distance(Point2D p) {
+		return this.distance(p.x(), p.y());
+	}
+
+	/**
+	 * Returns the minimum distance between the point and the shapes of the
+	 * set, using a branch-and-bound search.
+	 */
+	public double distance(double x, double y) {
+		int index = nearestIndex(x, y);
+		if (index == -1)
+			return Double.POSITIVE_INFINITY;
+		return shapes.get(index).distance(x, y);
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#isBounded()
+	 */
+	public boolean isBounded() {
+        for (Shape2D shape : shapes)
+            if (!shape.isBounded())
+                return false;
+        return true;
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#isEmpty()
+	 */
+	public boolean isEmpty() {
+		return this.shapes.isEmpty();
+	}
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.Shape2D#transform(math.geom2d.AffineTransform2D)
+	 */
+	public PackedRTree2D<? extends Shape2D> transform(AffineTransform2D trans) {
+    	// Allocate array for result
+		PackedRTree2D<Shape2D> result =
+    		new PackedRTree2D<Shape2D>(shapes.size());
+
+        // add each transformed shape
+        for (Shape2D shape : this.shapes)
+            result.add(shape.transform(trans));
+        return result;
+	}
+
+
+    // ===================================================================
+    // methods implementing GeometricObject2D interface
+
+	/* (non-Javadoc)
+	 * @see math.geom2d.GeometricObject2D#almostEquals(math.geom2d.GeometricObject2D, double)
+	 */
+	public boolean almostEquals(GeometricObject2D obj, double eps) {
+    	if (this == obj)
+    		return true;
+
+        // check class, and cast type
+        if (!(obj instanceof ShapeSet2D<?>))
+            return false;
+        ShapeSet2D<?> shapeSet = (ShapeSet2D<?>) obj;
+
+        // check the number of shapes in each set
+        if (this.shapes.size() != shapeSet.size())
+            return false;
+
+        // return false if at least one couple of shapes does not match
+        Iterator<?> iter2 = shapeSet.iterator();
+        for(T shape : shapes) {
+        	if(!shape.almostEquals((GeometricObject2D) iter2.next(), eps))
+        		return false;
+        }
+
+        // otherwise return true
+        return true;
+	}
+
+
+    // ===================================================================
+    // methods implementing the Iterable interface
+
+	/**
+	 * Returns an iterator on the shapes, that does not support removal.
+	 */
+	public Iterator<T> iterator() {
+		return shapes().iterator();
+	}
+
+
+    // ===================================================================
+    // methods inherited from interface Object
+
+    /**
+     * Returns true if obj is a ShapeSet2D with the same number of shapes, and
+     * such that each shape belongs to both objects.
+     */
+    @Override
+    public boolean equals(Object obj) {
+    	if (this==obj)
+    		return true;
+
+        // check class, and cast type
+        if (!(obj instanceof ShapeSet2D<?>))
+            return false;
+        ShapeSet2D<?> shapeSet = (ShapeSet2D<?>) obj;
+
+        // check the number of shapes in each set
+        if (this.shapes.size() != shapeSet.size())
+            return false;
+
+        // return false if at least one couple of shapes does not match
+        Iterator<?> iter2 = shapeSet.iterator();
+        for(T shape : shapes) {
+        	if(!shape.equals(iter2.next()))
+        		return false;
+        }
+
+        // otherwise return true
+        return true;
+    }
+
+
+    // ===================================================================
+    // private utilities
+
+    /**
+     * Returns the box around the point used for containment queries, taking
+     * into account the tolerance of the shapes.
+     */
+    private static Box2D pointBox(double x, double y) {
+    	double eps = Shape2D.ACCURACY;
+    	return new Box2D(x - eps, x + eps, y - eps, y + eps);
+    }
+
+    private static boolean intersects(double[] bounds, int k, double xmin,
+    		double xmax, double ymin, double ymax) {
+    	return bounds[4 * k] <= xmax && bounds[4 * k + 1] >= xmin
+    			&& bounds[4 * k + 2] <= ymax && bounds[4 * k + 3] >= ymin;
+    }
+
+    /**
+     * Computes the distance between the point and the k-th box of the array.
+     */
+    private static double boxDistance(double[] bounds, int k, double x,
+    		double y) {
+    	double dx = Math.max(0, Math.max(bounds[4 * k] - x, x - bounds[4 * k + 1]));
+    	double dy = Math.max(0, Math.max(bounds[4 * k + 2] - y, y - bounds[4 * k + 3]));
+    	return Math.hypot(dx, dy);
+    }
+
+    private static void siftUp(int[] heap, double[] keys, int i) {
+    	while (i > 0) {
+    		int parent = (i - 1) / 2;
+    		if (keys[parent] <= keys[i])
+    			return;
+    		swap(heap, keys, i, parent);
+    		i = parent;
+    	}
+    }
+
+    private static void siftDown(int[] heap, double[] keys, int n) {
+    	int i = 0;
+    	while (true) {
+    		int child = 2 * i + 1;
+    		if (child >= n)
+    			return;
+    		if (child + 1 < n && keys[child + 1] < keys[child])
+    			child++;
+    		if (keys[i] <= keys[child])
+    			return;
+    		swap(heap, keys, i, child);
+    		i = child;
+    	}
+    }
+
+    private static void swap(int[] heap, double[] keys, int i, int j) {
+    	int tmp = heap[i];
+    	heap[i] = heap[j];
+    	heap[j] = tmp;
+    	double key = keys[i];
+    	keys[i] = keys[j];
+    	keys[j] = key;
+    }
+}
@@ -149,21 +149,15 @@ implements GeometricObject2D, PointShape2D, Cloneable, CirculinearShape2D {
 	 * @return true if three points lie on the same line.
 	 */
 	public static boolean isColinear(Point2D p1, Point2D p2, Point2D p3) {
-		double dx1, dx2, dy1, dy2;
-		dx1 = p2.x - p1.x;
-		dy1 = p2.y - p1.y;
-		dx2 = p3.x - p1.x;
-		dy2 = p3.y - p1.y;
-
 		// tests if the two lines are parallel
-		return Math.abs(dx1 * dy2 - dy1 * dx2) < Shape2D.ACCURACY;
+		return Math.abs(Predicates2D.orient2d(p1, p2, p3)) < Shape2D.ACCURACY;
 	}
 
 	/**
 	 * Computes the orientation of the 3 points: returns +1 is the path
 	 * P0->P1->P2 turns Counter-Clockwise, -1 if the path turns Clockwise, and 0
 	 * if the point P2 is located on the line segment [P0 P1]. Algorithm taken
-	 * from Sedgewick.
+	 * from Sedgewick. The orientation is computed with robust predicates.
 	 * 
 	 * @param p0 the initial point
 	 * @param p1 the middle point
@@ -171,17 +165,18 @@ implements GeometricObject2D, PointShape2D, Cloneable, CirculinearShape2D {
 	 * @return +1, 0 or -1, depending on the relative position of the points
 	 */
 	public static int ccw(Point2D p0, Point2D p1, Point2D p2) {
+		double orient = Predicates2D.orient2d(p0, p1, p2);
+		if (orient > 0)
+			return +1;
+		if (orient < 0)
+			return -1;
+
 		double x0 = p0.x;
 		double y0 = p0.y;
 		double dx1 = p1.x - x0;
 		double dy1 = p1.y - y0;
 		double dx2 = p2.x - x0;
 		double dy2 = p2.y - y0;
-
-		if (dx1 * dy2 > dy1 * dx2)
-			return +1;
-		if (dx1 * dy2 < dy1 * dx2)
-			return -1;
 		if ((dx1 * dx2 < 0) || (dy1 * dy2 < 0))
 			return -1;
 		if (hypot(dx1, dy1) < hypot(dx2, dy2))
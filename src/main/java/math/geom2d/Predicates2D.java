@@ -0,0 +1,477 @@
+/**
+ * File: 	Predicates2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+/**
+ * Robust geometric predicates, adapted from the adaptive precision
+ * predicates of J. R. Shewchuk ("Adaptive Precision Floating-Point
+ * Arithmetic and Fast Robust Geometric Predicates", 1997).<p>
+ * Each predicate first evaluates the determinant with floating point
+ * arithmetic, and compares it with a bound of the rounding error. In most
+ * cases this is enough to determine the sign of the result. Otherwise, the
+ * determinant is computed again with exact arithmetic, by representing
+ * intermediate values as expansions: sums of non-overlapping floating
+ * point values. The sign of the returned value is always correct, and the
+ * value is zero only for degenerate configurations.<p>
+ * The predicates assume that no overflow or underflow occurs during
+ * computations.
+ *
+ * @author dlegland
+ */
+public final strictfp class Predicates2D {
+
+	// ===================================================================
+	// constants
+
+	/** Half the relative rounding error, 2^-53 */
+	private final static double EPSILON = 1.1102230246251565E-16;
+
+	/** Used for splitting a double in two non-overlapping halves: 2^27+1 */
+	private final static double SPLITTER = 134217729.0;
+
+	private final static double RESULT_ERR_BOUND = (3 + 8 * EPSILON) * EPSILON;
+	private final static double CCW_ERR_BOUND_A = (3 + 16 * EPSILON) * EPSILON;
+	private final static double CCW_ERR_BOUND_B = (2 + 12 * EPSILON) * EPSILON;
+	private final static double CCW_ERR_BOUND_C =
+		(9 + 64 * EPSILON) * EPSILON * EPSILON;
+	private final static double ICC_ERR_BOUND_A = (10 + 96 * EPSILON) * EPSILON;
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private Predicates2D() {
+	}
+
+
+	// ===================================================================
+	// orientation test
+
+	/**
+	 * Computes the orientation of three points. The result is positive if
+	 * the points are in counter-clockwise order, negative if they are in
+	 * clockwise order, and zero if the points are colinear. The absolute
+	 * value of the result is an approximation of twice the area of the
+	 * triangle formed by the three points.
+	 *
+	 * @see #orient2d(double, double, double, double, double, double)
+	 */
+	public static double orient2d(Point2D a, Point2D b, Point2D c) {
+		return orient2d(a.x, a.y, b.x, b.y, c.x, c.y);
+	}
+
+	/**
+	 * Computes the orientation of the three points (ax, ay), (bx, by) and
+	 * (cx, cy). The result is positive if the points are in
+	 * counter-clockwise order, negative if they are in clockwise order, and
+	 * zero if the points are colinear. The absolute value of the result is
+	 * an approximation of twice the area of the triangle formed by the
+	 * three points.
+	 */
+	public static double orient2d(double ax, double ay, double bx, double by,
+			double cx, double cy) {
+		double detLeft = (ax - cx) * (by - cy);
+		double detRight = (ay - cy) * (bx - cx);
+		double det = detLeft - detRight;
+
+		// when the two terms have different signs, no cancellation occurs
+		double detSum;
+		if (detLeft > 0) {
+			if (detRight <= 0)
+				return det;
+			detSum = detLeft + detRight;
+		} else if (detLeft < 0) {
+			if (detRight >= 0)
+				return det;
+			detSum = -detLeft - detRight;
+		} else {
+			return det;
+		}
+
+		double errBound = CCW_ERR_BOUND_A * detSum;
+		if (det >= errBound || -det >= errBound)
+			return det;
+
+		return orient2dAdapt(ax, ay, bx, by, cx, cy, detSum);
+	}
+
+	/**
+	 * Refines the computation of the orientation, by successively
+	 * considering the rounding errors of the coordinate differences and of
+	 * the products.
+	 */
+	private static double orient2dAdapt(double ax, double ay, double bx,
+			double by, double cx, double cy, double detSum) {
+		double acx = ax - cx;
+		double bcx = bx - cx;
+		double acy = ay - cy;
+		double bcy = by - cy;
+
+		// exact determinant of the rounded differences
+		double[] b = new double[4];
+		productDiff(acx, bcy, acy, bcx, b);
+		double det = estimate(b, 4);
+		double errBound = CCW_ERR_BOUND_B * detSum;
+		if (det >= errBound || -det >= errBound)
+			return det;
+
+		// rounding errors of the differences
+		double acxTail = diffTail(ax, cx, acx);
+		double bcxTail = diffTail(bx, cx, bcx);
+		double acyTail = diffTail(ay, cy, acy);
+		double bcyTail = diffTail(by, cy, bcy);
+		if (acxTail == 0 && acyTail == 0 && bcxTail == 0 && bcyTail == 0)
+			return det;
+
+		// first order correction
+		errBound = CCW_ERR_BOUND_C * detSum + RESULT_ERR_BOUND * Math.abs(det);
+		det += (acx * bcyTail + bcy * acxTail) - (acy * bcxTail + bcx * acyTail);
+		if (det >= errBound || -det >= errBound)
+			return det;
+
+		// exact computation
+		double[] u = new double[4];
+		double[] c1 = new double[8];
+		double[] c2 = new double[12];
+		double[] d = new double[16];
+		productDiff(acxTail, bcy, acyTail, bcx, u);
+		int c1Length = expansionSum(b, 4, u, 4, c1);
+		productDiff(acx, bcyTail, acy, bcxTail, u);
+		int c2Length = expansionSum(c1, c1Length, u, 4, c2);
+		productDiff(acxTail, bcyTail, acyTail, bcxTail, u);
+		int dLength = expansionSum(c2, c2Length, u, 4, d);
+
+		return d[dLength - 1];
+	}
+
+
+	// ===================================================================
+	// in circle test
+
+	/**
+	 * Checks the position of the point d with respect to the circle passing
+	 * through the points a, b and c.
+	 *
+	 * @see #incircle(double, double, double, double, double, double, double,
+	 *      double)
+	 */
+	public static double incircle(Point2D a, Point2D b, Point2D c, Point2D d) {
+		return incircle(a.x, a.y, b.x, b.y, c.x, c.y, d.x, d.y);
+	}
+
+	/**
+	 * Checks the position of the point (dx, dy) with respect to the circle
+	 * passing through the points (ax, ay), (bx, by) and (cx, cy), that must
+	 * be in counter-clockwise order. The result is positive if the point is
+	 * inside the circle, negative if it is outside, and zero if the four
+	 * points are cocircular. If the first three points are in clockwise
+	 * order, the sign of the result is reversed.
+	 */
+	public static double incircle(double ax, double ay, double bx, double by,
+			double cx, double cy, double dx, double dy) {
+		double adx = ax - dx;
+		double bdx = bx - dx;
+		double cdx = cx - dx;
+		double ady = ay - dy;
+		double bdy = by - dy;
+		double cdy = cy - dy;
+
+		double bdxcdy = bdx * cdy;
+		double cdxbdy = cdx * bdy;
+		double alift = adx * adx + ady * ady;
+
+		double cdxady = cdx * ady;
+		double adxcdy = adx * cdy;
+		double blift = bdx * bdx + bdy * bdy;
+
+		double adxbdy = adx * bdy;
+		double bdxady = bdx * ady;
+		double clift = cdx * cdx + cdy * cdy;
+
+		double det = alift * (bdxcdy - cdxbdy) + blift * (cdxady - adxcdy)
+				+ clift * (adxbdy - bdxady);
+
+		double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+				+ (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+				+ (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+		double errBound = ICC_ERR_BOUND_A * permanent;
+		if (det > errBound || -det > errBound)
+			return det;
+
+		return incircleExact(ax, ay, bx, by, cx, cy, dx, dy);
+	}
+
+	/**
+	 * Computes the in circle determinant with exact arithmetic, from the
+	 * coordinates of the points.
+	 */
+	private static double incircleExact(double ax, double ay, double bx,
+			double by, double cx, double cy, double dx, double dy) {
+		// 2x2 determinants of each couple of points
+		double[] ab = new double[4];
+		double[] bc = new double[4];
+		double[] cd = new double[4];
+		double[] da = new double[4];
+		double[] ac = new double[4];
+		double[] bd = new double[4];
+		productDiff(ax, by, bx, ay, ab);
+		productDiff(bx, cy, cx, by, bc);
+		productDiff(cx, dy, dx, cy, cd);
+		productDiff(dx, ay, ax, dy, da);
+		productDiff(ax, cy, cx, ay, ac);
+		productDiff(bx, dy, dx, by, bd);
+
+		// 3x3 determinants of each triplet of points
+		double[] temp8 = new double[8];
+		double[] cda = new double[12];
+		double[] dab = new double[12];
+		double[] abc = new double[12];
+		double[] bcd = new double[12];
+		int tempLength = expansionSum(cd, 4, da, 4, temp8);
+		int cdaLength = expansionSum(temp8, tempLength, ac, 4, cda);
+		tempLength = expansionSum(da, 4, ab, 4, temp8);
+		int dabLength = expansionSum(temp8, tempLength, bd, 4, dab);
+		for (int i = 0; i < 4; i++) {
+			bd[i] = -bd[i];
+			ac[i] = -ac[i];
+		}
+		tempLength = expansionSum(ab, 4, bc, 4, temp8);
+		int abcLength = expansionSum(temp8, tempLength, ac, 4, abc);
+		tempLength = expansionSum(bc, 4, cd, 4, temp8);
+		int bcdLength = expansionSum(temp8, tempLength, bd, 4, bcd);
+
+		// multiply by the lifted coordinates
+		double[] adet = new double[96];
+		double[] bdet = new double[96];
+		double[] cdet = new double[96];
+		double[] ddet = new double[96];
+		int aLength = liftedProduct(bcd, bcdLength, ax, ay, adet);
+		int bLength = liftedProduct(cda, cdaLength, bx, by, bdet);
+		int cLength = liftedProduct(dab, dabLength, cx, cy, cdet);
+		int dLength = liftedProduct(abc, abcLength, dx, dy, ddet);
+		for (int i = 0; i < bLength; i++)
+			bdet[i] = -bdet[i];
+		for (int i = 0; i < dLength; i++)
+			ddet[i] = -ddet[i];
+
+		double[] abdet = new double[192];
+		double[] cddet = new double[192];
+		double[] deter = new double[384];
+		int abLength = expansionSum(adet, aLength, bdet, bLength, abdet);
+		int cdLength = expansionSum(cdet, cLength, ddet, dLength, cddet);
+		int deterLength = expansionSum(abdet, abLength, cddet, cdLength, deter);
+
+		return deter[deterLength - 1];
+	}
+
+	/**
+	 * Computes the product of the expansion e with (x^2 + y^2), and stores
+	 * the result in h. Returns the length of the result.
+	 */
+	private static int liftedProduct(double[] e, int eLength, double x,
+			double y, double[] h) {
+		double[] det24 = new double[24];
+		double[] det48x = new double[48];
+		double[] det48y = new double[48];
+		int length = scaleExpansion(e, eLength, x, det24);
+		int xxLength = scaleExpansion(det24, length, x, det48x);
+		length = scaleExpansion(e, eLength, y, det24);
+		int yyLength = scaleExpansion(det24, length, y, det48y);
+		return expansionSum(det48x, xxLength, det48y, yyLength, h);
+	}
+
+
+	// ===================================================================
+	// expansion arithmetic
+
+	/**
+	 * Computes the rounding error of the sum x = a + b.
+	 */
+	private static double sumTail(double a, double b, double x) {
+		double bVirtual = x - a;
+		double aVirtual = x - bVirtual;
+		double bRound = b - bVirtual;
+		double aRound = a - aVirtual;
+		return aRound + bRound;
+	}
+
+	/**
+	 * Computes the rounding error of the sum x = a + b, assuming
+	 * |a| >= |b|.
+	 */
+	private static double fastSumTail(double a, double b, double x) {
+		double bVirtual = x - a;
+		return b - bVirtual;
+	}
+
+	/**
+	 * Computes the rounding error of the difference x = a - b.
+	 */
+	private static double diffTail(double a, double b, double x) {
+		double bVirtual = a - x;
+		double aVirtual = x + bVirtual;
+		double bRound = bVirtual - b;
+		double aRound = a - aVirtual;
+		return aRound + bRound;
+	}
+
+	/**
+	 * Computes the rounding error of the product x = a * b, by splitting
+	 * each factor into two halves whose products are exact.
+	 */
+	private static double productTail(double a, double b, double x) {
+		double c = SPLITTER * a;
+		double aHi = c - (c - a);
+		double aLo = a - aHi;
+		c = SPLITTER * b;
+		double bHi = c - (c - b);
+		double bLo = b - bHi;
+		double err1 = x - aHi * bHi;
+		double err2 = err1 - aLo * bHi;
+		double err3 = err2 - aHi * bLo;
+		return aLo * bLo - err3;
+	}
+
+	/**
+	 * Computes exactly a * b - c * d, and stores the result as an expansion
+	 * of four components, sorted by increasing magnitude.
+	 */
+	private static void productDiff(double a, double b, double c, double d,
+			double[] x) {
+		double ab = a * b;
+		double abTail = productTail(a, b, ab);
+		double cd = c * d;
+		double cdTail = productTail(c, d, cd);
+
+		// (ab + abTail) - (cd + cdTail)
+		double i = abTail - cdTail;
+		x[0] = diffTail(abTail, cdTail, i);
+		double j = ab + i;
+		double k = sumTail(ab, i, j);
+		i = k - cd;
+		x[1] = diffTail(k, cd, i);
+		x[3] = j + i;
+		x[2] = sumTail(j, i, x[3]);
+	}
+
+	/**
+	 * Computes the sum of two expansions, and stores the result in h,
+	 * omitting zero components. Returns the number of components of the
+	 * result.
+	 */
+	private static int expansionSum(double[] e, int eLength, double[] f,
+			int fLength, double[] h) {
+		int eIndex = 0;
+		int fIndex = 0;
+		double eNow = e[0];
+		double fNow = f[0];
+		double q;
+		if ((fNow > eNow) == (fNow > -eNow)) {
+			q = eNow;
+			eNow = ++eIndex < eLength ? e[eIndex] : 0;
+		} else {
+			q = fNow;
+			fNow = ++fIndex < fLength ? f[fIndex] : 0;
+		}
+
+		int hIndex = 0;
+		double qNew, hh;
+		if (eIndex < eLength && fIndex < fLength) {
+			if ((fNow > eNow) == (fNow > -eNow)) {
+				qNew = eNow + q;
+				hh = fastSumTail(eNow, q, qNew);
+				eNow = ++eIndex < eLength ? e[eIndex] : 0;
+			} else {
+				qNew = fNow + q;
+				hh = fastSumTail(fNow, q, qNew);
+				fNow = ++fIndex < fLength ? f[fIndex] : 0;
+			}
+			q = qNew;
+			if (hh != 0)
+				h[hIndex++] = hh;
+
+			while (eIndex < eLength && fIndex < fLength) {
+				if ((fNow > eNow) == (fNow > -eNow)) {
+					qNew = q + eNow;
+					hh = sumTail(q, eNow, qNew);
+					eNow = ++eIndex < eLength ? e[eIndex] : 0;
+				} else {
+					qNew = q + fNow;
+					hh = sumTail(q, fNow, qNew);
+					fNow = ++fIndex < fLength ? f[fIndex] : 0;
+				}
+				q = qNew;
+				if (hh != 0)
+					h[hIndex++] = hh;
+			}
+		}
+
+		while (eIndex < eLength) {
+			qNew = q + eNow;
+			hh = sumTail(q, eNow, qNew);
+			eNow = ++eIndex < eLength ? e[eIndex] : 0;
+			q = qNew;
+			if (hh != 0)
+				h[hIndex++] = hh;
+		}
+		while (fIndex < fLength) {
+			qNew = q + fNow;
+			hh = sumTail(q, fNow, qNew);
+			fNow = ++fIndex < fLength ? f[fIndex] : 0;
+			q = qNew;
+			if (hh != 0)
+				h[hIndex++] = hh;
+		}
+
+		if (q != 0 || hIndex == 0)
+			h[hIndex++] = q;
+		return hIndex;
+	}
+
+	/**
+	 * Multiplies the expansion e by the value b, and stores the result in h,
+	 * omitting zero components. Returns the number of components of the
+	 * result.
+	 */
+	private static int scaleExpansion(double[] e, int eLength, double b,
+			double[] h) {
+		double q = e[0] * b;
+		double hh = productTail(e[0], b, q);
+		int hIndex = 0;
+		if (hh != 0)
+			h[hIndex++] = hh;
+
+		for (int i = 1; i < eLength; i++) {
+			double eNow = e[i];
+			double product1 = eNow * b;
+			double product0 = productTail(eNow, b, product1);
+			double sum = q + product0;
+			hh = sumTail(q, product0, sum);
+			if (hh != 0)
+				h[hIndex++] = hh;
+			q = product1 + sum;
+			hh = fastSumTail(product1, sum, q);
+			if (hh != 0)
+				h[hIndex++] = hh;
+		}
+
+		if (q != 0 || hIndex == 0)
+			h[hIndex++] = q;
+		return hIndex;
+	}
+
+	/**
+	 * Returns an approximation of the value of an expansion.
+	 */
+	private static double estimate(double[] e, int length) {
+		double q = e[0];
+		for (int i = 1; i < length; i++)
+			q += e[i];
+		return q;
+	}
+}
@@ -123,33 +123,6 @@ implements CirculinearContinuousCurve2D, CirculinearContour2D {
     // ===================================================================
     // methods implementing the CirculinearCurve2D interface
 
-	/* (non-Javadoc)
-	 * @see math.geom2d.circulinear.CirculinearCurve2D#length()
-	 */
-	@Override
-	public double length() {
-		double sum = 0;
-		for(CirculinearCurve2D curve : this.curves())
-			sum += curve.length();
-		return sum;
-	}
-
-	/* (non-Javadoc)
-	 * @see math.geom2d.circulinear.CirculinearCurve2D#length(double)
-	 */
-	@Override
-	public double length(double pos) {
-		return CirculinearCurves2D.getLength(this, pos);
-	}
-
-	/* (non-Javadoc)
-	 * @see math.geom2d.circulinear.CirculinearCurve2D#position(double)
-	 */
-	@Override
-	public double position(double length) {
-		return CirculinearCurves2D.getPosition(this, length);
-	}
-
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearContinuousCurve2D#parallel(double)
 	 */
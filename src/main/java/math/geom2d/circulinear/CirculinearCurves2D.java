@@ -159,7 +159,9 @@ public class CirculinearCurves2D {
 
 	/**
 	 * Computes intersection point of a single curve, by iterating on pair of
-	 * Circulinear elements composing the curve.
+	 * Circulinear elements composing the curve. Only the couples of elements
+	 * with overlapping bounding boxes are considered, using the sweep 
+	 * implemented in IntersectionSweep2D.
 	 * 
 	 * @return the set of self-intersection points
 	 */
@@ -176,20 +178,17 @@ public class CirculinearCurves2D {
 		// create array for storing result
 		ArrayList<Point2D> result = new ArrayList<Point2D>(0);
 
-		// iterate on each couple of elements
-		int n = elements.size();
-		for (int i = 0; i < n - 1; i++) {
-			CirculinearElement2D elem1 = elements.get(i);
-			for (int j = i; j < n; j++) {
-				CirculinearElement2D elem2 = elements.get(j);
-				// iterate on intersections between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// do not keep extremities
-					if (isCommonVertex(inter, elem1, elem2))
-						continue;
-
-					result.add(inter);
-				}
+		// iterate on each couple of elements whose bounding boxes overlap
+		for (int[] pair : IntersectionSweep2D.findCandidatePairs(elements)) {
+			CirculinearElement2D elem1 = elements.get(pair[0]);
+			CirculinearElement2D elem2 = elements.get(pair[1]);
+			// iterate on intersections between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// do not keep extremities
+				if (isCommonVertex(inter, elem1, elem2))
+					continue;
+
+				result.add(inter);
 			}
 		}
 
@@ -205,27 +204,30 @@ public class CirculinearCurves2D {
 		ArrayList<Double> list2 = new ArrayList<Double>(0);
 		double dt;
 
-		// iterate on each couple of elements
-		int n = curve.size();
-		for (int i = 0; i < n - 1; i++) {
-			CirculinearElement2D elem1 = curve.get(i);
-			for (int j = i + 1; j < n; j++) {
-				CirculinearElement2D elem2 = curve.get(j);
-				// iterate on intersection between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// do not keep extremities
-					if (isCommonVertex(inter, elem1, elem2))
-						continue;
-
-					// add the intersection if we keep it
-					dt = Curves2D.toUnitSegment(elem1.position(inter),
-							elem1.t0(), elem1.t1());
-					list1.add(2 * i + dt);
-
-					dt = Curves2D.toUnitSegment(elem2.position(inter),
-							elem2.t0(), elem2.t1());
-					list2.add(2 * j + dt);
-				}
+		// extract elements of the curve
+		ArrayList<CirculinearElement2D> elements = 
+			new ArrayList<CirculinearElement2D>(curve.curves());
+
+		// iterate on each couple of elements whose bounding boxes overlap
+		for (int[] pair : IntersectionSweep2D.findCandidatePairs(elements)) {
+			int i = pair[0];
+			int j = pair[1];
+			CirculinearElement2D elem1 = elements.get(i);
+			CirculinearElement2D elem2 = elements.get(j);
+			// iterate on intersection between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// do not keep extremities
+				if (isCommonVertex(inter, elem1, elem2))
+					continue;
+
+				// add the intersection if we keep it
+				dt = Curves2D.toUnitSegment(elem1.position(inter),
+						elem1.t0(), elem1.t1());
+				list1.add(2 * i + dt);
+
+				dt = Curves2D.toUnitSegment(elem2.position(inter),
+						elem2.t0(), elem2.t1());
+				list2.add(2 * j + dt);
 			}
 		}
 
@@ -267,7 +269,8 @@ public class CirculinearCurves2D {
 	}
 
 	/**
-	 * Compute the set of intersection points between the two curves.
+	 * Compute the set of intersection points between the two curves. Only the
+	 * couples of elements with overlapping bounding boxes are considered.
 	 * 
 	 * @return a collection of intersection points
 	 */
@@ -287,18 +290,15 @@ public class CirculinearCurves2D {
 		// create array for storing result
 		ArrayList<Point2D> result = new ArrayList<Point2D>(0);
 
-		// iterate on each couple of elements
-		int n1 = elements1.size();
-		int n2 = elements2.size();
-		for (int i = 0; i < n1; i++) {
-			CirculinearElement2D elem1 = elements1.get(i);
-			for (int j = 0; j < n2; j++) {
-				CirculinearElement2D elem2 = elements2.get(j);
-				// iterate on intersection between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					// add the intersection if we keep it
-					result.add(inter);
-				}
+		// iterate on each couple of elements whose bounding boxes overlap
+		for (int[] pair : IntersectionSweep2D.findCandidatePairs(
+				elements1, elements2)) {
+			CirculinearElement2D elem1 = elements1.get(pair[0]);
+			CirculinearElement2D elem2 = elements2.get(pair[1]);
+			// iterate on intersection between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				// add the intersection if we keep it
+				result.add(inter);
 			}
 		}
 
@@ -329,23 +329,20 @@ public class CirculinearCurves2D {
 		for (CirculinearContinuousCurve2D cont : curve2.continuousCurves())
 			elements2.addAll(cont.smoothPieces());
 
-		// iterate on each couple of elements
-		int n1 = elements1.size();
-		int n2 = elements2.size();
-		for (int i = 0; i < n1; i++) {
-			CirculinearElement2D elem1 = elements1.get(i);
-			for (int j = 0; j < n2; j++) {
-				CirculinearElement2D elem2 = elements2.get(j);
-				// iterate on intersections between consecutive elements
-				for (Point2D inter : findIntersections(elem1, elem2)) {
-					double pos1 = curve1.position(inter);
-					double pos2 = curve2.position(inter);
-					if (curve1.isSingular(pos1) && curve2.isSingular(pos2))
-						continue;
-					// add the intersection if we keep it
-					list1.add(pos1);
-					list2.add(pos2);
-				}
+		// iterate on each couple of elements whose bounding boxes overlap
+		for (int[] pair : IntersectionSweep2D.findCandidatePairs(
+				elements1, elements2)) {
+			CirculinearElement2D elem1 = elements1.get(pair[0]);
+			CirculinearElement2D elem2 = elements2.get(pair[1]);
+			// iterate on intersections between consecutive elements
+			for (Point2D inter : findIntersections(elem1, elem2)) {
+				double pos1 = curve1.position(inter);
+				double pos2 = curve2.position(inter);
+				if (curve1.isSingular(pos1) && curve2.isSingular(pos2))
+					continue;
+				// add the intersection if we keep it
+				list1.add(pos1);
+				list2.add(pos2);
 			}
 		}
 
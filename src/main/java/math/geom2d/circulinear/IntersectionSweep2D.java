@@ -0,0 +1,218 @@
+/**
+ * File: 	IntersectionSweep2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import math.geom2d.Box2D;
+import math.geom2d.Shape2D;
+
+/**
+ * Identifies the pairs of shapes whose bounding boxes overlap, using a sweep
+ * line along the x-axis. This is used as a broad phase for intersection
+ * computations between collections of circulinear elements (line segments,
+ * circle arcs...), such that the exact intersections are computed only for
+ * the couples of elements that can actually intersect.<p>
+ * Shapes are sorted according to the lower x-bound of their bounding box. The
+ * sweep maintains the list of active shapes, whose x-extent contains the
+ * current sweep position, and compares the y-extent of each new shape with
+ * the active ones. The cost is O(n log n + n*w), where w is the largest
+ * number of shapes whose x-extents overlap the same sweep position. As
+ * active shapes are not indexed along the y-axis, this can reach O(n^2)
+ * even when no pair overlaps, for example for shapes stacked vertically.
+ * For usual sets of edges, w is small compared to n, and the sweep is much
+ * faster than the exhaustive comparison of all pairs.<p>
+ * Unbounded shapes are assumed to overlap every other shape.
+ *
+ * @author dlegland
+ *
+ */
+public class IntersectionSweep2D {
+
+	/**
+	 * Computes the couples (i,j) such that the bounding boxes of the i-th
+	 * shape of the first list and of the j-th shape of the second list
+	 * overlap. The result is a N-by-2 array of indices, sorted by increasing
+	 * i, then by increasing j.
+	 */
+	public static int[][] findCandidatePairs(
+			List<? extends Shape2D> shapes1, List<? extends Shape2D> shapes2) {
+		int n1 = shapes1.size();
+		int n2 = shapes2.size();
+		if (n1 == 0 || n2 == 0)
+			return new int[0][2];
+
+		// concatenate the bounds of the two lists
+		double[][] bounds = new double[n1 + n2][];
+		for (int i = 0; i < n1; i++)
+			bounds[i] = bounds(shapes1.get(i));
+		for (int j = 0; j < n2; j++)
+			bounds[n1 + j] = bounds(shapes2.get(j));
+
+		// sweep, keeping only couples with one shape in each list
+		long[] codes = sweep(bounds, n1);
+
+		// convert codes to couples of indices
+		int nc = codes.length;
+		int[][] result = new int[nc][2];
+		for (int k = 0; k < nc; k++) {
+			result[k][0] = (int) (codes[k] / n2);
+			result[k][1] = (int) (codes[k] % n2);
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the couples (i,j), with i&lt;j, such that the bounding boxes
+	 * of the i-th and the j-th shapes of the list overlap. The result is a
+	 * N-by-2 array of indices, sorted by increasing i, then by increasing j.
+	 */
+	public static int[][] findCandidatePairs(List<? extends Shape2D> shapes) {
+		int n = shapes.size();
+		if (n < 2)
+			return new int[0][2];
+
+		// compute bounds of each shape
+		double[][] bounds = new double[n][];
+		for (int i = 0; i < n; i++)
+			bounds[i] = bounds(shapes.get(i));
+
+		// sweep, keeping all couples
+		long[] codes = sweep(bounds, -1);
+
+		// convert codes to couples of indices
+		int nc = codes.length;
+		int[][] result = new int[nc][2];
+		for (int k = 0; k < nc; k++) {
+			result[k][0] = (int) (codes[k] / n);
+			result[k][1] = (int) (codes[k] % n);
+		}
+		return result;
+	}
+
+	/**
+	 * Runs the sweep over the given bounds. If n1 is not negative, the first n1
+	 * bounds are considered to belong to the first set, the other ones to the
+	 * second set, and only couples with one element in each set are kept. The
+	 * couples are encoded as i*n2+j, where n2 is the size of the second set,
+	 * or the total number of bounds for a single set.
+	 */
+	private static long[] sweep(final double[][] bounds, int n1) {
+		int n = bounds.length;
+		boolean twoSets = n1 >= 0;
+		long n2 = twoSets ? n - n1 : n;
+
+		// sort indices by increasing xmin
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++)
+			order[i] = i;
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer i1, Integer i2) {
+				return Double.compare(bounds[i1][0], bounds[i2][0]);
+			}
+		});
+
+		// the list of active shapes, for each set
+		int[] active1 = new int[16];
+		int[] active2 = new int[16];
+		int na1 = 0, na2 = 0;
+
+		// the resulting codes
+		long[] codes = new long[16];
+		int nc = 0;
+
+		for (int k = 0; k < n; k++) {
+			int index = order[k];
+			double[] box = bounds[index];
+			boolean first = !twoSets || index < n1;
+
+			// the list of candidates to compare with
+			int[] active = twoSets && first ? active2 : active1;
+			int na = twoSets && first ? na2 : na1;
+
+			// remove shapes that end before current shape, and compare others
+			int count = 0;
+			for (int a = 0; a < na; a++) {
+				int other = active[a];
+				double[] box2 = bounds[other];
+				if (box2[1] < box[0])
+					continue;
+				active[count++] = other;
+
+				// check overlap along y direction
+				if (box2[3] < box[2] || box[3] < box2[2])
+					continue;
+
+				// compute code of the couple
+				long code;
+				if (twoSets) {
+					if (first)
+						code = index * n2 + (other - n1);
+					else
+						code = other * n2 + (index - n1);
+				} else {
+					code = Math.min(index, other) * n2 + Math.max(index, other);
+				}
+
+				if (nc == codes.length)
+					codes = Arrays.copyOf(codes, nc * 2);
+				codes[nc++] = code;
+			}
+
+			// update size of the list we compared with
+			if (twoSets && first)
+				na2 = count;
+			else
+				na1 = count;
+
+			// add current shape to its own active list
+			if (twoSets && !first) {
+				if (na2 == active2.length)
+					active2 = Arrays.copyOf(active2, na2 * 2);
+				active2[na2++] = index;
+			} else {
+				if (na1 == active1.length)
+					active1 = Arrays.copyOf(active1, na1 * 2);
+				active1[na1++] = index;
+			}
+		}
+
+		// sort couples to obtain a deterministic order
+		codes = Arrays.copyOf(codes, nc);
+		Arrays.sort(codes);
+		return codes;
+	}
+
+	/**
+	 * Returns the bounds of the shape as an array {xmin, xmax, ymin, ymax},
+	 * enlarged by Shape2D.ACCURACY to keep touching shapes.
+	 */
+	private static double[] bounds(Shape2D shape) {
+		double inf = Double.POSITIVE_INFINITY;
+		if (!shape.isBounded())
+			return new double[] { -inf, inf, -inf, inf };
+
+		// some shapes do not return ordered bounds
+		Box2D box = shape.boundingBox();
+		double x1 = box.getMinX(), x2 = box.getMaxX();
+		double y1 = box.getMinY(), y2 = box.getMaxY();
+		double eps = Shape2D.ACCURACY;
+		double[] res = new double[] {
+				Math.min(x1, x2) - eps, Math.max(x1, x2) + eps,
+				Math.min(y1, y2) - eps, Math.max(y1, y2) + eps };
+
+		// replace undefined bounds by infinite ones
+		for (int i = 0; i < 4; i++)
+			if (Double.isNaN(res[i]))
+				res[i] = i % 2 == 0 ? -inf : inf;
+		return res;
+	}
+}
@@ -112,30 +112,6 @@ extends PolyOrientedCurve2D<T> implements CirculinearContinuousCurve2D {
     // ===================================================================
     // methods implementing the CirculinearCurve2D interface
 
-	/* (non-Javadoc)
-	 * @see math.geom2d.circulinear.CirculinearCurve2D#length()
-	 */
-	public double length() {
-		double sum = 0;
-		for(CirculinearCurve2D curve : this.curves())
-			sum += curve.length();
-		return sum;
-	}
-
-	/* (non-Javadoc)
-	 * @see math.geom2d.circulinear.CirculinearCurve2D#length(double)
-	 */
-	public double length(double pos) {
-		return CirculinearCurves2D.getLength(this, pos);
-	}
-
-	/* (non-Javadoc)
-	 * @see math.geom2d.circulinear.CirculinearCurve2D#position(double)
-	 */
-	public double position(double length) {
-		return CirculinearCurves2D.getPosition(this, length);
-	}
-
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearShape2D#buffer(double)
 	 */
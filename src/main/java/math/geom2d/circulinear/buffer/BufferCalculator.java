@@ -10,7 +10,14 @@ package math.geom2d.circulinear.buffer;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
@@ -19,6 +26,7 @@ import math.geom2d.conic.Circle2D;
 import math.geom2d.curve.Curves2D;
 import math.geom2d.line.StraightLine2D;
 import math.geom2d.point.PointSet2D;
+import math.geom2d.polygon.Polygon2D;
 
 
 /**
@@ -27,7 +35,13 @@ import math.geom2d.point.PointSet2D;
  * This class can be instantiated, but also contains a lot of static methods.
  * The default instance of BufferCalculator is accessible through the static
  * method 'getDefaultInstance'. The public constructor can be called if
- * different cap or join need to be specified.
+ * different cap or join need to be specified.<p>
+ * Instances of BufferCalculator are immutable, and can be used concurrently
+ * by several threads. When an executor is specified, the buffer computation
+ * is split into independent tasks: the buffer of each continuous curve, and
+ * the validation of each contour against the original curve. The method
+ * 'computeBuffers' processes a collection of shapes in parallel, using the
+ * executor of the calculator, or a shared pool if no executor was specified.
  * 
  * @author dlegland
  *
@@ -39,20 +53,37 @@ public class BufferCalculator {
 
 	private static BufferCalculator defaultInstance = null;
 	
+	/** The executor used for batch computations, created when needed */
+	private static ExecutorService defaultExecutor = null;
+	
 	/**
 	 * Returns the default instance of bufferCalculator.
 	 */
-	public static BufferCalculator getDefaultInstance() {
+	public static synchronized BufferCalculator getDefaultInstance() {
 		if (defaultInstance == null)
 			defaultInstance = new BufferCalculator();
 		return defaultInstance;
 	}
 	
+	/**
+	 * Returns the executor used for batch computations when no executor is
+	 * specified. The executor is created at first call, with one thread per
+	 * processor.
+	 */
+	private static synchronized ExecutorService defaultExecutor() {
+		if (defaultExecutor == null)
+			defaultExecutor = new ForkJoinPool();
+		return defaultExecutor;
+	}
+	
     // ===================================================================
     // Class variables
 
-	private JoinFactory joinFactory;
-	private CapFactory capFactory;
+	private final JoinFactory joinFactory;
+	private final CapFactory capFactory;
+	
+	/** The executor used for computing buffers, or null for sequential */
+	private final ExecutorService executor;
 	
     // ===================================================================
     // Constructors
@@ -61,16 +92,36 @@ public class BufferCalculator {
 	 * Creates a new buffer calculator with default join and cap factories.
 	 */
 	public BufferCalculator() {
-		this.joinFactory = new RoundJoinFactory();
-		this.capFactory = new RoundCapFactory();
+		this(new RoundJoinFactory(), new RoundCapFactory(), null);
 	}
 	
 	/**
 	 * Creates a new buffer calculator with specific join and cap factories.
 	 */
 	public BufferCalculator(JoinFactory joinFactory, CapFactory capFactory) {
+		this(joinFactory, capFactory, null);
+	}
+	
+	/**
+	 * Creates a new buffer calculator with default join and cap factories,
+	 * that runs the computations on the specified executor.
+	 */
+	public BufferCalculator(ExecutorService executor) {
+		this(new RoundJoinFactory(), new RoundCapFactory(), executor);
+	}
+	
+	/**
+	 * Creates a new buffer calculator with specific join and cap factories,
+	 * that runs the computations on the specified executor. If the executor
+	 * is null, buffers of single shapes are computed in the calling thread.
+	 * The tasks submitted to the executor do not wait for other tasks, so
+	 * any executor can be used.
+	 */
+	public BufferCalculator(JoinFactory joinFactory, CapFactory capFactory,
+			ExecutorService executor) {
 		this.joinFactory = joinFactory;
 		this.capFactory = capFactory;
+		this.executor = executor;
 	}
 	
 	
@@ -125,7 +176,7 @@ public class BufferCalculator {
 		
 		// compute the parallel of each contour
 		for(CirculinearContour2D contour : contours)
-			parallelContours.add(contour.parallel(dist));
+			parallelContours.add(createParallelContour(contour, dist));
 		
 		// Create an agglomeration of the curves
 		return CirculinearContourArray2D.create(parallelContours);
@@ -243,95 +294,207 @@ public class BufferCalculator {
 	 */
 	public CirculinearDomain2D computeBuffer(
 			CirculinearCurve2D curve, double dist) {
+		List<CirculinearCurve2D> curves = Collections.singletonList(curve);
+		return computeCurveBuffers(curves, dist, executor).get(0);
+	}
+	
+	/**
+	 * Computes the buffers of a collection of circulinear shapes, and returns
+	 * them in the same order. All buffers are computed with the join and cap
+	 * factories of this calculator.
+	 * Computation is performed in parallel on the executor of this calculator,
+	 * or on a shared pool if no executor was specified.
+	 */
+	public List<CirculinearDomain2D> computeBuffers(
+			Collection<? extends CirculinearShape2D> shapes, final double dist) {
+		ExecutorService exec = executor != null ? executor : defaultExecutor();
+		
+		// separate curves from other shapes. As in Polygons2D, the buffer of
+		// a polygon is the buffer of its boundary, so polygons are processed
+		// with the curves: a task must not wait for the buffer of a curve.
+		int n = shapes.size();
+		ArrayList<CirculinearCurve2D> curves = new ArrayList<CirculinearCurve2D>(n);
+		ArrayList<Callable<CirculinearDomain2D>> tasks = 
+			new ArrayList<Callable<CirculinearDomain2D>>();
+		for (final CirculinearShape2D shape : shapes) {
+			if (shape instanceof CirculinearCurve2D) {
+				curves.add((CirculinearCurve2D) shape);
+			} else if (shape instanceof Polygon2D) {
+				curves.add(((Polygon2D) shape).boundary());
+			} else {
+				tasks.add(new Callable<CirculinearDomain2D>() {
+					public CirculinearDomain2D call() {
+						return computeShapeBuffer(shape, dist);
+					}
+				});
+			}
+		}
 		
-		ArrayList<CirculinearContour2D> contours =
-			new ArrayList<CirculinearContour2D>();
-		
-		// iterate on all continuous curves
-		for (CirculinearContinuousCurve2D cont : curve.continuousCurves()) {
-			// split the curve into a set of non self-intersecting curves
-			for (CirculinearContinuousCurve2D splitted : 
-				CirculinearCurves2D.splitContinuousCurve(cont)) {
-				// compute the rings composing the simple curve buffer
-				contours.addAll(computeBufferSimpleCurve(splitted, dist));
+		// start computation of other shapes, and compute buffer of curves
+		ArrayList<Future<CirculinearDomain2D>> futures = 
+			new ArrayList<Future<CirculinearDomain2D>>(tasks.size());
+		for (Callable<CirculinearDomain2D> task : tasks)
+			futures.add(exec.submit(task));
+		List<CirculinearDomain2D> curveBuffers = 
+			computeCurveBuffers(curves, dist, exec);
+		List<CirculinearDomain2D> shapeBuffers = getResults(futures);
+		
+		// merge results in the order of input shapes
+		ArrayList<CirculinearDomain2D> buffers = 
+			new ArrayList<CirculinearDomain2D>(n);
+		Iterator<CirculinearDomain2D> iter1 = curveBuffers.iterator();
+		Iterator<CirculinearDomain2D> iter2 = shapeBuffers.iterator();
+		for (CirculinearShape2D shape : shapes)
+			buffers.add(shape instanceof CirculinearCurve2D
+					|| shape instanceof Polygon2D ? 
+					iter1.next() : iter2.next());
+		return buffers;
+	}
+	
+	/**
+	 * Computes the buffers of a list of curves, by following the steps of
+	 * the algorithm for all curves at the same time. Each step is split into
+	 * independent tasks, run on the executor if it is not null.
+	 */
+	private List<CirculinearDomain2D> computeCurveBuffers(
+			List<? extends CirculinearCurve2D> curves, final double dist,
+			ExecutorService exec) {
+		int n = curves.size();
+		
+		// compute the rings composing the buffer of each continuous curve
+		ArrayList<Callable<Collection<CirculinearContour2D>>> tasks1 = 
+			new ArrayList<Callable<Collection<CirculinearContour2D>>>();
+		int[] counts = new int[n];
+		for (int i = 0; i < n; i++) {
+			for (final CirculinearContinuousCurve2D cont : 
+				curves.get(i).continuousCurves()) {
+				tasks1.add(new Callable<Collection<CirculinearContour2D>>() {
+					public Collection<CirculinearContour2D> call() {
+						return computeBufferContinuousCurve(cont, dist);
+					}
+				});
+				counts[i]++;
 			}
 		}
+		List<Collection<CirculinearContour2D>> results1 = invokeAll(exec, tasks1);
 		
 		// split contours which intersect each others
-		contours = new ArrayList<CirculinearContour2D>(
-				CirculinearCurves2D.splitIntersectingContours(contours));		
+		ArrayList<Callable<Collection<CirculinearContour2D>>> tasks2 = 
+			new ArrayList<Callable<Collection<CirculinearContour2D>>>(n);
+		Iterator<Collection<CirculinearContour2D>> iter = results1.iterator();
+		for (int i = 0; i < n; i++) {
+			final ArrayList<CirculinearContour2D> contours =
+				new ArrayList<CirculinearContour2D>();
+			for (int k = 0; k < counts[i]; k++)
+				contours.addAll(iter.next());
+			tasks2.add(new Callable<Collection<CirculinearContour2D>>() {
+				public Collection<CirculinearContour2D> call() {
+					return CirculinearCurves2D.splitIntersectingContours(contours);
+				}
+			});
+		}
+		List<Collection<CirculinearContour2D>> results2 = invokeAll(exec, tasks2);
 		
 		// Remove contours that cross or that are too close from base curve
-		ArrayList<CirculinearContour2D> contours2 = 
-			new ArrayList<CirculinearContour2D>(contours.size());
-		Collection<Point2D> intersects;
-		Collection<Point2D> vertices;
-		
-		for (CirculinearContour2D contour : contours) {
-			
-			// do not keep contours which cross original curve
-			intersects = CirculinearCurves2D.findIntersections(curve, contour);
-			
-			// remove intersection points that are vertices of the reference curve
-			vertices = curve.singularPoints();
-			vertices = curve.vertices();
-			intersects.removeAll(vertices);
-			
-			if (intersects.size() > 0)
-				continue;
-			
-			// check that vertices of contour are not too close from original
-			// curve
-			double distCurves = 
-				getDistanceCurveSingularPoints(curve, contour);
-			if(distCurves < dist-Shape2D.ACCURACY)
-				continue;
-			
-			// keep the contours that meet the above conditions
-			contours2.add(contour);
+		ArrayList<Callable<Boolean>> tasks3 = new ArrayList<Callable<Boolean>>();
+		for (int i = 0; i < n; i++) {
+			final CirculinearCurve2D curve = curves.get(i);
+			for (final CirculinearContour2D contour : results2.get(i)) {
+				tasks3.add(new Callable<Boolean>() {
+					public Boolean call() {
+						return isValidContour(curve, contour, dist);
+					}
+				});
+			}
 		}
+		Iterator<Boolean> valid = invokeAll(exec, tasks3).iterator();
 		
 		// All the rings are created, we can now create a new domain with the
 		// set of rings
-		return new GenericCirculinearDomain2D(
-				CirculinearContourArray2D.create(contours2));
+		ArrayList<CirculinearDomain2D> buffers = 
+			new ArrayList<CirculinearDomain2D>(n);
+		for (int i = 0; i < n; i++) {
+			ArrayList<CirculinearContour2D> contours2 = 
+				new ArrayList<CirculinearContour2D>();
+			for (CirculinearContour2D contour : results2.get(i)) {
+				if (valid.next())
+					contours2.add(contour);
+			}
+			buffers.add(new GenericCirculinearDomain2D(
+					CirculinearContourArray2D.create(contours2)));
+		}
+		return buffers;
 	}
 	
 	/**
-	 * Compute buffer of a point set.
+	 * Computes the contours of the buffer of a continuous curve, by splitting
+	 * the curve into a set of non self-intersecting curves.
 	 */
-	public CirculinearDomain2D computeBuffer(PointSet2D set, 
-			double dist) {
-		// create array for storing result
-		Collection<CirculinearContour2D> contours = 
-			new ArrayList<CirculinearContour2D>(set.size());
+	private Collection<CirculinearContour2D> computeBufferContinuousCurve(
+			CirculinearContinuousCurve2D curve, double dist) {
+		ArrayList<CirculinearContour2D> contours =
+			new ArrayList<CirculinearContour2D>();
 		
-		// for each point, add a new circle
-		for (Point2D point : set) {
-			contours.add(new Circle2D(point, Math.abs(dist), dist > 0));
+		// split the curve into a set of non self-intersecting curves
+		for (CirculinearContinuousCurve2D splitted : 
+			CirculinearCurves2D.splitContinuousCurve(curve)) {
+			// compute the rings composing the simple curve buffer
+			contours.addAll(computeBufferSimpleCurve(splitted, dist));
 		}
+		return contours;
+	}
+	
+	/**
+	 * Checks if a contour does not cross the original curve, and is not too
+	 * close from it.
+	 */
+	private boolean isValidContour(CirculinearCurve2D curve,
+			CirculinearContour2D contour, double dist) {
+		// do not keep contours which cross original curve
+		Collection<Point2D> intersects = 
+			CirculinearCurves2D.findIntersections(curve, contour);
 		
-		// process circles to remove intersections
-		contours = CirculinearCurves2D.splitIntersectingContours(contours);
+		// remove intersection points that are vertices of the reference curve
+		intersects.removeAll(curve.vertices());
 		
-		// Remove contours that cross or that are too close from base curve
-		ArrayList<CirculinearContour2D> contours2 = 
-			new ArrayList<CirculinearContour2D>(contours.size());
-		for (CirculinearContour2D ring : contours) {
-			
-			// check that vertices of contour are not too close from original
-			// curve
-			double minDist = CirculinearCurves2D.getDistanceCurvePoints(
-					ring, set.points());
-			if(minDist < dist-Shape2D.ACCURACY)
-				continue;
-			
-			// keep the contours that meet the above conditions
-			contours2.add(ring);
-		}
+		if (intersects.size() > 0)
+			return false;
+		
+		// check that vertices of contour are not too close from original
+		// curve
+		double distCurves = getDistanceCurveSingularPoints(curve, contour);
+		return distCurves >= dist - Shape2D.ACCURACY;
+	}
+	
+	/**
+	 * Compute buffer of a point set. The neighbors of each point are found
+	 * with a KD-tree, and the boundary of the buffer is obtained by
+	 * connecting the arcs of circles that are not covered by neighbor disks.
+	 */
+	public CirculinearDomain2D computeBuffer(PointSet2D set, 
+			double dist) {
+		return PointSetBuffer2D.create(set.points(), dist);
+	}
 
-		return new GenericCirculinearDomain2D(
-				CirculinearContourArray2D.create(contours2));
+	/**
+	 * Computes the buffer of a shape which is neither a curve nor a polygon,
+	 * using the factories of this calculator. Domains are offset by the
+	 * parallel of their boundary. The computation is sequential, as it is
+	 * run by the tasks of 'computeBuffers'.
+	 */
+	private CirculinearDomain2D computeShapeBuffer(CirculinearShape2D shape,
+			double dist) {
+		if (shape instanceof PointSet2D)
+			return computeBuffer((PointSet2D) shape, dist);
+		if (shape instanceof CirculinearDomain2D) {
+			CirculinearBoundary2D boundary = 
+				createParallelBoundary(((CirculinearDomain2D) shape).boundary(), dist);
+			return new GenericCirculinearDomain2D(
+					CirculinearContourArray2D.create(
+							CirculinearCurves2D.splitIntersectingContours(
+									boundary.continuousCurves())));
+		}
+		return shape.buffer(dist);
 	}
 
 	/**
@@ -527,4 +690,54 @@ public class BufferCalculator {
 		}
 		return minDist;
 	}
+	
+	/**
+	 * Runs a list of tasks and returns their results in the same order. If
+	 * the executor is null, the tasks are run in the calling thread.
+	 */
+	private static <T> List<T> invokeAll(ExecutorService executor,
+			List<? extends Callable<T>> tasks) {
+		if (executor == null || tasks.size() < 2) {
+			ArrayList<T> results = new ArrayList<T>(tasks.size());
+			try {
+				for (Callable<T> task : tasks)
+					results.add(task.call());
+			} catch (RuntimeException ex) {
+				throw ex;
+			} catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+			return results;
+		}
+		
+		try {
+			return getResults(executor.invokeAll(tasks));
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * Waits for the completion of the given futures and returns their
+	 * results. Exceptions thrown by the tasks are propagated.
+	 */
+	private static <T> List<T> getResults(List<Future<T>> futures) {
+		ArrayList<T> results = new ArrayList<T>(futures.size());
+		try {
+			for (Future<T> future : futures)
+				results.add(future.get());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new RuntimeException(cause);
+		}
+		return results;
+	}
 }
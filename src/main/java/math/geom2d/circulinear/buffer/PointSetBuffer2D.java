@@ -0,0 +1,371 @@
+/**
+ * File: 	PointSetBuffer2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear.buffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.circulinear.CirculinearContour2D;
+import math.geom2d.circulinear.CirculinearContourArray2D;
+import math.geom2d.circulinear.CirculinearDomain2D;
+import math.geom2d.circulinear.CirculinearElement2D;
+import math.geom2d.circulinear.GenericCirculinearDomain2D;
+import math.geom2d.circulinear.GenericCirculinearRing2D;
+import math.geom2d.conic.Circle2D;
+import math.geom2d.conic.CircleArc2D;
+import math.geom2d.point.PackedKDTree2D;
+
+/**
+ * Computes the buffer of a point set, that is the union of the disks
+ * centered on each point. The neighbors of each point are found with a
+ * KD-tree, and only overlapping disks are processed.<p>
+ * For each circle, the portions covered by the neighbor disks are computed
+ * as angular intervals. The remaining arcs are the pieces of the boundary of
+ * the union. Each arc ends on the circle of the disk that covers the next
+ * portion, on which the boundary continues, making it possible to connect
+ * the arcs into contours without computing intersections of contours.
+ * Complexity is O(n*log(n) + n*k*log(k)), where k is the mean number of
+ * neighbors of each point.
+ *
+ * @author dlegland
+ */
+final class PointSetBuffer2D {
+
+	/** The relative tolerance used to identify the end points of arcs */
+	private final static double TOLERANCE = 1e-9;
+
+	/** The centers of the disks, stored in a KD-tree */
+	private final PackedKDTree2D tree;
+
+	/** The radius of the disks */
+	private final double r;
+
+	/** The number of points */
+	private final int n;
+
+	// the free arcs, stored in arrays. startBy and endBy are the indices of
+	// the circles that bound the arc at its extremities.
+	private int nArcs = 0;
+	private int[] arcCircle = new int[16];
+	private double[] arcStart = new double[16];
+	private double[] arcEnd = new double[16];
+	private int[] arcStartBy = new int[16];
+	private int[] arcEndBy = new int[16];
+
+	/** The index of the first arc of each circle, with n+1 elements */
+	private int[] firstArc;
+
+	/** The circles that are not covered by other disks */
+	private ArrayList<Integer> isolated = new ArrayList<Integer>();
+
+	/** Buffer for the circles passing through the end point of an arc */
+	private int[] circles = new int[16];
+
+	/**
+	 * Computes the buffer of a collection of points. For negative distances,
+	 * the contours of the buffer are oriented clockwise.
+	 */
+	static CirculinearDomain2D create(Collection<? extends Point2D> points,
+			double dist) {
+		PointSetBuffer2D calc = new PointSetBuffer2D(points, Math.abs(dist));
+		calc.computeArcs();
+		Collection<CirculinearContour2D> contours = calc.createContours(dist > 0);
+		return new GenericCirculinearDomain2D(
+				CirculinearContourArray2D.create(contours));
+	}
+
+	private PointSetBuffer2D(Collection<? extends Point2D> points, double r) {
+		this.tree = new PackedKDTree2D(points);
+		this.n = tree.size();
+		this.r = r;
+	}
+
+	// ===================================================================
+	// computation of free arcs
+
+	/**
+	 * Computes the arcs of each circle that are not covered by other disks.
+	 */
+	private void computeArcs() {
+		firstArc = new int[n + 1];
+		int[] neighbors = new int[16];
+		double[] starts = new double[16];
+		double[] ends = new double[16];
+		int[] owners = new int[16];
+		Integer[] order = new Integer[16];
+
+		// for multiple points, keep only the one returned by the tree
+		boolean[] removed = new boolean[n];
+		for (int i = 0; i < n; i++)
+			removed[i] = tree.indexOf(tree.x(i), tree.y(i)) != i;
+
+		for (int i = 0; i < n; i++) {
+			firstArc[i] = nArcs;
+			if (removed[i])
+				continue;
+			double xi = tree.x(i);
+			double yi = tree.y(i);
+
+			// find the disks that overlap the current one
+			int nn = tree.radiusSearch(xi, yi, 2 * r, neighbors);
+			if (nn > neighbors.length) {
+				neighbors = new int[nn];
+				tree.radiusSearch(xi, yi, 2 * r, neighbors);
+			}
+			if (nn > starts.length) {
+				starts = new double[nn];
+				ends = new double[nn];
+				owners = new int[nn];
+				order = new Integer[nn];
+			}
+
+			// compute the angular interval covered by each neighbor disk
+			int nk = 0;
+			for (int k = 0; k < nn; k++) {
+				int j = neighbors[k];
+				if (j == i || removed[j])
+					continue;
+				double dx = tree.x(j) - xi;
+				double dy = tree.y(j) - yi;
+				double d = Math.hypot(dx, dy);
+
+				// a tangent disk covers a single point of the circle, and
+				// does not change the free arcs. The contours that pass
+				// through the contact point are connected in nextArc.
+				if (d >= 2 * r)
+					continue;
+
+				// start angles are normalized between 0 and 2*PI
+				double theta = Math.atan2(dy, dx);
+				double alpha = Math.acos(d / (2 * r));
+				double start = theta - alpha;
+				if (start < 0)
+					start += 2 * Math.PI;
+				starts[nk] = start;
+				ends[nk] = start + 2 * alpha;
+				owners[nk] = j;
+				nk++;
+			}
+			if (nk == 0) {
+				isolated.add(i);
+				continue;
+			}
+
+			computeFreeArcs(i, starts, ends, owners, order, nk);
+		}
+		firstArc[n] = nArcs;
+	}
+
+	/**
+	 * Computes the complement of the union of the given angular intervals on
+	 * the circle i, and stores the resulting arcs.
+	 */
+	private void computeFreeArcs(int i, final double[] starts, double[] ends,
+			int[] owners, Integer[] order, int nk) {
+		// sort intervals by increasing start angle
+		for (int k = 0; k < nk; k++)
+			order[k] = k;
+		Arrays.sort(order, 0, nk, new Comparator<Integer>() {
+			public int compare(Integer k1, Integer k2) {
+				return Double.compare(starts[k1], starts[k2]);
+			}
+		});
+
+		// sweep the intervals, and keep the gaps between covered portions
+		int first = nArcs;
+		int k0 = order[0];
+		double start0 = starts[k0];
+		double end = ends[k0];
+		int endBy = owners[k0];
+		for (int k = 1; k < nk; k++) {
+			int kk = order[k];
+			if (starts[kk] > end) {
+				addArc(i, end, starts[kk], endBy, owners[kk]);
+				end = ends[kk];
+				endBy = owners[kk];
+			} else if (ends[kk] > end) {
+				end = ends[kk];
+				endBy = owners[kk];
+			}
+		}
+
+		double twoPi = 2 * Math.PI;
+		if (end < start0 + twoPi) {
+			// gap between the last covered portion and the first one
+			addArc(i, end, start0 + twoPi, endBy, owners[k0]);
+		} else {
+			// the last covered portion may hide the first gaps
+			double wrap = end - twoPi;
+			int last = first;
+			for (int a = first; a < nArcs; a++) {
+				if (arcEnd[a] <= wrap)
+					continue;
+				if (arcStart[a] < wrap) {
+					arcStart[a] = wrap;
+					arcStartBy[a] = endBy;
+				}
+				copyArc(a, last++);
+			}
+			nArcs = last;
+		}
+	}
+
+	private void addArc(int circle, double start, double end, int startBy,
+			int endBy) {
+		if (nArcs == arcCircle.length) {
+			int size = nArcs * 2;
+			arcCircle = Arrays.copyOf(arcCircle, size);
+			arcStart = Arrays.copyOf(arcStart, size);
+			arcEnd = Arrays.copyOf(arcEnd, size);
+			arcStartBy = Arrays.copyOf(arcStartBy, size);
+			arcEndBy = Arrays.copyOf(arcEndBy, size);
+		}
+		arcCircle[nArcs] = circle;
+		arcStart[nArcs] = start;
+		arcEnd[nArcs] = end;
+		arcStartBy[nArcs] = startBy;
+		arcEndBy[nArcs] = endBy;
+		nArcs++;
+	}
+
+	private void copyArc(int src, int dst) {
+		arcCircle[dst] = arcCircle[src];
+		arcStart[dst] = arcStart[src];
+		arcEnd[dst] = arcEnd[src];
+		arcStartBy[dst] = arcStartBy[src];
+		arcEndBy[dst] = arcEndBy[src];
+	}
+
+	// ===================================================================
+	// creation of contours
+
+	/**
+	 * Connects the free arcs to form contours. The arc following an arc of
+	 * circle i ending on circle j is the arc of circle j that starts on
+	 * circle i.
+	 */
+	private Collection<CirculinearContour2D> createContours(boolean direct) {
+		ArrayList<CirculinearContour2D> contours =
+			new ArrayList<CirculinearContour2D>();
+
+		// circles without neighbors are contours
+		for (int i : isolated)
+			contours.add(new Circle2D(tree.point(i), r, direct));
+
+		// index arcs by circle and by the circle they start on
+		HashMap<Long, Integer> startMap = new HashMap<Long, Integer>(nArcs * 2);
+		for (int a = 0; a < nArcs; a++)
+			startMap.put(key(arcCircle[a], arcStartBy[a]), a);
+
+		boolean[] used = new boolean[nArcs];
+		for (int a0 = 0; a0 < nArcs; a0++) {
+			if (used[a0])
+				continue;
+
+			// follow the arcs until the first one is found again, and check
+			// that each arc is far enough from the points
+			ArrayList<CirculinearElement2D> arcs =
+				new ArrayList<CirculinearElement2D>();
+			boolean valid = true;
+			int a = a0;
+			while (a != -1 && !used[a]) {
+				used[a] = true;
+				valid = valid && isValid(a);
+				arcs.add(createArc(a));
+				a = nextArc(a, startMap);
+			}
+			if (!valid)
+				continue;
+
+			GenericCirculinearRing2D ring = new GenericCirculinearRing2D(arcs);
+			contours.add(direct ? ring : ring.reverse());
+		}
+		return contours;
+	}
+
+	private CircleArc2D createArc(int a) {
+		int i = arcCircle[a];
+		return new CircleArc2D(tree.x(i), tree.y(i), r, arcStart[a],
+				arcEnd[a] - arcStart[a]);
+	}
+
+	/**
+	 * Returns the index of the arc following the given arc, or -1 if no arc
+	 * can be found. This is usually the arc of the circle the arc ends on,
+	 * that starts on the circle of the arc. When several circles pass
+	 * through the end point, because they cross at the same point or because
+	 * two disks are tangent on a third circle, the arc is chosen among all
+	 * the arcs starting at the end point, by the angle between the tangents.
+	 */
+	private int nextArc(int a, HashMap<Long, Integer> startMap) {
+		int i = arcCircle[a];
+		double x = tree.x(i) + r * Math.cos(arcEnd[a]);
+		double y = tree.y(i) + r * Math.sin(arcEnd[a]);
+		double tol = TOLERANCE * Math.max(r, Math.max(Math.abs(x), Math.abs(y)));
+		Integer next = startMap.get(key(arcEndBy[a], i));
+		if (next != null && startsAt(next, x, y, tol))
+			return next;
+
+		// find the circles passing through the end point
+		int nc = tree.radiusSearch(x, y, r + tol, circles);
+		if (nc > circles.length) {
+			circles = new int[nc];
+			tree.radiusSearch(x, y, r + tol, circles);
+		}
+
+		// choose the arc that turns the most to the left, so that contours
+		// touching at the end point are kept separated
+		int best = -1;
+		double maxTurn = Double.NEGATIVE_INFINITY;
+		for (int c = 0; c < nc; c++) {
+			int k = circles[c];
+			for (int b = firstArc[k]; b < firstArc[k + 1]; b++) {
+				if (!startsAt(b, x, y, tol))
+					continue;
+				// the tangent of an arc at angle t has direction t + PI/2
+				double turn = Math.IEEEremainder(arcStart[b] - arcEnd[a],
+						2 * Math.PI);
+				if (turn > maxTurn) {
+					maxTurn = turn;
+					best = b;
+				}
+			}
+		}
+		return best;
+	}
+
+	private boolean startsAt(int a, double x, double y, double tol) {
+		int i = arcCircle[a];
+		return Math.abs(tree.x(i) + r * Math.cos(arcStart[a]) - x) <= tol
+				&& Math.abs(tree.y(i) + r * Math.sin(arcStart[a]) - y) <= tol;
+	}
+
+	/**
+	 * Checks that the middle of the arc is not within another disk, using
+	 * the nearest neighbor of the middle point.
+	 */
+	private boolean isValid(int a) {
+		int i = arcCircle[a];
+		double theta = (arcStart[a] + arcEnd[a]) / 2;
+		double x = tree.x(i) + r * Math.cos(theta);
+		double y = tree.y(i) + r * Math.sin(theta);
+		int j = tree.nearest(x, y);
+		double d = Math.hypot(x - tree.x(j), y - tree.y(j));
+		return d >= r - Shape2D.ACCURACY;
+	}
+
+	private long key(int circle, int startCircle) {
+		return (long) circle * n + startCircle;
+	}
+}
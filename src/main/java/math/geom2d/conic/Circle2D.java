@@ -40,8 +40,10 @@ import math.geom2d.circulinear.*;
 import math.geom2d.circulinear.buffer.BufferCalculator;
 import math.geom2d.curve.*;
 import math.geom2d.line.AbstractLine2D;
+import math.geom2d.line.DegeneratedLine2DException;
 import math.geom2d.line.LinearShape2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.transform.CircleInversion2D;
 import math.utils.EqualUtils;
@@ -337,6 +339,73 @@ Cloneable {
     	return intersections;
     }
 
+
+    /**
+     * Computes the intersections points between a circle and a line, and
+     * appends them to the buffer. Returns the number of intersection points,
+     * between 0 and 2. If there are 2 intersections points, the first one 
+     * is the first one on the line.
+     * 
+     * @see #lineCircleIntersections(LinearShape2D, CircularShape2D)
+     */
+    public static int lineCircleIntersections(LinearShape2D line,
+    		CircularShape2D circle, PointBuffer2D buffer) {
+    	// extract parameters of the circle
+    	Circle2D parent = circle.supportingCircle();
+    	double xc = parent.xc;
+    	double yc = parent.yc;
+    	double radius = parent.r;
+
+    	// extract parameters of the line
+    	Point2D origin = line.origin();
+    	Vector2D vect = line.direction();
+    	double x0 = origin.x();
+    	double y0 = origin.y();
+    	double dx = vect.x();
+    	double dy = vect.y();
+    	double norm = hypot(dx, dy);
+    	if (norm < Shape2D.ACCURACY)
+    		throw new DegeneratedLine2DException(line);
+
+    	// Compute projection of circle center on the line, and distance
+    	// between line and circle center
+    	double t = ((xc - x0) * dx + (yc - y0) * dy) / (norm * norm);
+    	double xi = x0 + t * dx;
+    	double yi = y0 + t * dy;
+		double dist = hypot(xi - xc, yi - yc);
+
+    	// if the distance is the radius of the circle, add the projection
+		if (abs(dist - radius) < Shape2D.ACCURACY) {
+			if (line.contains(xi, yi) && circle.contains(xi, yi)) {
+				buffer.add(xi, yi);
+				return 1;
+			}
+			return 0;
+    	}
+		if (dist > radius)
+			return 0;
+
+		// distance between projection and each intersection point, as a
+		// multiple of the direction vector
+		double d2 = sqrt(radius * radius - dist * dist) / norm;
+
+    	// add points only if they belong to the line and the circle
+		int n = 0;
+		double x = xi - d2 * dx;
+		double y = yi - d2 * dy;
+    	if (line.contains(x, y) && circle.contains(x, y)) {
+    		buffer.add(x, y);
+    		n++;
+    	}
+		x = xi + d2 * dx;
+		y = yi + d2 * dy;
+    	if (line.contains(x, y) && circle.contains(x, y)) {
+    		buffer.add(x, y);
+    		n++;
+    	}
+    	return n;
+    }
+
 	/**
 	 * Computes the radical axis of the two circles.
 	 * 
@@ -748,6 +817,35 @@ Cloneable {
 	public LinearRing2D asPolyline(int n) {
         return this.asPolylineClosed(n);
 	}
+
+	/**
+	 * Converts this circle to a regular polygon whose distance to the circle
+	 * is smaller than the given chord error. The number of vertices is
+	 * directly computed from the radius and the chord error.
+	 */
+	@Override
+	public LinearRing2D flatten(double maxChordError) {
+		int n = edgeNumber(this.r, Math.PI * 2, maxChordError);
+		return this.asPolyline(Math.max(n, 3));
+	}
+
+	/**
+	 * Computes the number of regularly spaced edges required to approximate
+	 * an arc of circle with the given radius and angle extent, such that
+	 * the maximal distance between the arc and each edge (the sagitta) is
+	 * smaller than the chord error. 
+	 */
+	static int edgeNumber(double radius, double extent, double maxChordError) {
+		if (!(maxChordError > 0))
+			throw new IllegalArgumentException(
+					"Chord error must be positive: " + maxChordError);
+		if (maxChordError >= radius)
+			return 1;
+		
+		// the sagitta of an edge with angle extent a is r * (1 - cos(a / 2))
+		double maxAngle = 2 * Math.acos(1 - maxChordError / radius);
+		return (int) Math.ceil(extent / maxAngle);
+	}
 	
 
 	// ===================================================================
@@ -830,6 +928,13 @@ Cloneable {
 		return new Point2D(xc + r * cos(angle), yc + r * sin(angle));
     }
 
+    @Override
+    public void point(double t, double[] out) {
+		double angle = direct ? theta + t : theta - t;
+		out[0] = xc + r * cos(angle);
+		out[1] = yc + r * sin(angle);
+    }
+
     /**
      * Get the first point of the circle, which is the same as the last point.
      * 
@@ -916,6 +1021,11 @@ Cloneable {
     	return Circle2D.lineCircleIntersections(line, this);
     }
 
+    @Override
+    public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+    	return Circle2D.lineCircleIntersections(line, this, buffer);
+    }
+
     /**
      * Clips the circle by a box. The result is an instance of CurveSet2D,
      * which contains only instances of CircleArc2D or Circle2D. If the circle
@@ -1025,6 +1135,14 @@ Cloneable {
     public Box2D boundingBox() {
         return new Box2D(xc - r, xc + r, yc - r, yc + r);
     }
+
+    @Override
+    public void boundingBox(double[] bounds) {
+    	bounds[0] = xc - r;
+    	bounds[1] = xc + r;
+    	bounds[2] = yc - r;
+    	bounds[3] = yc + r;
+    }
     
     /**
      * Transforms this circle by an affine transform. If the transformed shape
@@ -41,6 +41,7 @@ import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.LinearShape2D;
 import math.geom2d.line.Ray2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.polygon.Polyline2D;
 import math.geom2d.transform.CircleInversion2D;
 import math.utils.EqualUtils;
@@ -463,6 +464,19 @@ implements EllipseArcShape2D, CircularShape2D, CirculinearElement2D, Cloneable {
         return new Polyline2D(points);
 	}
 
+	/**
+	 * Converts this circle arc to a polyline whose distance to the arc is
+	 * smaller than the given chord error. As the curvature of the arc is
+	 * constant, the vertices are regularly spaced, and their number is
+	 * directly computed from the radius and the chord error.
+	 */
+	@Override
+	public Polyline2D flatten(double maxChordError) {
+		int n = Circle2D.edgeNumber(this.circle.radius(), 
+				Math.abs(this.angleExtent), maxChordError);
+		return this.asPolyline(Math.max(n, 1));
+	}
+
 
     // ====================================================================
     // methods from interface Curve2D
@@ -506,6 +520,11 @@ implements EllipseArcShape2D, CircularShape2D, CirculinearElement2D, Cloneable {
         return circle.point(t);
     }
 
+    @Override
+    public void point(double t, double[] out) {
+        circle.point(this.positionToAngle(t), out);
+    }
+
     /**
      * Returns relative position between 0 and the angle extent.
      */
@@ -532,6 +551,11 @@ implements EllipseArcShape2D, CircularShape2D, CirculinearElement2D, Cloneable {
     	return Circle2D.lineCircleIntersections(line, this);
     }
 
+    @Override
+    public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+    	return Circle2D.lineCircleIntersections(line, this, buffer);
+    }
+
     public double project(Point2D point) {
         double angle = circle.project(point);
 
@@ -712,16 +736,24 @@ implements EllipseArcShape2D, CircularShape2D, CirculinearElement2D, Cloneable {
 	}
 
     public Box2D boundingBox() {
+    	double[] bounds = new double[4];
+    	boundingBox(bounds);
+        return new Box2D(bounds[0], bounds[1], bounds[2], bounds[3]);
+    }
 
-        // first get ending points
-        Point2D p0 = firstPoint();
-        Point2D p1 = lastPoint();
-
+    /**
+     * Computes the bounds of the circle arc, without creating new objects.
+     * The array is used to compute the coordinates of the ending points.
+     */
+    @Override
+    public void boundingBox(double[] bounds) {
         // get coordinate of ending points
-        double x0 = p0.x();
-        double y0 = p0.y();
-        double x1 = p1.x();
-        double y1 = p1.y();
+        this.point(0, bounds);
+        double x0 = bounds[0];
+        double y0 = bounds[1];
+        this.point(abs(angleExtent), bounds);
+        double x1 = bounds[0];
+        double y1 = bounds[1];
 
         // intialize min and max coords
         double xmin = min(x0, x1);
@@ -730,9 +762,8 @@ implements EllipseArcShape2D, CircularShape2D, CirculinearElement2D, Cloneable {
         double ymax = max(y0, y1);
 
         // Pre-computations
-        Point2D center = circle.center();
-        double xc = center.x();
-		double yc = center.y();
+        double xc = circle.xc;
+		double yc = circle.yc;
 		double endAngle = startAngle + angleExtent;
 		boolean direct = angleExtent >= 0;
 		
@@ -748,8 +779,11 @@ implements EllipseArcShape2D, CircularShape2D, CirculinearElement2D, Cloneable {
 				direct))
 			xmin = min(xmin, xc - circle.r);
 
-        // return a bounding with computed limits
-        return new Box2D(xmin, xmax, ymin, ymax);
+        // store computed limits
+        bounds[0] = xmin;
+        bounds[1] = xmax;
+        bounds[2] = ymin;
+        bounds[3] = ymax;
     }
 
     public java.awt.geom.GeneralPath appendPath(java.awt.geom.GeneralPath path) {
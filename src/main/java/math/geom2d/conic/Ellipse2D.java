@@ -362,9 +362,22 @@ implements EllipseShape2D, Cloneable {
 		return r1 * r2 / hypot(r2 * cot, r1 * sit);
     }
 
+    /**
+     * Returns the point of the ellipse closest to the given point.
+     * @see #project(Point2D)
+     */
     public Point2D projectedPoint(Point2D point) {
-		Vector2D polar = this.projectedVector(point, Shape2D.ACCURACY);
-		return new Point2D(point.x() + polar.x(), point.y() + polar.y());
+        double cot = cos(theta);
+        double sit = sin(theta);
+        double dx = point.x() - xc;
+        double dy = point.y() - yc;
+        double phi = closestAngle(r1, r2, dx * cot + dy * sit, 
+                -dx * sit + dy * cot);
+
+        // coordinates of projection in ellipse basis
+        double xp = r1 * cos(phi);
+        double yp = r2 * sin(phi);
+        return new Point2D(xc + xp * cot - yp * sit, yc + xp * sit + yp * cot);
     }
 
     /**
@@ -769,16 +782,35 @@ implements EllipseShape2D, Cloneable {
     }
 
     /**
-     * Returns an approximation of the signed distance to the ellipse.
-     * In the current implementation, the ellipse is converted to a polyline.
+     * Returns the signed distance to the ellipse, negative if the point is
+     * inside the ellipse.
+     * @see #distance(double, double)
      */
     public double signedDistance(Point2D point) {
-    	double dist = this.asPolyline(180).distance(point);
-    	return isInside(point) ? -dist : dist;
+        return signedDistance(point.x(), point.y());
     }
 
+    /**
+     * Returns the signed distance to the ellipse, negative if the point is
+     * inside the ellipse.
+     * @see #distance(double, double)
+     */
     public double signedDistance(double x, double y) {
-        return signedDistance(new Point2D(x, y));
+        // coordinates in ellipse basis
+        double cot = cos(theta);
+        double sit = sin(theta);
+        double dx = x - xc;
+        double dy = y - yc;
+        double u = dx * cot + dy * sit;
+        double v = -dx * sit + dy * cot;
+
+        double phi = closestAngle(r1, r2, u, v);
+        double dist = hypot(u - r1 * cos(phi), v - r2 * sin(phi));
+
+        double xn = u / r1;
+        double yn = v / r2;
+        boolean inside = (xn * xn + yn * yn < 1) ^ !direct;
+        return inside ? -dist : dist;
     }
 
     // ===================================================================
@@ -828,6 +860,16 @@ implements EllipseShape2D, Cloneable {
 	public LinearRing2D asPolyline(int n) {
         return this.asPolylineClosed(n);
 	}
+
+	/**
+	 * Converts this ellipse to a polyline whose distance to the curve is
+	 * smaller than the given chord error. The curve is adaptively subdivided,
+	 * so that vertices are concentrated in the high curvature parts.
+	 */
+	@Override
+	public LinearRing2D flatten(double maxChordError) {
+		return this.flattenClosed(maxChordError);
+	}
 	
 	
     /** Always returns true. */
@@ -885,6 +927,18 @@ implements EllipseShape2D, Cloneable {
 				yc + r1 * cos(t) * sit + r2 * sin(t) * cot);
     }
 
+    @Override
+    public void point(double t, double[] out) {
+        if (!direct)
+            t = -t;
+        double cot = cos(theta);
+		double sit = sin(theta);
+		double cost = cos(t);
+		double sint = sin(t);
+		out[0] = xc + r1 * cost * cot - r2 * sint * sit;
+		out[1] = yc + r1 * cost * sit + r2 * sint * cot;
+    }
+
     /**
      * Returns the first point of the ellipse, which is the same as the last
      * point.
@@ -956,19 +1010,119 @@ implements EllipseShape2D, Cloneable {
     }
 
     /**
-     * Computes the approximate projection position of the point on the ellipse.
-     * The ellipse is first converted to a unit circle, then the angular
-     * position of the point is computed in the transformed basis.
+     * Computes the position of the point of the ellipse closest to the
+     * given point.
+     * @see #closestAngle(double, double, double, double)
      */
     public double project(Point2D point) {
-        Point2D p2 = toUnitCircle(point);
-        double xp = p2.x();
-        double yp = p2.y();
+        double cot = cos(theta);
+        double sit = sin(theta);
+        double dx = point.x() - xc;
+        double dy = point.y() - yc;
+        double phi = closestAngle(r1, r2, dx * cot + dy * sit, 
+                -dx * sit + dy * cot);
+        return Angle2D.formatAngle(direct ? phi : -phi);
+    }
 
-        // compute angle
-        double angle = Angle2D.horizontalAngle(xp, yp);
+    /**
+     * Computes the eccentric angle of the point of the ellipse closest to
+     * the point (u, v), for an ellipse centered at the origin, with
+     * semi-axis r1 along the x-axis and r2 along the y-axis. The closest
+     * point is then given by (r1*cos(phi), r2*sin(phi)).<p>
+     * The problem is reduced to the first quadrant. The closest point is
+     * obtained from the unique root of a monotonic function, that is
+     * computed by Newton iterations kept within an interval containing the
+     * root. See "Distance from a point to an ellipse, an ellipsoid, or an
+     * hyperellipsoid", D. Eberly, Geometric Tools.
+     */
+    static double closestAngle(double r1, double r2, double u, double v) {
+        // work with major axis along first coordinate
+        boolean swap = r1 < r2;
+        double e0 = swap ? r2 : r1;
+        double e1 = swap ? r1 : r2;
+        double y0 = abs(swap ? v : u);
+        double y1 = abs(swap ? u : v);
+
+        // coordinates of closest point in first quadrant
+        double x0, x1;
+        if (y1 > 0) {
+            if (y0 > 0) {
+                double z0 = y0 / e0;
+                double z1 = y1 / e1;
+                double g = z0 * z0 + z1 * z1 - 1;
+                if (g != 0) {
+                    double r0 = (e0 / e1) * (e0 / e1);
+                    double sbar = closestRoot(r0, z0, z1, g);
+                    x0 = r0 * y0 / (sbar + r0);
+                    x1 = y1 / (sbar + 1);
+                } else {
+                    x0 = y0;
+                    x1 = y1;
+                }
+            } else {
+                x0 = 0;
+                x1 = e1;
+            }
+        } else {
+            // point on the major axis
+            double numer0 = e0 * y0;
+            double denom0 = e0 * e0 - e1 * e1;
+            if (numer0 < denom0) {
+                double xde0 = numer0 / denom0;
+                x0 = e0 * xde0;
+                x1 = e1 * sqrt(1 - xde0 * xde0);
+            } else {
+                x0 = e0;
+                x1 = 0;
+            }
+        }
 
-        return angle;
+        // back to original quadrant and axes
+        double xp = swap ? x1 : x0;
+        double yp = swap ? x0 : x1;
+        if (u < 0)
+            xp = -xp;
+        if (v < 0)
+            yp = -yp;
+        return atan2(yp / r2, xp / r1);
+    }
+
+    /**
+     * Computes the root of the function 
+     * F(s) = (r0*z0/(s+r0))^2 + (z1/(s+1))^2 - 1, which is convex and
+     * decreasing for s > -1. Newton iterations starting from the left of the
+     * root converge monotonically; bisection is used as a safeguard against
+     * rounding errors.
+     */
+    private static double closestRoot(double r0, double z0, double z1, 
+            double g) {
+        double n0 = r0 * z0;
+        double s0 = z1 - 1;
+        double s1 = g < 0 ? 0 : hypot(n0, z1) - 1;
+        double s = s0;
+        for (int i = 0; i < 200; i++) {
+            double d0 = s + r0;
+            double d1 = s + 1;
+            double ratio0 = n0 / d0;
+            double ratio1 = z1 / d1;
+            double gs = ratio0 * ratio0 + ratio1 * ratio1 - 1;
+            if (gs > 0)
+                s0 = s;
+            else if (gs < 0)
+                s1 = s;
+            else
+                return s;
+
+            // Newton step, or bisection if the step leaves the interval
+            double deriv = 2 * (ratio0 * ratio0 / d0 + ratio1 * ratio1 / d1);
+            double next = s + gs / deriv;
+            if (!(next > s0 && next < s1))
+                next = (s0 + s1) / 2;
+            if (next <= s0 || next >= s1)
+                return s;
+            s = next;
+        }
+        return s;
     }
 
     /**
@@ -1004,16 +1158,29 @@ implements EllipseShape2D, Cloneable {
     // methods of Shape2D interface
 
     /**
-     * Computes distance using a polyline approximation.
+     * Computes the distance between the point and the ellipse.
+     * @see #distance(double, double)
      */
     public double distance(Point2D point) {
-        // PolarVector2D vector = this.getProjectedVector(point, 1e-10);
-        // return abs(vector.getRho());
-        return this.asPolyline(180).distance(point);
+        return distance(point.x(), point.y());
     }
 
+    /**
+     * Computes the exact distance between the point (x, y) and the ellipse,
+     * without creating any object.
+     * @see #closestAngle(double, double, double, double)
+     */
     public double distance(double x, double y) {
-        return distance(new Point2D(x, y));
+        // coordinates in ellipse basis
+        double cot = cos(theta);
+        double sit = sin(theta);
+        double dx = x - xc;
+        double dy = y - yc;
+        double u = dx * cot + dy * sit;
+        double v = -dx * sit + dy * cot;
+
+        double phi = closestAngle(r1, r2, u, v);
+        return hypot(u - r1 * cos(phi), v - r2 * sin(phi));
     }
 
     /**
@@ -1058,6 +1225,18 @@ implements EllipseShape2D, Cloneable {
 		return new Box2D(xc - xm, xc + xm, yc - ym, yc + ym);
     }
 
+    @Override
+    public void boundingBox(double[] bounds) {
+		double cot = cos(theta);
+		double sit = sin(theta);
+		double xm = hypot(r1 * cot, r2 * sit);
+		double ym = hypot(r1 * sit, r2 * cot);
+		bounds[0] = xc - xm;
+		bounds[1] = xc + xm;
+		bounds[2] = yc - ym;
+		bounds[3] = yc + ym;
+    }
+
     /**
      * Compute intersections of the ellipse with a straight object (line, line
      * segment, ray...).
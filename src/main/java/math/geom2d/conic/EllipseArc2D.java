@@ -365,6 +365,16 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
         return new Polyline2D(points);
 	}
 
+	/**
+	 * Converts this ellipse arc to a polyline whose distance to the curve is
+	 * smaller than the given chord error. The curve is adaptively subdivided,
+	 * so that vertices are concentrated in the high curvature parts.
+	 */
+	@Override
+	public Polyline2D flatten(double maxChordError) {
+		return this.flattenOpen(maxChordError);
+	}
+
     // ====================================================================
     // methods from interface Curve2D
 
@@ -414,6 +424,13 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
         return ellipse.point(t);
     }
 
+    @Override
+    public void point(double t, double[] out) {
+        t = min(max(t, 0), abs(angleExtent));
+		t = angleExtent < 0 ? startAngle - t : startAngle + t;
+        ellipse.point(t, out);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -431,21 +448,104 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
         return Double.NaN;
     }
 
+    /**
+     * Computes the position of the point of the arc closest to the given
+     * point.
+     */
     public double project(Point2D point) {
-        double angle = ellipse.project(point);
+        double cot = cos(ellipse.theta);
+        double sit = sin(ellipse.theta);
+        double dx = point.x() - ellipse.xc;
+        double dy = point.y() - ellipse.yc;
+        return closestPosition(dx * cot + dy * sit, -dx * sit + dy * cot);
+    }
 
-        // Case of an angle contained in the ellipse arc
-		if (this.containsAngle(angle)) {
-			if (angleExtent > 0)
-				return Angle2D.formatAngle(angle - startAngle);
-			else
-				return Angle2D.formatAngle(startAngle - angle);
+    /**
+     * Computes the position of the point of the arc closest to the point
+     * (u, v) given in the basis of the supporting ellipse.<p>
+     * If the projection on the supporting ellipse belongs to the arc, its
+     * position is returned. Otherwise, the closest point is either an
+     * extremity, or a local minimum of the distance within the arc. Local
+     * minima are detected by the sign changes of the derivative of the
+     * squared distance, evaluated every 1/16 of half-turn, and refined by
+     * bisection.
+     */
+    private double closestPosition(double u, double v) {
+        double r1 = ellipse.r1;
+        double r2 = ellipse.r2;
+
+        // Case of a projection contained in the ellipse arc
+        double phi = Ellipse2D.closestAngle(r1, r2, u, v);
+        if (this.containsAngle(phi)) {
+            if (angleExtent > 0)
+                return Angle2D.formatAngle(phi - startAngle);
+            else
+                return Angle2D.formatAngle(startAngle - phi);
+        }
+
+        // compare the distances of the extremities
+        double ext = abs(angleExtent);
+        double sign = angleExtent < 0 ? -1 : 1;
+        double bestPos = 0;
+        double bestDist = squaredDistance(startAngle, u, v);
+        double dist = squaredDistance(startAngle + sign * ext, u, v);
+        if (dist < bestDist) {
+            bestPos = ext;
+            bestDist = dist;
+        }
+
+        // search local minima of distance within the arc
+        int n = max(8, (int) ceil(ext * 16 / PI));
+        double t0 = 0;
+        double g0 = sign * distanceDerivative(startAngle, u, v);
+        for (int i = 1; i <= n; i++) {
+            double t1 = ext * i / n;
+            double g1 = sign * distanceDerivative(startAngle + sign * t1, u, v);
+            if (g0 < 0 && g1 >= 0) {
+                // refine position of minimum by bisection
+                double a = t0;
+                double b = t1;
+                while (true) {
+                    double m = (a + b) / 2;
+                    if (m <= a || m >= b)
+                        break;
+                    if (sign * distanceDerivative(startAngle + sign * m, u, v) < 0)
+                        a = m;
+                    else
+                        b = m;
+                }
+                dist = squaredDistance(startAngle + sign * a, u, v);
+                if (dist < bestDist) {
+                    bestPos = a;
+                    bestDist = dist;
+                }
+            }
+            t0 = t1;
+            g0 = g1;
         }
+        return bestPos;
+    }
 
-        // return either 0 or T1, depending on which extremity is closer.
-        double d1 = this.firstPoint().distance(point);
-        double d2 = this.lastPoint().distance(point);
-		return d1 < d2 ? 0 : abs(angleExtent);
+    /**
+     * Squared distance between the point (u, v) and the point of the
+     * supporting ellipse with the given angle, in ellipse basis.
+     */
+    private double squaredDistance(double angle, double u, double v) {
+        double dx = ellipse.r1 * cos(angle) - u;
+        double dy = ellipse.r2 * sin(angle) - v;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Half the derivative of the squared distance between the point (u, v)
+     * and the supporting ellipse, with respect to the angle.
+     */
+    private double distanceDerivative(double angle, double u, double v) {
+        double r1 = ellipse.r1;
+        double r2 = ellipse.r2;
+        double cot = cos(angle);
+        double sit = sin(angle);
+        return (r2 * r2 - r1 * r1) * sit * cot + u * r1 * sit - v * r2 * cot;
     }
     
     /*
@@ -516,8 +616,17 @@ public static EllipseArc2D create(Ellipse2D ell, double start, double end,
      * @see math.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-        Point2D p = point(project(new Point2D(x, y)));
-        return p.distance(x, y);
+        // coordinates in the basis of the supporting ellipse
+        double cot = cos(ellipse.theta);
+        double sit = sin(ellipse.theta);
+        double dx = x - ellipse.xc;
+        double dy = y - ellipse.yc;
+        double u = dx * cot + dy * sit;
+        double v = -dx * sit + dy * cot;
+
+        double pos = closestPosition(u, v);
+        double angle = angleExtent < 0 ? startAngle - pos : startAngle + pos;
+        return sqrt(squaredDistance(angle, u, v));
     }
 
     /** Always return true: an ellipse arc is bounded by definition */
@@ -10,6 +10,7 @@ import math.geom2d.*;
 import math.geom2d.curve.*;
 import math.geom2d.domain.SmoothOrientedCurve2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.polygon.Polyline2D;
 import math.utils.EqualUtils;
 
 /**
@@ -111,6 +112,17 @@ implements SmoothOrientedCurve2D, Cloneable {
         return false;
     }
 
+	/**
+	 * Converts this hyperbola arc to a polyline whose distance to the curve
+	 * is smaller than the given chord error. The curve is adaptively
+	 * subdivided, so that vertices are concentrated near the vertex of the
+	 * hyperbola.
+	 */
+	@Override
+	public Polyline2D flatten(double maxChordError) {
+		return this.flattenOpen(maxChordError);
+	}
+
     // ===================================================================
     // methods inherited from Curve2D interface
 
@@ -203,6 +203,16 @@ implements SmoothOrientedCurve2D, Cloneable {
         return new Polyline2D(points);
 	}
 
+	/**
+	 * Converts this parabola arc to a polyline whose distance to the curve is
+	 * smaller than the given chord error. The curve is adaptively subdivided,
+	 * so that vertices are concentrated in the high curvature parts.
+	 */
+	@Override
+	public Polyline2D flatten(double maxChordError) {
+		return this.flattenOpen(maxChordError);
+	}
+
 	// ====================================================================
     // methods implementing the Curve2D interface
 
@@ -13,8 +13,11 @@ import java.awt.Shape;
 import java.util.ArrayList;
 import java.util.Collection;
 
+import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.UnboundedShape2DException;
+import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.polygon.LinearCurve2D;
 import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.polygon.Polyline2D;
@@ -130,6 +133,49 @@ implements ContinuousCurve2D, Cloneable {
 		return this.point(t1);
 	}
 
+	/**
+	 * Computes the point with the point(double) method, and copies its
+	 * coordinates into the array. This method should be overridden by
+	 * subclasses to avoid the creation of the intermediate point.
+	 * 
+	 * @see math.geom2d.curve.Curve2D#point(double, double[])
+	 */
+	public void point(double t, double[] out) {
+		Point2D point = this.point(t);
+		out[0] = point.x();
+		out[1] = point.y();
+	}
+
+	/**
+	 * Computes the intersections with the intersections(LinearShape2D)
+	 * method, and copies their coordinates into the buffer. This method 
+	 * should be overridden by subclasses to avoid the creation of the 
+	 * intermediate collection.
+	 * 
+	 * @see math.geom2d.curve.Curve2D#intersections(LinearShape2D, PointBuffer2D)
+	 */
+	public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+		Collection<Point2D> points = this.intersections(line);
+		for (Point2D point : points)
+			buffer.add(point.x(), point.y());
+		return points.size();
+	}
+
+	/**
+	 * Computes the bounding box with the boundingBox() method, and copies its
+	 * bounds into the array. This method should be overridden by subclasses
+	 * to avoid the creation of the intermediate box.
+	 * 
+	 * @see math.geom2d.curve.Curve2D#boundingBox(double[])
+	 */
+	public void boundingBox(double[] bounds) {
+		Box2D box = this.boundingBox();
+		bounds[0] = box.getMinX();
+		bounds[1] = box.getMaxX();
+		bounds[2] = box.getMinY();
+		bounds[3] = box.getMaxY();
+	}
+
 	/* (non-Javadoc)
 	 * @see math.geom2d.curve.Curve2D#draw(java.awt.Graphics2D)
 	 */
@@ -12,7 +12,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import math.geom2d.Point2D;
+import math.geom2d.UnboundedShape2DException;
 import math.geom2d.Vector2D;
+import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.LinearRing2D;
+import math.geom2d.polygon.Polyline2D;
 
 
 /**
@@ -22,6 +26,17 @@ import math.geom2d.Vector2D;
 public abstract class AbstractSmoothCurve2D extends AbstractContinuousCurve2D
 implements SmoothCurve2D, Cloneable {
 
+	/**
+	 * The number of edges the curve is split into before adaptive
+	 * subdivision, to avoid missing inflections of the curve.
+	 */
+	private final static int MIN_EDGES = 4;
+	
+	/**
+	 * The maximal number of subdivisions of each initial edge.
+	 */
+	private final static int MAX_DEPTH = 20;
+	
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.curve.ContinuousCurve2D#leftTangent(double)
@@ -83,6 +98,148 @@ implements SmoothCurve2D, Cloneable {
 		return false;
 	}
 	
+	/**
+	 * Converts this curve to a polyline such that the distance between each
+	 * edge and the corresponding portion of curve is smaller than the given
+	 * chord error. The curve is recursively subdivided where the curvature
+	 * requires it, so that the number of vertices depends on the shape of
+	 * the curve and on the required accuracy. Returns either an instance of
+	 * Polyline2D or LinearRing2D, depending on the curve is closed or not.<p>
+	 * The distance is given by the method chordError. Its default
+	 * implementation is an estimate from sample points, and the distance can
+	 * slightly exceed the chord error. Curves that override this method
+	 * with an upper bound guarantee the chord error.
+	 * 
+	 * @param maxChordError the maximal distance between the curve and the
+	 *            polyline
+	 * @see #asPolyline(int)
+	 */
+	public LinearCurve2D flatten(double maxChordError) {
+		if (this.isClosed())
+			return flattenClosed(maxChordError);
+		else
+			return flattenOpen(maxChordError);
+	}
+	
+	/**
+	 * Assumes the curve is open, and returns an instance of Polyline2D
+	 * approximating the curve with the given chord error.
+	 */
+	protected Polyline2D flattenOpen(double maxChordError) {
+		return new Polyline2D(flattenVertices(maxChordError));
+	}
+	
+	/**
+	 * Assumes the curve is closed, and returns an instance of LinearRing2D
+	 * approximating the curve with the given chord error.
+	 */
+	protected LinearRing2D flattenClosed(double maxChordError) {
+		ArrayList<Point2D> points = flattenVertices(maxChordError);
+		
+		// the last point is included by default with linear rings
+		points.remove(points.size() - 1);
+		return new LinearRing2D(points);
+	}
+	
+	/**
+	 * Computes the vertices of a polyline approximating the curve with the
+	 * given chord error. Edges are subdivided in their middle, using an
+	 * explicit stack.
+	 */
+	private ArrayList<Point2D> flattenVertices(double maxChordError) {
+		// Check that the curve is bounded
+        if (!this.isBounded())
+            throw new UnboundedShape2DException(this);
+		if (!(maxChordError > 0))
+			throw new IllegalArgumentException(
+					"Chord error must be positive: " + maxChordError);
+		
+		double t0 = this.t0();
+		double t1 = this.t1();
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		
+		// stack of the ends of the portions to process, the top of the stack
+		// is the end of the current portion
+		double[] ts = new double[MAX_DEPTH + 1];
+		Point2D[] ps = new Point2D[MAX_DEPTH + 1];
+		int[] depths = new int[MAX_DEPTH + 1];
+		
+		Point2D pa = this.point(t0);
+		double ta = t0;
+		points.add(pa);
+		double dt = (t1 - t0) / MIN_EDGES;
+		for (int i = 1; i <= MIN_EDGES; i++) {
+			double tb = i == MIN_EDGES ? t1 : t0 + i * dt;
+			int sp = 0;
+			ts[0] = tb;
+			ps[0] = this.point(tb);
+			depths[0] = 0;
+			sp = 1;
+			
+			while (sp > 0) {
+				tb = ts[sp - 1];
+				Point2D pb = ps[sp - 1];
+				int depth = depths[sp - 1];
+				
+				// split the portion if the chord error is too large
+				if (depth < MAX_DEPTH 
+						&& chordError(ta, tb, pa, pb) > maxChordError) {
+					double tm = (ta + tb) / 2;
+					depths[sp - 1] = depth + 1;
+					ts[sp] = tm;
+					ps[sp] = this.point(tm);
+					depths[sp] = depth + 1;
+					sp++;
+					continue;
+				}
+				
+				// keep the end of the portion
+				points.add(pb);
+				ta = tb;
+				pa = pb;
+				sp--;
+			}
+		}
+		return points;
+	}
+	
+	/**
+	 * Returns the distance between the portion of curve between positions t0
+	 * and t1, and the segment joining its end points p0 and p1. The default
+	 * implementation estimates the distance from three inner points of the
+	 * portion. Subclasses may override this method to return an upper bound
+	 * of the distance.
+	 */
+	protected double chordError(double t0, double t1, Point2D p0, Point2D p1) {
+		double dt = (t1 - t0) / 4;
+		double dist = 0;
+		for (int i = 1; i < 4; i++) {
+			Point2D q = this.point(t0 + i * dt);
+			dist = Math.max(dist, chordDistance(p0, p1, q.x(), q.y()));
+		}
+		return dist;
+	}
+	
+	/**
+	 * Computes the distance between the segment [p1 p2] and the point (x,y).
+	 */
+	protected static double chordDistance(Point2D p1, Point2D p2, double x,
+			double y) {
+		double x1 = p1.x();
+		double y1 = p1.y();
+		double dx = p2.x() - x1;
+		double dy = p2.y() - y1;
+		double d2 = dx * dx + dy * dy;
+		
+		double px = x - x1;
+		double py = y - y1;
+		double t = d2 == 0 ? 0 : (px * dx + py * dy) / d2;
+		t = Math.max(0, Math.min(1, t));
+		double ex = px - t * dx;
+		double ey = py - t * dy;
+		return Math.hypot(ex, ey);
+	}
+	
 	/**
 	 * @deprecated use copy constructor instead (0.11.2)
 	 */
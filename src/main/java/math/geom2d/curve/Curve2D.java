@@ -34,6 +34,7 @@ import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.PointBuffer2D;
 
 /**
  * <p>Interface for piecewise smooth curves, like polylines, conics, straight
@@ -96,6 +97,19 @@ public interface Curve2D extends Shape2D, Cloneable {
      */
     public abstract Point2D point(double t);
 
+    /**
+     * Computes the coordinates of the point located at the given position on
+     * the curve, and stores them in the first two elements of the array. 
+     * This method does not create new objects, and is intended to be used
+     * within inner loops.
+     * 
+     * @param t the position of the point on the curve
+     * @param out an array with at least two elements, that receives the x-
+     *            and y-coordinates of the point
+     * @see #point(double)
+     */
+    public abstract void point(double t, double[] out);
+
     /**
      * Returns the first point of the curve. It must returns the same result as
      * <code>point(t0())</code>.
@@ -169,6 +183,31 @@ public interface Curve2D extends Shape2D, Cloneable {
      */
     public abstract Collection<Point2D> intersections(LinearShape2D line);
 
+    /**
+     * Computes the intersection points of the curve with the specified line,
+     * and appends their coordinates to the buffer. This method does not
+     * create new objects, except when the capacity of the buffer needs to be
+     * increased.
+     * 
+     * @param line the line to intersect with
+     * @param buffer the buffer that receives the intersection points
+     * @return the number of intersection points added to the buffer
+     * @see #intersections(LinearShape2D)
+     */
+    public abstract int intersections(LinearShape2D line, PointBuffer2D buffer);
+
+    /**
+     * Computes the bounds of the curve, and stores them in the array as 
+     * [xmin xmax ymin ymax], in the same order as the arguments of the Box2D
+     * constructor. This method does not create new objects for lines, 
+     * conics, splines and polylines.
+     * 
+     * @param bounds an array with at least four elements, that receives the
+     *            bounds of the curve
+     * @see #boundingBox()
+     */
+    public abstract void boundingBox(double[] bounds);
+
     /**
      * Returns the curve with same trace on the plane with parameterization in
      * reverse order.
@@ -31,6 +31,7 @@ import java.util.Iterator;
 
 import math.geom2d.*;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.PointBuffer2D;
 
 /**
  * <p>
@@ -330,6 +331,14 @@ implements CurveSet2D<T>, Iterable<T>, Cloneable {
         return intersect;
     }
 
+    public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+        // add intersections with each curve
+        int n = 0;
+        for (Curve2D curve : curves)
+            n += curve.intersections(line, buffer);
+        return n;
+    }
+
     /**
      * Returns 0.
      */
@@ -390,6 +399,40 @@ implements CurveSet2D<T>, Iterable<T>, Cloneable {
         }
     }
 
+    /**
+     * Computes the coordinates of the point at the given position, without
+     * creating new objects. If the curve array is empty, the coordinates 
+     * are set to NaN.
+     * 
+     * @see math.geom2d.curve.Curve2D#point(double, double[])
+     */
+    public void point(double t, double[] out) {
+        if (curves.size()==0) {
+        	out[0] = Double.NaN;
+        	out[1] = Double.NaN;
+        	return;
+        }
+        
+        // clamp position, and find curve index
+        t = Math.min(Math.max(t, t0()), t1());
+        int nc = (int) Math.floor(t);
+        int indc = (int) Math.floor(nc/2);
+        
+        Curve2D curve;
+        double pos;
+		if (indc * 2 == nc) {
+			curve = curves.get(indc);
+			pos = Curves2D.fromUnitSegment(t-nc, curve.t0(), curve.t1());
+		} else if (t - nc < .5) {
+			curve = curves.get(indc);
+			pos = curve.t1();
+		} else {
+			curve = curves.get(indc+1);
+			pos = curve.t0();
+		}
+		curve.point(pos, out);
+    }
+
     /**
      * Returns the first point of the curve.
      * 
@@ -665,6 +708,30 @@ implements CurveSet2D<T>, Iterable<T>, Cloneable {
         return new Box2D(xmin, xmax, ymin, ymax);
     }
 
+    /**
+     * Computes the bounds of the CurveArray2D, without creating new objects.
+     * The array is used to retrieve the bounds of each curve.
+     */
+    public void boundingBox(double[] bounds) {
+        double xmin = Double.POSITIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+
+        for (Curve2D curve : curves) {
+            curve.boundingBox(bounds);
+            xmin = Math.min(xmin, bounds[0]);
+            xmax = Math.max(xmax, bounds[1]);
+            ymin = Math.min(ymin, bounds[2]);
+            ymax = Math.max(ymax, bounds[3]);
+        }
+
+        bounds[0] = xmin;
+        bounds[1] = xmax;
+        bounds[2] = ymin;
+        bounds[3] = ymax;
+    }
+
     /**
      * Transforms each curve, and build a new CurveArray2D with the set of
      * transformed curves.
@@ -35,6 +35,7 @@ import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.Vector2D;
+import math.geom2d.circulinear.CirculinearCurve2D;
 import math.geom2d.polygon.Polyline2D;
 
 /**
@@ -112,12 +113,24 @@ public class PolyCurve2D<T extends ContinuousCurve2D> extends CurveArray2D<T>
 	}
 	
    
+    /**
+     * The number of edges of the polylines used for computing the length of
+     * the curves that are not circulinear.
+     */
+    private final static int LENGTH_SAMPLES = 64;
+    
     // ===================================================================
     // class variables
 
     /** flag for indicating if the curve is closed or not (default is false, for open) */
     protected boolean closed = false;
 
+    /**
+     * The curvilinear abscissa of the beginning of each curve, computed when
+     * needed, and cleared when curves are added or removed.
+     */
+    private double[] lengthIndex = null;
+
     // ===================================================================
     // Constructors
 
@@ -187,6 +200,135 @@ public class PolyCurve2D<T extends ContinuousCurve2D> extends CurveArray2D<T>
         closed = b;
     }
 
+    /**
+     * Returns the length of this curve, computed as the sum of the lengths
+     * of the inner curves. The length of curves that are not circulinear is
+     * approximated by the length of a polyline.
+     */
+    public double length() {
+    	double[] index = lengthIndex();
+    	return index[index.length - 1];
+    }
+
+    /**
+     * Returns the length from the beginning of the curve to the specified
+     * position.
+     */
+    public double length(double pos) {
+    	double[] index = lengthIndex();
+    	int nc = index.length - 1;
+    	if (nc == 0)
+    		return 0;
+    	
+    	int i = this.curveIndex(pos);
+    	return index[i] + curveLength(curves.get(i), this.localPosition(pos));
+    }
+
+    /**
+     * Returns the position on the curve corresponding to the given length
+     * from the beginning of the curve. The inner curve containing the
+     * position is found by a binary search on the cumulative lengths of
+     * inner curves.
+     */
+    public double position(double length) {
+    	double[] index = lengthIndex();
+    	int nc = index.length - 1;
+    	if (nc == 0)
+    		return 0;
+    	if (length > index[nc])
+    		return this.t1();
+    	
+    	// binary search of the first curve whose end is after the length
+    	int lo = 0, hi = nc - 1;
+    	while (lo < hi) {
+    		int mid = (lo + hi) >>> 1;
+    		if (index[mid + 1] < length)
+    			lo = mid + 1;
+    		else
+    			hi = mid;
+    	}
+    	
+    	double pos = curvePosition(curves.get(lo), length - index[lo]);
+    	return this.globalPosition(lo, pos);
+    }
+
+    /**
+     * Returns the curvilinear abscissa of the beginning of each inner curve,
+     * as an array with the number of curves plus one elements. The array is
+     * computed at first call, and kept until curves are added or removed.
+     * It must not be modified.
+     */
+    protected double[] lengthIndex() {
+    	double[] index = lengthIndex;
+    	int nc = curves.size();
+    	if (index == null || index.length != nc + 1) {
+    		index = new double[nc + 1];
+    		for (int i = 0; i < nc; i++)
+    			index[i + 1] = index[i] + curveLength(curves.get(i));
+    		lengthIndex = index;
+    	}
+    	return index;
+    }
+
+    private static double curveLength(ContinuousCurve2D curve) {
+    	if (curve instanceof CirculinearCurve2D)
+    		return ((CirculinearCurve2D) curve).length();
+    	if (!curve.isBounded())
+    		return Double.POSITIVE_INFINITY;
+    	return curve.asPolyline(LENGTH_SAMPLES).length();
+    }
+
+    private static double curveLength(ContinuousCurve2D curve, double pos) {
+    	if (curve instanceof CirculinearCurve2D)
+    		return ((CirculinearCurve2D) curve).length(pos);
+    	if (!curve.isBounded())
+    		return Double.POSITIVE_INFINITY;
+    	double t = Curves2D.toUnitSegment(pos, curve.t0(), curve.t1());
+    	return curve.asPolyline(LENGTH_SAMPLES).length(t * LENGTH_SAMPLES);
+    }
+
+    private static double curvePosition(ContinuousCurve2D curve, double length) {
+    	if (curve instanceof CirculinearCurve2D)
+    		return ((CirculinearCurve2D) curve).position(length);
+    	if (!curve.isBounded())
+    		return curve.t0();
+    	double t = curve.asPolyline(LENGTH_SAMPLES).position(length);
+    	return Curves2D.fromUnitSegment(t / LENGTH_SAMPLES, curve.t0(), curve.t1());
+    }
+
+    // ===================================================================
+    // Management of curves
+
+    @Override
+    public boolean add(T curve) {
+    	lengthIndex = null;
+    	return super.add(curve);
+    }
+
+    @Override
+    public void add(int index, T curve) {
+    	lengthIndex = null;
+    	super.add(index, curve);
+    }
+
+    @Override
+    public boolean remove(T curve) {
+    	lengthIndex = null;
+    	return super.remove(curve);
+    }
+
+    @Override
+    public T remove(int index) {
+    	lengthIndex = null;
+    	return super.remove(index);
+    }
+
+    @Override
+    public void clear() {
+    	lengthIndex = null;
+    	super.clear();
+    }
+
     
     // ===================================================================
     // Methods implementing the ContinuousCurve2D interface
@@ -132,7 +132,7 @@ implements Boundary2D {
         double dist = Double.POSITIVE_INFINITY;
 
         for (OrientedCurve2D curve : this.curves()) {
-            dist = Math.min(dist, curve.signedDistance(x, y));
+            dist = curve.signedDistance(x, y);
             if (Math.abs(dist)<Math.abs(minDist))
                 minDist = dist;
         }
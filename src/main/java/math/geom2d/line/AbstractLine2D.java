@@ -37,6 +37,7 @@ import math.geom2d.conic.Circle2D;
 import math.geom2d.conic.CircleArc2D;
 import math.geom2d.curve.*;
 import math.geom2d.domain.SmoothOrientedCurve2D;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.transform.CircleInversion2D;
 
 /**
@@ -658,6 +659,55 @@ implements SmoothOrientedCurve2D, LinearElement2D {
         return points;
     }
 
+    /**
+     * Computes the intersection point of the curve with the specified line,
+     * and appends it to the buffer. Returns the number of intersection 
+     * points, either 0 or 1. This method does not create new objects when
+     * the line is an instance of AbstractLine2D or Line2D.
+     */
+    public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+    	// extract origin and direction of the other line
+    	double x2, y2, dx2, dy2;
+    	if (line instanceof AbstractLine2D) {
+    		AbstractLine2D line2 = (AbstractLine2D) line;
+    		x2 = line2.x0;
+    		y2 = line2.y0;
+    		dx2 = line2.dx;
+    		dy2 = line2.dy;
+    	} else if (line instanceof Line2D) {
+    		Line2D line2 = (Line2D) line;
+    		x2 = line2.p1.x();
+    		y2 = line2.p1.y();
+    		dx2 = line2.p2.x() - x2;
+    		dy2 = line2.p2.y() - y2;
+    	} else {
+    		Point2D origin = line.origin();
+    		Vector2D vect = line.direction();
+    		x2 = origin.x();
+    		y2 = origin.y();
+    		dx2 = vect.x();
+    		dy2 = vect.y();
+    	}
+
+		// test if two lines are parallel, with the same tolerances as the
+    	// isParallel() and intersection() methods
+        double denom = this.dx * dy2 - this.dy * dx2;
+        double norm = Math.hypot(dx, dy) * Math.hypot(dx2, dy2);
+		if (Math.abs(denom) < Shape2D.ACCURACY * Math.max(norm, 1))
+			return 0;
+
+        // compute position of intersection point
+		double t = ((y0 - y2) * dx2 - (x0 - x2) * dy2) / denom;
+		double x = x0 + t * dx;
+		double y = y0 + t * dy;
+
+		// check if point is inside the bounds of both objects
+		if (!contains(x, y) || !line.contains(x, y))
+			return 0;
+		buffer.add(x, y);
+		return 1;
+    }
+
     /**
      * Returns the position of the point on the line arc. 
      * If the point belongs to the line, this position is defined by the ratio:
@@ -776,6 +826,34 @@ implements SmoothOrientedCurve2D, LinearElement2D {
         return this.contains(p.x(), p.y());
     }
 
+    /**
+     * Computes the point at the given position, clamped to the bounds of the
+     * line, without creating new objects.
+     */
+    public void point(double t, double[] out) {
+    	t = Math.min(Math.max(t, this.t0()), this.t1());
+    	out[0] = x0 + t * dx;
+    	out[1] = y0 + t * dy;
+    }
+
+    /**
+     * Computes the bounds of the line from the positions of its extremities,
+     * without creating new objects. Unbounded extremities result in infinite
+     * bounds, except for the coordinates that do not vary along the line.
+     */
+    public void boundingBox(double[] bounds) {
+    	double t0 = this.t0();
+    	double t1 = this.t1();
+    	double xa = dx == 0 ? x0 : x0 + t0 * dx; 
+    	double xb = dx == 0 ? x0 : x0 + t1 * dx; 
+    	double ya = dy == 0 ? y0 : y0 + t0 * dy; 
+    	double yb = dy == 0 ? y0 : y0 + t1 * dy; 
+    	bounds[0] = Math.min(xa, xb);
+    	bounds[1] = Math.max(xa, xb);
+    	bounds[2] = Math.min(ya, yb);
+    	bounds[3] = Math.max(ya, yb);
+    }
+
     /**
      * Returns false, unless both dx and dy equal 0.
      */
@@ -33,6 +33,7 @@ import math.geom2d.circulinear.CirculinearElement2D;
 import math.geom2d.circulinear.buffer.BufferCalculator;
 import math.geom2d.conic.CircleArc2D;
 import math.geom2d.curve.*;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.transform.CircleInversion2D;
 
 // Imports
@@ -470,6 +471,14 @@ implements LinearElement2D, Cloneable {
         return new Box2D(p1, p2);
     }
 
+    @Override
+    public void boundingBox(double[] bounds) {
+    	bounds[0] = Math.min(p1.x(), p2.x());
+    	bounds[1] = Math.max(p1.x(), p2.x());
+    	bounds[2] = Math.min(p1.y(), p2.y());
+    	bounds[3] = Math.max(p1.y(), p2.y());
+    }
+
     // ===================================================================
     // methods inherited from SmoothCurve2D interface
 
@@ -535,6 +544,13 @@ implements LinearElement2D, Cloneable {
 		return new Point2D(x, y);
     }
 
+    @Override
+    public void point(double t, double[] out) {
+    	t = Math.min(Math.max(t, 0), 1);
+		out[0] = p1.x() * (1 - t) + p2.x() * t;
+		out[1] = p1.y() * (1 - t) + p2.y() * t;
+    }
+
     /**
      * Get the first point of the curve.
      * 
@@ -605,6 +621,57 @@ implements LinearElement2D, Cloneable {
         return new LineSegment2D(p1, p2).intersections(line);
     }
 
+    @Override
+    public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+        // origin and direction of this edge
+        double x0 = p1.x();
+        double y0 = p1.y();
+        double dx = p2.x() - x0;
+        double dy = p2.y() - y0;
+
+        // extract origin and direction of the other line
+        double x2, y2, dx2, dy2;
+        if (line instanceof AbstractLine2D) {
+            AbstractLine2D line2 = (AbstractLine2D) line;
+            x2 = line2.x0;
+            y2 = line2.y0;
+            dx2 = line2.dx;
+            dy2 = line2.dy;
+        } else if (line instanceof Line2D) {
+            Line2D line2 = (Line2D) line;
+            x2 = line2.p1.x();
+            y2 = line2.p1.y();
+            dx2 = line2.p2.x() - x2;
+            dy2 = line2.p2.y() - y2;
+        } else {
+            Point2D origin = line.origin();
+            Vector2D vect = line.direction();
+            x2 = origin.x();
+            y2 = origin.y();
+            dx2 = vect.x();
+            dy2 = vect.y();
+        }
+
+        // test if two lines are parallel, with the same tolerance as
+        // AbstractLine2D
+        double denom = dx * dy2 - dy * dx2;
+        double norm = Math.hypot(dx, dy) * Math.hypot(dx2, dy2);
+        if (Math.abs(denom) < Shape2D.ACCURACY * Math.max(norm, 1))
+            return 0;
+
+        // position of intersection point, as a fraction of the edge
+        double t = ((y0 - y2) * dx2 - (x0 - x2) * dy2) / denom;
+        if (t < -Shape2D.ACCURACY || t - 1 > Shape2D.ACCURACY)
+            return 0;
+
+        double x = x0 + t * dx;
+        double y = y0 + t * dy;
+        if (!line.contains(x, y))
+            return 0;
+        buffer.add(x, y);
+        return 1;
+    }
+
     // ===================================================================
     // methods inherited from Shape2D interface
 
@@ -220,6 +220,15 @@ implements SmoothOrientedCurve2D, Cloneable {
 			return new Point2D(x0 + dx * t, y0 + dy * t);
     }
 
+    @Override
+    public void point(double t, double[] out) {
+		t = Math.min(Math.max(t, t0), t1);
+        if (Double.isInfinite(t))
+            throw new UnboundedShape2DException(this);
+		out[0] = x0 + dx * t;
+		out[1] = y0 + dy * t;
+    }
+
     /**
      * Returns the first point of the edge. In the case of a line, or a ray
      * starting from -infinity, throws an UnboundedShape2DException.
@@ -0,0 +1,572 @@
+/**
+ * File: 	DirectPointArray2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.awt.Graphics2D;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
+import math.geom2d.GeometricObject2D;
+import math.geom2d.Point2D;
+import math.geom2d.Shape2D;
+import math.geom2d.circulinear.CirculinearDomain2D;
+import math.geom2d.circulinear.CirculinearShape2D;
+import math.geom2d.circulinear.buffer.BufferCalculator;
+import math.geom2d.transform.CircleInversion2D;
+
+/**
+ * A set of points whose coordinates are stored outside of the Java heap, in
+ * a direct buffer. Coordinates are packed as [x0 y0 x1 y1 ...], and no
+ * Point2D instance is kept for the points of the set.<p>
+ * This class is intended for large point clouds: storing n points requires
+ * 16*n bytes of native memory, and does not increase the work of the garbage
+ * collector. The bounding box, distance, clipping and transform methods
+ * iterate on the packed coordinates. Methods that return points, like get()
+ * or iterator(), create a new Point2D for each call, and should be avoided
+ * within inner loops in favor of the x() and y() methods.<p>
+ * The points can be indexed with a PackedKDTree2D, without creating Point2D
+ * instances. As direct buffers are indexed by int values, the capacity is
+ * limited to about 134 million points.
+ *
+ * <pre><code>
+ * DirectPointArray2D cloud = new DirectPointArray2D(n);
+ * cloud.addAll(xs, ys, n);
+ * Box2D box = cloud.boundingBox();
+ * PackedKDTree2D tree = new PackedKDTree2D(cloud);
+ * </code></pre>
+ *
+ * @see PointArray2D
+ * @author dlegland
+ */
+public class DirectPointArray2D implements PointSet2D, CirculinearShape2D {
+
+    // ===================================================================
+    // class variables
+
+    /** The packed coordinates of the points, in native memory */
+    private DoubleBuffer coords;
+
+    /** The number of points in the set */
+    private int size = 0;
+
+    // ===================================================================
+    // constructors
+
+    /**
+     * Creates a new empty point set.
+     */
+    public DirectPointArray2D() {
+        this(16);
+    }
+
+    /**
+     * Creates a new empty point set, and allocates the native memory for
+     * storing the given number of points.
+     */
+    public DirectPointArray2D(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException(
+                    "Capacity must be positive: " + capacity);
+        this.coords = allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Creates a new point set from the n first coordinates of the arrays.
+     */
+    public DirectPointArray2D(double[] xs, double[] ys, int n) {
+        this(n);
+        addAll(xs, ys, n);
+    }
+
+    /**
+     * Creates a new point set containing the given points.
+     */
+    public DirectPointArray2D(Point2D... points) {
+        this(points.length);
+        for (Point2D point : points)
+            add(point.x(), point.y());
+    }
+
+    /**
+     * Creates a new point set containing the given points.
+     */
+    public DirectPointArray2D(Collection<? extends Point2D> points) {
+        this(points.size());
+        addAll(points);
+    }
+
+    private static DoubleBuffer allocate(int capacity) {
+        if (capacity > Integer.MAX_VALUE / 16)
+            throw new IllegalArgumentException(
+                    "Capacity is too large: " + capacity);
+        return ByteBuffer.allocateDirect(capacity * 16)
+                .order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    // ===================================================================
+    // methods for adding points
+
+    /**
+     * Ensures the native memory can store at least the given number of
+     * points, without new allocation.
+     */
+    public void ensureCapacity(int capacity) {
+        int current = coords.capacity() / 2;
+        if (capacity <= current)
+            return;
+
+        // grow by a factor 1.5, within the limits of direct buffers
+        int newCapacity = (int) Math.min(current + (long) current / 2,
+                Integer.MAX_VALUE / 16);
+        newCapacity = Math.max(newCapacity, capacity);
+
+        DoubleBuffer newCoords = allocate(newCapacity);
+        DoubleBuffer src = coords.duplicate();
+        src.position(0);
+        src.limit(2 * size);
+        newCoords.put(src);
+        newCoords.clear();
+        coords = newCoords;
+    }
+
+    /**
+     * Adds the point with coordinates (x, y) at the end of the set.
+     */
+    public void add(double x, double y) {
+        ensureCapacity(size + 1);
+        coords.put(2 * size, x);
+        coords.put(2 * size + 1, y);
+        size++;
+    }
+
+    /**
+     * Adds a point at the end of the set. Only the coordinates of the point
+     * are stored.
+     */
+    public boolean add(Point2D point) {
+        add(point.x(), point.y());
+        return true;
+    }
+
+    /**
+     * Inserts a point at the given index. The coordinates of the following
+     * points are shifted, this method is thus slower than add(Point2D).
+     */
+    public void add(int index, Point2D point) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+        ensureCapacity(size + 1);
+        for (int i = 2 * size + 1; i >= 2 * index + 2; i--)
+            coords.put(i, coords.get(i - 2));
+        coords.put(2 * index, point.x());
+        coords.put(2 * index + 1, point.y());
+        size++;
+    }
+
+    /**
+     * Adds the n first points given by the coordinate arrays.
+     */
+    public void addAll(double[] xs, double[] ys, int n) {
+        if (xs.length < n || ys.length < n)
+            throw new IllegalArgumentException(
+                    "Coordinate arrays must contain at least n values");
+        ensureCapacity(size + n);
+        int k = 2 * size;
+        for (int i = 0; i < n; i++) {
+            coords.put(k++, xs[i]);
+            coords.put(k++, ys[i]);
+        }
+        size += n;
+    }
+
+    /**
+     * Adds n points whose packed coordinates are stored in the array,
+     * starting at the given offset, as [x0 y0 x1 y1 ...].
+     */
+    public void addAll(double[] packed, int offset, int n) {
+        ensureCapacity(size + n);
+        DoubleBuffer dst = coords.duplicate();
+        dst.position(2 * size);
+        dst.put(packed, offset, 2 * n);
+        size += n;
+    }
+
+    /**
+     * Adds a collection of points. Only the points present when the method
+     * is called are added, even if the collection is a view on this set.
+     */
+    public void addAll(Collection<? extends Point2D> points) {
+        int n = points.size();
+        ensureCapacity(size + n);
+        Iterator<? extends Point2D> iter = points.iterator();
+        for (int i = 0; i < n; i++) {
+            Point2D point = iter.next();
+            add(point.x(), point.y());
+        }
+    }
+
+    // ===================================================================
+    // accessors
+
+    /**
+     * Returns the x-coordinate of the i-th point.
+     */
+    public double x(int index) {
+        checkIndex(index);
+        return coords.get(2 * index);
+    }
+
+    /**
+     * Returns the y-coordinate of the i-th point.
+     */
+    public double y(int index) {
+        checkIndex(index);
+        return coords.get(2 * index + 1);
+    }
+
+    /**
+     * Copies the coordinates of the points into the two arrays, that must
+     * contain at least size() elements.
+     */
+    public void coordinates(double[] xs, double[] ys) {
+        if (xs.length < size || ys.length < size)
+            throw new IllegalArgumentException(
+                    "Coordinate arrays must contain at least size() values");
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            xs[i] = coords.get(k++);
+            ys[i] = coords.get(k++);
+        }
+    }
+
+    /**
+     * Returns a new instance of Point2D located at the i-th point.
+     */
+    public Point2D get(int index) {
+        checkIndex(index);
+        return new Point2D(coords.get(2 * index), coords.get(2 * index + 1));
+    }
+
+    /**
+     * Returns the index of the first point with the same coordinates as the
+     * given point, or -1 if there is no such point.
+     */
+    public int indexOf(Point2D point) {
+        double x = point.x();
+        double y = point.y();
+        for (int i = 0; i < size; i++) {
+            if (coords.get(2 * i) == x && coords.get(2 * i + 1) == y)
+                return i;
+        }
+        return -1;
+    }
+
+    public boolean remove(Point2D point) {
+        int index = indexOf(point);
+        if (index == -1)
+            return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes the point at the given index, and returns a new instance of
+     * Point2D located at the removed point.
+     */
+    public Point2D remove(int index) {
+        Point2D point = get(index);
+        for (int i = 2 * index; i < 2 * size - 2; i++)
+            coords.put(i, coords.get(i + 2));
+        size--;
+        return point;
+    }
+
+    /**
+     * Removes all the points of the set, keeping the allocated memory.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of points in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a read-only view on the points of the set. A new instance of
+     * Point2D is created each time a point is retrieved.
+     */
+    public Collection<Point2D> points() {
+        return new PointList();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(
+                    "Index: " + index + ", Size: " + size);
+    }
+
+    // ===================================================================
+    // Methods implementing CirculinearShape2D interface
+
+    /* (non-Javadoc)
+     * @see math.geom2d.circulinear.CirculinearShape2D#buffer(double)
+     */
+    public CirculinearDomain2D buffer(double dist) {
+        BufferCalculator bc = BufferCalculator.getDefaultInstance();
+        return bc.computeBuffer(this, dist);
+    }
+
+    public DirectPointArray2D transform(CircleInversion2D inv) {
+        DirectPointArray2D res = new DirectPointArray2D(size);
+        for (int i = 0; i < size; i++)
+            res.add(get(i).transform(inv));
+        return res;
+    }
+
+    // ===================================================================
+    // Methods implementing Shape2D interface
+
+    /**
+     * Returns the distance to the closest point of the set, or NaN if the set
+     * is empty.
+     */
+    public double distance(Point2D p) {
+        return distance(p.x(), p.y());
+    }
+
+    /**
+     * Returns the distance to the closest point of the set, or NaN if the set
+     * is empty.
+     */
+    public double distance(double x, double y) {
+        if (size == 0)
+            return Double.NaN;
+
+        // find smallest squared distance
+        double minDist2 = Double.POSITIVE_INFINITY;
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            double dx = coords.get(k++) - x;
+            double dy = coords.get(k++) - y;
+            minDist2 = Math.min(minDist2, dx * dx + dy * dy);
+        }
+        return Math.sqrt(minDist2);
+    }
+
+    /**
+     * Always returns true.
+     */
+    public boolean isBounded() {
+        return true;
+    }
+
+    /**
+     * Returns true if the point set is empty, i.e. the number of points is 0.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a new DirectPointArray2D containing the points located inside
+     * the box.
+     */
+    public DirectPointArray2D clip(Box2D box) {
+        double xmin = box.getMinX();
+        double xmax = box.getMaxX();
+        double ymin = box.getMinY();
+        double ymax = box.getMaxY();
+
+        // count points inside of box, to allocate the result only once
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            double x = coords.get(2 * i);
+            double y = coords.get(2 * i + 1);
+            if (x >= xmin && x <= xmax && y >= ymin && y <= ymax)
+                n++;
+        }
+
+        DirectPointArray2D res = new DirectPointArray2D(n);
+        for (int i = 0; i < size; i++) {
+            double x = coords.get(2 * i);
+            double y = coords.get(2 * i + 1);
+            if (x >= xmin && x <= xmax && y >= ymin && y <= ymax)
+                res.add(x, y);
+        }
+        return res;
+    }
+
+    public Box2D boundingBox() {
+        double xmin = Double.POSITIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            double x = coords.get(k++);
+            double y = coords.get(k++);
+            xmin = Math.min(xmin, x);
+            xmax = Math.max(xmax, x);
+            ymin = Math.min(ymin, y);
+            ymax = Math.max(ymax, y);
+        }
+
+        return new Box2D(xmin, xmax, ymin, ymax);
+    }
+
+    /**
+     * Returns a new DirectPointArray2D containing the transformed points.
+     */
+    public DirectPointArray2D transform(AffineTransform2D trans) {
+        double[] tab = trans.coefficients();
+        DirectPointArray2D res = new DirectPointArray2D(size);
+
+        DoubleBuffer dst = res.coords;
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            double x = coords.get(k);
+            double y = coords.get(k + 1);
+            dst.put(k++, x * tab[0] + y * tab[1] + tab[2]);
+            dst.put(k++, x * tab[3] + y * tab[4] + tab[5]);
+        }
+        res.size = size;
+        return res;
+    }
+
+    /**
+     * Returns true if one of the points is located at a distance smaller
+     * than Shape2D.ACCURACY.
+     */
+    public boolean contains(double x, double y) {
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            double dx = coords.get(k++) - x;
+            double dy = coords.get(k++) - y;
+            if (Math.hypot(dx, dy) < Shape2D.ACCURACY)
+                return true;
+        }
+        return false;
+    }
+
+    public boolean contains(Point2D point) {
+        return contains(point.x(), point.y());
+    }
+
+    /**
+     * Draws the point set on the specified Graphics2D, using default radius
+     * equal to 1.
+     */
+    public void draw(Graphics2D g2) {
+        this.draw(g2, 1);
+    }
+
+    /**
+     * Draws the point set on the specified Graphics2D, by filling a disc with
+     * a given radius.
+     */
+    public void draw(Graphics2D g2, double r) {
+        double w = 2 * r;
+        java.awt.geom.Ellipse2D.Double disc = new java.awt.geom.Ellipse2D.Double();
+        for (int i = 0; i < size; i++) {
+            disc.setFrame(coords.get(2 * i) - r, coords.get(2 * i + 1) - r, w, w);
+            g2.fill(disc);
+        }
+    }
+
+    public Iterator<Point2D> iterator() {
+        return new PointList().iterator();
+    }
+
+    // ===================================================================
+    // methods implementing GeometricObject2D interface
+
+    /* (non-Javadoc)
+     * @see math.geom2d.GeometricObject2D#almostEquals(math.geom2d.GeometricObject2D, double)
+     */
+    public boolean almostEquals(GeometricObject2D obj, double eps) {
+        if (this == obj)
+            return true;
+
+        if (!(obj instanceof PointSet2D))
+            return false;
+
+        PointSet2D set = (PointSet2D) obj;
+        if (this.size != set.size())
+            return false;
+
+        int i = 0;
+        for (Point2D point : set) {
+            if (!point.almostEquals(get(i++), eps))
+                return false;
+        }
+
+        return true;
+    }
+
+    // ===================================================================
+    // methods overriding Object methods
+
+    /**
+     * Returns true if the given object is an instance of PointSet2D that
+     * contains the same number of points, such that iteration on each set
+     * returns equal points.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+
+        if (!(obj instanceof PointSet2D))
+            return false;
+
+        PointSet2D set = (PointSet2D) obj;
+        if (this.size != set.size())
+            return false;
+
+        int i = 0;
+        for (Point2D point : set) {
+            if (!point.equals(get(i++)))
+                return false;
+        }
+
+        return true;
+    }
+
+    // ===================================================================
+    // inner types
+
+    /**
+     * A read-only view on the points of the set, that creates the points
+     * when they are requested.
+     */
+    private class PointList extends AbstractList<Point2D> {
+
+        @Override
+        public Point2D get(int index) {
+            return DirectPointArray2D.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
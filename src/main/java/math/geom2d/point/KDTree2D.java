@@ -7,14 +7,10 @@ package math.geom2d.point;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.List;
 
 import math.geom2d.Box2D;
 import math.geom2d.Point2D;
-import math.geom2d.Vector2D;
-import math.geom2d.line.StraightLine2D;
 
 
 /**
@@ -22,10 +18,12 @@ import math.geom2d.line.StraightLine2D;
  * of the tree, median point in current coordinate is chosen for each step,
  * ensuring the final tree is balanced. The cost for retrieving a point is 
  * O(log n).<br>
- * The cost for building the tree is O(n log^2 n), that can take some time for
- * large points sets.<br>
+ * Points are stored in a PackedKDTree2D, built in O(n log n) by median
+ * selection, and used for searching points. The tree of Node instances is
+ * created only when it is requested by the getRoot() or getNode() methods.<br>
  * This implementation is semi-dynamic: points can be added, but can not be
- * removed.
+ * removed. Added points are first searched by a linear scan, and the packed
+ * tree is rebuilt when their number becomes too large.
  * @author dlegland
  *
  */
@@ -91,7 +89,21 @@ public class KDTree2D {
         }
     }
    
-    private Node root;
+    /**
+     * The points of the tree, in insertion order. The first points are
+     * stored in the packed tree.
+     */
+    private ArrayList<Point2D> points;
+    
+    /**
+     * The packed tree used for queries, containing the first points.
+     */
+    private PackedKDTree2D tree;
+    
+    /**
+     * The root of the tree of nodes, created when needed.
+     */
+    private Node root = null;
     
     private Comparator<Point2D> xComparator;
     private Comparator<Point2D> yComparator;
@@ -99,69 +111,63 @@ public class KDTree2D {
     public KDTree2D(ArrayList<Point2D> points) {
         this.xComparator = new XComparator();
         this.yComparator = new YComparator();
-        root = makeTree(points, 0);
+        this.points = new ArrayList<Point2D>(points);
+        this.tree = new PackedKDTree2D(this.points);
     }
-        
-    private Node makeTree(List<Point2D> points, int depth) {
+    
+    /**
+     * Rebuilds the packed tree with all the points, and discards the tree of
+     * nodes.
+     */
+    private void rebuild() {
+        this.tree = new PackedKDTree2D(this.points);
+        this.root = null;
+    }
+    
+    /**
+     * Creates the tree of nodes from the range [lo, hi) of the packed
+     * tree layout.
+     */
+    private Node makeTree(int lo, int hi) {
         // Add a leaf
-        if(points.size() == 0)
+        if (lo >= hi)
             return null;
         
-        // select direction
-        int dir = depth%2;
-        
-        // sort points according to i-th dimension
-		if (dir == 0) {
-			// Compare points based on their x-coordinate
-			Collections.sort(points, xComparator);
-		} else {
-			// Compare points based on their x-coordinate
-            Collections.sort(points, yComparator);
-        }
-        
-        int n = points.size();
-        int med = n/2;    // compute median
-        
+        int med = (lo + hi) >>> 1;
         return new Node(
-                points.get(med),
-                makeTree(points.subList(0, med), depth+1),
-                makeTree(points.subList(med+1, n), depth+1));
+                points.get(tree.indexAt(med)),
+                makeTree(lo, med),
+                makeTree(med + 1, hi));
     }
 
     public Node getRoot() {
+        if (root == null) {
+            // create nodes for packed points, then insert the other ones
+            root = makeTree(0, tree.size());
+            for (int i = tree.size(); i < points.size(); i++) {
+                if (root == null)
+                    root = new Node(points.get(i));
+                else
+                    add(points.get(i), root, 0);
+            }
+        }
         return root;
     }
     
     public boolean contains(Point2D value){
-        return contains(value, root, 0);
-    }
-    
-    private boolean contains(Point2D point, Node node, int depth){
-        if(node==null) return false;
+        if (tree.contains(value.x(), value.y()))
+            return true;
         
-        // select direction
-        int dir = depth%2;
-        
-        // sort points according to i-th dimension
-        int res;
-        if(dir==0){
-            // Compare points based on their x-coordinate
-            res = xComparator.compare(point, node.point);
-        }else{
-            // Compare points based on their x-coordinate
-            res = yComparator.compare(point, node.point);
+        // check points added after last rebuild
+        for (int i = tree.size(); i < points.size(); i++) {
+            if (xComparator.compare(value, points.get(i)) == 0)
+                return true;
         }
-        
-        if(res<0)
-            return contains(point, node.left, depth+1);
-        if(res>0)
-            return contains(point, node.right, depth+1);
-        
-        return true;
+        return false;
     }
-
+    
     public Node getNode(Point2D point) {
-        return getNode(point, root, 0);
+        return getNode(point, getRoot(), 0);
     }
     
     private Node getNode(Point2D point, Node node, int depth){
@@ -188,7 +194,18 @@ public class KDTree2D {
     }
 
     public void add(Point2D point){
-       add(point, root, 0);
+        // points already in the tree are not added
+        if (contains(point))
+            return;
+        
+        points.add(point);
+        if (root != null)
+            add(point, root, 0);
+        
+        // rebuild the packed tree if the linear scan becomes expensive
+        int nAdded = points.size() - tree.size();
+        if (nAdded > 16 && nAdded * nAdded > tree.size())
+            rebuild();
     }
     
     private void add(Point2D point, Node node, int depth) {
@@ -218,98 +235,94 @@ public class KDTree2D {
                 add(point, node.right, depth+1);
     }
     
-    public Collection<Point2D> rangeSearch(Box2D range) {
-        ArrayList<Point2D> points = new ArrayList<Point2D>();
-        rangeSearch(range, points, root, 0);
-        return points;
-    }
-    
     /**
-     * range search, by recursively adding points to the collection.
+     * Returns the points located within the range. Points located on the
+     * lower bounds of the range are not included.
      */
-    private void rangeSearch(Box2D range, 
-            Collection<Point2D> points, Node node, int depth) {
-        if(node==null)
-            return;
+    public Collection<Point2D> rangeSearch(Box2D range) {
+        double xmin = range.getMinX();
+        double xmax = range.getMaxX();
+        double ymin = range.getMinY();
+        double ymax = range.getMaxY();
+        
+        // search the packed tree, increasing buffer size if necessary
+        int[] indices = new int[16];
+        int n = tree.rangeSearch(xmin, xmax, ymin, ymax, indices);
+        if (n > indices.length) {
+            indices = new int[n];
+            tree.rangeSearch(xmin, xmax, ymin, ymax, indices);
+        }
         
-        // extract the point
-        Point2D point = node.getPoint();
+        ArrayList<Point2D> result = new ArrayList<Point2D>(n);
+        for (int i = 0; i < n; i++)
+            addIfInRange(points.get(indices[i]), range, result);
+        for (int i = tree.size(); i < points.size(); i++)
+            addIfInRange(points.get(i), range, result);
+        return result;
+    }
+    
+    private static void addIfInRange(Point2D point, Box2D range,
+            Collection<Point2D> points) {
         double x = point.x();
         double y = point.y();
-        
-        // check if point is in range
-        boolean tx1 = range.getMinX()<x;
-        boolean ty1 = range.getMinY()<y;
-		boolean tx2 = x <= range.getMaxX();
-		boolean ty2 = y <= range.getMaxY();
-        
-        // adds the point if it is present
-        if(tx1 && tx2 && ty1 && ty2)
+        if (range.getMinX() < x && x <= range.getMaxX() 
+                && range.getMinY() < y && y <= range.getMaxY())
             points.add(point);
-        
-        // select direction
-        int dir = depth%2;
-        
-        if(dir==0 ? tx1 : ty1)
-            rangeSearch(range, points, node.left, depth+1);
-        if(dir==0 ? tx2 : ty2)
-            rangeSearch(range, points, node.right, depth+1);
     }
     
-    
+    /**
+     * Returns the point of the tree closest to the given point, or null if
+     * the tree is empty.
+     */
     public Point2D nearestNeighbor(Point2D point) {
-        return nearestNeighbor(point, root, root, 0).getPoint();
+        int index = nearestIndex(point.x(), point.y());
+        return index == -1 ? null : points.get(index);
     }
     
     /**
-     * Return either the same node as candidate, or another node whose point
-     * is closer.
+     * Computes the point of the tree closest to the point (x, y), and stores
+     * its coordinates in the first two elements of the array. This method 
+     * does not create new objects. Returns false if the tree is empty, in 
+     * which case the array is not modified.
      */
-    private Node nearestNeighbor(Point2D point, Node candidate, Node node, 
-            int depth) {
-        // Check if the current node is closest that current candidate
-        double distCand = candidate.point.distance(point);
-        double dist     = node.point.distance(point);
-        if(dist<distCand){
-            candidate = node;
-        }
-        
-        // select direction
-        int dir = depth%2;
-
-        Node node1, node2;
-        
-        // First try on the canonical side,
-        // the result is the closest node found by depth-firth search
-        Point2D anchor = node.getPoint();
-        StraightLine2D line;
-        if(dir==0){
-			boolean b = point.x() < anchor.x();
-			node1 = b ? node.left : node.right;
-			node2 = b ? node.right : node.left;
-			line = new StraightLine2D(anchor, new Vector2D(0, 1));
-		} else {
-			boolean b = point.y() < anchor.y();
-			node1 = b ? node.left : node.right;
-            node2 = b ? node.right : node.left;
-            line = new StraightLine2D(anchor, new Vector2D(1, 0)); 
-        }
-        
-        if(node1!=null) {
-            // Try to find a better candidate
-            candidate = nearestNeighbor(point, candidate, node1, depth+1);
-
-            // recomputes distance to the (possibly new) candidate
-            distCand = candidate.getPoint().distance(point);
-        }
-        
-        // If line is close enough, there can be closer points to the other
-        // side of the line
-        if(line.distance(point)<distCand && node2!=null) {
-            candidate = nearestNeighbor(point, candidate, node2, depth+1);
+    public boolean nearestNeighbor(double x, double y, double[] out) {
+        int index = nearestIndex(x, y);
+        if (index == -1)
+            return false;
+        Point2D point = points.get(index);
+        out[0] = point.x();
+        out[1] = point.y();
+        return true;
+    }
+    
+    /**
+     * Returns the index of the point closest to (x, y), or -1 if the tree is
+     * empty.
+     */
+    private int nearestIndex(double x, double y) {
+        double distCand = Double.POSITIVE_INFINITY;
+        int index = tree.nearest(x, y);
+        if (index != -1)
+            distCand = points.get(index).distance(x, y);
+        
+        // check points added after last rebuild
+        for (int i = tree.size(); i < points.size(); i++) {
+            double dist = points.get(i).distance(x, y);
+            if (dist < distCand) {
+                index = i;
+                distCand = dist;
+            }
         }
         
-        return candidate;
+        return index;
+    }
+    
+    /**
+     * Returns the packed tree used for queries. Points added with the add() 
+     * method may not be included in the packed tree.
+     */
+    public PackedKDTree2D getPackedTree() {
+        return tree;
     }
     
     
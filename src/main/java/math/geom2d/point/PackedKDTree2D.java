@@ -0,0 +1,506 @@
+/**
+ * File: 	PackedKDTree2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+
+/**
+ * A static KD-tree for points, stored in primitive arrays of coordinates.<p>
+ * The tree uses an implicit layout: the points of a sub-tree occupy a
+ * contiguous range of the arrays, the median point of the range being the
+ * root of the sub-tree, the points before and after the median forming the
+ * left and right children. Splitting direction alternates between x and y,
+ * starting with x. No object is created per node.<p>
+ * The tree is built by median selection (quick select) at each level, in
+ * O(n log n). The points are compared using the lexicographic order on
+ * (x, y) for vertical splits, and on (y, x) for horizontal splits.<p>
+ * Query methods return indices of points, corresponding to the order of the
+ * points given at construction. The nearest, k-nearest, radius and range
+ * searches do not allocate memory, and can be called concurrently.
+ *
+ * @see KDTree2D
+ * @author dlegland
+ *
+ */
+public class PackedKDTree2D {
+
+    // ===================================================================
+    // class variables
+
+    /** The x-coordinates of the points, in tree layout */
+    private double[] xs;
+
+    /** The y-coordinates of the points, in tree layout */
+    private double[] ys;
+
+    /** The original index of each point of the tree layout */
+    private int[] indices;
+
+    /** The position in tree layout of each original index */
+    private int[] positions;
+
+    /** The number of points */
+    private int size;
+
+    // ===================================================================
+    // constructors
+
+    /**
+     * Creates a new tree from the coordinates of the points. Arrays are
+     * copied, and must have the same length.
+     */
+    public PackedKDTree2D(double[] xs, double[] ys) {
+        this(xs, ys, xs.length);
+    }
+
+    /**
+     * Creates a new tree from the n first coordinates of the given arrays.
+     * Arrays are copied.
+     */
+    public PackedKDTree2D(double[] xs, double[] ys, int n) {
+        if (ys.length < n || xs.length < n)
+            throw new IllegalArgumentException(
+                    "Coordinate arrays must contain at least n values");
+
+        this.size = n;
+        this.xs = new double[n];
+        this.ys = new double[n];
+        System.arraycopy(xs, 0, this.xs, 0, n);
+        System.arraycopy(ys, 0, this.ys, 0, n);
+        build();
+    }
+
+    /**
+     * Creates a new tree from a collection of points.
+     */
+    public PackedKDTree2D(Collection<? extends Point2D> points) {
+        this.size = points.size();
+        this.xs = new double[size];
+        this.ys = new double[size];
+        int i = 0;
+        for (Point2D point : points) {
+            this.xs[i] = point.x();
+            this.ys[i] = point.y();
+            i++;
+        }
+        build();
+    }
+
+    /**
+     * Creates a new tree from the points of an off-heap point set, without
+     * creating Point2D instances. Indices of the tree correspond to indices
+     * of the points in the set.
+     */
+    public PackedKDTree2D(DirectPointArray2D points) {
+        this.size = points.size();
+        this.xs = new double[size];
+        this.ys = new double[size];
+        points.coordinates(this.xs, this.ys);
+        build();
+    }
+
+    // ===================================================================
+    // tree construction
+
+    /**
+     * Initializes index arrays, and arranges the coordinates in tree layout.
+     */
+    private void build() {
+        this.indices = new int[size];
+        for (int i = 0; i < size; i++)
+            indices[i] = i;
+
+        build(0, size, 0);
+
+        this.positions = new int[size];
+        for (int i = 0; i < size; i++)
+            positions[indices[i]] = i;
+    }
+
+    /**
+     * Puts the median of the range at the middle position, and recursively
+     * builds the children.
+     */
+    private void build(int lo, int hi, int dir) {
+        if (hi - lo < 2)
+            return;
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, dir);
+        build(lo, mid, 1 - dir);
+        build(mid + 1, hi, 1 - dir);
+    }
+
+    /**
+     * Quick select (Wirth's variant of Hoare's algorithm): reorders the range
+     * [left, right] such that the element at position k is the one of sorted
+     * order, with smaller or equal elements before and greater or equal
+     * elements after.
+     */
+    private void select(int left, int right, int k, int dir) {
+        while (left < right) {
+            double px = xs[k];
+            double py = ys[k];
+            int i = left;
+            int j = right;
+            do {
+                while (compare(i, px, py, dir) < 0)
+                    i++;
+                while (compare(j, px, py, dir) > 0)
+                    j--;
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            } while (i <= j);
+
+            if (j < k)
+                left = i;
+            if (k < i)
+                right = j;
+        }
+    }
+
+    /**
+     * Compares the point at position i of tree layout with the point (x,y),
+     * using the lexicographic order associated to the direction.
+     */
+    private int compare(int i, double x, double y, int dir) {
+        if (dir == 0) {
+            int res = Double.compare(xs[i], x);
+            return res != 0 ? res : Double.compare(ys[i], y);
+        } else {
+            int res = Double.compare(ys[i], y);
+            return res != 0 ? res : Double.compare(xs[i], x);
+        }
+    }
+
+    private void swap(int i, int j) {
+        double tmp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = tmp;
+        tmp = ys[i];
+        ys[i] = ys[j];
+        ys[j] = tmp;
+        int ind = indices[i];
+        indices[i] = indices[j];
+        indices[j] = ind;
+    }
+
+    // ===================================================================
+    // accessors
+
+    /**
+     * Returns the number of points in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the x-coordinate of the point with the given index.
+     */
+    public double x(int index) {
+        return xs[positions[index]];
+    }
+
+    /**
+     * Returns the y-coordinate of the point with the given index.
+     */
+    public double y(int index) {
+        return ys[positions[index]];
+    }
+
+    /**
+     * Returns a new point corresponding to the given index.
+     */
+    public Point2D point(int index) {
+        int pos = positions[index];
+        return new Point2D(xs[pos], ys[pos]);
+    }
+
+    /**
+     * Returns the original index of the point stored at the given position
+     * of the tree layout.
+     */
+    int indexAt(int pos) {
+        return indices[pos];
+    }
+
+    // ===================================================================
+    // queries
+
+    /**
+     * Checks if the tree contains a point with the given coordinates.
+     */
+    public boolean contains(double x, double y) {
+        return indexOf(x, y) != -1;
+    }
+
+    /**
+     * Returns the index of a point with the given coordinates, or -1 if there
+     * is no such point.
+     */
+    public int indexOf(double x, double y) {
+        int lo = 0, hi = size;
+        int dir = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int res;
+            if (dir == 0) {
+                res = Double.compare(x, xs[mid]);
+                if (res == 0)
+                    res = Double.compare(y, ys[mid]);
+            } else {
+                res = Double.compare(y, ys[mid]);
+                if (res == 0)
+                    res = Double.compare(x, xs[mid]);
+            }
+
+            if (res == 0)
+                return indices[mid];
+            if (res < 0)
+                hi = mid;
+            else
+                lo = mid + 1;
+            dir = 1 - dir;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the point closest to the given position, or -1
+     * if the tree is empty.
+     */
+    public int nearest(double x, double y) {
+        if (size == 0)
+            return -1;
+        int best = nearest(x, y, 0, size, 0, (size - 1) >>> 1);
+        return indices[best];
+    }
+
+    /**
+     * Returns the position in tree layout of either the best candidate, or
+     * of a closer point found in the given range.
+     */
+    private int nearest(double x, double y, int lo, int hi, int dir, int best) {
+        if (lo >= hi)
+            return best;
+
+        int mid = (lo + hi) >>> 1;
+        double dx = x - xs[mid];
+        double dy = y - ys[mid];
+        double dist2 = dx * dx + dy * dy;
+        if (dist2 < distance2(x, y, best))
+            best = mid;
+
+        // signed distance to the splitting line
+        double delta = dir == 0 ? dx : dy;
+
+        // First try on the side containing the query point, then on the
+        // other side if the splitting line is closer than current candidate
+        if (delta < 0) {
+            best = nearest(x, y, lo, mid, 1 - dir, best);
+            if (delta * delta < distance2(x, y, best))
+                best = nearest(x, y, mid + 1, hi, 1 - dir, best);
+        } else {
+            best = nearest(x, y, mid + 1, hi, 1 - dir, best);
+            if (delta * delta < distance2(x, y, best))
+                best = nearest(x, y, lo, mid, 1 - dir, best);
+        }
+        return best;
+    }
+
+    /**
+     * Finds the k points closest to the given position. Indices of points are
+     * stored in the <code>result</code> array, and corresponding distances in
+     * the <code>distances</code> array, sorted by increasing distance. Both
+     * arrays must have at least k elements.
+     *
+     * @return the number of points found, equal to k or to the tree size.
+     */
+    public int nearest(double x, double y, int k, int[] result,
+            double[] distances) {
+        if (result.length < k || distances.length < k)
+            throw new IllegalArgumentException(
+                    "Result arrays must contain at least k elements");
+        if (k <= 0)
+            return 0;
+
+        // collect positions in a max-heap of squared distances
+        int count = nearest(x, y, 0, size, 0, k, result, distances, 0);
+
+        // heap sort, to obtain increasing distances
+        for (int n = count - 1; n > 0; n--) {
+            swap(result, distances, 0, n);
+            siftDown(result, distances, 0, n);
+        }
+
+        // convert squared distances and tree positions
+        for (int i = 0; i < count; i++) {
+            distances[i] = Math.sqrt(distances[i]);
+            result[i] = indices[result[i]];
+        }
+        return count;
+    }
+
+    /**
+     * Updates the max-heap of the k best candidates by searching the given
+     * range, and returns the new number of candidates.
+     */
+    private int nearest(double x, double y, int lo, int hi, int dir, int k,
+            int[] heap, double[] dist2, int count) {
+        if (lo >= hi)
+            return count;
+
+        int mid = (lo + hi) >>> 1;
+        double dx = x - xs[mid];
+        double dy = y - ys[mid];
+        double d2 = dx * dx + dy * dy;
+
+        // update the heap
+        if (count < k) {
+            heap[count] = mid;
+            dist2[count] = d2;
+            siftUp(heap, dist2, count);
+            count++;
+        } else if (d2 < dist2[0]) {
+            heap[0] = mid;
+            dist2[0] = d2;
+            siftDown(heap, dist2, 0, count);
+        }
+
+        double delta = dir == 0 ? dx : dy;
+        int lo1 = delta < 0 ? lo : mid + 1;
+        int hi1 = delta < 0 ? mid : hi;
+        int lo2 = delta < 0 ? mid + 1 : lo;
+        int hi2 = delta < 0 ? hi : mid;
+
+        count = nearest(x, y, lo1, hi1, 1 - dir, k, heap, dist2, count);
+        if (count < k || delta * delta < dist2[0])
+            count = nearest(x, y, lo2, hi2, 1 - dir, k, heap, dist2, count);
+        return count;
+    }
+
+    /**
+     * Finds the points located within the given distance of the position
+     * (x,y). The indices of the points are stored in the result array, until
+     * it is full.
+     *
+     * @return the total number of points within the given distance, that can
+     *         be greater than the size of the result array.
+     */
+    public int radiusSearch(double x, double y, double radius, int[] result) {
+        return radiusSearch(x, y, radius * radius, 0, size, 0, result, 0);
+    }
+
+    private int radiusSearch(double x, double y, double r2, int lo, int hi,
+            int dir, int[] result, int count) {
+        if (lo >= hi)
+            return count;
+
+        int mid = (lo + hi) >>> 1;
+        double dx = x - xs[mid];
+        double dy = y - ys[mid];
+        if (dx * dx + dy * dy <= r2) {
+            if (count < result.length)
+                result[count] = indices[mid];
+            count++;
+        }
+
+        double delta = dir == 0 ? dx : dy;
+        if (delta <= 0 || delta * delta <= r2)
+            count = radiusSearch(x, y, r2, lo, mid, 1 - dir, result, count);
+        if (delta >= 0 || delta * delta <= r2)
+            count = radiusSearch(x, y, r2, mid + 1, hi, 1 - dir, result, count);
+        return count;
+    }
+
+    /**
+     * Finds the points located within the given bounds (inclusive). The
+     * indices of the points are stored in the result array, until it is full.
+     *
+     * @return the total number of points within the bounds, that can
+     *         be greater than the size of the result array.
+     */
+    public int rangeSearch(double xmin, double xmax, double ymin, double ymax,
+            int[] result) {
+        return rangeSearch(xmin, xmax, ymin, ymax, 0, size, 0, result, 0);
+    }
+
+    private int rangeSearch(double xmin, double xmax, double ymin,
+            double ymax, int lo, int hi, int dir, int[] result, int count) {
+        if (lo >= hi)
+            return count;
+
+        int mid = (lo + hi) >>> 1;
+        double x = xs[mid];
+        double y = ys[mid];
+        if (x >= xmin && x <= xmax && y >= ymin && y <= ymax) {
+            if (count < result.length)
+                result[count] = indices[mid];
+            count++;
+        }
+
+        double v = dir == 0 ? x : y;
+        double min = dir == 0 ? xmin : ymin;
+        double max = dir == 0 ? xmax : ymax;
+        if (min <= v)
+            count = rangeSearch(xmin, xmax, ymin, ymax, lo, mid, 1 - dir,
+                    result, count);
+        if (v <= max)
+            count = rangeSearch(xmin, xmax, ymin, ymax, mid + 1, hi, 1 - dir,
+                    result, count);
+        return count;
+    }
+
+    // ===================================================================
+    // private utilities
+
+    private double distance2(double x, double y, int pos) {
+        double dx = x - xs[pos];
+        double dy = y - ys[pos];
+        return dx * dx + dy * dy;
+    }
+
+    private static void siftUp(int[] heap, double[] keys, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] >= keys[i])
+                return;
+            swap(heap, keys, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, double[] keys, int i, int n) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n)
+                return;
+            if (child + 1 < n && keys[child + 1] > keys[child])
+                child++;
+            if (keys[i] >= keys[child])
+                return;
+            swap(heap, keys, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(int[] heap, double[] keys, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+    }
+}
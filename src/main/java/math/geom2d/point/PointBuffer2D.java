@@ -0,0 +1,135 @@
+/**
+ * File: 	PointBuffer2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import math.geom2d.Point2D;
+
+/**
+ * A growable buffer of point coordinates, that receives the results of the
+ * queries that do not allocate memory, like
+ * {@link math.geom2d.curve.Curve2D#intersections(math.geom2d.line.LinearShape2D, PointBuffer2D)
+ * Curve2D.intersections(line, buffer)}.<p>
+ * Coordinates are packed in a single array, as [x0 y0 x1 y1 ...]. The
+ * buffer is usually cleared and reused between queries: once the capacity
+ * is large enough, adding points does not allocate memory.
+ *
+ * <pre><code>
+ * PointBuffer2D buffer = new PointBuffer2D();
+ * for (LineSegment2D seg : segments) {
+ *     buffer.clear();
+ *     curve.intersections(seg, buffer);
+ *     for (int i = 0; i < buffer.size(); i++)
+ *         process(buffer.x(i), buffer.y(i));
+ * }
+ * </code></pre>
+ *
+ * @author dlegland
+ */
+public class PointBuffer2D {
+
+	// ===================================================================
+	// class variables
+
+	/** The packed coordinates of the points */
+	private double[] coords;
+
+	/** The number of points in the buffer */
+	private int size = 0;
+
+	// ===================================================================
+	// constructors
+
+	/**
+	 * Creates a new empty buffer.
+	 */
+	public PointBuffer2D() {
+		this(8);
+	}
+
+	/**
+	 * Creates a new empty buffer, with enough capacity for storing the
+	 * given number of points.
+	 */
+	public PointBuffer2D(int capacity) {
+		this.coords = new double[Math.max(capacity, 1) * 2];
+	}
+
+	// ===================================================================
+	// methods
+
+	/**
+	 * Adds the point with coordinates (x, y) at the end of the buffer.
+	 */
+	public void add(double x, double y) {
+		if (2 * size + 2 > coords.length) {
+			double[] newCoords = new double[coords.length * 2];
+			System.arraycopy(coords, 0, newCoords, 0, 2 * size);
+			coords = newCoords;
+		}
+		coords[2 * size] = x;
+		coords[2 * size + 1] = y;
+		size++;
+	}
+
+	/**
+	 * Removes all the points of the buffer, keeping its capacity.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of points in the buffer.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the x-coordinate of the i-th point.
+	 */
+	public double x(int i) {
+		checkIndex(i);
+		return coords[2 * i];
+	}
+
+	/**
+	 * Returns the y-coordinate of the i-th point.
+	 */
+	public double y(int i) {
+		checkIndex(i);
+		return coords[2 * i + 1];
+	}
+
+	/**
+	 * Returns the i-th point, as a new instance of Point2D.
+	 */
+	public Point2D point(int i) {
+		checkIndex(i);
+		return new Point2D(coords[2 * i], coords[2 * i + 1]);
+	}
+
+	/**
+	 * Returns the inner array of packed coordinates, as [x0 y0 x1 y1 ...].
+	 * Only the first 2*size() values are meaningful. The array may change
+	 * when points are added to the buffer.
+	 *
+	 * @see math.geom2d.transform.Transform2D#transform(double[], int,
+	 *      double[], int, int)
+	 */
+	public double[] coordinates() {
+		return coords;
+	}
+
+	private void checkIndex(int i) {
+		if (i < 0 || i >= size)
+			throw new IndexOutOfBoundsException(
+					"Index: " + i + ", Size: " + size);
+	}
+}
@@ -4,9 +4,11 @@
 package math.geom2d.polygon;
 
 import java.awt.Graphics2D;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import math.geom2d.Box2D;
 import math.geom2d.Point2D;
@@ -18,27 +20,72 @@ import math.geom2d.circulinear.buffer.BufferCalculator;
 import math.geom2d.curve.*;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.point.PointSets2D;
+import math.utils.EqualUtils;
 
 /**
- * Abstract class that is the base implementation of Polyline2D and LinearRing2D. 
+ * Abstract class that is the base implementation of Polyline2D and LinearRing2D.
+ * Vertex coordinates are stored in two arrays of double. The collections of
+ * vertices and of edges are views that create the corresponding Point2D and
+ * LineSegment2D on demand, whereas the methods of the curve directly use the
+ * coordinate arrays.
  * @author dlegland
  *
  */
 public abstract class LinearCurve2D extends AbstractContinuousCurve2D 
 implements CirculinearContinuousCurve2D {
 
+    // ===================================================================
+    // inner types
+
+    /**
+     * The algorithms that can be used for simplifying linear curves.
+     * @see LinearCurve2D#simplify(Simplification, double)
+     */
+    public enum Simplification {
+    	/**
+    	 * Douglas-Peucker algorithm, that keeps the vertices farthest from
+    	 * the simplified curve. The tolerance is a distance.
+    	 */
+    	DOUGLAS_PEUCKER,
+    	/**
+    	 * Visvalingam-Whyatt algorithm, that removes the vertices forming the
+    	 * triangles with smallest area with their neighbors. The tolerance is
+    	 * an area.
+    	 */
+    	VISVALINGAM_WHYATT
+    }
+
     // ===================================================================
     // class variables
     
-    protected ArrayList<Point2D> vertices;
+    /** The x-coordinates of the vertices */
+    protected double[] xs;
+
+    /** The y-coordinates of the vertices */
+    protected double[] ys;
+
+    /** The number of vertices */
+    protected int nVertices;
+
+    /** 
+     * The curvilinear abscissa of each vertex, computed when needed, and
+     * cleared when vertices are modified.
+     */
+    private double[] lengthIndex = null;
+
+    /**
+     * The bounding box of the vertices, computed when it is first required.
+     */
+    private Box2D boundingBox = null;
 
 
     // ===================================================================
     // Contructors
 
     protected LinearCurve2D() {
-    	this.vertices = new ArrayList<Point2D>();
+    	this(10);
     }
 
     /**
@@ -47,26 +94,47 @@ implements CirculinearContinuousCurve2D {
      * @param nVertices
      */
     protected LinearCurve2D(int nVertices) {
-    	this.vertices = new ArrayList<Point2D>(nVertices);
+    	this.xs = new double[Math.max(nVertices, 1)];
+    	this.ys = new double[Math.max(nVertices, 1)];
     }
 
     protected LinearCurve2D(Point2D... vertices) {
-    	this.vertices = new ArrayList<Point2D>(vertices.length);
+    	this(vertices.length);
         for (Point2D vertex : vertices)
-            this.vertices.add(vertex);
+            appendVertex(vertex.x(), vertex.y());
     }
 
     protected LinearCurve2D(Collection<? extends Point2D> vertices) {
-    	this.vertices = new ArrayList<Point2D>(vertices.size());
-        this.vertices.addAll(vertices);
+    	this(vertices.size());
+        for (Point2D vertex : vertices)
+            appendVertex(vertex.x(), vertex.y());
     }
 
     protected LinearCurve2D(double[] xcoords, double[] ycoords) {
-    	this.vertices = new ArrayList<Point2D>(xcoords.length);
+    	this(xcoords.length);
 		int n = xcoords.length;
-    	this.vertices.ensureCapacity(n);
-        for (int i = 0; i < n; i++)
-            vertices.add(new Point2D(xcoords[i], ycoords[i]));
+		System.arraycopy(xcoords, 0, this.xs, 0, n);
+		System.arraycopy(ycoords, 0, this.ys, 0, n);
+		this.nVertices = n;
+    }
+
+    /**
+     * Creates a new linear curve with the same vertices as the given linear
+     * curve.
+     */
+    protected LinearCurve2D(LinearCurve2D curve) {
+    	this(curve.xs, curve.ys, curve.nVertices);
+    }
+
+    /**
+     * Creates a new linear curve using the n first values of the coordinate
+     * arrays. The arrays are copied.
+     */
+    protected LinearCurve2D(double[] xcoords, double[] ycoords, int n) {
+    	this(n);
+		System.arraycopy(xcoords, 0, this.xs, 0, n);
+		System.arraycopy(ycoords, 0, this.ys, 0, n);
+		this.nVertices = n;
     }
 
 
@@ -78,12 +146,61 @@ implements CirculinearContinuousCurve2D {
 	 * override this method to return a more specialized type.
 	 */
 	public abstract LinearCurve2D simplify(double distMax);
+
+	/**
+	 * Returns a simplified version of this linear curve, using the specified
+	 * algorithm. The tolerance is the maximal distance between the removed
+	 * vertices and the simplified curve for the Douglas-Peucker algorithm,
+	 * and the minimal area of the triangle formed by each remaining vertex
+	 * and its neighbors for the Visvalingam-Whyatt algorithm.
+	 */
+	public abstract LinearCurve2D simplify(Simplification method,
+			double tolerance);
+
+	/**
+	 * Returns a simplified version of this linear curve with at most the
+	 * specified number of vertices, using the specified algorithm. The
+	 * extremities of open curves, and the first vertex of closed curves,
+	 * are always kept.
+	 */
+	public abstract LinearCurve2D simplifyToVertexNumber(
+			Simplification method, int vertexNumber);
+
+	/**
+	 * Computes the indices of the vertices kept by the simplification of
+	 * this curve.
+	 */
+	protected int[] simplifiedIndices(Simplification method, double tolerance) {
+		return PolylineSimplifier2D.simplify(xs, ys, nVertices, isClosed(),
+				method, tolerance);
+	}
+
+	/**
+	 * Computes the indices of the vertices kept by the simplification of
+	 * this curve to the specified number of vertices.
+	 */
+	protected int[] simplifiedIndicesToVertexNumber(Simplification method,
+			int vertexNumber) {
+		return PolylineSimplifier2D.simplifyToVertexNumber(xs, ys, nVertices,
+				isClosed(), method, vertexNumber);
+	}
+
+	/**
+	 * Appends the vertices of this curve with the given indices to the
+	 * target curve, and returns the target curve.
+	 */
+	protected <T extends LinearCurve2D> T copyVertices(int[] inds, T target) {
+		target.ensureCapacity(target.nVertices + inds.length);
+		for (int i : inds)
+			target.appendVertex(xs[i], ys[i]);
+		return target;
+	}
     
     /**
      * Returns an iterator on the collection of points.
      */
     public Iterator<Point2D> vertexIterator() {
-        return vertices.iterator();
+        return vertices().iterator();
     }
     
     /**
@@ -92,7 +209,10 @@ implements CirculinearContinuousCurve2D {
      * @return an array of Point2D
      */
     public Point2D[] vertexArray() {
-    	return this.vertices.toArray(new Point2D[]{});
+    	Point2D[] array = new Point2D[nVertices];
+    	for (int i = 0; i < nVertices; i++)
+    		array[i] = new Point2D(xs[i], ys[i]);
+    	return array;
     }
 
     /**
@@ -101,7 +221,8 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public boolean addVertex(Point2D vertex) {
-    	 return vertices.add(vertex);
+    	appendVertex(vertex.x(), vertex.y());
+    	return true;
     }
     
     /**
@@ -109,7 +230,15 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public void insertVertex(int index, Point2D vertex) {
-    	vertices.add(index, vertex);
+    	if (index < 0 || index > nVertices)
+    		throw new IndexOutOfBoundsException("Index: " + index);
+    	ensureCapacity(nVertices + 1);
+    	System.arraycopy(xs, index, xs, index + 1, nVertices - index);
+    	System.arraycopy(ys, index, ys, index + 1, nVertices - index);
+    	xs[index] = vertex.x();
+    	ys[index] = vertex.y();
+    	nVertices++;
+    	invalidateCache();
     }
     
     /**
@@ -119,7 +248,11 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public boolean removeVertex(Point2D vertex) {
-        return vertices.remove(vertex);
+    	int index = new VertexList().indexOf(vertex);
+    	if (index < 0)
+    		return false;
+    	removeVertex(index);
+    	return true;
     }
     
     /**
@@ -129,7 +262,13 @@ implements CirculinearContinuousCurve2D {
      * @since 0.9.3
      */
     public Point2D removeVertex(int index) {
-    	return this.vertices.remove(index);
+    	Point2D vertex = vertex(index);
+    	int nMoved = nVertices - index - 1;
+    	System.arraycopy(xs, index + 1, xs, index, nMoved);
+    	System.arraycopy(ys, index + 1, ys, index, nMoved);
+    	nVertices--;
+    	invalidateCache();
+    	return vertex;
     }
 
     /**
@@ -137,18 +276,24 @@ implements CirculinearContinuousCurve2D {
      *  @since 0.9.3
      */
     public void setVertex(int index, Point2D position) {
-        this.vertices.set(index, position);
+    	checkIndex(index);
+    	xs[index] = position.x();
+    	ys[index] = position.y();
+    	invalidateCache();
     }
 
     public void clearVertices() {
-        vertices.clear();
+        nVertices = 0;
+        invalidateCache();
     }
 
     /**
-     * Returns the vertices of the polyline.
+     * Returns the vertices of the polyline. The result is a view on the
+     * vertices of this curve: modifications of the list are reflected in the
+     * curve, and vertices are created each time they are accessed.
      */
     public Collection<Point2D> vertices() {
-        return vertices;
+        return new VertexList();
     }
 
     /**
@@ -157,7 +302,8 @@ implements CirculinearContinuousCurve2D {
      * @param i index of the vertex, between 0 and the number of vertices
      */
     public Point2D vertex(int i) {
-        return vertices.get(i);
+    	checkIndex(i);
+        return new Point2D(xs[i], ys[i]);
     }
 
     /**
@@ -166,18 +312,20 @@ implements CirculinearContinuousCurve2D {
      * @return the number of vertices
      */
     public int vertexNumber() {
-        return vertices.size();
+        return nVertices;
     }
 
     /**
      * Computes the index of the closest vertex to the input point.
      */
     public int closestVertexIndex(Point2D point) {
+    	double x = point.x();
+    	double y = point.y();
     	double minDist = Double.POSITIVE_INFINITY;
     	int index = -1;
     	
-    	for (int i = 0; i < vertices.size(); i++) {
-    		double dist = vertices.get(i).distance(point);
+    	for (int i = 0; i < nVertices; i++) {
+    		double dist = Math.hypot(xs[i] - x, ys[i] - y);
     		if (dist < minDist) {
     			index = i;
     			minDist = dist;
@@ -187,6 +335,48 @@ implements CirculinearContinuousCurve2D {
     	return index;
     }
     
+    /**
+     * Adds the vertex with coordinates (x, y) at the end of the curve, 
+     * increasing the size of the coordinate arrays if necessary.
+     */
+    protected void appendVertex(double x, double y) {
+    	ensureCapacity(nVertices + 1);
+    	xs[nVertices] = x;
+    	ys[nVertices] = y;
+    	nVertices++;
+    	invalidateCache();
+    }
+
+    /**
+     * Ensures the coordinate arrays can contain the given number of vertices.
+     */
+    protected void ensureCapacity(int capacity) {
+    	if (capacity <= xs.length)
+    		return;
+    	int newCapacity = Math.max(capacity, xs.length * 3 / 2 + 1);
+    	double[] xs2 = new double[newCapacity];
+    	double[] ys2 = new double[newCapacity];
+    	System.arraycopy(xs, 0, xs2, 0, nVertices);
+    	System.arraycopy(ys, 0, ys2, 0, nVertices);
+    	xs = xs2;
+    	ys = ys2;
+    }
+
+    /**
+     * Clears the values computed from the vertices. Called each time the
+     * vertices are modified.
+     */
+    protected void invalidateCache() {
+    	lengthIndex = null;
+    	boundingBox = null;
+    }
+
+    private void checkIndex(int index) {
+    	if (index < 0 || index >= nVertices)
+    		throw new IndexOutOfBoundsException(
+    				"Index: " + index + ", Size: " + nVertices);
+    }
+
     // ===================================================================
     // Management of edges
 
@@ -209,9 +399,9 @@ implements CirculinearContinuousCurve2D {
     public abstract Collection<LineSegment2D> edges();
 
     public LineSegment2D firstEdge() {
-        if (vertices.size() < 2)
+        if (nVertices < 2)
             return null;
-        return new LineSegment2D(vertices.get(0), vertices.get(1));
+        return new LineSegment2D(xs[0], ys[0], xs[1], ys[1]);
     }
 
     public abstract LineSegment2D lastEdge();
@@ -224,67 +414,71 @@ implements CirculinearContinuousCurve2D {
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length()
 	 */
 	public double length() {
-		double sum = 0;
-		for(LineSegment2D edge : this.edges())
-			sum += edge.length();
-		return sum;
+		double[] index = lengthIndex();
+		return index[index.length - 1];
 	}
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#length(double)
 	 */
 	public double length(double pos) {
-		//init
-		double length = 0;
-		
-		// add length of each curve before current curve
-		int index = (int) Math.floor(pos);
-		for(int i=0; i<index; i++)
-			length += this.edge(i).length();
+		double[] index = lengthIndex();
+		int ne = index.length - 1;
+		if (ne == 0)
+			return 0;
 		
-		// add portion of length for last curve
-		if(index < vertices.size()-1) {
-			double pos2 = pos-index;
-			length += this.edge(index).length(pos2);
-		}
+		// find the edge containing the position
+		int i = (int) Math.floor(pos);
+		if (i >= ne)
+			return index[ne];
+		i = Math.max(i, 0);
 		
-		// return computed length
-		return length;
+		// add portion of length for the edge
+		return index[i] + edgeLength(i) * (pos - i);
 	}
 
 	/* (non-Javadoc)
 	 * @see math.geom2d.circulinear.CirculinearCurve2D#position(double)
 	 */
 	public double position(double length) {
+		double[] index = lengthIndex();
+		int ne = index.length - 1;
+		if (ne == 0 || length > index[ne])
+			return ne;
 		
-		// position to compute
-		double pos = 0;
-		
-		// index of current curve
-		int index = 0;
-		
-		// cumulative length
-		double cumLength = this.length(this.t0());
-		
-		// iterate on all curves
-		for(LineSegment2D edge : edges()) {
-			// length of current curve
-			double edgeLength = edge.length();
-			
-			// add either 2, or fraction of length
-			if(cumLength + edgeLength < length) {
-				cumLength += edgeLength;
-				index ++;
-			} else {
-				// add local position on current curve
-				double pos2 = edge.position(length - cumLength);
-				pos = index + pos2;
-				break;
-			}			
+		// binary search of the first edge whose end is after the length
+		int lo = 0, hi = ne - 1;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (index[mid + 1] < length)
+				lo = mid + 1;
+			else
+				hi = mid;
 		}
 		
-		// return the result
-		return pos;
+		// add local position on the edge
+		double edgeLength = index[lo + 1] - index[lo];
+		if (edgeLength == 0)
+			return lo;
+		return lo + (length - index[lo]) / edgeLength;
+	}
+
+	/**
+	 * Returns the curvilinear abscissa of the vertices at the extremities
+	 * of the edges, as an array with the number of edges plus one elements.
+	 * The array is computed at first call, and kept until the vertices are
+	 * modified. It must not be modified.
+	 */
+	protected double[] lengthIndex() {
+		double[] index = lengthIndex;
+		if (index == null) {
+			int ne = edgeNumber();
+			index = new double[ne + 1];
+			for (int i = 0; i < ne; i++)
+				index[i + 1] = index[i] + edgeLength(i);
+			lengthIndex = index;
+		}
+		return index;
 	}
 
 	/* (non-Javadoc)
@@ -294,9 +488,10 @@ implements CirculinearContinuousCurve2D {
 		BufferCalculator bc = BufferCalculator.getDefaultInstance();
 
 		// basic check to avoid degenerate cases
-		if (PointSets2D.hasMultipleVertices(this.vertices)) {
+		List<Point2D> vertices = new ArrayList<Point2D>(this.vertices());
+		if (PointSets2D.hasMultipleVertices(vertices)) {
 			Polyline2D poly2 = Polyline2D.create(
-					PointSets2D.filterMultipleVertices(this.vertices));
+					PointSets2D.filterMultipleVertices(vertices));
 			return bc.computeBuffer(poly2, dist);			
 		}
 		
@@ -402,17 +597,49 @@ implements CirculinearContinuousCurve2D {
     	return t0();
     }
 
+    /**
+     * Computes the point at the given position by interpolating the 
+     * coordinates of the vertices, without creating new objects. The 
+     * position is clamped between t0() and t1().
+     */
+    @Override
+    public void point(double t, double[] out) {
+		t = Math.max(Math.min(t, this.t1()), this.t0());
+
+		// index of vertex before point
+		int ind0 = (int) Math.floor(t + Shape2D.ACCURACY);
+		double tl = t - ind0;
+		if (ind0 == nVertices)
+			ind0 = 0;
+		if (ind0 < 0 || ind0 >= nVertices)
+			throw new IndexOutOfBoundsException("Index: " + ind0);
+		double x0 = xs[ind0];
+		double y0 = ys[ind0];
+
+		// check if equal to a vertex
+		if (Math.abs(tl) < Shape2D.ACCURACY) {
+			out[0] = x0;
+			out[1] = y0;
+			return;
+		}
+
+		// interpolate between the vertex and the next one
+		int ind1 = (ind0 + 1) % nVertices;
+		out[0] = x0 + tl * (xs[ind1] - x0);
+		out[1] = y0 + tl * (ys[ind1] - y0);
+    }
+
     /**
      * Returns the first point of the linear curve.
      */
     public Point2D firstPoint() {
-        if (vertices.size()==0)
+        if (nVertices == 0)
             return null;
-        return vertices.get(0);
+        return new Point2D(xs[0], ys[0]);
     }
 
     public Collection<Point2D> singularPoints() {
-        return vertices;
+        return vertices();
     }
 
     public boolean isSingular(double pos) {
@@ -427,24 +654,28 @@ implements CirculinearContinuousCurve2D {
      * @see math.geom2d.Curve2D#position(math.geom2d.Point2D)
      */
     public double position(Point2D point) {
-        int ind = 0;
+        int ind = -1;
         double dist, minDist = Double.POSITIVE_INFINITY;
         double x = point.x();
         double y = point.y();
 
-        int i = 0;
-        LineSegment2D closest = null;
-        for (LineSegment2D edge : this.edges()) {
-            dist = edge.distance(x, y);
+        int ne = this.edgeNumber();
+        for (int i = 0; i < ne; i++) {
+            dist = edgeDistance(i, x, y);
             if (dist < minDist) {
                 minDist = dist;
                 ind = i;
-                closest = edge;
             }
-            i++;
         }
-
-        return closest.position(point) + ind;
+        if (ind < 0)
+        	return Double.NaN;
+
+        // position on the closest edge, or NaN if outside of the edge
+        double pos = edgePosition(ind, x, y);
+        double eps = edgeLength(ind) * Shape2D.ACCURACY;
+        if (pos < -eps || pos > 1 + eps)
+        	return Double.NaN;
+        return pos + ind;
     }
 
     /*
@@ -472,6 +703,65 @@ implements CirculinearContinuousCurve2D {
         return list;
     }
 
+    /**
+     * Computes the intersections of each edge with the line, and appends 
+     * them to the buffer. Each point is added only once. This method does
+     * not create new objects for each edge.
+     */
+    @Override
+    public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+    	// extract origin and direction of the line
+    	Point2D origin = line.origin();
+    	Vector2D vect = line.direction();
+    	double x2 = origin.x();
+    	double y2 = origin.y();
+    	double dx2 = vect.x();
+    	double dy2 = vect.y();
+    	double norm2 = Math.hypot(dx2, dy2);
+
+    	int start = buffer.size();
+    	int ne = this.edgeNumber();
+    	for (int i = 0; i < ne; i++) {
+    		// extract current edge
+    		int i2 = (i + 1) % nVertices;
+    		double x1 = xs[i];
+    		double y1 = ys[i];
+    		double dx = xs[i2] - x1;
+    		double dy = ys[i2] - y1;
+
+        	// do not process edges parallel to intersection line
+    		double denom = dx * dy2 - dy * dx2;
+    		double norm = Math.hypot(dx, dy) * norm2;
+    		if (Math.abs(denom) < Shape2D.ACCURACY * Math.max(norm, 1))
+    			continue;
+
+    		// check the position of the intersection on the edge
+    		double t = ((y1 - y2) * dx2 - (x1 - x2) * dy2) / denom;
+    		if (t < -Shape2D.ACCURACY || t - 1 > Shape2D.ACCURACY)
+    			continue;
+    		double x = x1 + t * dx;
+    		double y = y1 + t * dy;
+    		if (!line.contains(x, y))
+    			continue;
+
+    		// add the point if it was not found with a previous edge
+    		if (!bufferContains(buffer, start, x, y))
+    			buffer.add(x, y);
+    	}
+
+    	return buffer.size() - start;
+    }
+
+    private static boolean bufferContains(PointBuffer2D buffer, int start,
+    		double x, double y) {
+    	for (int k = start; k < buffer.size(); k++) {
+    		if (EqualUtils.areEqual(buffer.x(k), x)
+    				&& EqualUtils.areEqual(buffer.y(k), y))
+    			return true;
+    	}
+    	return false;
+    }
+
     public Collection<? extends LinearCurve2D> continuousCurves() {
 		return wrapCurve(this);
 	}
@@ -487,14 +777,13 @@ implements CirculinearContinuousCurve2D {
         double y = point.y();
         double pos = Double.NaN;
 
-        int i = 0;
-        for (LineSegment2D edge : this.edges()) {
-            dist = edge.distance(x, y);
+        int ne = this.edgeNumber();
+        for (int i = 0; i < ne; i++) {
+            dist = edgeDistance(i, x, y);
             if (dist < minDist) {
                 minDist = dist;
-                pos = edge.project(point)+i;
+                pos = Math.max(0, Math.min(1, edgePosition(i, x, y))) + i;
             }
-            i++;
         }
 
         return pos;
@@ -511,10 +800,11 @@ implements CirculinearContinuousCurve2D {
      */
     public double distance(double x, double y) {
         double dist = Double.MAX_VALUE;
-        for (LineSegment2D edge : this.edges()) {
-        	if (edge.length()==0)
+        int ne = this.edgeNumber();
+        for (int i = 0; i < ne; i++) {
+        	if (edgeLength(i) == 0)
         		continue;
-            dist = Math.min(dist, edge.distance(x, y));
+            dist = Math.min(dist, edgeDistance(i, x, y));
         }
         return dist;
     }
@@ -532,7 +822,7 @@ implements CirculinearContinuousCurve2D {
      * Returns true if the polyline does not contain any point.
      */
     public boolean isEmpty() {
-        return vertices.size()==0;
+        return nVertices == 0;
     }
 
     /** Always returns true, because a linear curve is always bounded. */
@@ -541,21 +831,37 @@ implements CirculinearContinuousCurve2D {
     }
 
     /**
-     * Returns the bounding box of this linear curve.
+     * Returns the bounding box of this linear curve. The box is computed
+     * once, and kept until the vertices are modified.
      */
     public Box2D boundingBox() {
+    	if (boundingBox == null)
+    		boundingBox = computeBoundingBox();
+    	return boundingBox;
+    }
+    
+    /**
+     * Copies the bounds of the cached bounding box into the array.
+     */
+    @Override
+    public void boundingBox(double[] bounds) {
+    	Box2D box = this.boundingBox();
+    	bounds[0] = box.getMinX();
+    	bounds[1] = box.getMaxX();
+    	bounds[2] = box.getMinY();
+    	bounds[3] = box.getMaxY();
+    }
+
+    private Box2D computeBoundingBox() {
         double xmin = Double.MAX_VALUE;
         double ymin = Double.MAX_VALUE;
-        double xmax = Double.MIN_VALUE;
-        double ymax = Double.MIN_VALUE;
+        double xmax = -Double.MAX_VALUE;
+        double ymax = -Double.MAX_VALUE;
 
-        Iterator<Point2D> iter = vertices.iterator();
-        Point2D point;
         double x, y;
-        while (iter.hasNext()) {
-            point = iter.next();
-            x = point.x();
-            y = point.y();
+        for (int i = 0; i < nVertices; i++) {
+            x = xs[i];
+            y = ys[i];
             xmin = Math.min(xmin, x);
             xmax = Math.max(xmax, x);
             ymin = Math.min(ymin, y);
@@ -571,11 +877,22 @@ implements CirculinearContinuousCurve2D {
      * @see java.awt.Shape#contains(double, double)
      */
     public boolean contains(double x, double y) {
-        for (LineSegment2D edge : this.edges()) {
-        	if (edge.length()==0)
+        int ne = this.edgeNumber();
+        for (int i = 0; i < ne; i++) {
+        	double len = edgeLength(i);
+        	if (len == 0)
         		continue;
-            if (edge.contains(x, y))
-                return true;
+        	
+        	// distance to supporting line, and position on edge
+        	int i2 = i + 1 == nVertices ? 0 : i + 1;
+        	double dx = xs[i2] - xs[i];
+        	double dy = ys[i2] - ys[i];
+        	double cross = (x - xs[i]) * dy - (y - ys[i]) * dx;
+        	if (Math.abs(cross) / len >= Shape2D.ACCURACY)
+        		continue;
+        	double pos = edgePosition(i, x, y);
+        	if (pos >= -Shape2D.ACCURACY && pos - 1 <= Shape2D.ACCURACY)
+        		return true;
         }
         return false;
     }
@@ -616,7 +933,7 @@ implements CirculinearContinuousCurve2D {
      */
     public java.awt.geom.GeneralPath asGeneralPath() {
         java.awt.geom.GeneralPath path = new java.awt.geom.GeneralPath();
-        if (vertices.size() < 2)
+        if (nVertices < 2)
             return path;
         return this.appendPath(path);
     }
@@ -625,4 +942,104 @@ implements CirculinearContinuousCurve2D {
     	g2.draw(this.asGeneralPath());
     }
 
+    
+    // ===================================================================
+    // Computations on edges, using coordinate arrays
+
+    /**
+     * Returns the length of the i-th edge.
+     */
+    protected double edgeLength(int i) {
+    	int i2 = i + 1 == nVertices ? 0 : i + 1;
+    	return Math.hypot(xs[i2] - xs[i], ys[i2] - ys[i]);
+    }
+
+    /**
+     * Returns the position of the projection of the point (x, y) on the line
+     * supporting the i-th edge. The result is 0 for degenerated edges.
+     */
+    protected double edgePosition(int i, double x, double y) {
+    	int i2 = i + 1 == nVertices ? 0 : i + 1;
+    	double x1 = xs[i];
+    	double y1 = ys[i];
+    	double dx = xs[i2] - x1;
+    	double dy = ys[i2] - y1;
+    	double denom = dx * dx + dy * dy;
+    	if (denom == 0)
+    		return 0;
+    	return ((x - x1) * dx + (y - y1) * dy) / denom;
+    }
+
+    /**
+     * Returns the distance between the point (x, y) and the i-th edge.
+     */
+    protected double edgeDistance(int i, double x, double y) {
+    	int i2 = i + 1 == nVertices ? 0 : i + 1;
+    	double t = Math.max(0, Math.min(1, edgePosition(i, x, y)));
+    	double x1 = xs[i];
+    	double y1 = ys[i];
+    	return Math.hypot(x1 + t * (xs[i2] - x1) - x, y1 + t * (ys[i2] - y1) - y);
+    }
+
+
+    // ===================================================================
+    // Views on vertices and edges
+
+    /**
+     * A modifiable view on the vertices of the curve.
+     */
+    private class VertexList extends AbstractList<Point2D> {
+    	
+		@Override
+		public Point2D get(int index) {
+			return vertex(index);
+		}
+
+		@Override
+		public int size() {
+			return nVertices;
+		}
+
+		@Override
+		public Point2D set(int index, Point2D point) {
+			Point2D previous = vertex(index);
+			setVertex(index, point);
+			return previous;
+		}
+
+		@Override
+		public void add(int index, Point2D point) {
+			insertVertex(index, point);
+		}
+
+		@Override
+		public Point2D remove(int index) {
+			return removeVertex(index);
+		}
+
+		@Override
+		public void clear() {
+			clearVertices();
+		}
+    }
+
+    /**
+     * A view on the edges of the curve, that creates the edges when they are
+     * accessed. The size of the view is the number of edges.
+     */
+    protected class EdgeList extends AbstractList<LineSegment2D> {
+    	
+		@Override
+		public LineSegment2D get(int index) {
+			if (index < 0 || index >= size())
+	    		throw new IndexOutOfBoundsException(
+	    				"Index: " + index + ", Size: " + size());
+			return edge(index);
+		}
+
+		@Override
+		public int size() {
+			return edgeNumber();
+		}
+    }
 }
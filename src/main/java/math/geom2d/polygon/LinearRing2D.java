@@ -31,13 +31,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
 import math.geom2d.GeometricObject2D;
 import math.geom2d.Point2D;
+import math.geom2d.Predicates2D;
 import math.geom2d.Shape2D;
 import math.geom2d.circulinear.*;
 import math.geom2d.circulinear.buffer.BufferCalculator;
+import math.geom2d.curve.CurveSet2D;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.transform.CircleInversion2D;
+import math.utils.EqualUtils;
 
 /**
  * <p>
@@ -74,6 +78,16 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
     }
     
 
+    // ===================================================================
+    // class variables
+    
+    /** 
+     * The signed area of the ring, computed when needed, or NaN if the
+     * vertices were modified since last computation.
+     */
+    private double area = Double.NaN;
+    
+
     // ===================================================================
     // Constructors
     
@@ -98,7 +112,7 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
     }
 
     public LinearRing2D(LinearCurve2D lineString) {
-    	super(lineString.vertices);
+    	super(lineString);
     }
     
     // ===================================================================
@@ -109,25 +123,47 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * <a href="http://local.wasp.uwa.edu.au/~pbourke/geometry/polyarea/">
      * http://local.wasp.uwa.edu.au/~pbourke/geometry/polyarea/</a>. Signed are
      * is positive if polyline is oriented counter-clockwise, and negative
-     * otherwise. Result is wrong if polyline is self-intersecting.
+     * otherwise. Result is wrong if polyline is self-intersecting. The area
+     * is computed once, and kept until the vertices are modified.
      * 
      * @return the signed area of the polyline.
      */
 	public double area() {
+		if (Double.isNaN(area))
+			area = computeArea();
+		return area;
+	}
+	
+	private double computeArea() {
+		int n = nVertices;
+		if (n == 0)
+			throw new IndexOutOfBoundsException("Index: -1");
+		
 		// start from edge joining last and first vertices
-		Point2D prev = this.vertices.get(this.vertices.size() - 1);
+		double xPrev = xs[n - 1];
+		double yPrev = ys[n - 1];
 
 		// Iterate over all couples of adjacent vertices
 		double area = 0;
-		for (Point2D point : this.vertices) {
+		for (int i = 0; i < n; i++) {
 			// add area of elementary parallelogram
-			area += prev.x() * point.y() - prev.y() * point.x();
-			prev = point;
+			area += xPrev * ys[i] - yPrev * xs[i];
+			xPrev = xs[i];
+			yPrev = ys[i];
 		}
 		
 		// divides by 2 to consider only elementary triangles
 		return area /= 2;
 	}
+	
+	/**
+	 * Clears the values computed from the vertices, including the area.
+	 */
+	@Override
+	protected void invalidateCache() {
+		super.invalidateCache();
+		area = Double.NaN;
+	}
 
     // ===================================================================
     // Methods specific to LinearCurve2D
@@ -137,51 +173,64 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 	 * Douglas-Peucker algorithm.
 	 */
 	public LinearRing2D simplify(double distMax) {
-		return new LinearRing2D(Polylines2D.simplifyClosedPolyline(this.vertices, distMax));
+		return simplify(Simplification.DOUGLAS_PEUCKER, distMax);
 	}
 
 	/**
-     * Returns an array of LineSegment2D. The number of edges is the same as
-     * the number of vertices.
+	 * Returns a simplified version of this linear ring, by using the
+	 * specified algorithm. The first vertex of the ring is kept.
+	 */
+	public LinearRing2D simplify(Simplification method, double tolerance) {
+		int[] inds = simplifiedIndices(method, tolerance);
+		return copyVertices(inds, new LinearRing2D(inds.length));
+	}
+
+	/**
+	 * Returns a simplified version of this linear ring with at most the
+	 * specified number of vertices. The first vertex of the ring is kept.
+	 */
+	public LinearRing2D simplifyToVertexNumber(Simplification method,
+			int vertexNumber) {
+		int[] inds = simplifiedIndicesToVertexNumber(method, vertexNumber);
+		return copyVertices(inds, new LinearRing2D(inds.length));
+	}
+
+	/**
+     * Returns the collection of edges, as a view on the vertices of the 
+     * ring. The number of edges is the same as the number of vertices.
      * 
      * @return the edges of the polyline
      */
     @Override
 	public Collection<LineSegment2D> edges() {
-		// create resulting array
-		int n = vertices.size();
-		ArrayList<LineSegment2D> edges = new ArrayList<LineSegment2D>(n);
-
-		// do not process empty polylines
-		if (n < 2)
-			return edges;
-
-		// create one edge for each couple of vertices
-		for (int i = 0; i < n - 1; i++)
-			edges.add(new LineSegment2D(vertices.get(i), vertices.get(i + 1)));
-
-		// add a supplementary edge at the end, but only if vertices differ
-		Point2D p0 = vertices.get(0);
-		Point2D pn = vertices.get(n - 1);
-		
-		// TODO: should not make the test...
-		if (pn.distance(p0) > Shape2D.ACCURACY)
-			edges.add(new LineSegment2D(pn, p0));
-
-		// return resulting array
-		return edges;
+		return new EdgeList() {
+			@Override
+			public int size() {
+				// do not process empty polylines
+				int n = nVertices;
+				if (n < 2)
+					return 0;
+				
+				// the closing edge is used only if vertices differ
+				// TODO: should not make the test...
+				double dist = Math.hypot(xs[n - 1] - xs[0], ys[n - 1] - ys[0]);
+				return dist > Shape2D.ACCURACY ? n : n - 1;
+			}
+		};
 	}
 
     public int edgeNumber() {
-    	int n = vertices.size(); 
+    	int n = nVertices; 
     	if (n > 1) 
     		return n;
     	return 0;
     }
     
     public LineSegment2D edge(int index) {
-    	int i2 = (index + 1) % vertices.size();
-    	return new LineSegment2D(vertices.get(index), vertices.get(i2));
+    	if (index < 0 || index >= nVertices)
+    		throw new IndexOutOfBoundsException("Index: " + index);
+    	int i2 = (index + 1) % nVertices;
+    	return new LineSegment2D(xs[index], ys[index], xs[i2], ys[i2]);
     }
 
     /**
@@ -189,10 +238,10 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * last vertex with the first one.
      */
     public LineSegment2D lastEdge() {
-		int n = vertices.size();
+		int n = nVertices;
 		if (n < 2)
 			return null;
-		return new LineSegment2D(vertices.get(n-1), vertices.get(0));
+		return new LineSegment2D(xs[n-1], ys[n-1], xs[0], ys[0]);
     }
 
 	// ===================================================================
@@ -243,7 +292,7 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * @see math.geom2d.OrientedCurve2D#windingAngle(Point2D)
      */
     public double windingAngle(Point2D point) {
-        int wn = Polygons2D.windingNumber(this.vertices, point);
+        int wn = windingNumber(point.x(), point.y());
         return wn * 2 * Math.PI;
     }
 
@@ -262,7 +311,7 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
     		return true;
     	
     	double area = this.area();
-    	int winding = Polygons2D.windingNumber(this.vertices, point);
+    	int winding = windingNumber(point.x(), point.y());
     	if (area > 0) {
     		return winding == 1;
     	} else {
@@ -271,6 +320,42 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 
     }
 
+    /**
+     * Computes the winding number of the ring around the point (x, y).
+     * @see Polygons2D#windingNumber(Collection, Point2D)
+     */
+    int windingNumber(double x, double y) {
+    	int n = nVertices;
+    	if (n == 0)
+    		throw new IndexOutOfBoundsException("Index: -1");
+    	
+        int wn = 0;
+        
+        // Iterate on couple of vertices, starting from couple (last,first)
+        double x1 = xs[n - 1];
+        double y1 = ys[n - 1];
+        for (int i = 0; i < n; i++) {
+            double x2 = xs[i];
+            double y2 = ys[i];
+            
+            // position of point with respect to edge, computed only for
+            // edges crossing the horizontal line
+			if (y1 <= y) {
+				if (y2 > y && Predicates2D.orient2d(x1, y1, x2, y2, x, y) > 0)
+					wn++; // an upward crossing
+			} else {
+				if (y2 <= y && Predicates2D.orient2d(x1, y1, x2, y2, x, y) < 0)
+					wn--; // a downward crossing
+			}
+
+            // for next iteration
+            x1 = x2;
+            y1 = y2;
+        }
+        
+        return wn;
+    }
+
     // ===================================================================
     // Methods inherited from interface ContinuousCurve2D
 
@@ -294,7 +379,7 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 		double t1 = this.t1();
 		t = Math.max(Math.min(t, t1), t0);
 
-		int n = vertices.size();
+		int n = nVertices;
 
 		// index of vertex before point
 		int ind0 = (int) Math.floor(t + Shape2D.ACCURACY);
@@ -302,23 +387,23 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 
 		if (ind0 == n)
 			ind0 = 0;
-		Point2D p0 = vertices.get(ind0);
+		if (ind0 < 0 || ind0 >= n)
+			throw new IndexOutOfBoundsException("Index: " + ind0);
+		double x0 = xs[ind0];
+		double y0 = ys[ind0];
 
 		// check if equal to a vertex
 		if (Math.abs(t - ind0) < Shape2D.ACCURACY)
-			return p0;
+			return new Point2D(x0, y0);
 
 		// index of vertex after point
 		int ind1 = ind0 + 1;
 		if (ind1 == n)
 			ind1 = 0;
-		Point2D p1 = vertices.get(ind1);
 
 		// position on line;
-		double x0 = p0.x();
-		double y0 = p0.y();
-		double dx = p1.x() - x0;
-		double dy = p1.y() - y0;
+		double dx = xs[ind1] - x0;
+		double dy = ys[ind1] - y0;
 
 		return new Point2D(x0 + tl * dx, y0 + tl *dy);
     }
@@ -327,7 +412,7 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      * Returns the number of points in the linear ring.
      */
     public double t1() {
-        return vertices.size();
+        return nVertices;
     }
 
     /**
@@ -343,9 +428,9 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      */
     @Override
 	public Point2D lastPoint() {
-		if (vertices.size() == 0)
+		if (nVertices == 0)
 			return null;
-        return vertices.get(0);
+        return new Point2D(xs[0], ys[0]);
     }
 
 	@Override
@@ -355,19 +440,18 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 
     /**
      * Returns the linear ring with same points taken in reverse order. The
-     * first points is still the same. Points of reverse curve are the same as
-     * the original curve (same references).
+     * first points is still the same.
      */
     public LinearRing2D reverse() {
-		Point2D[] points2 = new Point2D[vertices.size()];
-		int n = vertices.size();
+		int n = nVertices;
+		LinearRing2D res = new LinearRing2D(n);
 		if (n > 0)
-			points2[0] = vertices.get(0);
+			res.appendVertex(xs[0], ys[0]);
 		
 		for (int i = 1; i < n; i++)
-			points2[i] = vertices.get(n - i);
+			res.appendVertex(xs[n - i], ys[n - i]);
 
-		return new LinearRing2D(points2);
+		return res;
     }
 
     /**
@@ -405,15 +489,15 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 		if (ind1 > ind0) {
 			// add all the whole points between the 2 cuts
 			for (int n = ind0 + 1; n <= ind1; n++)
-				res.addVertex(vertices.get(n));
+				res.appendVertex(xs[n], ys[n]);
 		} else {
 			// add all points until the end of the set
 			for (int n = ind0 + 1; n < indMax; n++)
-				res.addVertex(vertices.get(n));
+				res.appendVertex(xs[n], ys[n]);
 
 			// add all points from the beginning of the set
 			for (int n = 0; n <= ind1; n++)
-				res.addVertex(vertices.get(n));
+				res.appendVertex(xs[n], ys[n]);
 		}
 
 		// add the last point
@@ -426,14 +510,27 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
     // ===================================================================
     // Methods inherited from interface Shape2D
 
+    /**
+     * Clips the ring by a box. The result is an instance of CurveSet2D,
+     * which contains either the ring itself if it is totally inside the box,
+     * or the open polylines located inside the box.
+     * 
+     * @see Polylines2D#clipLinearRing(LinearRing2D, Box2D)
+     */
+    @Override
+    public CurveSet2D<? extends LinearCurve2D> clip(Box2D box) {
+    	return Polylines2D.clipLinearRing(this, box);
+    }
+
     /**
      * Returns the transformed shape, as a LinerRing2D.
      */
     public LinearRing2D transform(AffineTransform2D trans) {
-		Point2D[] pts = new Point2D[vertices.size()];
-		for (int i = 0; i < vertices.size(); i++)
-			pts[i] = trans.transform(vertices.get(i));
-		return new LinearRing2D(pts);
+    	int n = nVertices;
+    	LinearRing2D res = new LinearRing2D(n);
+    	trans.transform(xs, ys, res.xs, res.ys, n);
+    	res.nVertices = n;
+		return res;
 	}
 
     /*
@@ -443,17 +540,16 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
      */
     public java.awt.geom.GeneralPath appendPath(java.awt.geom.GeneralPath path) {
 
-        if (vertices.size()<2)
+        if (nVertices < 2)
             return path;
 
         // move to last first point of the curve (then a line will be drawn to
         // the first point)
-        Point2D p0 = this.lastPoint();
-        path.moveTo((float) p0.x(), (float) p0.y());
+        path.moveTo((float) xs[0], (float) ys[0]);
         
         // process each point
-        for(Point2D point : vertices)
-            path.lineTo((float) point.x(), (float) point.y());
+        for (int i = 0; i < nVertices; i++)
+            path.lineTo((float) xs[i], (float) ys[i]);
         
         // close the path, even if the path is already at the right position
         path.closePath();
@@ -476,12 +572,15 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
             return false;
         LinearRing2D ring = (LinearRing2D) obj;
 
-        if (vertices.size() != ring.vertices.size())
+        if (nVertices != ring.nVertices)
             return false;
         
-        for (int i = 0; i < vertices.size(); i++)
-            if (!(vertices.get(i)).almostEquals(ring.vertices.get(i), eps))
-                return false;
+        for (int i = 0; i < nVertices; i++) {
+        	if (Math.abs(xs[i] - ring.xs[i]) > eps)
+        		return false;
+        	if (Math.abs(ys[i] - ring.ys[i]) > eps)
+        		return false;
+        }
         return true;
     }
 
@@ -491,11 +590,14 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 			return false;
 		LinearRing2D ring = (LinearRing2D) object;
 
-		if (vertices.size() != ring.vertices.size())
+		if (nVertices != ring.nVertices)
 			return false;
-		for (int i = 0; i < vertices.size(); i++)
-			if (!(vertices.get(i)).equals(ring.vertices.get(i)))
+		for (int i = 0; i < nVertices; i++) {
+			if (!EqualUtils.areEqual(xs[i], ring.xs[i]))
 				return false;
+			if (!EqualUtils.areEqual(ys[i], ring.ys[i]))
+				return false;
+		}
 		return true;
     }
     
@@ -509,9 +611,6 @@ public class LinearRing2D extends LinearCurve2D implements CirculinearRing2D {
 	@Deprecated
     @Override
 	public LinearRing2D clone() {
-		ArrayList<Point2D> array = new ArrayList<Point2D>(vertices.size());
-		for (Point2D point : vertices)
-			array.add(point);
-		return new LinearRing2D(array);
+		return new LinearRing2D(this);
     }
 }
@@ -0,0 +1,1339 @@
+/**
+ * File: 	MartinezRueda2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import math.geom2d.Point2D;
+import math.geom2d.Predicates2D;
+
+/**
+ * Boolean operations on polygons, using the sweep-line algorithm of Martinez,
+ * Rueda and Feito (2009, 2013).<p>
+ * Polygon edges are processed from left to right. Edges crossing the sweep
+ * line are kept ordered, and each new edge is compared only with its
+ * neighbors for computing intersections. Each edge is subdivided at
+ * intersection points, and the position of each resulting sub-edge with
+ * respect to the other polygon is deduced from the edge located just below.
+ * The edges belonging to the result are finally connected into rings. The
+ * complexity is O((n+k) log n), where n is the number of edges and k the
+ * number of intersections.<p>
+ * Polygons are interpreted with the even-odd rule, and may contain holes.
+ * Resulting outer rings are oriented counter-clockwise, and holes are
+ * oriented clockwise. Collinear vertices are removed from the result.<p>
+ * The union of a collection of polygons is computed by merging the polygons
+ * two by two along a balanced tree, after sorting them along a space-filling
+ * curve. Intermediate results are kept as coordinate arrays, such that
+ * javaGeom objects are created only for the final polygon.
+ *
+ * <pre><code>
+ * Polygon2D union = MartinezRueda2D.union(polygon1, polygon2);
+ * Polygon2D merged = MartinezRueda2D.union(parcels);
+ * </code></pre>
+ *
+ * @author dlegland
+ *
+ */
+public class MartinezRueda2D {
+
+    // ===================================================================
+    // inner types
+
+    /**
+     * The boolean operations that can be computed.
+     */
+    public enum Operation {
+        UNION, INTERSECTION, DIFFERENCE, EXCLUSIVE_OR
+    }
+
+    /**
+     * The relative tolerance used to snap intersections to end points, and
+     * to detect vertices located on edges or aligned edges. This makes
+     * T-junctions detected even when the edge was already split at a rounded
+     * point, or when the vertices were transformed.
+     */
+    private final static double SNAP_TOLERANCE = 1e-10;
+
+    /** Edge types, used for managing overlapping edges */
+    private final static int NORMAL = 0;
+    private final static int NON_CONTRIBUTING = 1;
+    private final static int SAME_TRANSITION = 2;
+    private final static int DIFFERENT_TRANSITION = 3;
+
+    /**
+     * An end point of an edge. Left events correspond to the left end point
+     * of the edge, and store the information about the edge.
+     */
+    private final static class SweepEvent {
+        /** The coordinates of the event */
+        double x, y;
+
+        /** True if the event is the left end point of the edge */
+        boolean left;
+
+        /** The event associated to the other end point of the edge */
+        SweepEvent other;
+
+        /** True if the edge belongs to the subject polygon */
+        boolean subject;
+
+        /** The index of the contour the edge belongs to */
+        int contourId;
+
+        /** A unique identifier, for sorting coincident edges */
+        int id;
+
+        /** One of NORMAL, NON_CONTRIBUTING, SAME_TRANSITION... */
+        int type = NORMAL;
+
+        /** True if the edge is an inside-outside transition of its polygon */
+        boolean inOut;
+
+        /** True if the edge is outside the other polygon */
+        boolean otherInOut;
+
+        /** The closest edge below in the result, or null */
+        SweepEvent prevInResult;
+
+        /**
+         * Equals to 1 if the region above the edge belongs to the result, -1
+         * if the region below belongs to the result, and 0 if the edge does
+         * not belong to the result.
+         */
+        int resultTransition;
+
+        /** The index of the contour in the result */
+        int outputContourId = -1;
+
+        /** Position of the other event within the result events */
+        int otherPos = -1;
+
+        SweepEvent(double x, double y, boolean left, SweepEvent other,
+                boolean subject, int id) {
+            this.x = x;
+            this.y = y;
+            this.left = left;
+            this.other = other;
+            this.subject = subject;
+            this.id = id;
+        }
+
+        /**
+         * Returns true if the edge associated to this event is below the
+         * point (px, py).
+         */
+        boolean isBelow(double px, double py) {
+            if (left)
+                return signedArea(x, y, other.x, other.y, px, py) > 0;
+            return signedArea(other.x, other.y, x, y, px, py) > 0;
+        }
+
+        boolean isVertical() {
+            return x == other.x;
+        }
+
+        boolean inResult() {
+            return resultTransition != 0;
+        }
+
+        boolean samePoint(SweepEvent event) {
+            return x == event.x && y == event.y;
+        }
+    }
+
+    /**
+     * A contour of the result, with the index of the outer contour when the
+     * contour is a hole.
+     */
+    private final static class Contour {
+        double[] coords = new double[16];
+        int size = 0;
+        int holeOf = -1;
+        List<Integer> holeIds = new ArrayList<Integer>(0);
+
+        void add(double x, double y) {
+            if (2 * size + 2 > coords.length)
+                coords = Arrays.copyOf(coords, coords.length * 2);
+            coords[2 * size] = x;
+            coords[2 * size + 1] = y;
+            size++;
+        }
+    }
+
+    /**
+     * Order of events in the event queue: from left to right, then from
+     * bottom to top. Right events are processed before left events.
+     */
+    private final static Comparator<SweepEvent> eventComparator =
+        new Comparator<SweepEvent>() {
+        public int compare(SweepEvent e1, SweepEvent e2) {
+            return compareEvents(e1, e2);
+        }
+    };
+
+    /**
+     * Order of edges along the sweep line, from bottom to top.
+     */
+    private final static Comparator<SweepEvent> segmentComparator =
+        new Comparator<SweepEvent>() {
+        public int compare(SweepEvent e1, SweepEvent e2) {
+            return compareSegments(e1, e2);
+        }
+    };
+
+    /** The number of parts below which union is computed sequentially */
+    private final static int UNION_GROUP_SIZE = 64;
+
+    /** The pool for parallel unions, created when needed */
+    private static ForkJoinPool defaultPool = null;
+
+    /**
+     * Computes the union of a range of parts, by splitting the range into
+     * two halves computed in parallel, and merging the results.
+     */
+    private final static class UnionTask extends RecursiveTask<List<double[]>> {
+        private static final long serialVersionUID = 1L;
+
+        final List<List<double[]>> parts;
+        final int start, end;
+
+        UnionTask(List<List<double[]>> parts, int start, int end) {
+            this.parts = parts;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected List<double[]> compute() {
+            if (end - start <= UNION_GROUP_SIZE)
+                return cascadedUnion(parts.subList(start, end));
+
+            int mid = (start + end) >>> 1;
+            UnionTask left = new UnionTask(parts, start, mid);
+            left.fork();
+            List<double[]> right = new UnionTask(parts, mid, end).compute();
+            return MartinezRueda2D.compute(left.join(), right,
+                    Operation.UNION);
+        }
+    }
+
+    // ===================================================================
+    // static methods
+
+    /**
+     * Computes the union of the two polygons.
+     */
+    public static Polygon2D union(Polygon2D polygon1, Polygon2D polygon2) {
+        return compute(polygon1, polygon2, Operation.UNION);
+    }
+
+    /**
+     * Computes the intersection of the two polygons.
+     */
+    public static Polygon2D intersection(Polygon2D polygon1,
+            Polygon2D polygon2) {
+        return compute(polygon1, polygon2, Operation.INTERSECTION);
+    }
+
+    /**
+     * Computes the difference of the two polygons, that is the region of
+     * the first polygon that does not belong to the second one.
+     */
+    public static Polygon2D difference(Polygon2D polygon1,
+            Polygon2D polygon2) {
+        return compute(polygon1, polygon2, Operation.DIFFERENCE);
+    }
+
+    /**
+     * Computes the exclusive or of the two polygons.
+     */
+    public static Polygon2D exclusiveOr(Polygon2D polygon1,
+            Polygon2D polygon2) {
+        return compute(polygon1, polygon2, Operation.EXCLUSIVE_OR);
+    }
+
+    /**
+     * Computes the given boolean operation on the two polygons. The result
+     * is a SimplePolygon2D if it is composed of a single ring, and a
+     * MultiPolygon2D otherwise.
+     */
+    public static Polygon2D compute(Polygon2D subject, Polygon2D clipping,
+            Operation operation) {
+        return createPolygon(compute(convertPolygon(subject),
+                convertPolygon(clipping), operation));
+    }
+
+    /**
+     * Computes the union of all the polygons within the collection. Polygons
+     * are sorted along a Z-order curve, such that neighbor polygons are
+     * merged first, and are merged two by two until only one remains.
+     */
+    public static Polygon2D union(Collection<? extends Polygon2D> polygons) {
+        List<List<double[]>> parts = new ArrayList<List<double[]>>(
+                polygons.size());
+        for (Polygon2D polygon : polygons)
+            parts.add(convertPolygon(polygon));
+        return createPolygon(union(parts));
+    }
+
+    /**
+     * Computes the boolean operation on two polygons given as lists of
+     * rings. Each ring is stored as an array of interleaved coordinates
+     * {x0, y0, x1, y1, ...}, without repetition of the first vertex.
+     */
+    static List<double[]> compute(List<double[]> subject,
+            List<double[]> clipping, Operation operation) {
+        return new MartinezRueda2D(operation).process(subject, clipping);
+    }
+
+    /**
+     * Computes the union of polygons given as lists of rings, using a
+     * cascaded union. The list of parts is not modified.
+     */
+    static List<double[]> union(List<List<double[]>> parts) {
+        if (parts.isEmpty())
+            return new ArrayList<double[]>(0);
+
+        // merge neighbor polygons first
+        return cascadedUnion(sortParts(parts));
+    }
+
+    /**
+     * Computes the union of polygons given as lists of rings, by splitting
+     * the parts sorted along a Z-order curve into spatially coherent groups.
+     * The groups are merged along a fork-join tree executed by the pool.
+     */
+    static List<double[]> union(List<List<double[]>> parts, ForkJoinPool pool) {
+        if (parts.isEmpty())
+            return new ArrayList<double[]>(0);
+        return pool.invoke(new UnionTask(sortParts(parts), 0, parts.size()));
+    }
+
+    /**
+     * Returns the pool used for parallel unions when no pool is specified.
+     * The pool is created at first call, with one thread per processor.
+     */
+    static synchronized ForkJoinPool defaultPool() {
+        if (defaultPool == null)
+            defaultPool = new ForkJoinPool();
+        return defaultPool;
+    }
+
+    /**
+     * Merges the parts two by two, keeping the order of the list, until only
+     * one polygon remains.
+     */
+    private static List<double[]> cascadedUnion(List<List<double[]>> parts) {
+        List<List<double[]>> current = parts;
+        while (current.size() > 1) {
+            int n = current.size();
+            List<List<double[]>> next = new ArrayList<List<double[]>>(
+                    (n + 1) / 2);
+            for (int i = 0; i < n; i += 2) {
+                if (i + 1 < n)
+                    next.add(compute(current.get(i), current.get(i + 1),
+                            Operation.UNION));
+                else
+                    next.add(current.get(i));
+            }
+            current = next;
+        }
+        return current.get(0);
+    }
+
+    /**
+     * Sorts the parts along a Z-order curve computed on the centers of their
+     * bounding boxes.
+     */
+    static List<List<double[]>> sortParts(List<List<double[]>> parts) {
+        int n = parts.size();
+
+        // compute center of each part, and global bounds
+        final double[] xc = new double[n];
+        final double[] yc = new double[n];
+        double xmin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double[] box = bounds(parts.get(i));
+            xc[i] = box[0] <= box[1] ? (box[0] + box[1]) / 2 : 0;
+            yc[i] = box[2] <= box[3] ? (box[2] + box[3]) / 2 : 0;
+            xmin = Math.min(xmin, xc[i]);
+            xmax = Math.max(xmax, xc[i]);
+            ymin = Math.min(ymin, yc[i]);
+            ymax = Math.max(ymax, yc[i]);
+        }
+
+        // compute Z-order code of each center, using 16 bits per coordinate
+        double sx = xmax > xmin ? 65535 / (xmax - xmin) : 0;
+        double sy = ymax > ymin ? 65535 / (ymax - ymin) : 0;
+        final long[] codes = new long[n];
+        for (int i = 0; i < n; i++) {
+            int qx = (int) ((xc[i] - xmin) * sx);
+            int qy = (int) ((yc[i] - ymin) * sy);
+            codes[i] = spreadBits(qx) | (spreadBits(qy) << 1);
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer i1, Integer i2) {
+                return codes[i1] < codes[i2] ? -1
+                        : (codes[i1] > codes[i2] ? 1 : 0);
+            }
+        });
+
+        List<List<double[]>> result = new ArrayList<List<double[]>>(n);
+        for (int i = 0; i < n; i++)
+            result.add(parts.get(order[i]));
+        return result;
+    }
+
+    /**
+     * Inserts a zero bit between each of the 16 lowest bits of the integer.
+     */
+    private static long spreadBits(int value) {
+        long v = value & 0xFFFFL;
+        v = (v | (v << 8)) & 0x00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0FL;
+        v = (v | (v << 2)) & 0x33333333L;
+        v = (v | (v << 1)) & 0x55555555L;
+        return v;
+    }
+
+    /**
+     * Converts the contours of a polygon into arrays of interleaved
+     * coordinates. Rings with less than three vertices are ignored. The
+     * rings are oriented as in the results of the sweep, such that results
+     * of trivial cases can reuse them directly.
+     */
+    static List<double[]> convertPolygon(Polygon2D polygon) {
+        Collection<? extends LinearRing2D> contours = polygon.contours();
+        List<double[]> rings = new ArrayList<double[]>(contours.size());
+        for (LinearRing2D ring : contours) {
+            int n = ring.vertexNumber();
+            if (n < 3)
+                continue;
+            double[] coords = new double[2 * n];
+            int i = 0;
+            for (Point2D vertex : ring.vertices()) {
+                coords[i++] = vertex.x();
+                coords[i++] = vertex.y();
+            }
+            rings.add(coords);
+        }
+        orientRings(rings);
+        return rings;
+    }
+
+    /**
+     * Orients the rings such that outer rings are counter-clockwise and
+     * holes are clockwise. Following the even-odd rule, a ring is a hole if
+     * its first vertex lies within an odd number of other rings.
+     */
+    private static void orientRings(List<double[]> rings) {
+        int n = rings.size();
+        double[][] boxes = new double[n][];
+        for (int i = 0; i < n; i++)
+            boxes[i] = bounds(rings.subList(i, i + 1));
+
+        for (int i = 0; i < n; i++) {
+            double[] ring = rings.get(i);
+            double x = ring[0];
+            double y = ring[1];
+            boolean hole = false;
+            for (int j = 0; j < n; j++) {
+                double[] box = boxes[j];
+                if (j == i || x < box[0] || x > box[1] || y < box[2]
+                        || y > box[3])
+                    continue;
+                if (ringContains(rings.get(j), x, y))
+                    hole = !hole;
+            }
+
+            double area = 0;
+            int nv = ring.length / 2;
+            for (int k = 0; k < nv; k++) {
+                int k2 = (k + 1) % nv;
+                area += ring[2 * k] * ring[2 * k2 + 1]
+                        - ring[2 * k2] * ring[2 * k + 1];
+            }
+            if (area != 0 && (area > 0) == hole)
+                reverseRing(ring);
+        }
+    }
+
+    /**
+     * Checks if the point is inside the ring, using the even-odd rule.
+     */
+    private static boolean ringContains(double[] ring, double x, double y) {
+        boolean inside = false;
+        int n = ring.length / 2;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double xi = ring[2 * i], yi = ring[2 * i + 1];
+            double xj = ring[2 * j], yj = ring[2 * j + 1];
+            if ((yi > y) != (yj > y)
+                    && x < (xj - xi) * (y - yi) / (yj - yi) + xi)
+                inside = !inside;
+        }
+        return inside;
+    }
+
+    /**
+     * Reverses the order of the vertices of the ring, in place.
+     */
+    private static void reverseRing(double[] ring) {
+        int n = ring.length / 2;
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            double x = ring[2 * i];
+            double y = ring[2 * i + 1];
+            ring[2 * i] = ring[2 * j];
+            ring[2 * i + 1] = ring[2 * j + 1];
+            ring[2 * j] = x;
+            ring[2 * j + 1] = y;
+        }
+    }
+
+    /**
+     * Creates a polygon from a list of rings. The result is a SimplePolygon2D
+     * if there is only one ring, and a MultiPolygon2D otherwise.
+     */
+    static Polygon2D createPolygon(List<double[]> rings) {
+        if (rings.size() == 1)
+            return SimplePolygon2D.create(convertRing(rings.get(0)));
+
+        LinearRing2D[] array = new LinearRing2D[rings.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = LinearRing2D.create(convertRing(rings.get(i)));
+        return MultiPolygon2D.create(array);
+    }
+
+    private static Point2D[] convertRing(double[] coords) {
+        int n = coords.length / 2;
+        Point2D[] points = new Point2D[n];
+        for (int i = 0; i < n; i++)
+            points[i] = new Point2D(coords[2 * i], coords[2 * i + 1]);
+        return points;
+    }
+
+    /**
+     * Computes the bounds of a list of rings, as {xmin, xmax, ymin, ymax}.
+     */
+    private static double[] bounds(List<double[]> rings) {
+        double xmin = Double.POSITIVE_INFINITY;
+        double xmax = Double.NEGATIVE_INFINITY;
+        double ymin = Double.POSITIVE_INFINITY;
+        double ymax = Double.NEGATIVE_INFINITY;
+        for (double[] ring : rings) {
+            for (int i = 0; i < ring.length; i += 2) {
+                xmin = Math.min(xmin, ring[i]);
+                xmax = Math.max(xmax, ring[i]);
+                ymin = Math.min(ymin, ring[i + 1]);
+                ymax = Math.max(ymax, ring[i + 1]);
+            }
+        }
+        return new double[] { xmin, xmax, ymin, ymax };
+    }
+
+    /**
+     * Twice the signed area of the triangle (p0, p1, p2). Positive if the
+     * triangle is oriented counter-clockwise. The sign is computed with
+     * robust predicates, so that colinear segments are correctly detected.
+     */
+    private static double signedArea(double x0, double y0, double x1,
+            double y1, double x2, double y2) {
+        return Predicates2D.orient2d(x0, y0, x1, y1, x2, y2);
+    }
+
+    /**
+     * Returns -1 if the edge starting at the event <code>other</code> lies
+     * above the edge starting at <code>event</code>, and 1 otherwise. The
+     * left end point of the other edge is used, or its right end point when
+     * the left end point lies on the edge, up to the snap tolerance: an edge
+     * split at a rounded intersection does not always contain the vertices
+     * located on the original edge.
+     */
+    private static int sideOf(SweepEvent event, SweepEvent other) {
+        double dx = event.other.x - event.x;
+        double dy = event.other.y - event.y;
+        double tol = SNAP_TOLERANCE * (dx * dx + dy * dy);
+
+        double area = signedArea(event.x, event.y, event.other.x,
+                event.other.y, other.x, other.y);
+        if (Math.abs(area) <= tol)
+            area = signedArea(event.x, event.y, event.other.x, event.other.y,
+                    other.other.x, other.other.y);
+        return area > 0 ? -1 : 1;
+    }
+
+    /**
+     * Returns true if the edges starting at the two events are aligned, up
+     * to the snap tolerance. The longest edge is used as reference, so the
+     * result does not depend on the order of the events, and is the same as
+     * the one of the method 'intersect'.
+     */
+    private static boolean isCollinear(SweepEvent le1, SweepEvent le2) {
+        if (sqrLength(le2) > sqrLength(le1)) {
+            SweepEvent tmp = le1;
+            le1 = le2;
+            le2 = tmp;
+        }
+        double tol = SNAP_TOLERANCE * sqrLength(le1);
+        return Math.abs(signedArea(le1.x, le1.y, le1.other.x, le1.other.y,
+                le2.x, le2.y)) <= tol
+                && Math.abs(signedArea(le1.x, le1.y, le1.other.x, le1.other.y,
+                        le2.other.x, le2.other.y)) <= tol;
+    }
+
+    private static double sqrLength(SweepEvent event) {
+        double dx = event.other.x - event.x;
+        double dy = event.other.y - event.y;
+        return dx * dx + dy * dy;
+    }
+
+    private static int compareEvents(SweepEvent e1, SweepEvent e2) {
+        // sort by x, then by y
+        if (e1.x != e2.x)
+            return e1.x > e2.x ? 1 : -1;
+        if (e1.y != e2.y)
+            return e1.y > e2.y ? 1 : -1;
+
+        // same point: process right events first
+        if (e1.left != e2.left)
+            return e1.left ? 1 : -1;
+
+        // same point and same kind: process lower edge first
+        if (signedArea(e1.x, e1.y, e1.other.x, e1.other.y, e2.other.x,
+                e2.other.y) != 0)
+            return e1.isBelow(e2.other.x, e2.other.y) ? -1 : 1;
+
+        // collinear edges: process clipping edges first
+        return (!e1.subject && e2.subject) ? 1 : -1;
+    }
+
+    private static int compareSegments(SweepEvent le1, SweepEvent le2) {
+        if (le1 == le2)
+            return 0;
+
+        // edges are not collinear
+        if (!isCollinear(le1, le2)) {
+            // same left end point: use the right end point to sort
+            if (le1.samePoint(le2))
+                return le1.isBelow(le2.other.x, le2.other.y) ? -1 : 1;
+
+            // same abscissa: use the ordinate of the left end points
+            if (le1.x == le2.x)
+                return le1.y < le2.y ? -1 : 1;
+
+            // compare with the edge that was inserted first. When the left
+            // end point lies on the other edge (T-junction), the right end
+            // point decides.
+            if (compareEvents(le1, le2) == 1)
+                return -sideOf(le2, le1);
+            return sideOf(le1, le2);
+        }
+
+        // collinear edges from different polygons
+        if (le1.subject != le2.subject)
+            return le1.subject ? -1 : 1;
+
+        // collinear edges from the same polygon, starting at the same point
+        if (le1.samePoint(le2)) {
+            if (le1.contourId != le2.contourId)
+                return le1.contourId > le2.contourId ? 1 : -1;
+            return le1.id < le2.id ? -1 : 1;
+        }
+
+        return compareEvents(le1, le2) == 1 ? 1 : -1;
+    }
+
+    /**
+     * Computes the intersection of the segments (a1, a2) and (b1, b2), and
+     * returns the number of intersection points, that can be 0, 1, or 2 for
+     * overlapping segments. Intersection points are stored in the result
+     * array. When the intersection is an end point, or is closer to an end
+     * point than the snap tolerance, the coordinates of the end point are
+     * copied without any computation. Segments that are aligned up to the
+     * snap tolerance are processed as collinear segments, as the vertices
+     * of rotated or scaled polygons are not exactly aligned.
+     */
+    private static int intersect(double a1x, double a1y, double a2x,
+            double a2y, double b1x, double b1y, double b2x, double b2y,
+            double[] res) {
+        double vax = a2x - a1x;
+        double vay = a2y - a1y;
+        double vbx = b2x - b1x;
+        double vby = b2y - b1y;
+        double ex = b1x - a1x;
+        double ey = b1y - a1y;
+
+        // segments are collinear when the end points of the shortest one are
+        // close to the line of the longest one
+        double cross = vax * vby - vay * vbx;
+        double sqrLenA = vax * vax + vay * vay;
+        double sqrLenB = vbx * vbx + vby * vby;
+        boolean collinear;
+        if (sqrLenB > sqrLenA) {
+            double tol = SNAP_TOLERANCE * sqrLenB;
+            collinear = Math.abs(signedArea(b1x, b1y, b2x, b2y, a1x, a1y)) <= tol
+                    && Math.abs(signedArea(b1x, b1y, b2x, b2y, a2x, a2y)) <= tol;
+        } else {
+            double tol = SNAP_TOLERANCE * sqrLenA;
+            collinear = Math.abs(signedArea(a1x, a1y, a2x, a2y, b1x, b1y)) <= tol
+                    && Math.abs(signedArea(a1x, a1y, a2x, a2y, b2x, b2y)) <= tol;
+        }
+        if (!collinear) {
+            // parallel segments
+            if (cross == 0)
+                return 0;
+
+            // position of intersection on each segment
+            double s = (ex * vby - ey * vbx) / cross;
+            if (s < -SNAP_TOLERANCE || s > 1 + SNAP_TOLERANCE)
+                return 0;
+            double t = (ex * vay - ey * vax) / cross;
+            if (t < -SNAP_TOLERANCE || t > 1 + SNAP_TOLERANCE)
+                return 0;
+
+            if (Math.abs(s) <= SNAP_TOLERANCE) {
+                res[0] = a1x; res[1] = a1y;
+            } else if (Math.abs(s - 1) <= SNAP_TOLERANCE) {
+                res[0] = a2x; res[1] = a2y;
+            } else if (Math.abs(t) <= SNAP_TOLERANCE) {
+                res[0] = b1x; res[1] = b1y;
+            } else if (Math.abs(t - 1) <= SNAP_TOLERANCE) {
+                res[0] = b2x; res[1] = b2y;
+            } else {
+                res[0] = a1x + s * vax;
+                res[1] = a1y + s * vay;
+            }
+            return 1;
+        }
+
+        // collinear segments: positions of b1 and b2 on the first segment
+        double sa = (vax * ex + vay * ey) / sqrLenA;
+        double sb = sa + (vax * vbx + vay * vby) / sqrLenA;
+        double smin = Math.min(sa, sb);
+        double smax = Math.max(sa, sb);
+        if (smin > 1 + SNAP_TOLERANCE || smax < -SNAP_TOLERANCE)
+            return 0;
+
+        // overlap on an end point
+        if (smin >= 1 - SNAP_TOLERANCE) {
+            res[0] = a2x; res[1] = a2y;
+            return 1;
+        }
+        if (smax <= SNAP_TOLERANCE) {
+            res[0] = a1x; res[1] = a1y;
+            return 1;
+        }
+
+        // overlap on a segment
+        boolean ordered = sa < sb;
+        if (smin <= 0) {
+            res[0] = a1x; res[1] = a1y;
+        } else {
+            res[0] = ordered ? b1x : b2x;
+            res[1] = ordered ? b1y : b2y;
+        }
+        if (smax >= 1) {
+            res[2] = a2x; res[3] = a2y;
+        } else {
+            res[2] = ordered ? b2x : b1x;
+            res[3] = ordered ? b2y : b1y;
+        }
+        return 2;
+    }
+
+    /**
+     * Removes duplicate and collinear vertices of a closed contour, and
+     * returns the coordinates of the ring with the specified orientation,
+     * or null if the ring is degenerate.
+     */
+    private static double[] cleanRing(double[] coords, int n, boolean ccw) {
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            double x = coords[2 * i];
+            double y = coords[2 * i + 1];
+            if (m > 0 && xs[m - 1] == x && ys[m - 1] == y)
+                continue;
+            while (m >= 2 && isAligned(xs[m - 2], ys[m - 2], xs[m - 1],
+                    ys[m - 1], x, y))
+                m--;
+            xs[m] = x;
+            ys[m] = y;
+            m++;
+        }
+
+        // process vertices around the first one
+        int first = 0;
+        boolean changed = true;
+        while (m - first >= 3 && changed) {
+            changed = false;
+            if (xs[m - 1] == xs[first] && ys[m - 1] == ys[first]) {
+                m--;
+                changed = true;
+            } else if (isAligned(xs[m - 2], ys[m - 2], xs[m - 1], ys[m - 1],
+                    xs[first], ys[first])) {
+                m--;
+                changed = true;
+            } else if (isAligned(xs[m - 1], ys[m - 1], xs[first], ys[first],
+                    xs[first + 1], ys[first + 1])) {
+                first++;
+                changed = true;
+            }
+        }
+        int nv = m - first;
+        if (nv < 3)
+            return null;
+
+        // compute orientation
+        double area = 0;
+        for (int i = first; i < m; i++) {
+            int j = i + 1 < m ? i + 1 : first;
+            area += xs[i] * ys[j] - xs[j] * ys[i];
+        }
+        if (area == 0)
+            return null;
+
+        boolean reverse = (area > 0) != ccw;
+        double[] res = new double[2 * nv];
+        for (int i = 0; i < nv; i++) {
+            int k = reverse ? m - 1 - i : first + i;
+            res[2 * i] = xs[k];
+            res[2 * i + 1] = ys[k];
+        }
+        return res;
+    }
+
+    /**
+     * Returns true if the middle vertex (x1, y1) lies on the line of the two
+     * other vertices, up to the snap tolerance.
+     */
+    private static boolean isAligned(double x0, double y0, double x1,
+            double y1, double x2, double y2) {
+        double dx = x2 - x0;
+        double dy = y2 - y0;
+        return Math.abs(signedArea(x0, y0, x1, y1, x2, y2))
+                <= SNAP_TOLERANCE * (dx * dx + dy * dy);
+    }
+
+    // ===================================================================
+    // class variables
+
+    /** The operation to compute */
+    private Operation operation;
+
+    /** The queue of events to process */
+    private PriorityQueue<SweepEvent> queue;
+
+    /** The number of created events */
+    private int eventCount = 0;
+
+    /** Buffer for intersection computations */
+    private double[] intersections = new double[4];
+
+    // ===================================================================
+    // constructor
+
+    private MartinezRueda2D(Operation operation) {
+        this.operation = operation;
+    }
+
+    // ===================================================================
+    // processing
+
+    private List<double[]> process(List<double[]> subject,
+            List<double[]> clipping) {
+        // process trivial cases
+        if (subject.isEmpty() || clipping.isEmpty())
+            return trivialResult(subject, clipping);
+        double[] sbox = bounds(subject);
+        double[] cbox = bounds(clipping);
+        if (sbox[0] > cbox[1] || cbox[0] > sbox[1] || sbox[2] > cbox[3]
+                || cbox[2] > sbox[3])
+            return trivialResult(subject, clipping);
+
+        // create events of each edge
+        int nEdges = 0;
+        for (double[] ring : subject)
+            nEdges += ring.length / 2;
+        for (double[] ring : clipping)
+            nEdges += ring.length / 2;
+        queue = new PriorityQueue<SweepEvent>(2 * nEdges, eventComparator);
+        int contourId = 0;
+        for (double[] ring : subject)
+            addRing(ring, true, contourId++);
+        for (double[] ring : clipping)
+            addRing(ring, false, contourId++);
+
+        List<SweepEvent> events = subdivide(sbox, cbox);
+        return connectEdges(events);
+    }
+
+    /**
+     * Returns the result when one polygon is empty, or when the polygons do
+     * not overlap. The rings of the input polygons are already oriented,
+     * either by convertPolygon or by a previous sweep.
+     */
+    private List<double[]> trivialResult(List<double[]> subject,
+            List<double[]> clipping) {
+        switch (operation) {
+        case INTERSECTION:
+            return new ArrayList<double[]>(0);
+        case DIFFERENCE:
+            return new ArrayList<double[]>(subject);
+        default:
+            List<double[]> result = new ArrayList<double[]>(
+                    subject.size() + clipping.size());
+            result.addAll(subject);
+            result.addAll(clipping);
+            return result;
+        }
+    }
+
+    /**
+     * Adds the events corresponding to the edges of the ring to the queue.
+     */
+    private void addRing(double[] ring, boolean subject, int contourId) {
+        int n = ring.length / 2;
+        for (int i = 0; i < n; i++) {
+            int j = (i + 1) % n;
+            double x1 = ring[2 * i], y1 = ring[2 * i + 1];
+            double x2 = ring[2 * j], y2 = ring[2 * j + 1];
+
+            // skip collapsed edges
+            if (x1 == x2 && y1 == y2)
+                continue;
+
+            SweepEvent e1 = new SweepEvent(x1, y1, false, null, subject,
+                    eventCount++);
+            SweepEvent e2 = new SweepEvent(x2, y2, false, e1, subject,
+                    eventCount++);
+            e1.other = e2;
+            e1.contourId = contourId;
+            e2.contourId = contourId;
+            if (compareEvents(e1, e2) > 0)
+                e2.left = true;
+            else
+                e1.left = true;
+            queue.add(e1);
+            queue.add(e2);
+        }
+    }
+
+    /**
+     * Processes the events from left to right, subdivides intersecting
+     * edges, and computes the fields of each edge. Returns the list of
+     * processed events, in processing order.
+     */
+    private List<SweepEvent> subdivide(double[] sbox, double[] cbox) {
+        TreeSet<SweepEvent> sweepLine = new TreeSet<SweepEvent>(
+                segmentComparator);
+        List<SweepEvent> events = new ArrayList<SweepEvent>(queue.size());
+        double rightBound = Math.min(sbox[1], cbox[1]);
+
+        while (!queue.isEmpty()) {
+            SweepEvent event = queue.poll();
+            events.add(event);
+
+            // no more result edges after the bounds
+            if ((operation == Operation.INTERSECTION && event.x > rightBound)
+                    || (operation == Operation.DIFFERENCE && event.x > sbox[1]))
+                break;
+
+            if (event.left) {
+                sweepLine.add(event);
+                SweepEvent prev = sweepLine.lower(event);
+                SweepEvent next = sweepLine.higher(event);
+                computeFields(event, prev);
+
+                if (next != null && possibleIntersection(event, next) == 2) {
+                    computeFields(event, prev);
+                    computeFields(next, event);
+                }
+                if (prev != null && possibleIntersection(prev, event) == 2) {
+                    computeFields(prev, sweepLine.lower(prev));
+                    computeFields(event, prev);
+                }
+            } else {
+                SweepEvent segment = event.other;
+                if (sweepLine.contains(segment)) {
+                    SweepEvent prev = sweepLine.lower(segment);
+                    SweepEvent next = sweepLine.higher(segment);
+                    sweepLine.remove(segment);
+                    if (prev != null && next != null)
+                        possibleIntersection(prev, next);
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Computes the inside-outside flags of the edge, from the flags of the
+     * edge located just below, and decides if the edge belongs to the
+     * result.
+     */
+    private void computeFields(SweepEvent event, SweepEvent prev) {
+        if (prev == null) {
+            event.inOut = false;
+            event.otherInOut = true;
+            event.prevInResult = null;
+        } else {
+            if (event.subject == prev.subject) {
+                event.inOut = !prev.inOut;
+                event.otherInOut = prev.otherInOut;
+            } else {
+                event.inOut = !prev.otherInOut;
+                event.otherInOut = prev.isVertical() ? !prev.inOut
+                        : prev.inOut;
+            }
+            event.prevInResult = (!inResult(prev) || prev.isVertical())
+                    ? prev.prevInResult : prev;
+        }
+
+        if (inResult(event))
+            event.resultTransition = resultTransition(event);
+        else
+            event.resultTransition = 0;
+    }
+
+    private boolean inResult(SweepEvent event) {
+        switch (event.type) {
+        case NORMAL:
+            switch (operation) {
+            case INTERSECTION:
+                return !event.otherInOut;
+            case UNION:
+                return event.otherInOut;
+            case DIFFERENCE:
+                return event.subject == event.otherInOut;
+            case EXCLUSIVE_OR:
+                return true;
+            }
+            return false;
+        case SAME_TRANSITION:
+            return operation == Operation.INTERSECTION
+                    || operation == Operation.UNION;
+        case DIFFERENT_TRANSITION:
+            return operation == Operation.DIFFERENCE;
+        default:
+            return false;
+        }
+    }
+
+    private int resultTransition(SweepEvent event) {
+        boolean thisIn = !event.inOut;
+        boolean thatIn = !event.otherInOut;
+        boolean isIn;
+        switch (operation) {
+        case INTERSECTION:
+            isIn = thisIn && thatIn;
+            break;
+        case UNION:
+            isIn = thisIn || thatIn;
+            break;
+        case EXCLUSIVE_OR:
+            isIn = thisIn ^ thatIn;
+            break;
+        default:
+            isIn = event.subject ? thisIn && !thatIn : thatIn && !thisIn;
+        }
+        return isIn ? 1 : -1;
+    }
+
+    /**
+     * Computes the intersection of the edges associated to the two left
+     * events, and subdivides them if necessary. Returns 0 if edges do not
+     * intersect, 1 if they intersect in one point, 2 if they share their
+     * left end point, and 3 if they overlap otherwise.
+     */
+    private int possibleIntersection(SweepEvent se1, SweepEvent se2) {
+        double[] inter = this.intersections;
+        int n = intersect(se1.x, se1.y, se1.other.x, se1.other.y,
+                se2.x, se2.y, se2.other.x, se2.other.y, inter);
+
+        if (n == 0)
+            return 0;
+
+        // edges intersect at a common end point
+        if (n == 1 && (se1.samePoint(se2) || se1.other.samePoint(se2.other)))
+            return 0;
+
+        // overlapping edges of the same polygon are not processed
+        if (n == 2 && se1.subject == se2.subject)
+            return 0;
+
+        // edges intersect in one point
+        if (n == 1) {
+            double x = inter[0];
+            double y = inter[1];
+            if (!isEndPoint(se1, x, y))
+                divideSegment(se1, x, y);
+            if (!isEndPoint(se2, x, y))
+                divideSegment(se2, x, y);
+            return 1;
+        }
+
+        // edges overlap: sort the end points
+        SweepEvent[] events = new SweepEvent[4];
+        int ne = 0;
+        boolean leftCoincide = false;
+        boolean rightCoincide = false;
+
+        if (se1.samePoint(se2)) {
+            leftCoincide = true;
+        } else if (compareEvents(se1, se2) == 1) {
+            events[ne++] = se2;
+            events[ne++] = se1;
+        } else {
+            events[ne++] = se1;
+            events[ne++] = se2;
+        }
+
+        if (se1.other.samePoint(se2.other)) {
+            rightCoincide = true;
+        } else if (compareEvents(se1.other, se2.other) == 1) {
+            events[ne++] = se2.other;
+            events[ne++] = se1.other;
+        } else {
+            events[ne++] = se1.other;
+            events[ne++] = se2.other;
+        }
+
+        if (leftCoincide) {
+            // edges are equal or share the left end point
+            se2.type = NON_CONTRIBUTING;
+            se1.type = se2.inOut == se1.inOut ? SAME_TRANSITION
+                    : DIFFERENT_TRANSITION;
+            if (!rightCoincide)
+                divideSegment(events[1].other, events[0].x, events[0].y);
+            return 2;
+        }
+
+        // edges share the right end point
+        if (rightCoincide) {
+            divideSegment(events[0], events[1].x, events[1].y);
+            return 3;
+        }
+
+        // no edge includes totally the other one
+        if (events[0] != events[3].other) {
+            divideSegment(events[0], events[1].x, events[1].y);
+            divideSegment(events[1], events[2].x, events[2].y);
+            return 3;
+        }
+
+        // one edge includes the other one
+        divideSegment(events[0], events[1].x, events[1].y);
+        divideSegment(events[3].other, events[2].x, events[2].y);
+        return 3;
+    }
+
+    private static boolean isEndPoint(SweepEvent event, double x, double y) {
+        return (event.x == x && event.y == y)
+                || (event.other.x == x && event.other.y == y);
+    }
+
+    /**
+     * Splits the edge associated to the left event at the given point, and
+     * adds the two new events to the queue.
+     */
+    private void divideSegment(SweepEvent se, double x, double y) {
+        SweepEvent r = new SweepEvent(x, y, false, se, se.subject,
+                eventCount++);
+        SweepEvent l = new SweepEvent(x, y, true, se.other, se.subject,
+                eventCount++);
+        r.contourId = se.contourId;
+        l.contourId = se.contourId;
+
+        // avoid rounding errors that would process left event after right
+        if (compareEvents(l, se.other) > 0) {
+            se.other.left = true;
+            l.left = false;
+        }
+
+        se.other.other = l;
+        se.other = r;
+
+        queue.add(l);
+        queue.add(r);
+    }
+
+    // ===================================================================
+    // connection of result edges
+
+    /**
+     * Connects the edges of the result to form closed contours, and returns
+     * the list of rings, each outer ring being followed by its holes.
+     */
+    private List<double[]> connectEdges(List<SweepEvent> sortedEvents) {
+        // keep events of result edges
+        List<SweepEvent> events = new ArrayList<SweepEvent>();
+        for (SweepEvent event : sortedEvents) {
+            if ((event.left && event.inResult())
+                    || (!event.left && event.other.inResult()))
+                events.add(event);
+        }
+
+        // due to overlapping edges, events may not be wholly sorted
+        int n = events.size();
+        for (int i = 1; i < n; i++) {
+            SweepEvent event = events.get(i);
+            int j = i;
+            while (j > 0 && compareEvents(events.get(j - 1), event) == 1) {
+                events.set(j, events.get(j - 1));
+                j--;
+            }
+            events.set(j, event);
+        }
+
+        // associate each event with the position of the other event
+        for (int i = 0; i < n; i++)
+            events.get(i).otherPos = i;
+        for (int i = 0; i < n; i++) {
+            SweepEvent event = events.get(i);
+            if (!event.left) {
+                int tmp = event.otherPos;
+                event.otherPos = event.other.otherPos;
+                event.other.otherPos = tmp;
+            }
+        }
+
+        // follow edges to create contours
+        boolean[] processed = new boolean[n];
+        List<Contour> contours = new ArrayList<Contour>();
+        for (int i = 0; i < n; i++) {
+            if (processed[i])
+                continue;
+
+            int contourId = contours.size();
+            SweepEvent first = events.get(i);
+            Contour contour = createContour(first, contours, contourId);
+            contour.add(first.x, first.y);
+
+            int pos = i;
+            while (true) {
+                processed[pos] = true;
+                events.get(pos).outputContourId = contourId;
+
+                pos = events.get(pos).otherPos;
+                if (pos < 0 || pos >= n)
+                    break;
+                processed[pos] = true;
+                SweepEvent event = events.get(pos);
+                event.outputContourId = contourId;
+                contour.add(event.x, event.y);
+
+                pos = nextPos(pos, events, processed, i);
+                if (pos == i)
+                    break;
+            }
+            contours.add(contour);
+        }
+
+        // create rings, with outer rings followed by their holes
+        List<double[]> rings = new ArrayList<double[]>();
+        for (Contour contour : contours) {
+            if (contour.holeOf >= 0)
+                continue;
+            double[] ring = cleanRing(contour.coords, contour.size, true);
+            if (ring == null)
+                continue;
+            rings.add(ring);
+            for (int holeId : contour.holeIds) {
+                Contour hole = contours.get(holeId);
+                ring = cleanRing(hole.coords, hole.size, false);
+                if (ring != null)
+                    rings.add(ring);
+            }
+        }
+        return rings;
+    }
+
+    /**
+     * Creates a new contour, and determines if it is a hole by considering
+     * the result edge located below its first event.
+     */
+    private static Contour createContour(SweepEvent event,
+            List<Contour> contours, int contourId) {
+        Contour contour = new Contour();
+        SweepEvent prev = event.prevInResult;
+        if (prev == null || prev.outputContourId < 0)
+            return contour;
+
+        // if the region below is inside the result, the contour is a hole
+        if (prev.resultTransition > 0) {
+            int lowerId = prev.outputContourId;
+            Contour lower = contours.get(lowerId);
+            int parentId = lower.holeOf >= 0 ? lower.holeOf : lowerId;
+            contours.get(parentId).holeIds.add(contourId);
+            contour.holeOf = parentId;
+        }
+        return contour;
+    }
+
+    /**
+     * Finds the position of the next event to follow, among the unprocessed
+     * events located at the same point as the event at the given position.
+     * When several edges start from the point, the first edge found by
+     * turning counter-clockwise from the incoming edge is chosen, such that
+     * contours never cross themselves. Returns the position of the contour
+     * start if the contour is closed.
+     */
+    private static int nextPos(int pos, List<SweepEvent> events,
+            boolean[] processed, int origPos) {
+        SweepEvent event = events.get(pos);
+        int n = events.size();
+
+        // range of events located at the same point
+        int k1 = pos;
+        while (k1 > 0 && events.get(k1 - 1).samePoint(event))
+            k1--;
+        int k2 = pos;
+        while (k2 < n - 1 && events.get(k2 + 1).samePoint(event))
+            k2++;
+
+        // angle of incoming edge
+        double angle0 = Math.atan2(event.other.y - event.y,
+                event.other.x - event.x);
+
+        int best = -1;
+        double bestAngle = Double.POSITIVE_INFINITY;
+        for (int k = k1; k <= k2; k++) {
+            if (processed[k] && k != origPos)
+                continue;
+            SweepEvent cand = events.get(k);
+            double angle = Math.atan2(cand.other.y - cand.y,
+                    cand.other.x - cand.x) - angle0;
+            while (angle <= 0)
+                angle += 2 * Math.PI;
+            while (angle > 2 * Math.PI)
+                angle -= 2 * Math.PI;
+            if (angle < bestAngle) {
+                best = k;
+                bestAngle = angle;
+            }
+        }
+        return best < 0 ? origPos : best;
+    }
+}
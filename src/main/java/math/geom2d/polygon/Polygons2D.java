@@ -7,23 +7,20 @@ package math.geom2d.polygon;
 import static java.lang.Math.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import math.geom2d.Box2D;
 import math.geom2d.Point2D;
+import math.geom2d.Predicates2D;
+import math.geom2d.Shape2D;
 import math.geom2d.circulinear.CirculinearDomain2D;
 import math.geom2d.circulinear.buffer.BufferCalculator;
 import math.geom2d.domain.Boundary2D;
-import math.geom2d.domain.Boundaries2D;
-import math.geom2d.domain.Contour2D;
-import math.geom2d.domain.ContourArray2D;
 import math.geom2d.point.PointSets2D;
-import math.geom2d.polygon.convhull.JarvisMarch2D;
-
-import com.seisw.util.geom.Poly;
-import com.seisw.util.geom.PolyDefault;
-import com.seisw.util.geom.PolySimple;
+import math.geom2d.polygon.convhull.MonotoneChain2D;
 
 /**
  * Several utility functions for working on polygons, including polygon
@@ -143,7 +140,7 @@ public final class Polygons2D {
     	Point2D centroid;
     	
     	for (LinearRing2D ring : polygon.contours()) {
-    		area = computeArea(ring);
+    		area = ring.area();
     		centroid = computeCentroid(ring);
     		xc += centroid.x() * area;
     		yc += centroid.y() * area;
@@ -188,7 +185,7 @@ public final class Polygons2D {
             yp = y;
         }
         
-        double denom = computeArea(ring) * 6;
+        double denom = ring.area() * 6;
         return new Point2D(xc / denom, yc / denom);
 	}
 
@@ -206,7 +203,7 @@ public final class Polygons2D {
     public final static double computeArea(Polygon2D polygon) {
     	double area = 0;
     	for (LinearRing2D ring : polygon.contours()) {
-    		area += computeArea(ring);
+    		area += ring.area();
     	}
     	return area;
     }
@@ -294,22 +291,30 @@ public final class Polygons2D {
      * See: the January 2001 Algorithm "Area of 2D and 3D Triangles and Polygons"
      */
     private final static int isLeft(Point2D p1, Point2D p2, Point2D pt) {
-    	double x = p1.x();
-    	double y = p1.y();
-    	return (int) Math.signum(
-    			(p2.x() - x) * (pt.y() - y) - (pt.x() - x) * (p2.y() - y));
+    	return (int) Math.signum(Predicates2D.orient2d(p1, p2, pt));
     }
     
 	/**
-	 * Returns the convex hull of the given set of points. Uses the Jarvis March
-	 * algorithm.
+	 * Returns the convex hull of the given set of points. Uses the monotone
+	 * chain algorithm, that was found to be the fastest for large point sets.
 	 * 
 	 * @param points
 	 *            a collection of points
 	 * @return the convex hull of the set of points
+	 * @see MonotoneChain2D
 	 */
     public final static Polygon2D convexHull(Collection<? extends Point2D> points) {
-    	return new JarvisMarch2D().convexHull(points);
+    	return new MonotoneChain2D().convexHull(points);
+    }
+
+	/**
+	 * Returns the convex hull of the set of points given by two coordinate
+	 * arrays. Uses the monotone chain algorithm.
+	 * 
+	 * @see MonotoneChain2D
+	 */
+    public final static Polygon2D convexHull(double[] xs, double[] ys) {
+    	return new MonotoneChain2D().convexHull(xs, ys);
     }
 
     /**
@@ -328,20 +333,61 @@ public final class Polygons2D {
     
     /**
      * Clips a polygon by a box. The result is a new polygon, that can be
-     * multiple.
+     * multiple.<p>
+     * Each ring is clipped using the Liang-Barsky algorithm. The portions of
+     * rings inside the box are then connected by following the boundary of
+     * the box in counter-clockwise order. The complexity is linear in the
+     * number of vertices, plus a sorting of the crossing points.
      * @see Polygon2D#clip(Box2D)
      */
     public final static Polygon2D clipPolygon(Polygon2D polygon, Box2D box) {
-    	// Clip the boundary using generic method
-    	Boundary2D boundary = polygon.boundary();
-        ContourArray2D<Contour2D> contours = 
-            Boundaries2D.clipBoundary(boundary, box);
+    	// restrict unbounded boxes to the neighborhood of the polygon
+    	if (!box.isBounded()) {
+    		Box2D bbox = polygon.boundingBox();
+    		box = new Box2D(
+    				max(box.getMinX(), bbox.getMinX() - 1),
+    				min(box.getMaxX(), bbox.getMaxX() + 1),
+    				max(box.getMinY(), bbox.getMinY() - 1),
+    				min(box.getMaxY(), bbox.getMaxY() + 1));
+    	}
+
+    	double xmin = box.getMinX();
+    	double xmax = box.getMaxX();
+    	double ymin = box.getMinY();
+    	double ymax = box.getMaxY();
+
+    	// clip each ring, and keep the portions that are not on the boundary
+    	ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>();
+    	ArrayList<ClipPiece> pieces = new ArrayList<ClipPiece>();
+    	for (LinearRing2D ring : polygon.contours()) {
+    		ArrayList<ArrayList<Point2D>> parts = 
+    			Polylines2D.clipVertices(ring, true, box);
+    		if (parts == null) {
+    			rings.add(ring);
+    			continue;
+    		}
+    		for (ArrayList<Point2D> part : parts) {
+    			if (isOnBoxBoundary(part, xmin, xmax, ymin, ymax))
+    				continue;
+    			Point2D p0 = part.get(0);
+    			Point2D p1 = part.get(part.size() - 1);
+    			pieces.add(new ClipPiece(part, 
+    					boundaryPosition(p0.x(), p0.y(), xmin, xmax, ymin, ymax),
+    					boundaryPosition(p1.x(), p1.y(), xmin, xmax, ymin, ymax)));
+    		}
+    	}
+
+    	if (pieces.isEmpty()) {
+    		// no ring crosses the box: the box is either totally inside or
+    		// totally outside of the polygon
+    		if (isBoxInside(polygon, box))
+    			rings.add(new LinearRing2D(
+    					new Point2D(xmin, ymin), new Point2D(xmax, ymin),
+    					new Point2D(xmax, ymax), new Point2D(xmin, ymax)));
+    	} else {
+    		connectClipPieces(pieces, rings, xmin, xmax, ymin, ymax);
+    	}
 
-        // convert boundaries to linear rings
-        ArrayList<LinearRing2D> rings = new ArrayList<LinearRing2D>();
-        for(Contour2D contour : contours)
-        	rings.add(convertContourToLinearRing(contour));
-        
         // Create a polygon, either simple or multiple, depending on the ring
         // number
         if (rings.size() == 1)
@@ -350,137 +396,234 @@ public final class Polygons2D {
         	return MultiPolygon2D.create(rings);
     }
     
-    private final static LinearRing2D convertContourToLinearRing(
-    		Contour2D contour) {
-    	// process the basic case of simple class cast
-    	if (contour instanceof LinearRing2D)
-    		return (LinearRing2D) contour;
+    /**
+     * Connects the pieces of clipped rings along the boundary of the box, and
+     * adds the resulting rings to the list. 
+     */
+    private final static void connectClipPieces(ArrayList<ClipPiece> pieces,
+    		ArrayList<LinearRing2D> rings, double xmin, double xmax, 
+    		double ymin, double ymax) {
+    	double w = xmax - xmin;
+    	double h = ymax - ymin;
+    	double perimeter = 2 * (w + h);
+    	double[] cornerPos = new double[] {0, w, w + h, 2 * w + h};
+    	Point2D[] corners = new Point2D[] {
+    			new Point2D(xmin, ymin), new Point2D(xmax, ymin),
+    			new Point2D(xmax, ymax), new Point2D(xmin, ymax)};
+
+    	// sort pieces according to the position of their entry point
+    	ClipPiece[] sorted = pieces.toArray(new ClipPiece[pieces.size()]);
+    	Arrays.sort(sorted);
+    	int n = sorted.length;
+    	double[] entries = new double[n];
+    	for (int i = 0; i < n; i++)
+    		entries[i] = sorted[i].entry;
+
+    	for (ClipPiece start : sorted) {
+    		if (start.used)
+    			continue;
+
+    		ArrayList<Point2D> vertices = new ArrayList<Point2D>();
+    		ClipPiece piece = start;
+    		for (int iter = 0; iter < n; iter++) {
+    			piece.used = true;
+    			vertices.addAll(piece.vertices);
+
+    			// find the next available entry, in counter-clockwise order
+    			double exit = piece.exit;
+    			int k = Arrays.binarySearch(entries, exit);
+    			if (k < 0)
+    				k = -k - 1;
+    			while (k > 0 && entries[k - 1] == exit)
+    				k--;
+    			ClipPiece next = start;
+    			for (int j = 0; j < n; j++) {
+    				ClipPiece cand = sorted[(k + j) % n];
+    				if (!cand.used || cand == start) {
+    					next = cand;
+    					break;
+    				}
+    			}
+
+    			// add the box corners located between the two pieces
+    			double dist = next.entry - exit;
+    			if (dist < 0)
+    				dist += perimeter;
+    			for (int c = 0; c < 8; c++) {
+    				double pos = cornerPos[c % 4] + (c / 4) * perimeter;
+    				if (pos > exit && pos < exit + dist)
+    					vertices.add(corners[c % 4]);
+    			}
+
+    			if (next == start)
+    				break;
+    			piece = next;
+    		}
+
+    		// remove multiple vertices, and create the ring
+    		List<Point2D> filtered = 
+    			PointSets2D.filterMultipleVertices(vertices, true);
+    		if (filtered.size() > 2)
+    			rings.add(new LinearRing2D(filtered));
+    	}
+    }
+
+    /**
+     * Checks if the box is contained in a polygon whose rings do not cross
+     * the box boundary.
+     */
+    private final static boolean isBoxInside(Polygon2D polygon, Box2D box) {
+    	if (polygon.contours().isEmpty())
+    		return false;
     	
-    	// extract all vertices of the contour
-    	List<Point2D> vertices = new ArrayList<Point2D>();
-    	for(Point2D v : contour.singularPoints())
-    		vertices.add(v);
-
-    	// remove adjacent multiple vertices
-    	vertices = PointSets2D.filterMultipleVertices(vertices, true);
- 	
-    	// Create new ring with vertices
-    	return LinearRing2D.create(vertices);
+    	// use a box corner that does not touch the polygon boundary
+    	Boundary2D boundary = polygon.boundary();
+    	for (Point2D corner : box.vertices()) {
+    		if (boundary.distance(corner) > Shape2D.ACCURACY)
+    			return polygon.contains(corner);
+    	}
+    	Point2D center = new Point2D(
+    			(box.getMinX() + box.getMaxX()) / 2, 
+    			(box.getMinY() + box.getMaxY()) / 2);
+    	return polygon.contains(center);
+    }
+
+    /**
+     * Checks if all the edges of a polyline lie on the boundary of the box. 
+     */
+    private final static boolean isOnBoxBoundary(List<Point2D> vertices,
+    		double xmin, double xmax, double ymin, double ymax) {
+    	Point2D prev = null;
+    	for (Point2D p : vertices) {
+    		if (!isOnBoxBoundary(p.x(), p.y(), xmin, xmax, ymin, ymax))
+    			return false;
+    		if (prev != null) {
+    			double xm = (prev.x() + p.x()) / 2;
+    			double ym = (prev.y() + p.y()) / 2;
+    			if (!isOnBoxBoundary(xm, ym, xmin, xmax, ymin, ymax))
+    				return false;
+    		}
+    		prev = p;
+    	}
+    	return true;
+    }
+
+    private final static boolean isOnBoxBoundary(double x, double y, 
+    		double xmin, double xmax, double ymin, double ymax) {
+    	double eps = Shape2D.ACCURACY;
+    	return abs(x - xmin) < eps || abs(x - xmax) < eps 
+    			|| abs(y - ymin) < eps || abs(y - ymax) < eps;
+    }
+
+    /**
+     * Computes the curvilinear position of a point located on the boundary of
+     * the box, starting from the lower-left corner, and turning in 
+     * counter-clockwise order.
+     */
+    private final static double boundaryPosition(double x, double y, 
+    		double xmin, double xmax, double ymin, double ymax) {
+    	double w = xmax - xmin;
+    	double h = ymax - ymin;
+
+    	// identify the closest side of the box
+    	double dBottom = abs(y - ymin);
+    	double dRight = abs(x - xmax);
+    	double dTop = abs(y - ymax);
+    	double dLeft = abs(x - xmin);
+    	double dMin = min(min(dBottom, dRight), min(dTop, dLeft));
+
+    	if (dBottom == dMin)
+    		return max(0, min(w, x - xmin));
+    	if (dRight == dMin)
+    		return w + max(0, min(h, y - ymin));
+    	if (dTop == dMin)
+    		return w + h + max(0, min(w, xmax - x));
+    	double pos = 2 * w + h + max(0, min(h, ymax - y));
+    	return pos < 2 * (w + h) ? pos : 0;
+    }
+
+    /**
+     * A portion of ring located inside the clipping box, with the positions
+     * of its extremities on the box boundary.
+     */
+    private final static class ClipPiece implements Comparable<ClipPiece> {
+    	List<Point2D> vertices;
+    	double entry;
+    	double exit;
+    	boolean used = false;
+
+    	ClipPiece(List<Point2D> vertices, double entry, double exit) {
+    		this.vertices = vertices;
+    		this.entry = entry;
+    		this.exit = exit;
+    	}
+
+		public int compareTo(ClipPiece that) {
+			return Double.compare(this.entry, that.entry);
+		}
     }
     
     /**
-     * Computes the union of the two polygons. Uses the GPCJ library, developed by
-     * Solution Engineering, Inc.
+     * Computes the union of the two polygons.
+     * @see MartinezRueda2D
      */
     public final static Polygon2D union(Polygon2D polygon1, 
             Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.union(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	return MartinezRueda2D.union(polygon1, polygon2);
+    }
+    
+    /**
+     * Computes the union of all the polygons in the collection. The
+     * polygons are partitioned into spatially coherent groups, whose unions
+     * are computed in parallel and merged along a fork-join tree. Uses one
+     * thread per available processor.
+     * @see MartinezRueda2D
+     */
+    public final static Polygon2D unionAll(
+    		Collection<? extends Polygon2D> polygons) {
+    	return unionAll(polygons, MartinezRueda2D.defaultPool());
     }
     
     /**
-     * Computes the intersection of the two polygons. Uses the GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the union of all the polygons in the collection, using the
+     * specified pool for parallel computations.
+     * @see #unionAll(Collection)
+     */
+    public final static Polygon2D unionAll(
+    		Collection<? extends Polygon2D> polygons, ForkJoinPool pool) {
+    	List<List<double[]>> parts = new ArrayList<List<double[]>>(
+    			polygons.size());
+    	for (Polygon2D polygon : polygons)
+    		parts.add(MartinezRueda2D.convertPolygon(polygon));
+    	return MartinezRueda2D.createPolygon(
+    			MartinezRueda2D.union(parts, pool));
+    }
+    
+    /**
+     * Computes the intersection of the two polygons.
+     * @see MartinezRueda2D
      */
     public final static Polygon2D intersection(Polygon2D polygon1, 
             Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.intersection(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	return MartinezRueda2D.intersection(polygon1, polygon2);
     }
     
     /**
-     * Computes the exclusive XOR of the two polygons. Uses the GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the exclusive XOR of the two polygons.
+     * @see MartinezRueda2D
      */
     public final static Polygon2D exclusiveOr(Polygon2D polygon1, 
     		Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.xor(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
+    	return MartinezRueda2D.exclusiveOr(polygon1, polygon2);
     }
     
     /**
-     * Computes the Difference of the two polygons. Uses the modified GPCJ library, 
-     * developed by Solution Engineering, Inc.
+     * Computes the Difference of the two polygons.
+     * @see MartinezRueda2D
      * @since 0.9.1
      */
     public final static Polygon2D difference(Polygon2D polygon1, 
     		Polygon2D polygon2) {
-    	// convert to GPCJ data structures
-    	Poly poly1 = convertToGpcjPolygon(polygon1);
-    	Poly poly2 = convertToGpcjPolygon(polygon2);
-    	
-    	// compute union
-    	Poly result = poly1.difference(poly2);
-    	
-    	// convert result to javaGeom structure
-    	return convertFromGpcjPolygon(result);
-    }
-    
-    private final static Poly convertToGpcjPolygon(Polygon2D polygon) {
-    	PolyDefault result = new PolyDefault();
-    	for (LinearRing2D ring : polygon.contours())
-    		result.add(convertToGpcjSimplePolygon(ring));
-    	return result;
-    }
-    
-    private final static PolySimple convertToGpcjSimplePolygon(
-    		LinearRing2D ring) {
-    	PolySimple poly = new PolySimple();
-    	for (Point2D point : ring.vertices())
-    		poly.add(new com.seisw.util.geom.Point2D(point.x(), point.y()));
-    	return poly;
-    }
-    
-    
-    private final static Polygon2D convertFromGpcjPolygon(Poly poly) {
-    	int n = poly.getNumInnerPoly();
-    	
-    	// if the result is single, create a SimplePolygon
-    	if (n == 1) {
-    		Point2D[] points = extractPolyVertices(poly.getInnerPoly(0));
-    		return SimplePolygon2D.create(points);
-    	}
-    	
-    	// extract the different rings of the resulting polygon
-    	LinearRing2D[] rings = new LinearRing2D[n];
-    	for (int i = 0; i < n; i++) 
-    		rings[i] = convertFromGpcjSimplePolygon(poly.getInnerPoly(i));
-    	
-    	// create a multiple polygon
-    	return MultiPolygon2D.create(rings);
-    }
-    
-    private final static LinearRing2D convertFromGpcjSimplePolygon(
-    		Poly poly) {
-    	return LinearRing2D.create(extractPolyVertices(poly));
-    }
-    
-    private final static Point2D[] extractPolyVertices(Poly poly) {
-    	int n = poly.getNumPoints();
-    	Point2D[] points = new Point2D[n];
-    	for (int i = 0; i < n; i++)
-    		points[i] = new Point2D(poly.getX(i), poly.getY(i));
-    	return points;
+    	return MartinezRueda2D.difference(polygon1, polygon2);
     }
 }
@@ -28,17 +28,19 @@ package math.geom2d.polygon;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 
 import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
 import math.geom2d.GeometricObject2D;
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.circulinear.CirculinearContinuousCurve2D;
 import math.geom2d.circulinear.PolyCirculinearCurve2D;
+import math.geom2d.curve.CurveSet2D;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.StraightLine2D;
 import math.geom2d.transform.CircleInversion2D;
+import math.utils.EqualUtils;
 
 /**
  * A polyline is a continuous curve where each piece of the curve is a
@@ -88,7 +90,7 @@ implements CirculinearContinuousCurve2D, Cloneable {
     }
 
     public Polyline2D(Point2D initialPoint) {
-        this.vertices.add(initialPoint);
+        this.addVertex(initialPoint);
     }
 
     public Polyline2D(Point2D... vertices) {
@@ -104,9 +106,9 @@ implements CirculinearContinuousCurve2D, Cloneable {
     }
     
     public Polyline2D(LinearCurve2D lineString) {
-    	super(lineString.vertices);
-    	if (lineString.isClosed()) 
-    		this.vertices.add(lineString.firstPoint());
+    	super(lineString);
+    	if (lineString.isClosed() && nVertices > 0) 
+    		this.appendVertex(xs[0], ys[0]);
     }
     
     // ===================================================================
@@ -117,44 +119,56 @@ implements CirculinearContinuousCurve2D, Cloneable {
      * algorithm.
      */
     public Polyline2D simplify(double distMax) {
-    	return new Polyline2D(Polylines2D.simplifyPolyline(this.vertices, distMax));
+    	return simplify(Simplification.DOUGLAS_PEUCKER, distMax);
     }
 
     /**
-     * Returns an array of LineSegment2D. The number of edges is the number of
-     * vertices minus one.
+     * Returns a simplified version of this polyline, by using the specified
+     * algorithm. The extremities of the polyline are kept.
+     */
+    public Polyline2D simplify(Simplification method, double tolerance) {
+    	int[] inds = simplifiedIndices(method, tolerance);
+    	return copyVertices(inds, new Polyline2D(inds.length));
+    }
+
+    /**
+     * Returns a simplified version of this polyline with at most the
+     * specified number of vertices. The extremities of the polyline are kept.
+     */
+    public Polyline2D simplifyToVertexNumber(Simplification method,
+    		int vertexNumber) {
+    	int[] inds = simplifiedIndicesToVertexNumber(method, vertexNumber);
+    	return copyVertices(inds, new Polyline2D(inds.length));
+    }
+
+    /**
+     * Returns the collection of edges, as a view on the vertices of the 
+     * polyline. The number of edges is the number of vertices minus one.
      * 
      * @return the edges of the polyline
      */
     public Collection<LineSegment2D> edges() {
-        int n = vertices.size();
-        ArrayList<LineSegment2D> edges = new ArrayList<LineSegment2D>(n);
-
-        if (n < 2)
-            return edges;
-
-        for (int i = 0; i < n-1; i++)
-            edges.add(new LineSegment2D(vertices.get(i), vertices.get(i+1)));
-
-        return edges;
+        return new EdgeList();
     }
     
     public int edgeNumber() {
-    	int n = vertices.size(); 
+    	int n = nVertices; 
     	if (n > 1) 
     		return n - 1;
     	return 0;
     }
     
     public LineSegment2D edge(int index) {
-    	return new LineSegment2D(vertices.get(index), vertices.get(index+1));
+    	if (index < 0 || index >= edgeNumber())
+    		throw new IndexOutOfBoundsException("Index: " + index);
+    	return new LineSegment2D(xs[index], ys[index], xs[index+1], ys[index+1]);
     }
 
     public LineSegment2D lastEdge() {
-        int n = vertices.size();
+        int n = nVertices;
         if (n < 2)
             return null;
-        return new LineSegment2D(vertices.get(n-2), vertices.get(n-1));
+        return new LineSegment2D(xs[n-2], ys[n-2], xs[n-1], ys[n-1]);
     }
 
     // ===================================================================
@@ -190,9 +204,9 @@ implements CirculinearContinuousCurve2D, Cloneable {
      */
     public double windingAngle(Point2D point) {
         double angle = 0;
-        int n = vertices.size();
+        int n = nVertices;
         for (int i = 0; i<n-1; i++)
-            angle += new LineSegment2D(vertices.get(i), vertices.get(i+1))
+            angle += new LineSegment2D(xs[i], ys[i], xs[i+1], ys[i+1])
                     .windingAngle(point);
 
         return angle;
@@ -204,11 +218,11 @@ implements CirculinearContinuousCurve2D, Cloneable {
      * @see math.geom2d.OrientedCurve2D#isInside(Point2D)
      */
     public boolean isInside(Point2D pt) {
-        if (new LinearRing2D(this.vertexArray()).isInside(pt))
+        if (new LinearRing2D(this).isInside(pt))
             return true;
 
         // can not compute orientation if number of vertices if too low
-		if (this.vertices.size() < 3)
+		if (nVertices < 3)
 			return false;
 
 		// check line corresponding to first edge
@@ -259,21 +273,21 @@ implements CirculinearContinuousCurve2D, Cloneable {
         // index of vertex before point
         int ind0 = (int) Math.floor(t+Shape2D.ACCURACY);
         double tl = t - ind0;
-        Point2D p0 = vertices.get(ind0);
+        if (ind0 < 0 || ind0 >= nVertices)
+        	throw new IndexOutOfBoundsException("Index: " + ind0);
+		double x0 = xs[ind0];
+		double y0 = ys[ind0];
 
 		// check if equal to a vertex
 		if (Math.abs(t - ind0) < Shape2D.ACCURACY)
-			return p0;
+			return new Point2D(x0, y0);
 
         // index of vertex after point
         int ind1 = ind0+1;
-        Point2D p1 = vertices.get(ind1);
 
         // position on line;
-		double x0 = p0.x();
-		double y0 = p0.y();
-		double dx = p1.x() - x0;
-		double dy = p1.y() - y0;
+		double dx = xs[ind1] - x0;
+		double dy = ys[ind1] - y0;
 		return new Point2D(x0 + tl * dx, y0 + tl * dy);
 	}
 
@@ -281,7 +295,7 @@ implements CirculinearContinuousCurve2D, Cloneable {
      * Returns the number of points in the polyline, minus one.
      */
     public double t1() {
-        return vertices.size() - 1;
+        return nVertices - 1;
     }
 
     /**
@@ -298,21 +312,20 @@ implements CirculinearContinuousCurve2D, Cloneable {
      */
 	@Override
     public Point2D lastPoint() {
-        if (vertices.size() == 0)
+        if (nVertices == 0)
             return null;
-        return vertices.get(vertices.size()-1);
+        return new Point2D(xs[nVertices-1], ys[nVertices-1]);
     }
 
     /**
      * Returns the polyline with same points considered in reverse order.
-     * Reversed polyline keep same references as original polyline.
      */
     public Polyline2D reverse() {
-        Point2D[] points2 = new Point2D[vertices.size()];
-        int n = vertices.size();
+        int n = nVertices;
+        Polyline2D res = new Polyline2D(n);
         for (int i = 0; i < n; i++)
-			points2[i] = vertices.get(n - 1 - i);
-        return new Polyline2D(points2);
+        	res.appendVertex(xs[n - 1 - i], ys[n - 1 - i]);
+        return res;
     }
 
 	@Override
@@ -358,7 +371,7 @@ implements CirculinearContinuousCurve2D, Cloneable {
 
         // add all the whole points between the 2 cuts
         for (int n = ind0 + 1; n <= ind1; n++)
-            res.addVertex(vertices.get(n));
+            res.appendVertex(xs[n], ys[n]);
 
         // add the last point
         res.addVertex(this.point(t1));
@@ -370,16 +383,30 @@ implements CirculinearContinuousCurve2D, Cloneable {
     // ===================================================================
     // Methods implementing the Shape2D interface
 
+    /**
+     * Clips the polyline by a box. The result is an instance of CurveSet2D,
+     * which contains only instances of Polyline2D. If the polyline is not
+     * clipped, the result is an instance of CurveSet2D which contains 0
+     * curves.
+     * 
+     * @see Polylines2D#clipPolyline(Polyline2D, Box2D)
+     */
+    @Override
+    public CurveSet2D<? extends Polyline2D> clip(Box2D box) {
+    	return Polylines2D.clipPolyline(this, box);
+    }
+
     /*
      * (non-Javadoc)
      * 
      * @see math.geom2d.Shape2D#transform(math.geom2d.AffineTransform2D)
      */
     public Polyline2D transform(AffineTransform2D trans) {
-        Point2D[] pts = new Point2D[vertices.size()];
-		for (int i = 0; i < vertices.size(); i++)
-            pts[i] = trans.transform(vertices.get(i));
-        return new Polyline2D(pts);
+    	int n = nVertices;
+    	Polyline2D res = new Polyline2D(n);
+    	trans.transform(xs, ys, res.xs, res.ys, n);
+    	res.nVertices = n;
+        return res;
     }
 
     /*
@@ -389,20 +416,12 @@ implements CirculinearContinuousCurve2D, Cloneable {
      */
     public java.awt.geom.GeneralPath appendPath(java.awt.geom.GeneralPath path) {
 
-        if (vertices.size() < 2)
+        if (nVertices < 2)
             return path;
 
-        // get point iterator
-        Iterator<Point2D> iter = vertices.iterator();
-
-        // avoid first point
-        Point2D point = iter.next();
-       
-        // line to each other point
-        while (iter.hasNext()) {
-            point = iter.next();
-            path.lineTo((float) (point.x()), (float) (point.y()));
-        }
+        // line to each other point, avoiding first point
+        for (int i = 1; i < nVertices; i++)
+            path.lineTo((float) (xs[i]), (float) (ys[i]));
 
         return path;
     }
@@ -412,21 +431,15 @@ implements CirculinearContinuousCurve2D, Cloneable {
      */
     public java.awt.geom.GeneralPath asGeneralPath() {
         java.awt.geom.GeneralPath path = new java.awt.geom.GeneralPath();
-        if (vertices.size()<2)
+        if (nVertices < 2)
             return path;
 
-        // get point iterator
-        Iterator<Point2D> iter = vertices.iterator();
-
         // move to first point
-        Point2D point = iter.next();
-        path.moveTo((float) (point.x()), (float) (point.y()));
+        path.moveTo((float) (xs[0]), (float) (ys[0]));
 
         // line to each other point
-        while (iter.hasNext()) {
-            point = iter.next();
-            path.lineTo((float) (point.x()), (float) (point.y()));
-        }
+        for (int i = 1; i < nVertices; i++)
+            path.lineTo((float) (xs[i]), (float) (ys[i]));
 
         return path;
     }
@@ -446,12 +459,15 @@ implements CirculinearContinuousCurve2D, Cloneable {
             return false;
         Polyline2D polyline = (Polyline2D) obj;
 
-        if (vertices.size() != polyline.vertices.size())
+        if (nVertices != polyline.nVertices)
             return false;
         
-        for (int i = 0; i < vertices.size(); i++)
-            if (!(vertices.get(i)).almostEquals(polyline.vertices.get(i), eps))
-                return false;
+        for (int i = 0; i < nVertices; i++) {
+        	if (Math.abs(xs[i] - polyline.xs[i]) > eps)
+        		return false;
+        	if (Math.abs(ys[i] - polyline.ys[i]) > eps)
+        		return false;
+        }
         return true;
     }
 
@@ -466,11 +482,14 @@ implements CirculinearContinuousCurve2D, Cloneable {
             return false;
         Polyline2D polyline = (Polyline2D) object;
 
-        if (vertices.size()!=polyline.vertices.size())
+        if (nVertices != polyline.nVertices)
             return false;
-        for (int i = 0; i<vertices.size(); i++)
-            if (!(vertices.get(i)).equals(polyline.vertices.get(i)))
-                return false;
+        for (int i = 0; i < nVertices; i++) {
+        	if (!EqualUtils.areEqual(xs[i], polyline.xs[i]))
+        		return false;
+        	if (!EqualUtils.areEqual(ys[i], polyline.ys[i]))
+        		return false;
+        }
         return true;
     }
     
@@ -480,10 +499,7 @@ implements CirculinearContinuousCurve2D, Cloneable {
 	@Deprecated
     @Override
     public Polyline2D clone() {
-        ArrayList<Point2D> array = new ArrayList<Point2D>(vertices.size());
-        for(Point2D point : vertices)
-            array.add(point);
-        return new Polyline2D(array);
+        return new Polyline2D(this);
     }
 
 }
@@ -0,0 +1,455 @@
+/**
+ * File: 	PolylineSimplifier2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Arrays;
+
+/**
+ * Simplification algorithms for polylines and linear rings stored in
+ * coordinate arrays. Each method returns the indices of the vertices to
+ * keep, in increasing order.<p>
+ * The Douglas-Peucker algorithm recursively splits the curve at the vertex
+ * farthest from the chord, using an explicit stack to avoid deep recursion.
+ * The Visvalingam-Whyatt algorithm repeatedly removes the vertex with the
+ * smallest effective area, that is the area of the triangle formed with its
+ * two neighbors, using an indexed heap. Both algorithms run in O(n*log(n))
+ * for typical curves.<p>
+ * For closed curves, the first vertex is always kept. The Douglas-Peucker
+ * algorithm also keeps the vertex farthest from the first one.
+ *
+ * @author dlegland
+ */
+final class PolylineSimplifier2D {
+
+	private PolylineSimplifier2D() {
+	}
+
+	// ===================================================================
+	// generic methods
+
+	/**
+	 * Simplifies the curve with the given method. The tolerance is the
+	 * maximal distance for Douglas-Peucker, and the minimal effective area
+	 * of the remaining vertices for Visvalingam-Whyatt.
+	 */
+	static int[] simplify(double[] xs, double[] ys, int n, boolean closed,
+			LinearCurve2D.Simplification method, double tolerance) {
+		switch (method) {
+		case DOUGLAS_PEUCKER:
+			return douglasPeucker(xs, ys, n, closed, tolerance);
+		case VISVALINGAM_WHYATT:
+			return visvalingamWhyatt(xs, ys, n, closed, tolerance, 0);
+		}
+		throw new IllegalArgumentException("Unknown simplification: " + method);
+	}
+
+	/**
+	 * Simplifies the curve with the given method, such that the result has
+	 * at most the given number of vertices. Curve extremities, or the first
+	 * vertex of closed curves, are always kept.
+	 */
+	static int[] simplifyToVertexNumber(double[] xs, double[] ys, int n,
+			boolean closed, LinearCurve2D.Simplification method,
+			int vertexNumber) {
+		switch (method) {
+		case DOUGLAS_PEUCKER:
+			return douglasPeuckerToVertexNumber(xs, ys, n, closed, vertexNumber);
+		case VISVALINGAM_WHYATT:
+			return visvalingamWhyatt(xs, ys, n, closed,
+					Double.POSITIVE_INFINITY, vertexNumber);
+		}
+		throw new IllegalArgumentException("Unknown simplification: " + method);
+	}
+
+	// ===================================================================
+	// Douglas-Peucker
+
+	/**
+	 * Douglas-Peucker simplification. A vertex is kept if its distance to
+	 * the chord of the current portion is greater than or equal to distMax.
+	 */
+	static int[] douglasPeucker(double[] xs, double[] ys, int n,
+			boolean closed, double distMax) {
+		if (n < 3)
+			return range(n);
+
+		boolean[] keep = new boolean[n];
+		keep[0] = true;
+		int[] stack = new int[32];
+		int sp = 0;
+
+		// push the initial portions of the curve. Index n stands for the
+		// first vertex of closed curves.
+		if (closed) {
+			int indMax = farthest(xs, ys, n, 0);
+			keep[indMax] = true;
+			stack[sp++] = 0;
+			stack[sp++] = indMax;
+			stack[sp++] = indMax;
+			stack[sp++] = n;
+		} else {
+			keep[n - 1] = true;
+			stack[sp++] = 0;
+			stack[sp++] = n - 1;
+		}
+
+		double tol2 = distMax * distMax;
+		while (sp > 0) {
+			int last = stack[--sp];
+			int first = stack[--sp];
+			if (last - first < 2)
+				continue;
+
+			int ind = farthest(xs, ys, n, first, last);
+			double dist2 = segmentDistance2(xs, ys, n, first, last, ind);
+			if (dist2 < tol2 || dist2 == 0)
+				continue;
+
+			// split the portion at the farthest vertex
+			keep[ind] = true;
+			if (sp + 4 > stack.length)
+				stack = Arrays.copyOf(stack, stack.length * 2);
+			stack[sp++] = ind;
+			stack[sp++] = last;
+			stack[sp++] = first;
+			stack[sp++] = ind;
+		}
+
+		return indices(keep);
+	}
+
+	/**
+	 * Douglas-Peucker simplification that keeps at most the given number of
+	 * vertices. The portions are split in decreasing order of the distance
+	 * of their farthest vertex, using a heap.
+	 */
+	static int[] douglasPeuckerToVertexNumber(double[] xs, double[] ys, int n,
+			boolean closed, int vertexNumber) {
+		if (n < 3 || vertexNumber >= n)
+			return range(n);
+
+		boolean[] keep = new boolean[n];
+		keep[0] = true;
+		int kept = 1;
+
+		// the portions of curve, and the farthest vertex of each portion
+		int nMax = 2 * n;
+		int[] firsts = new int[nMax];
+		int[] lasts = new int[nMax];
+		int[] splits = new int[nMax];
+		int nSeg = 0;
+
+		// the heap of portions, sorted by decreasing distance
+		Heap heap = new Heap(nMax);
+		if (closed) {
+			int indMax = farthest(xs, ys, n, 0);
+			if (indMax != 0) {
+				keep[indMax] = true;
+				kept++;
+			}
+			nSeg = addPortion(xs, ys, n, 0, indMax, firsts, lasts, splits, nSeg, heap);
+			nSeg = addPortion(xs, ys, n, indMax, n, firsts, lasts, splits, nSeg, heap);
+		} else {
+			keep[n - 1] = true;
+			kept++;
+			nSeg = addPortion(xs, ys, n, 0, n - 1, firsts, lasts, splits, nSeg, heap);
+		}
+
+		while (kept < vertexNumber && !heap.isEmpty()) {
+			if (heap.peekKey() == 0)
+				break;
+			int s = heap.poll();
+			int ind = splits[s];
+			keep[ind] = true;
+			kept++;
+			nSeg = addPortion(xs, ys, n, firsts[s], ind, firsts, lasts, splits, nSeg, heap);
+			nSeg = addPortion(xs, ys, n, ind, lasts[s], firsts, lasts, splits, nSeg, heap);
+		}
+
+		return indices(keep);
+	}
+
+	/**
+	 * Adds a portion of curve to the heap, if it contains inner vertices,
+	 * and returns the new number of portions.
+	 */
+	private static int addPortion(double[] xs, double[] ys, int n, int first,
+			int last, int[] firsts, int[] lasts, int[] splits, int nSeg,
+			Heap heap) {
+		if (last - first < 2)
+			return nSeg;
+		int ind = farthest(xs, ys, n, first, last);
+		firsts[nSeg] = first;
+		lasts[nSeg] = last;
+		splits[nSeg] = ind;
+		heap.add(nSeg, -segmentDistance2(xs, ys, n, first, last, ind));
+		return nSeg + 1;
+	}
+
+	/**
+	 * Returns the index of the vertex farthest from the vertex i0.
+	 */
+	private static int farthest(double[] xs, double[] ys, int n, int i0) {
+		double x0 = xs[i0];
+		double y0 = ys[i0];
+		int indMax = i0;
+		double maxDist2 = 0;
+		for (int i = 0; i < n; i++) {
+			double dx = xs[i] - x0;
+			double dy = ys[i] - y0;
+			double dist2 = dx * dx + dy * dy;
+			if (dist2 > maxDist2) {
+				maxDist2 = dist2;
+				indMax = i;
+			}
+		}
+		return indMax;
+	}
+
+	/**
+	 * Returns the index of the inner vertex of the portion between first
+	 * and last that is the farthest from the chord of the portion.
+	 */
+	private static int farthest(double[] xs, double[] ys, int n, int first,
+			int last) {
+		int indMax = first + 1;
+		double maxDist2 = -1;
+		for (int i = first + 1; i < last; i++) {
+			double dist2 = segmentDistance2(xs, ys, n, first, last, i);
+			if (dist2 > maxDist2) {
+				maxDist2 = dist2;
+				indMax = i;
+			}
+		}
+		return indMax;
+	}
+
+	/**
+	 * Computes the squared distance between the vertex i and the segment
+	 * between vertices first and last. Index last may be equal to n.
+	 */
+	private static double segmentDistance2(double[] xs, double[] ys, int n,
+			int first, int last, int i) {
+		int i2 = last == n ? 0 : last;
+		double x1 = xs[first];
+		double y1 = ys[first];
+		double dx = xs[i2] - x1;
+		double dy = ys[i2] - y1;
+		double px = xs[i] - x1;
+		double py = ys[i] - y1;
+
+		double d2 = dx * dx + dy * dy;
+		double t = d2 == 0 ? 0 : (px * dx + py * dy) / d2;
+		t = Math.max(0, Math.min(1, t));
+		double ex = px - t * dx;
+		double ey = py - t * dy;
+		return ex * ex + ey * ey;
+	}
+
+	// ===================================================================
+	// Visvalingam-Whyatt
+
+	/**
+	 * Visvalingam-Whyatt simplification. Vertices are removed in increasing
+	 * order of their effective area, while the area is smaller than areaMin
+	 * and the number of vertices is greater than vertexNumber. The area of a
+	 * vertex is never made smaller than the area of a previously removed
+	 * neighbor, so that removal order is consistent.
+	 */
+	static int[] visvalingamWhyatt(double[] xs, double[] ys, int n,
+			boolean closed, double areaMin, int vertexNumber) {
+		int nMin = Math.max(vertexNumber, closed ? 3 : 2);
+		if (n <= nMin)
+			return range(n);
+
+		// linked list of remaining vertices
+		int[] prev = new int[n];
+		int[] next = new int[n];
+		for (int i = 0; i < n; i++) {
+			prev[i] = i - 1;
+			next[i] = i + 1;
+		}
+		if (closed) {
+			prev[0] = n - 1;
+			next[n - 1] = 0;
+		} else {
+			next[n - 1] = -1;
+		}
+
+		// the heap of removable vertices, sorted by effective area. The
+		// first vertex of closed curves is kept.
+		Heap heap = new Heap(n);
+		for (int i = 1; i < n; i++) {
+			if (next[i] != -1)
+				heap.add(i, area(xs, ys, prev[i], i, next[i]));
+		}
+
+		boolean[] keep = new boolean[n];
+		Arrays.fill(keep, true);
+		int remaining = n;
+		while (remaining > nMin && !heap.isEmpty()) {
+			double area = heap.peekKey();
+			if (area >= areaMin)
+				break;
+			int i = heap.poll();
+			keep[i] = false;
+			remaining--;
+
+			// remove the vertex from the list
+			int p = prev[i];
+			int q = next[i];
+			next[p] = q;
+			if (q != -1)
+				prev[q] = p;
+
+			// update the areas of the neighbors
+			if (heap.contains(p))
+				heap.update(p, Math.max(area, area(xs, ys, prev[p], p, q)));
+			if (q != -1 && heap.contains(q))
+				heap.update(q, Math.max(area, area(xs, ys, p, q, next[q])));
+		}
+
+		return indices(keep);
+	}
+
+	/**
+	 * Computes the area of the triangle formed by three vertices.
+	 */
+	private static double area(double[] xs, double[] ys, int i1, int i2,
+			int i3) {
+		double x1 = xs[i1];
+		double y1 = ys[i1];
+		return Math.abs((xs[i2] - x1) * (ys[i3] - y1)
+				- (ys[i2] - y1) * (xs[i3] - x1)) / 2;
+	}
+
+	// ===================================================================
+	// utility methods
+
+	private static int[] range(int n) {
+		int[] inds = new int[n];
+		for (int i = 0; i < n; i++)
+			inds[i] = i;
+		return inds;
+	}
+
+	private static int[] indices(boolean[] keep) {
+		int count = 0;
+		for (boolean b : keep)
+			if (b)
+				count++;
+		int[] inds = new int[count];
+		int k = 0;
+		for (int i = 0; i < keep.length; i++)
+			if (keep[i])
+				inds[k++] = i;
+		return inds;
+	}
+
+	// ===================================================================
+	// inner class for indexed heap
+
+	/**
+	 * A binary min-heap of integer indices, with a key for each index. Keys
+	 * can be updated, and the position of each index in the heap is stored
+	 * to allow updates in O(log(n)).
+	 */
+	private final static class Heap {
+		final double[] keys;
+		final int[] heap;
+		final int[] pos;
+		int size = 0;
+
+		Heap(int capacity) {
+			keys = new double[capacity];
+			heap = new int[capacity];
+			pos = new int[capacity];
+			Arrays.fill(pos, -1);
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		boolean contains(int i) {
+			return pos[i] != -1;
+		}
+
+		double peekKey() {
+			return keys[heap[0]];
+		}
+
+		void add(int i, double key) {
+			keys[i] = key;
+			heap[size] = i;
+			pos[i] = size;
+			size++;
+			siftUp(size - 1);
+		}
+
+		int poll() {
+			int top = heap[0];
+			size--;
+			if (size > 0) {
+				heap[0] = heap[size];
+				pos[heap[0]] = 0;
+				siftDown(0);
+			}
+			pos[top] = -1;
+			return top;
+		}
+
+		void update(int i, double key) {
+			double old = keys[i];
+			keys[i] = key;
+			if (key < old)
+				siftUp(pos[i]);
+			else
+				siftDown(pos[i]);
+		}
+
+		private void siftUp(int k) {
+			int i = heap[k];
+			double key = keys[i];
+			while (k > 0) {
+				int parent = (k - 1) >>> 1;
+				int ip = heap[parent];
+				if (keys[ip] <= key)
+					break;
+				heap[k] = ip;
+				pos[ip] = k;
+				k = parent;
+			}
+			heap[k] = i;
+			pos[i] = k;
+		}
+
+		private void siftDown(int k) {
+			int i = heap[k];
+			double key = keys[i];
+			int half = size >>> 1;
+			while (k < half) {
+				int child = 2 * k + 1;
+				int ic = heap[child];
+				int right = child + 1;
+				if (right < size && keys[heap[right]] < keys[ic]) {
+					child = right;
+					ic = heap[child];
+				}
+				if (key <= keys[ic])
+					break;
+				heap[k] = ic;
+				pos[ic] = k;
+				k = child;
+			}
+			heap[k] = i;
+			pos[i] = k;
+		}
+	}
+}
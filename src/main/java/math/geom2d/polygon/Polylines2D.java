@@ -7,8 +7,11 @@ package math.geom2d.polygon;
 import java.util.ArrayList;
 import java.util.Collection;
 
+import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
+import math.geom2d.curve.CurveArray2D;
+import math.geom2d.curve.CurveSet2D;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.point.PointSets2D;
 
@@ -22,103 +25,35 @@ public abstract class Polylines2D {
 
 	static ArrayList<Point2D> simplifyPolyline(ArrayList<Point2D> vertices,
 			double distMax) {
-		// index of last vertex
-    	int last = vertices.size() - 1;
-		int[] inds = recurseSimplify(vertices, 0, last, distMax);
-		
-		ArrayList<Point2D> newVerts = new ArrayList<Point2D>(inds.length + 2);
-		newVerts.add(vertices.get(0));
-		for (int i : inds)
-			newVerts.add(vertices.get(i));
-		newVerts.add(vertices.get(last));
-		
-		return newVerts;
+		return simplify(vertices, false, distMax);
     }
     
 	static ArrayList<Point2D> simplifyClosedPolyline(ArrayList<Point2D> vertices,
 			double distMax) {
-		
-		
-		// index of last vertex
-    	int nv = vertices.size();
-    	
-    	// first find index of farthest vertex from origin
-    	int indMax = 0;
-    	double maxDist = 0;
-    	Point2D p0 = vertices.get(0);
-    	for (int i = 1; i < vertices.size(); i++) {
-    		double dist = vertices.get(i).distance(p0);
-    		if (dist > maxDist) {
-    			maxDist = dist;
-    			indMax = i;
-    		}
-    	}
-    	
-    	int[] inds1 = recurseSimplify(vertices, 0, indMax, distMax);
-    	int[] inds2 = recurseSimplify(vertices, indMax, nv, distMax);
-    	
-    	int[] inds = concatInds(inds1, indMax, inds2);
-    	
-		
-		ArrayList<Point2D> newVerts = new ArrayList<Point2D>(inds.length + 2);
-		newVerts.add(vertices.get(0));
-		for (int i : inds)
-			newVerts.add(vertices.get(i));
-		
-		return newVerts;
+		return simplify(vertices, true, distMax);
     }
     
 	/**
-	 * Used for constructing simplified polylines.
+	 * Simplifies a list of vertices with Douglas-Peucker algorithm, and
+	 * returns the list of remaining vertices.
 	 */
-	private static int[] recurseSimplify(ArrayList<Point2D> vertices, int first,
-			int last, double distMax) {
-		if (last - first < 2) {
-			return new int[0];
-		}
-		
+	private static ArrayList<Point2D> simplify(ArrayList<Point2D> vertices,
+			boolean closed, double distMax) {
 		int nv = vertices.size();
-		Point2D p0 = vertices.get(first);
-		Point2D p1 = vertices.get(last % nv);
-		LineSegment2D line = new LineSegment2D(p0, p1);
-
-		double dist;
-		double midDist = 0;
-		int indMid = 0;
-		for (int ind = first; ind < last; ind++) {
-			dist = line.distance(vertices.get(ind));
-			if (dist > midDist) {
-				midDist = dist;
-				indMid = ind;
-			}
+		double[] xs = new double[nv];
+		double[] ys = new double[nv];
+		for (int i = 0; i < nv; i++) {
+			Point2D vertex = vertices.get(i);
+			xs[i] = vertex.x();
+			ys[i] = vertex.y();
 		}
 		
-		if (midDist < distMax) {
-			return new int[]{};
-		}
-		
-		// Recursively subdivide each of the resulting pieces
-		int[] inds1 = recurseSimplify(vertices, first, indMid, distMax);
-		int[] inds2 = recurseSimplify(vertices, indMid, last, distMax);
-		
-		int[] res = concatInds(inds1, indMid, inds2);
-		
-		// return concatenated indices
-		return res;
-	}
-	
-	private static int[] concatInds(int[] inds1, int indMid, int[] inds2) {
-		int n = inds1.length + inds2.length + 1;
-		
-		int[] res = new int[n];
-
-		for (int i = 0; i < inds1.length; i++)
-			res[i] = inds1[i];
-		res[inds1.length] = indMid;
-		for (int i = inds1.length + 1; i < n; i++)
-			res[i] = inds2[i - (inds1.length + 1)];
-		
-		return res;
+		int[] inds = PolylineSimplifier2D.douglasPeucker(xs, ys, nv, closed,
+				distMax);
+		ArrayList<Point2D> newVerts = new ArrayList<Point2D>(inds.length);
+		for (int i : inds)
+			newVerts.add(vertices.get(i));
+		return newVerts;
 	}
 
  	/**
@@ -136,7 +71,8 @@ public abstract class Polylines2D {
     public final static boolean hasMultipleVertices(LinearCurve2D polyline, 
     		boolean closed) {
     	// Test vertices within polyline
-    	if(PointSets2D.hasMultipleVertices(polyline.vertices))
+    	if(PointSets2D.hasMultipleVertices(
+    			new ArrayList<Point2D>(polyline.vertices())))
     		return true;
     	
     	// Eventually tests extremities
@@ -180,4 +116,189 @@ public abstract class Polylines2D {
 
         return points;
     }
+
+    /**
+     * Clips a polyline by a box. The result is a set of polylines, that
+     * contains the polyline itself if it is totally inside the box. Each edge
+     * is clipped using the Liang-Barsky algorithm, so the complexity is linear
+     * in the number of vertices.
+     * @param polyline the polyline to clip
+     * @param box the clipping box
+     * @return the set of polylines inside the box
+     */
+    public static CurveSet2D<Polyline2D> clipPolyline(Polyline2D polyline,
+    		Box2D box) {
+    	ArrayList<ArrayList<Point2D>> pieces = clipVertices(polyline, false, box);
+
+    	// case of a polyline totally inside the box
+    	if (pieces == null) {
+    		CurveArray2D<Polyline2D> result = new CurveArray2D<Polyline2D>(1);
+    		result.add(polyline);
+    		return result;
+    	}
+
+    	CurveArray2D<Polyline2D> result = 
+    		new CurveArray2D<Polyline2D>(pieces.size());
+    	for (ArrayList<Point2D> piece : pieces)
+    		result.add(new Polyline2D(piece));
+    	return result;
+    }
+
+    /**
+     * Clips a linear ring by a box. The result is a set of open polylines,
+     * or a set containing only the ring if it is totally inside the box.
+     * Each edge is clipped using the Liang-Barsky algorithm, so the complexity
+     * is linear in the number of vertices.
+     * @param ring the linear ring to clip
+     * @param box the clipping box
+     * @return the set of curves inside the box
+     */
+    public static CurveSet2D<LinearCurve2D> clipLinearRing(LinearRing2D ring,
+    		Box2D box) {
+    	ArrayList<ArrayList<Point2D>> pieces = clipVertices(ring, true, box);
+
+    	// case of a ring totally inside the box
+    	if (pieces == null) {
+    		CurveArray2D<LinearCurve2D> result = 
+    			new CurveArray2D<LinearCurve2D>(1);
+    		result.add(ring);
+    		return result;
+    	}
+
+    	CurveArray2D<LinearCurve2D> result = 
+    		new CurveArray2D<LinearCurve2D>(pieces.size());
+    	for (ArrayList<Point2D> piece : pieces)
+    		result.add(new Polyline2D(piece));
+    	return result;
+    }
+
+    /**
+     * Computes the portions of the linear curve located inside the box, as a
+     * list of vertex lists. Returns null if the curve is totally contained in
+     * the box. Portions reduced to a single point are discarded. For closed
+     * curves, the portions containing the first vertex are merged.
+     */
+    static ArrayList<ArrayList<Point2D>> clipVertices(LinearCurve2D curve,
+    		boolean closed, Box2D box) {
+    	double xmin = box.getMinX();
+    	double xmax = box.getMaxX();
+    	double ymin = box.getMinY();
+    	double ymax = box.getMaxY();
+
+    	ArrayList<ArrayList<Point2D>> pieces = new ArrayList<ArrayList<Point2D>>();
+    	double[] xs = curve.xs;
+    	double[] ys = curve.ys;
+    	int nv = curve.nVertices;
+    	if (nv == 0)
+    		return pieces;
+
+    	// case of a single vertex
+    	int nEdges = closed ? nv : nv - 1;
+    	if (nEdges == 0)
+    		return box.contains(xs[0], ys[0]) ? null : pieces;
+
+    	boolean clipped = false;
+    	ArrayList<Point2D> firstPiece = null;
+    	ArrayList<Point2D> current = null;
+
+    	for (int i = 0; i < nEdges; i++) {
+    		int i2 = i + 1 == nv ? 0 : i + 1;
+    		double x1 = xs[i];
+    		double y1 = ys[i];
+    		double dx = xs[i2] - x1;
+    		double dy = ys[i2] - y1;
+
+    		// Liang-Barsky clipping of the edge
+    		double t0 = 0;
+    		double t1 = 1;
+    		boolean inside = true;
+    		if (dx == 0) {
+    			inside = x1 >= xmin && x1 <= xmax;
+    		} else {
+    			double ta = (xmin - x1) / dx;
+    			double tb = (xmax - x1) / dx;
+    			t0 = Math.max(t0, Math.min(ta, tb));
+    			t1 = Math.min(t1, Math.max(ta, tb));
+    		}
+    		if (dy == 0) {
+    			inside = inside && y1 >= ymin && y1 <= ymax;
+    		} else {
+    			double ta = (ymin - y1) / dy;
+    			double tb = (ymax - y1) / dy;
+    			t0 = Math.max(t0, Math.min(ta, tb));
+    			t1 = Math.min(t1, Math.max(ta, tb));
+    		}
+    		if (t0 > t1)
+    			inside = false;
+
+    		if (!inside) {
+    			clipped = true;
+    			if (current != null)
+    				addPiece(pieces, current);
+    			current = null;
+    			continue;
+    		}
+
+    		// start a new piece if necessary
+    		if (t0 > 0) {
+    			clipped = true;
+    			if (current != null)
+    				addPiece(pieces, current);
+    			current = null;
+    		}
+    		if (current == null) {
+    			current = new ArrayList<Point2D>();
+    			current.add(t0 > 0 ? new Point2D(x1 + t0 * dx, y1 + t0 * dy)
+    					: new Point2D(x1, y1));
+    			if (i == 0 && t0 == 0)
+    				firstPiece = current;
+    		}
+    		addVertex(current, t1 < 1 ? new Point2D(x1 + t1 * dx, y1 + t1 * dy)
+    				: new Point2D(xs[i2], ys[i2]));
+
+    		// close the current piece if the edge leaves the box
+    		if (t1 < 1) {
+    			clipped = true;
+    			addPiece(pieces, current);
+    			current = null;
+    		}
+    	}
+
+    	if (!clipped)
+    		return null;
+
+    	// for closed curves, merge the last piece with the first one
+    	if (current != null) {
+    		if (closed && firstPiece != null && firstPiece != current
+    				&& !pieces.isEmpty() && pieces.get(0) == firstPiece) {
+    			for (Point2D p : firstPiece)
+    				addVertex(current, p);
+    			pieces.remove(0);
+    		}
+    		addPiece(pieces, current);
+    	}
+
+    	return pieces;
+    }
+
+    /**
+     * Adds a vertex to the list, if it is different from the last one.
+     */
+    private static void addVertex(ArrayList<Point2D> vertices, Point2D p) {
+    	if (!vertices.isEmpty()) {
+    		Point2D last = vertices.get(vertices.size() - 1);
+    		if (last.x() == p.x() && last.y() == p.y())
+    			return;
+    	}
+    	vertices.add(p);
+    }
+
+    /**
+     * Adds a piece to the list of pieces, if it is not reduced to a point.
+     */
+    private static void addPiece(ArrayList<ArrayList<Point2D>> pieces,
+    		ArrayList<Point2D> piece) {
+    	if (piece.size() > 1)
+    		pieces.add(piece);
+    }
 }
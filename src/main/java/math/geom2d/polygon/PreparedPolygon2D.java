@@ -0,0 +1,441 @@
+/**
+ * File: 	PreparedPolygon2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Iterator;
+
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+import math.geom2d.Predicates2D;
+import math.geom2d.Shape2D;
+
+/**
+ * A polygon prepared for repeated point queries. The edges of the polygon
+ * are stored in coordinate arrays, and indexed into horizontal buckets, such
+ * that each bucket references the edges whose vertical extent overlaps the
+ * bucket. Edges that would cover many buckets are kept in a separate list
+ * scanned by each query, such that the size of the index remains linear
+ * in the number of edges. The orientation and the bounding box of the
+ * polygon are computed once.<p>
+ * Containment test only considers edges of a single bucket, and distance
+ * computation only considers the buckets that can contain an edge closer
+ * than the current candidate. For usual polygons, the cost of each query is
+ * therefore much smaller than the number of vertices.<p>
+ * The prepared polygon keeps a copy of the vertex coordinates: it is not
+ * updated if the original polygon is modified.
+ *
+ * <pre><code>
+ * PreparedPolygon2D prepared = new PreparedPolygon2D(polygon);
+ * for (Point2D point : points) {
+ *     if (prepared.contains(point))
+ *         ...
+ * }
+ * </code></pre>
+ *
+ * @author dlegland
+ *
+ */
+public class PreparedPolygon2D {
+
+    // ===================================================================
+    // constants
+
+    /** The maximal number of buckets referencing the same edge */
+    private final static int MAX_EDGE_BUCKETS = 8;
+
+    // ===================================================================
+    // class variables
+
+    /** The polygon used to create this prepared polygon */
+    private Polygon2D polygon;
+
+    /** The number of edges */
+    private int nEdges;
+
+    /** Coordinates of the first vertex of each edge */
+    private double[] x1s, y1s;
+
+    /** Coordinates of the second vertex of each edge */
+    private double[] x2s, y2s;
+
+    /** The signed area of the polygon */
+    private double area;
+
+    /** The bounds of the polygon */
+    private double xmin, xmax, ymin, ymax;
+
+    /** The number of buckets, and the height of each bucket */
+    private int nBuckets;
+    private double bucketHeight;
+
+    /**
+     * For each bucket, the index of the first edge reference in
+     * bucketEdges. The array has nBuckets+1 elements.
+     */
+    private int[] bucketStarts;
+
+    /** The indices of the edges referenced by each bucket */
+    private int[] bucketEdges;
+
+    /** The indices of the edges too tall to be referenced by buckets */
+    private int[] tallEdges;
+
+    // ===================================================================
+    // constructors
+
+    /**
+     * Prepares the given polygon. Works for simple polygons as well as for
+     * polygons with several rings.
+     */
+    public PreparedPolygon2D(Polygon2D polygon) {
+        this.polygon = polygon;
+
+        // count edges
+        int n = 0;
+        for (LinearRing2D ring : polygon.contours())
+            n += ring.vertexNumber();
+        this.nEdges = n;
+
+        // extract edges of each ring
+        x1s = new double[n];
+        y1s = new double[n];
+        x2s = new double[n];
+        y2s = new double[n];
+        int e = 0;
+        for (LinearRing2D ring : polygon.contours()) {
+            int nv = ring.vertexNumber();
+            if (nv == 0)
+                continue;
+            Iterator<Point2D> iter = ring.vertices().iterator();
+            Point2D first = iter.next();
+            double x = first.x();
+            double y = first.y();
+            for (int i = 0; i < nv; i++) {
+                Point2D next = iter.hasNext() ? iter.next() : first;
+                x1s[e] = x;
+                y1s[e] = y;
+                x = next.x();
+                y = next.y();
+                x2s[e] = x;
+                y2s[e] = y;
+                e++;
+            }
+        }
+
+        computeMeasures();
+        createBuckets();
+    }
+
+    /**
+     * Computes signed area and bounds.
+     */
+    private void computeMeasures() {
+        xmin = Double.POSITIVE_INFINITY;
+        xmax = Double.NEGATIVE_INFINITY;
+        ymin = Double.POSITIVE_INFINITY;
+        ymax = Double.NEGATIVE_INFINITY;
+
+        double sum = 0;
+        for (int e = 0; e < nEdges; e++) {
+            sum += x1s[e] * y2s[e] - x2s[e] * y1s[e];
+            xmin = Math.min(xmin, x1s[e]);
+            xmax = Math.max(xmax, x1s[e]);
+            ymin = Math.min(ymin, y1s[e]);
+            ymax = Math.max(ymax, y1s[e]);
+        }
+        this.area = sum / 2;
+    }
+
+    /**
+     * Dispatches the edges into horizontal buckets, using two passes: a first
+     * pass for counting references, and a second one for storing them. Edges
+     * covering more than MAX_EDGE_BUCKETS buckets are stored in the list of
+     * tall edges.
+     */
+    private void createBuckets() {
+        nBuckets = Math.max(1, nEdges);
+        bucketHeight = (ymax - ymin) / nBuckets;
+        if (!(bucketHeight > 0)) {
+            nBuckets = 1;
+            bucketHeight = 1;
+        }
+
+        // count the number of edges within each bucket
+        bucketStarts = new int[nBuckets + 1];
+        int nTall = 0;
+        for (int e = 0; e < nEdges; e++) {
+            int b1 = bucketIndex(Math.min(y1s[e], y2s[e]) - Shape2D.ACCURACY);
+            int b2 = bucketIndex(Math.max(y1s[e], y2s[e]) + Shape2D.ACCURACY);
+            if (b2 - b1 >= MAX_EDGE_BUCKETS) {
+                nTall++;
+                continue;
+            }
+            for (int b = b1; b <= b2; b++)
+                bucketStarts[b + 1]++;
+        }
+
+        // cumulative sum
+        for (int b = 0; b < nBuckets; b++)
+            bucketStarts[b + 1] += bucketStarts[b];
+
+        // store edge indices
+        bucketEdges = new int[bucketStarts[nBuckets]];
+        tallEdges = new int[nTall];
+        nTall = 0;
+        int[] pos = new int[nBuckets];
+        System.arraycopy(bucketStarts, 0, pos, 0, nBuckets);
+        for (int e = 0; e < nEdges; e++) {
+            int b1 = bucketIndex(Math.min(y1s[e], y2s[e]) - Shape2D.ACCURACY);
+            int b2 = bucketIndex(Math.max(y1s[e], y2s[e]) + Shape2D.ACCURACY);
+            if (b2 - b1 >= MAX_EDGE_BUCKETS) {
+                tallEdges[nTall++] = e;
+                continue;
+            }
+            for (int b = b1; b <= b2; b++)
+                bucketEdges[pos[b]++] = e;
+        }
+    }
+
+    /**
+     * Returns the index of the bucket containing the y-coordinate, clamped
+     * to the range of buckets.
+     */
+    private int bucketIndex(double y) {
+        int b = (int) Math.floor((y - ymin) / bucketHeight);
+        return Math.max(0, Math.min(b, nBuckets - 1));
+    }
+
+    // ===================================================================
+    // accessors
+
+    /**
+     * Returns the polygon used to create this prepared polygon.
+     */
+    public Polygon2D polygon() {
+        return polygon;
+    }
+
+    /**
+     * Returns the signed area of the polygon, computed at construction.
+     */
+    public double area() {
+        return area;
+    }
+
+    /**
+     * Returns true if the polygon is oriented counter-clockwise, that is if
+     * its signed area is positive.
+     */
+    public boolean isCounterClockwise() {
+        return area > 0;
+    }
+
+    /**
+     * Returns the bounding box of the polygon vertices.
+     */
+    public Box2D boundingBox() {
+        return new Box2D(xmin, xmax, ymin, ymax);
+    }
+
+    // ===================================================================
+    // queries
+
+    /**
+     * Returns true if the point is inside the polygon, or on its boundary
+     * with precision given by Shape2D.ACCURACY.
+     */
+    public boolean contains(Point2D point) {
+        return contains(point.x(), point.y());
+    }
+
+    /**
+     * Returns true if the point (x, y) is inside the polygon, or on its
+     * boundary with precision given by Shape2D.ACCURACY.
+     */
+    public boolean contains(double x, double y) {
+        double eps = Shape2D.ACCURACY;
+        if (x < xmin - eps || x > xmax + eps || y < ymin - eps
+                || y > ymax + eps)
+            return area <= 0;
+
+        // check the point is on the boundary
+        int b = bucketIndex(y);
+        for (int k = bucketStarts[b]; k < bucketStarts[b + 1]; k++) {
+            if (edgeDistance(bucketEdges[k], x, y) <= eps)
+                return true;
+        }
+        for (int e : tallEdges) {
+            if (edgeDistance(e, x, y) <= eps)
+                return true;
+        }
+
+        int winding = windingNumber(x, y);
+        return area > 0 ? winding > 0 : winding >= 0;
+    }
+
+    /**
+     * Computes the winding number of the polygon around the point (x, y),
+     * using the edges of the bucket containing the point and the tall edges.
+     */
+    public int windingNumber(double x, double y) {
+        if (y < ymin || y > ymax)
+            return 0;
+
+        int wn = 0;
+        int b = bucketIndex(y);
+        for (int k = bucketStarts[b]; k < bucketStarts[b + 1]; k++)
+            wn += crossing(bucketEdges[k], x, y);
+        for (int e : tallEdges)
+            wn += crossing(e, x, y);
+        return wn;
+    }
+
+    /**
+     * Returns +1 for an upward crossing of the edge on the right of the
+     * point, -1 for a downward crossing, and 0 otherwise.
+     */
+    private int crossing(int e, double x, double y) {
+        double x1 = x1s[e];
+        double y1 = y1s[e];
+        double x2 = x2s[e];
+        double y2 = y2s[e];
+
+        if (y1 <= y) {
+            // an upward crossing
+            if (y2 > y && isLeft(x1, y1, x2, y2, x, y) > 0)
+                return 1;
+        } else {
+            // a downward crossing
+            if (y2 <= y && isLeft(x1, y1, x2, y2, x, y) < 0)
+                return -1;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the distance of the point to the polygon, or zero if the point
+     * is inside the polygon.
+     */
+    public double distance(Point2D point) {
+        return distance(point.x(), point.y());
+    }
+
+    /**
+     * Returns the distance of the point to the polygon, or zero if the point
+     * is inside the polygon.
+     */
+    public double distance(double x, double y) {
+        if (contains(x, y))
+            return 0;
+        return boundaryDistance(x, y);
+    }
+
+    /**
+     * Returns the distance of the point to the boundary of the polygon, or
+     * positive infinity if the polygon has no edge.
+     */
+    public double boundaryDistance(double x, double y) {
+        double minDist = Double.POSITIVE_INFINITY;
+        if (nEdges == 0)
+            return minDist;
+
+        // start with tall edges, then iterate on buckets, starting from the
+        // one containing y, and going alternatively up and down
+        minDist = edgesDistance(tallEdges, 0, tallEdges.length, x, y, minDist);
+        int b0 = bucketIndex(y);
+        for (int k = 0; ; k++) {
+            int b1 = b0 - k;
+            int b2 = b0 + k;
+            if (b1 < 0 && b2 >= nBuckets)
+                break;
+
+            double gap1 = b1 >= 0 ? bucketGap(b1, y) : Double.POSITIVE_INFINITY;
+            double gap2 = b2 < nBuckets ? bucketGap(b2, y) : Double.POSITIVE_INFINITY;
+            if (gap1 >= minDist && gap2 >= minDist)
+                break;
+
+            if (gap1 < minDist)
+                minDist = bucketDistance(b1, x, y, minDist);
+            if (k > 0 && gap2 < minDist)
+                minDist = bucketDistance(b2, x, y, minDist);
+        }
+        return minDist;
+    }
+
+    /**
+     * Returns the vertical distance between the y-coordinate and the bucket.
+     * Extreme buckets are considered as unbounded.
+     */
+    private double bucketGap(int b, double y) {
+        double y1 = b == 0 ? Double.NEGATIVE_INFINITY : ymin + b * bucketHeight;
+        double y2 = b == nBuckets - 1 ? Double.POSITIVE_INFINITY
+                : ymin + (b + 1) * bucketHeight;
+        if (y < y1)
+            return y1 - y;
+        if (y > y2)
+            return y - y2;
+        return 0;
+    }
+
+    /**
+     * Returns the minimum between the current distance and the distance to
+     * each edge referenced by the bucket.
+     */
+    private double bucketDistance(int b, double x, double y, double minDist) {
+        return edgesDistance(bucketEdges, bucketStarts[b], bucketStarts[b + 1],
+                x, y, minDist);
+    }
+
+    /**
+     * Returns the minimum between the current distance and the distance to
+     * each edge whose index is stored in the given range of the array.
+     */
+    private double edgesDistance(int[] edges, int from, int to, double x,
+            double y, double minDist) {
+        for (int k = from; k < to; k++) {
+            int e = edges[k];
+
+            // avoid computing distance of edges too far in x direction
+            double ex1 = Math.min(x1s[e], x2s[e]);
+            double ex2 = Math.max(x1s[e], x2s[e]);
+            if (ex1 - x >= minDist || x - ex2 >= minDist)
+                continue;
+
+            minDist = Math.min(minDist, edgeDistance(e, x, y));
+        }
+        return minDist;
+    }
+
+    /**
+     * Computes the distance between the point (x, y) and the given edge.
+     */
+    private double edgeDistance(int e, double x, double y) {
+        double x1 = x1s[e];
+        double y1 = y1s[e];
+        double dx = x2s[e] - x1;
+        double dy = y2s[e] - y1;
+        double d2 = dx * dx + dy * dy;
+
+        // position of projection on the edge, clamped to the edge
+        double t = 0;
+        if (d2 > 0)
+            t = Math.max(0, Math.min(1, ((x - x1) * dx + (y - y1) * dy) / d2));
+
+        return Math.hypot(x1 + t * dx - x, y1 + t * dy - y);
+    }
+
+    /**
+     * Tests if the point (x,y) is Left|On|Right of the line through the
+     * points (x1,y1) and (x2,y2).
+     */
+    private static int isLeft(double x1, double y1, double x2, double y2,
+            double x, double y) {
+        return (int) Math.signum(Predicates2D.orient2d(x1, y1, x2, y2, x, y));
+    }
+}
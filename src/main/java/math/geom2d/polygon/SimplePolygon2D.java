@@ -27,6 +27,7 @@ package math.geom2d.polygon;
 
 // Imports
 import java.awt.Graphics2D;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -76,6 +77,18 @@ public class SimplePolygon2D implements Polygon2D {
      */
     protected ArrayList<Point2D> vertices;
 
+    /**
+     * The signed area of the polygon, or NaN if it was not computed since
+     * the last modification of the vertices.
+     */
+    private double area = Double.NaN;
+    
+    /** The centroid of the polygon, computed when needed */
+    private Point2D centroid = null;
+    
+    /** The bounding box of the polygon, computed when needed */
+    private Box2D boundingBox = null;
+    
     // ===================================================================
     // constructors
 
@@ -178,6 +191,7 @@ public class SimplePolygon2D implements Polygon2D {
      */
     public void addVertex(Point2D point) {
         this.vertices.add(point);
+        invalidateCache();
     }
 
     /**
@@ -186,6 +200,7 @@ public class SimplePolygon2D implements Polygon2D {
      */
     public void insertVertex(int index, Point2D point) {
         this.vertices.add(index, point);
+        invalidateCache();
     }
 
     /**
@@ -193,6 +208,7 @@ public class SimplePolygon2D implements Polygon2D {
 	 */
 	public void setVertex(int index, Point2D position) {
 	    this.vertices.set(index, position);
+	    invalidateCache();
 	}
 
 	/**
@@ -201,7 +217,11 @@ public class SimplePolygon2D implements Polygon2D {
      * @param point the vertex to be removed.
      */
     public boolean removeVertex(Point2D point) {
-        return this.vertices.remove(point);
+    	int index = this.vertices.indexOf(point);
+    	if (index < 0)
+    		return false;
+    	removeVertex(index);
+    	return true;
     }
 
     /**
@@ -210,6 +230,7 @@ public class SimplePolygon2D implements Polygon2D {
      */
     public void removeVertex(int index) {
         this.vertices.remove(index);
+        invalidateCache();
     }
 
     /**
@@ -217,6 +238,17 @@ public class SimplePolygon2D implements Polygon2D {
      */
     public void clearVertices() {
         this.vertices.clear();
+        invalidateCache();
+    }
+    
+    /**
+     * Clears the values computed from the vertices. Called each time the
+     * vertices are modified.
+     */
+    protected void invalidateCache() {
+    	area = Double.NaN;
+    	centroid = null;
+    	boundingBox = null;
     }
     
     /**
@@ -242,12 +274,15 @@ public class SimplePolygon2D implements Polygon2D {
      * href="http://local.wasp.uwa.edu.au/~pbourke/geometry/polyarea/">
      * http://local.wasp.uwa.edu.au/~pbourke/geometry/polyarea/</a>. Signed are
      * is positive if polygon is oriented counter-clockwise, and negative
-     * otherwise. Result is wrong if polygon is self-intersecting.
+     * otherwise. Result is wrong if polygon is self-intersecting. The area
+     * is computed once, and kept until the vertices are modified.
      * 
      * @return the signed area of the polygon.
      */
     public double area() {
-    	return Polygons2D.computeArea(this);
+    	if (Double.isNaN(area))
+    		area = Polygons2D.computeArea(this);
+    	return area;
     }
 
     /**
@@ -259,15 +294,18 @@ public class SimplePolygon2D implements Polygon2D {
      * @return the centroid of the polygon
      */
     public Point2D centroid() {
-    	return Polygons2D.computeCentroid(this);
+    	if (centroid == null)
+    		centroid = Polygons2D.computeCentroid(this);
+    	return centroid;
     }
 
     /**
-     * Returns the points of the polygon. The result is a pointer to the inner
-     * collection of vertices.
+     * Returns the points of the polygon. The result is a view on the inner
+     * collection of vertices: modifications of the view are reflected in
+     * the polygon.
      */
     public Collection<Point2D> vertices() {
-        return vertices;
+        return new VertexList();
     }
 
     /**
@@ -423,10 +461,31 @@ public class SimplePolygon2D implements Polygon2D {
     }
 
     /**
-     * Returns the bounding box of the polygon.
+     * Returns the bounding box of the polygon. The box is computed once, and
+     * kept until the vertices are modified.
      */
     public Box2D boundingBox() {
-        return boundary().boundingBox();
+    	if (boundingBox == null) 
+    		boundingBox = computeBoundingBox();
+    	return boundingBox;
+    }
+    
+    private Box2D computeBoundingBox() {
+        double xmin = Double.MAX_VALUE;
+        double ymin = Double.MAX_VALUE;
+        double xmax = -Double.MAX_VALUE;
+        double ymax = -Double.MAX_VALUE;
+
+        for (Point2D vertex : this.vertices) {
+        	double x = vertex.x();
+        	double y = vertex.y();
+            xmin = Math.min(xmin, x);
+            xmax = Math.max(xmax, x);
+            ymin = Math.min(ymin, y);
+            ymax = Math.max(ymax, y);
+        }
+
+        return new Box2D(xmin, xmax, ymin, ymax);
     }
 
     /**
@@ -447,16 +506,18 @@ public class SimplePolygon2D implements Polygon2D {
     public SimplePolygon2D transform(AffineTransform2D trans) {
         int nPoints = this.vertices.size();
 
-        Point2D[] array = new Point2D[nPoints];
-        Point2D[] res = new Point2D[nPoints];
-
+        // transform packed coordinates
+        double[] xy = new double[2 * nPoints];
 		for (int i = 0; i < nPoints; i++) {
-			array[i] = this.vertices.get(i);
-            res[i] = new Point2D();
-        }
-        trans.transform(array, res);
+			Point2D vertex = this.vertices.get(i);
+			xy[2 * i] = vertex.x();
+			xy[2 * i + 1] = vertex.y();
+		}
+        trans.transform(xy, 0, xy, 0, nPoints);
 
-        SimplePolygon2D poly = new SimplePolygon2D(res);
+        SimplePolygon2D poly = new SimplePolygon2D(nPoints);
+		for (int i = 0; i < nPoints; i++)
+			poly.vertices.add(new Point2D(xy[2 * i], xy[2 * i + 1]));
         if (!trans.isDirect())
             poly = poly.complement();
 
@@ -593,4 +654,47 @@ public class SimplePolygon2D implements Polygon2D {
         return new SimplePolygon2D(array);
     }
 
-}
\ No newline at end of file
+    // ===================================================================
+    // inner types
+
+    /**
+     * A modifiable view on the vertices of the polygon, that clears the
+     * computed values when vertices are modified.
+     */
+    private class VertexList extends AbstractList<Point2D> {
+    	
+		@Override
+		public Point2D get(int index) {
+			return vertices.get(index);
+		}
+
+		@Override
+		public int size() {
+			return vertices.size();
+		}
+
+		@Override
+		public Point2D set(int index, Point2D point) {
+			Point2D previous = vertices.get(index);
+			setVertex(index, point);
+			return previous;
+		}
+
+		@Override
+		public void add(int index, Point2D point) {
+			insertVertex(index, point);
+		}
+
+		@Override
+		public Point2D remove(int index) {
+			Point2D vertex = vertices.get(index);
+			removeVertex(index);
+			return vertex;
+		}
+
+		@Override
+		public void clear() {
+			clearVertices();
+		}
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * File: 	StreamingSimplifier2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+
+/**
+ * Simplifies a polyline whose vertices are received one at a time, for
+ * example from a GPS track. The simplified vertices are appended to a
+ * Polyline2D, that can be emptied at any time by the caller.<p>
+ * The algorithm uses an opening window: the last emitted vertex is the
+ * anchor, and the received vertices are buffered while all of them are
+ * within the tolerance distance of the segment joining the anchor and the
+ * last received vertex. When this is not the case anymore, or when the
+ * buffer is full, the previous vertex is emitted and becomes the new anchor.
+ * Each received vertex is thus within the tolerance distance of the
+ * simplified polyline, and the memory used by the simplifier does not depend
+ * on the length of the track. Processing a vertex requires O(w) operations,
+ * where w is the size of the window.
+ *
+ * <pre><code>
+ * StreamingSimplifier2D simplifier = new StreamingSimplifier2D(5);
+ * while (receiver.hasNext())
+ *     simplifier.add(receiver.next());
+ * simplifier.flush();
+ * Polyline2D track = simplifier.sink();
+ * </code></pre>
+ *
+ * @see Polyline2D#simplify(double)
+ * @author dlegland
+ */
+public class StreamingSimplifier2D {
+
+	// ===================================================================
+	// constants
+
+	/** The default maximal number of buffered vertices */
+	public final static int DEFAULT_WINDOW_SIZE = 256;
+
+	// ===================================================================
+	// class variables
+
+	/** The squared tolerance distance */
+	private final double distMax2;
+
+	/** The polyline that receives the simplified vertices */
+	private final Polyline2D sink;
+
+	/** The coordinates of the last emitted vertex */
+	private double anchorX, anchorY;
+
+	/** Indicates if a vertex has been emitted */
+	private boolean anchored = false;
+
+	/** The vertices received since the last emitted vertex */
+	private final double[] xs;
+	private final double[] ys;
+	private int size = 0;
+
+	// ===================================================================
+	// constructors
+
+	/**
+	 * Creates a new simplifier with the given tolerance distance, that
+	 * appends simplified vertices to a new polyline.
+	 */
+	public StreamingSimplifier2D(double distMax) {
+		this(distMax, DEFAULT_WINDOW_SIZE, new Polyline2D());
+	}
+
+	/**
+	 * Creates a new simplifier with the given tolerance distance, that
+	 * appends simplified vertices to the specified polyline.
+	 */
+	public StreamingSimplifier2D(double distMax, Polyline2D sink) {
+		this(distMax, DEFAULT_WINDOW_SIZE, sink);
+	}
+
+	/**
+	 * Creates a new simplifier with the given tolerance distance and maximal
+	 * number of buffered vertices, that appends simplified vertices to the
+	 * specified polyline.
+	 */
+	public StreamingSimplifier2D(double distMax, int windowSize,
+			Polyline2D sink) {
+		if (windowSize < 1)
+			throw new IllegalArgumentException(
+					"Window size must be positive: " + windowSize);
+		this.distMax2 = distMax * distMax;
+		this.sink = sink;
+		this.xs = new double[windowSize];
+		this.ys = new double[windowSize];
+	}
+
+	// ===================================================================
+	// methods for adding vertices
+
+	/**
+	 * Adds a vertex to the track.
+	 */
+	public void add(Point2D point) {
+		add(point.x(), point.y());
+	}
+
+	/**
+	 * Adds the vertex with the given coordinates to the track.
+	 */
+	public void add(double x, double y) {
+		// the first vertex is always emitted
+		if (!anchored) {
+			emit(x, y);
+			return;
+		}
+
+		// emit the previous vertex if the window is full, or if a buffered
+		// vertex is too far from the new segment
+		if (size > 0 && (size == xs.length || !isValid(x, y))) {
+			emit(xs[size - 1], ys[size - 1]);
+			size = 0;
+		}
+
+		xs[size] = x;
+		ys[size] = y;
+		size++;
+	}
+
+	/**
+	 * Adds a collection of vertices to the track.
+	 */
+	public void addAll(Collection<? extends Point2D> points) {
+		for (Point2D point : points)
+			add(point.x(), point.y());
+	}
+
+	/**
+	 * Adds the n first vertices stored in the coordinate arrays to the track.
+	 */
+	public void addAll(double[] xcoords, double[] ycoords, int n) {
+		for (int i = 0; i < n; i++)
+			add(xcoords[i], ycoords[i]);
+	}
+
+	/**
+	 * Emits the last received vertex, if it was not emitted yet. The
+	 * vertices added after this call continue the same track.
+	 */
+	public void flush() {
+		if (size > 0) {
+			emit(xs[size - 1], ys[size - 1]);
+			size = 0;
+		}
+	}
+
+	// ===================================================================
+	// accessors
+
+	/**
+	 * Returns the polyline that receives the simplified vertices.
+	 */
+	public Polyline2D sink() {
+		return sink;
+	}
+
+	/**
+	 * Returns the number of received vertices that are currently buffered.
+	 */
+	public int bufferedVertexNumber() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximal number of buffered vertices.
+	 */
+	public int windowSize() {
+		return xs.length;
+	}
+
+	// ===================================================================
+	// private methods
+
+	private void emit(double x, double y) {
+		sink.appendVertex(x, y);
+		anchorX = x;
+		anchorY = y;
+		anchored = true;
+	}
+
+	/**
+	 * Checks that all the buffered vertices are within the tolerance
+	 * distance of the segment joining the anchor and the given point.
+	 */
+	private boolean isValid(double x, double y) {
+		double dx = x - anchorX;
+		double dy = y - anchorY;
+		double d2 = dx * dx + dy * dy;
+		for (int i = 0; i < size; i++) {
+			double px = xs[i] - anchorX;
+			double py = ys[i] - anchorY;
+			double t = d2 == 0 ? 0 : (px * dx + py * dy) / d2;
+			t = Math.max(0, Math.min(1, t));
+			double ex = px - t * dx;
+			double ey = py - t * dy;
+			if (ex * ex + ey * ey > distMax2)
+				return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,259 @@
+/**
+ * File: 	ChanHull2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+import math.geom2d.Predicates2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Computes the convex hull of a set of points using the algorithm of Chan.
+ * The points are partitioned into groups of size m, whose hulls are computed
+ * with the monotone chain algorithm. The global hull is then obtained by
+ * gift wrapping, using a binary search for finding the tangent to each
+ * group hull. The size m of the groups is increased until the hull is
+ * obtained in at most m steps. Complexity is O(n*log(h)), where h is the
+ * number of vertices of the hull.<p>
+ * Collinear and multiple points are correctly processed: the resulting
+ * polygon contains only the extreme vertices of the hull, in counter-clockwise
+ * order, starting from the point with the lowest x-coordinate (and the lowest
+ * y-coordinate for equal x). Computation works directly on coordinate arrays.
+ *
+ * @see MonotoneChain2D
+ * @author dlegland
+ */
+public class ChanHull2D implements ConvexHull2D {
+
+	/**
+	 * Creates a new Convex hull calculator.
+	 */
+	public ChanHull2D() {
+	}
+
+	/**
+	 * Computes the convex hull of a set of points as a single Polygon2D. The
+	 * vertices of the polygon are the instances of the input collection.
+	 */
+	public Polygon2D convexHull(Collection<? extends Point2D> points) {
+		int n = points.size();
+		Point2D[] array = points.toArray(new Point2D[n]);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = array[i].x();
+			ys[i] = array[i].y();
+		}
+
+		int[] hull = new int[n];
+		int nh = convexHull(xs, ys, n, hull);
+
+		ArrayList<Point2D> vertices = new ArrayList<Point2D>(nh);
+		for (int i = 0; i < nh; i++)
+			vertices.add(array[hull[i]]);
+		return new SimplePolygon2D(vertices);
+	}
+
+	/**
+	 * Computes the convex hull of the points given by two coordinate arrays.
+	 */
+	public Polygon2D convexHull(double[] xs, double[] ys) {
+		int n = xs.length;
+		int[] hull = new int[n];
+		int nh = convexHull(xs, ys, n, hull);
+		return MonotoneChain2D.createPolygon(xs, ys, hull, nh);
+	}
+
+	/**
+	 * Computes the convex hull of the n first points given by two coordinate
+	 * arrays. The indices of the hull vertices are stored in the
+	 * <code>hull</code> array, that must contain at least n elements.
+	 *
+	 * @return the number of vertices of the convex hull
+	 */
+	public int convexHull(double[] xs, double[] ys, int n, int[] hull) {
+		if (hull.length < n)
+			throw new IllegalArgumentException(
+					"Hull array must contain at least n elements");
+		if (n == 0)
+			return 0;
+
+		// keep candidate points, and copy their coordinates
+		int[] inds = new int[n];
+		int nk = MonotoneChain2D.filter(xs, ys, 0, n, inds);
+		double[] px = new double[nk];
+		double[] py = new double[nk];
+		for (int i = 0; i < nk; i++) {
+			px[i] = xs[inds[i]];
+			py[i] = ys[inds[i]];
+		}
+
+		// try with groups of size 4, 16, 256, 65536...
+		int[] groupHulls = new int[nk];
+		int nh = -1;
+		for (int t = 1; nh < 0; t++) {
+			int m = t < 5 ? 1 << (1 << t) : nk;
+			if (m >= nk) {
+				// a single group, whose hull is the result
+				MonotoneChain2D.sort(px, py, inds, 0, nk);
+				nh = MonotoneChain2D.monotoneChain(px, py, 0, nk, hull, 0);
+			} else {
+				nh = wrap(px, py, inds, nk, m, groupHulls, hull);
+			}
+		}
+
+		// convert positions within sorted arrays into point indices
+		for (int i = 0; i < nh; i++)
+			hull[i] = inds[hull[i]];
+		return nh;
+	}
+
+	/**
+	 * Computes the hulls of groups of m points, then tries to compute the
+	 * global hull by gift wrapping in at most m steps. The coordinate arrays
+	 * are sorted within each group, and the positions of the hull vertices
+	 * within the sorted arrays are stored in the hull array.
+	 *
+	 * @return the number of hull vertices, or -1 if the hull could not be
+	 *         computed in m steps
+	 */
+	private int wrap(double[] xs, double[] ys, int[] inds, int n, int m,
+			int[] groupHulls, int[] hull) {
+		// compute the hull of each group. The hull of group g is stored in
+		// groupHulls, starting at position g*m.
+		int nGroups = (n + m - 1) / m;
+		int[] sizes = new int[nGroups];
+		for (int g = 0; g < nGroups; g++) {
+			int from = g * m;
+			int to = Math.min(from + m, n);
+			MonotoneChain2D.sort(xs, ys, inds, from, to);
+			sizes[g] = MonotoneChain2D.monotoneChain(xs, ys, from, to,
+					groupHulls, from);
+		}
+
+		// The first group contains the point with the lowest x-coordinate,
+		// that is also the first vertex of the hull of the group.
+		int start = groupHulls[0];
+		double x0 = xs[start];
+		double y0 = ys[start];
+
+		int currentGroup = 0;
+		int currentIndex = 0;
+		int nh = 0;
+		while (nh < m) {
+			int current = groupHulls[currentGroup * m + currentIndex];
+			hull[nh++] = current;
+			double px = xs[current];
+			double py = ys[current];
+
+			// find the most clockwise candidate over all groups
+			int best = -1, bestGroup = -1, bestIndex = -1;
+			for (int g = 0; g < nGroups; g++) {
+				int k = sizes[g];
+				int offset = g * m;
+				int j;
+				if (g == currentGroup) {
+					if (k == 1)
+						continue;
+					j = currentIndex + 1 == k ? 0 : currentIndex + 1;
+				} else {
+					j = tangent(xs, ys, groupHulls, offset, k, px, py);
+				}
+
+				int cand = groupHulls[offset + j];
+				if (best == -1 || isBefore(xs, ys, px, py, cand, best)) {
+					best = cand;
+					bestGroup = g;
+					bestIndex = j;
+				}
+			}
+
+			// stop when the first vertex is found again
+			if (best == -1 || (xs[best] == x0 && ys[best] == y0))
+				return nh;
+
+			currentGroup = bestGroup;
+			currentIndex = bestIndex;
+		}
+
+		// the hull has more than m vertices
+		return -1;
+	}
+
+	/**
+	 * Finds the vertex of a convex polygon such that all the other vertices
+	 * are on the left of the line from the point (px, py) to the vertex. The
+	 * polygon is given by the indices of its vertices in counter-clockwise
+	 * order, stored in the range [offset, offset+k) of the array. The point
+	 * must be outside of the polygon, or equal to one of its vertices.<p>
+	 * The directions of the vertices as seen from the point form a bitonic
+	 * sequence, whose minimum is found by binary search.
+	 *
+	 * @return the index of the tangent vertex, between 0 and k-1
+	 */
+	static int tangent(double[] xs, double[] ys, int[] poly, int offset,
+			int k, double px, double py) {
+		if (k < 3) {
+			int best = 0;
+			for (int j = 1; j < k; j++) {
+				if (isBefore(xs, ys, px, py, poly[offset + j], poly[offset + best]))
+					best = j;
+			}
+			return best;
+		}
+
+		// check if the first vertex is the minimum
+		int q0 = poly[offset];
+		boolean rising0 = isBefore(xs, ys, px, py, q0, poly[offset + 1]);
+		if (rising0 && isBefore(xs, ys, px, py, q0, poly[offset + k - 1]))
+			return 0;
+
+		// binary search of the minimum within the range [1, k-1]
+		int lo = 1, hi = k - 1;
+		while (lo < hi) {
+			int c = (lo + hi) >>> 1;
+			int qc = poly[offset + c];
+			boolean falling = isBefore(xs, ys, px, py, poly[offset + c + 1], qc);
+			boolean before;
+			if (rising0)
+				before = falling || !isBefore(xs, ys, px, py, qc, q0);
+			else
+				before = falling && isBefore(xs, ys, px, py, qc, q0);
+
+			if (before)
+				lo = c + 1;
+			else
+				hi = c;
+		}
+		return lo;
+	}
+
+	/**
+	 * Checks if the direction from the point (px, py) to the point of index
+	 * i is clockwise with respect to the direction to the point of index j.
+	 * For points in the same direction, the farthest point is considered as
+	 * before. A point equal to (px, py) is after all other points.
+	 */
+	static boolean isBefore(double[] xs, double[] ys, double px, double py,
+			int i, int j) {
+		double cross = Predicates2D.orient2d(px, py, xs[i], ys[i], xs[j], ys[j]);
+		if (cross > 0)
+			return true;
+		if (cross < 0)
+			return false;
+		double dxi = xs[i] - px;
+		double dyi = ys[i] - py;
+		double dxj = xs[j] - px;
+		double dyj = ys[j] - py;
+		return dxi * dxi + dyi * dyi > dxj * dxj + dyj * dyj;
+	}
+}
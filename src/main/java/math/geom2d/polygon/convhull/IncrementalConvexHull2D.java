@@ -0,0 +1,281 @@
+/**
+ * File: 	IncrementalConvexHull2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import math.geom2d.Point2D;
+import math.geom2d.Predicates2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Convex hull of a set of points that receives new points over time. The
+ * lower and upper chains of the hull are stored in two balanced trees
+ * (red-black trees) sorted by x-coordinate. The insertion of a point and
+ * the test of containment of a point require O(log h) operations, where h
+ * is the number of hull vertices, not counting the vertices removed by
+ * insertions.<p>
+ * The hull can be retrieved at any time as a SimplePolygon2D, whose vertices
+ * are the instances of the inserted points. As for <code>MonotoneChain2D</code>,
+ * the polygon contains only the extreme vertices of the hull, in
+ * counter-clockwise order, starting from the point with the lowest
+ * x-coordinate (and the lowest y-coordinate for equal x).
+ *
+ * <pre><code>
+ * IncrementalConvexHull2D hull = new IncrementalConvexHull2D();
+ * for (Point2D point : track)
+ *     hull.add(point);
+ * SimplePolygon2D polygon = hull.convexHull();
+ * </code></pre>
+ *
+ * @see MonotoneChain2D
+ * @author dlegland
+ */
+public class IncrementalConvexHull2D {
+
+	// ===================================================================
+	// class variables
+
+	/** The lower chain, from left to right */
+	private Chain lower = new Chain(1);
+
+	/** The upper chain, from left to right */
+	private Chain upper = new Chain(-1);
+
+	// ===================================================================
+	// constructors
+
+	/**
+	 * Creates a new empty convex hull.
+	 */
+	public IncrementalConvexHull2D() {
+	}
+
+	/**
+	 * Creates a new convex hull initialized with a collection of points.
+	 */
+	public IncrementalConvexHull2D(Collection<? extends Point2D> points) {
+		addAll(points);
+	}
+
+	// ===================================================================
+	// methods for updating the hull
+
+	/**
+	 * Adds a point to the hull.
+	 *
+	 * @return true if the hull was modified by the insertion of the point
+	 */
+	public boolean add(Point2D point) {
+		boolean b1 = lower.add(point);
+		boolean b2 = upper.add(point);
+		return b1 || b2;
+	}
+
+	/**
+	 * Adds the point with the given coordinates to the hull.
+	 *
+	 * @return true if the hull was modified by the insertion of the point
+	 */
+	public boolean add(double x, double y) {
+		return add(new Point2D(x, y));
+	}
+
+	/**
+	 * Adds a collection of points to the hull.
+	 *
+	 * @return true if the hull was modified by the insertion of the points
+	 */
+	public boolean addAll(Collection<? extends Point2D> points) {
+		boolean changed = false;
+		for (Point2D point : points)
+			changed |= add(point);
+		return changed;
+	}
+
+	/**
+	 * Removes all the points of the hull.
+	 */
+	public void clear() {
+		lower.map.clear();
+		upper.map.clear();
+	}
+
+	// ===================================================================
+	// methods for querying the hull
+
+	/**
+	 * Returns true if no point was added to the hull.
+	 */
+	public boolean isEmpty() {
+		return lower.map.isEmpty();
+	}
+
+	/**
+	 * Returns the number of vertices of the hull.
+	 */
+	public int vertexNumber() {
+		int nl = lower.map.size();
+		int nu = upper.map.size();
+		if (nl == 0)
+			return 0;
+		int n = nl + nu;
+		if (samePoint(lower.map.firstEntry().getValue(),
+				upper.map.firstEntry().getValue()))
+			n--;
+		if (samePoint(lower.map.lastEntry().getValue(),
+				upper.map.lastEntry().getValue()))
+			n--;
+		// case of a single point
+		return Math.max(n, 1);
+	}
+
+	/**
+	 * Checks if the specified point is inside the hull or on its boundary.
+	 */
+	public boolean contains(Point2D point) {
+		return contains(point.x(), point.y());
+	}
+
+	/**
+	 * Checks if the point with the given coordinates is inside the hull or
+	 * on its boundary.
+	 */
+	public boolean contains(double x, double y) {
+		if (lower.map.isEmpty())
+			return false;
+		if (x < lower.map.firstKey() || x > lower.map.lastKey())
+			return false;
+		return lower.isInside(x, y) && upper.isInside(x, y);
+	}
+
+	/**
+	 * Returns the current convex hull as a new polygon. The vertices of the
+	 * polygon are the instances of the inserted points.
+	 */
+	public SimplePolygon2D convexHull() {
+		ArrayList<Point2D> vertices = new ArrayList<Point2D>(
+				lower.map.size() + upper.map.size());
+		if (lower.map.isEmpty())
+			return new SimplePolygon2D(vertices);
+
+		// lower chain from left to right
+		vertices.addAll(lower.map.values());
+
+		// upper chain from right to left, avoiding duplicate end points
+		Point2D first = vertices.get(0);
+		Point2D last = vertices.get(vertices.size() - 1);
+		for (Point2D point : upper.map.descendingMap().values()) {
+			if (!samePoint(point, last) && !samePoint(point, first))
+				vertices.add(point);
+		}
+		return new SimplePolygon2D(vertices);
+	}
+
+	private static boolean samePoint(Point2D p1, Point2D p2) {
+		return p1.x() == p2.x() && p1.y() == p2.y();
+	}
+
+	/**
+	 * Computes the cross product of the vectors (p1-p0) and (p2-p0). The
+	 * sign of the result is computed with robust predicates.
+	 */
+	private static double cross(Point2D p0, Point2D p1, double x2, double y2) {
+		return Predicates2D.orient2d(p0.x(), p0.y(), p1.x(), p1.y(), x2, y2);
+	}
+
+	// ===================================================================
+	// inner class for hull chains
+
+	/**
+	 * One of the two chains of the hull, stored in a tree sorted by
+	 * x-coordinate. For the lower chain (sign equal to 1), the chain turns
+	 * counter-clockwise when traversed from left to right, and the interior
+	 * of the hull is above the chain. The upper chain (sign equal to -1)
+	 * turns clockwise, and the interior is below.
+	 */
+	private final static class Chain {
+		final TreeMap<Double, Point2D> map = new TreeMap<Double, Point2D>();
+		final int sign;
+
+		Chain(int sign) {
+			this.sign = sign;
+		}
+
+		/**
+		 * Checks if the point is on the side of the interior of the hull
+		 * with respect to the chain, or on the chain. The x-coordinate
+		 * must be within the extent of the chain.
+		 */
+		boolean isInside(double x, double y) {
+			// add zero to convert -0.0 into 0.0, that are different keys
+			x = x + 0.0;
+			Map.Entry<Double, Point2D> left = map.floorEntry(x);
+			if (left.getKey() == x)
+				return sign * (y - left.getValue().y()) >= 0;
+			Point2D right = map.higherEntry(x).getValue();
+			return sign * cross(left.getValue(), right, x, y) >= 0;
+		}
+
+		/**
+		 * Adds a point to the chain, and removes the vertices that are not
+		 * strictly convex anymore.
+		 *
+		 * @return true if the chain was modified
+		 */
+		boolean add(Point2D point) {
+			double x = point.x() + 0.0;
+			double y = point.y();
+			Double key = x;
+
+			// a vertex with the same x-coordinate is replaced only if the
+			// new point is outside
+			Point2D same = map.get(key);
+			if (same != null && sign * (y - same.y()) >= 0)
+				return false;
+
+			// check if the point is inside the chain
+			Map.Entry<Double, Point2D> left = map.lowerEntry(key);
+			Map.Entry<Double, Point2D> right = map.higherEntry(key);
+			if (same == null && left != null && right != null) {
+				if (sign * cross(left.getValue(), right.getValue(), x, y) >= 0)
+					return false;
+			}
+
+			// remove the vertices on the left that become concave
+			while (left != null) {
+				Map.Entry<Double, Point2D> left2 = map.lowerEntry(left.getKey());
+				if (left2 == null)
+					break;
+				if (sign * cross(left2.getValue(), left.getValue(), x, y) > 0)
+					break;
+				map.remove(left.getKey());
+				left = left2;
+			}
+
+			// remove the vertices on the right that become concave
+			while (right != null) {
+				Map.Entry<Double, Point2D> right2 = map.higherEntry(right.getKey());
+				if (right2 == null)
+					break;
+				Point2D p2 = right2.getValue();
+				if (sign * cross(point, right.getValue(), p2.x(), p2.y()) > 0)
+					break;
+				map.remove(right.getKey());
+				right = right2;
+			}
+
+			map.put(key, point);
+			return true;
+		}
+	}
+}
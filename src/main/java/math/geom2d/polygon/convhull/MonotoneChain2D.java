@@ -0,0 +1,370 @@
+/**
+ * File: 	MonotoneChain2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import math.geom2d.Point2D;
+import math.geom2d.Predicates2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Computes the convex hull of a set of points using the monotone chain
+ * algorithm of Andrew. Points are sorted by x-coordinate (and y-coordinate
+ * for equal x), then the lower and the upper hulls are built by scanning the
+ * sorted points. Complexity is O(n*log(n)).<p>
+ * Before sorting, the points located strictly inside the octagon formed
+ * by the extreme points along the axes and the diagonals are discarded
+ * (Akl-Toussaint heuristic), which removes most of the points for usual
+ * distributions.<p>
+ * Collinear and multiple points are correctly processed: the resulting
+ * polygon contains only the extreme vertices of the hull, in counter-clockwise
+ * order, starting from the point with the lowest x-coordinate (and the lowest
+ * y-coordinate for equal x). Computation works directly on coordinate arrays.
+ *
+ * @author dlegland
+ */
+public class MonotoneChain2D implements ConvexHull2D {
+
+	/**
+	 * Creates a new Convex hull calculator.
+	 */
+	public MonotoneChain2D() {
+	}
+
+	/**
+	 * Computes the convex hull of a set of points as a single Polygon2D. The
+	 * vertices of the polygon are the instances of the input collection.
+	 */
+	public Polygon2D convexHull(Collection<? extends Point2D> points) {
+		int n = points.size();
+		Point2D[] array = points.toArray(new Point2D[n]);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = array[i].x();
+			ys[i] = array[i].y();
+		}
+
+		int[] hull = new int[n];
+		int nh = convexHull(xs, ys, n, hull);
+
+		ArrayList<Point2D> vertices = new ArrayList<Point2D>(nh);
+		for (int i = 0; i < nh; i++)
+			vertices.add(array[hull[i]]);
+		return new SimplePolygon2D(vertices);
+	}
+
+	/**
+	 * Computes the convex hull of the points given by two coordinate arrays.
+	 */
+	public Polygon2D convexHull(double[] xs, double[] ys) {
+		int n = xs.length;
+		int[] hull = new int[n];
+		int nh = convexHull(xs, ys, n, hull);
+		return createPolygon(xs, ys, hull, nh);
+	}
+
+	/**
+	 * Computes the convex hull of the n first points given by two coordinate
+	 * arrays. The indices of the hull vertices are stored in the
+	 * <code>hull</code> array, that must contain at least n elements.
+	 *
+	 * @return the number of vertices of the convex hull
+	 */
+	public int convexHull(double[] xs, double[] ys, int n, int[] hull) {
+		if (hull.length < n)
+			throw new IllegalArgumentException(
+					"Hull array must contain at least n elements");
+		if (n == 0)
+			return 0;
+
+		int[] inds = new int[n];
+		int nk = filter(xs, ys, 0, n, inds);
+		return convexHull(xs, ys, inds, nk, hull);
+	}
+
+	/**
+	 * Computes the convex hull of the points whose indices are given by the
+	 * nk first elements of the <code>inds</code> array. The indices of the
+	 * hull vertices are stored in the <code>hull</code> array, that must
+	 * contain at least nk elements. The index array is modified.
+	 *
+	 * @return the number of vertices of the convex hull
+	 */
+	static int convexHull(double[] xs, double[] ys, int[] inds, int nk,
+			int[] hull) {
+		// copy the coordinates of the points
+		double[] px = new double[nk];
+		double[] py = new double[nk];
+		for (int i = 0; i < nk; i++) {
+			px[i] = xs[inds[i]];
+			py[i] = ys[inds[i]];
+		}
+
+		sort(px, py, inds, 0, nk);
+		int nh = monotoneChain(px, py, 0, nk, hull, 0);
+
+		// convert positions within sorted arrays into point indices
+		for (int i = 0; i < nh; i++)
+			hull[i] = inds[hull[i]];
+		return nh;
+	}
+
+	/**
+	 * Creates a polygon from the indices of its vertices.
+	 */
+	static SimplePolygon2D createPolygon(double[] xs, double[] ys,
+			int[] hull, int nh) {
+		ArrayList<Point2D> vertices = new ArrayList<Point2D>(nh);
+		for (int i = 0; i < nh; i++)
+			vertices.add(new Point2D(xs[hull[i]], ys[hull[i]]));
+		return new SimplePolygon2D(vertices);
+	}
+
+	/**
+	 * Stores in the <code>inds</code> array the indices of the points within
+	 * the range [from, to) that are not strictly inside the octagon formed
+	 * by the extreme points along the axes and the diagonals. The first
+	 * stored index is the one of the point with the lowest x-coordinate (and
+	 * the lowest y-coordinate for equal x).
+	 *
+	 * @return the number of stored indices
+	 */
+	static int filter(double[] xs, double[] ys, int from, int to, int[] inds) {
+		if (to <= from)
+			return 0;
+
+		// indices of extreme points, in counter-clockwise order, starting
+		// from the point with lowest x
+		int[] ext = new int[8];
+		double[] dirX = new double[] {-1, -1, 0, 1, 1, 1, 0, -1};
+		double[] dirY = new double[] {0, -1, -1, -1, 0, 1, 1, 1};
+		double[] maxProj = new double[8];
+		for (int d = 0; d < 8; d++) {
+			ext[d] = from;
+			maxProj[d] = dirX[d] * xs[from] + dirY[d] * ys[from];
+		}
+		for (int i = from + 1; i < to; i++) {
+			double x = xs[i];
+			double y = ys[i];
+			for (int d = 0; d < 8; d++) {
+				double proj = dirX[d] * x + dirY[d] * y;
+				if (proj > maxProj[d]) {
+					maxProj[d] = proj;
+					ext[d] = i;
+				}
+			}
+		}
+
+		// for equal x, choose the point with lowest y
+		int iLeft = ext[0];
+		for (int i = from; i < to; i++) {
+			if (compare(xs, ys, i, iLeft) < 0)
+				iLeft = i;
+		}
+		ext[0] = iLeft;
+
+		// edges of the octagon, ignoring edges with zero length
+		double[] ex1 = new double[8];
+		double[] ey1 = new double[8];
+		double[] ex2 = new double[8];
+		double[] ey2 = new double[8];
+		int ne = 0;
+		for (int d = 0; d < 8; d++) {
+			int i1 = ext[d];
+			int i2 = ext[(d + 1) % 8];
+			if (xs[i1] == xs[i2] && ys[i1] == ys[i2])
+				continue;
+			ex1[ne] = xs[i1];
+			ey1[ne] = ys[i1];
+			ex2[ne] = xs[i2];
+			ey2[ne] = ys[i2];
+			ne++;
+		}
+
+		// keep the points not strictly inside the octagon
+		int nk = 0;
+		inds[nk++] = iLeft;
+		for (int i = from; i < to; i++) {
+			if (i == iLeft)
+				continue;
+			double x = xs[i];
+			double y = ys[i];
+			boolean inside = ne > 0;
+			for (int e = 0; e < ne; e++) {
+				if (cross(ex1[e], ey1[e], ex2[e], ey2[e], x, y) <= 0) {
+					inside = false;
+					break;
+				}
+			}
+			if (!inside)
+				inds[nk++] = i;
+		}
+		return nk;
+	}
+
+	/**
+	 * Computes the convex hull of the points within the range [from, to) of
+	 * the coordinate arrays, that must be sorted by x-coordinate then by
+	 * y-coordinate. The positions of the hull vertices within the coordinate
+	 * arrays are stored in the <code>hull</code> array, starting at position
+	 * <code>offset</code>. The range of the hull array must contain at least
+	 * (to - from) elements.
+	 *
+	 * @return the number of vertices of the convex hull
+	 */
+	static int monotoneChain(double[] xs, double[] ys, int from, int to,
+			int[] hull, int offset) {
+		int n = to - from;
+		if (n == 0)
+			return 0;
+
+		// the stack of vertices may temporarily contain 2*n elements
+		int[] stack = new int[2 * n];
+
+		// lower hull, from left to right
+		int k = 0;
+		for (int i = from; i < to; i++) {
+			while (k >= 2 && cross(xs, ys, stack[k - 2], stack[k - 1], i) <= 0)
+				k--;
+			// avoid storing multiple points
+			if (k > 0 && xs[stack[k - 1]] == xs[i] && ys[stack[k - 1]] == ys[i])
+				continue;
+			stack[k++] = i;
+		}
+
+		// case of a single point
+		if (k == 1) {
+			hull[offset] = stack[0];
+			return 1;
+		}
+
+		// upper hull, from right to left, until the first vertex is reached.
+		// Vertices aligned with the first one are removed before stopping.
+		int lower = k + 1;
+		double x0 = xs[from];
+		double y0 = ys[from];
+		for (int i = to - 2; i >= from; i--) {
+			while (k >= lower && cross(xs, ys, stack[k - 2], stack[k - 1], i) <= 0)
+				k--;
+			if (xs[i] == x0 && ys[i] == y0)
+				break;
+			if (xs[stack[k - 1]] == xs[i] && ys[stack[k - 1]] == ys[i])
+				continue;
+			stack[k++] = i;
+		}
+
+		System.arraycopy(stack, 0, hull, offset, k);
+		return k;
+	}
+
+	/**
+	 * Compares two points by x-coordinate, then by y-coordinate.
+	 */
+	static int compare(double[] xs, double[] ys, int i, int j) {
+		if (xs[i] < xs[j])
+			return -1;
+		if (xs[i] > xs[j])
+			return 1;
+		if (ys[i] < ys[j])
+			return -1;
+		if (ys[i] > ys[j])
+			return 1;
+		return 0;
+	}
+
+	/**
+	 * Sorts the range [from, to) of the coordinate arrays by x-coordinate,
+	 * then by y-coordinate, using a merge sort. The index array is permuted
+	 * in the same way.
+	 */
+	static void sort(double[] xs, double[] ys, int[] inds, int from, int to) {
+		int n = to - from;
+		mergeSort(xs, ys, inds, new double[n], new double[n], new int[n],
+				from, to);
+	}
+
+	private static void mergeSort(double[] xs, double[] ys, int[] inds,
+			double[] auxX, double[] auxY, int[] auxInds, int from, int to) {
+		int n = to - from;
+
+		// insertion sort for small ranges
+		if (n < 16) {
+			for (int i = from + 1; i < to; i++) {
+				double x = xs[i];
+				double y = ys[i];
+				int ind = inds[i];
+				int j = i - 1;
+				while (j >= from && (xs[j] > x || (xs[j] == x && ys[j] > y))) {
+					xs[j + 1] = xs[j];
+					ys[j + 1] = ys[j];
+					inds[j + 1] = inds[j];
+					j--;
+				}
+				xs[j + 1] = x;
+				ys[j + 1] = y;
+				inds[j + 1] = ind;
+			}
+			return;
+		}
+
+		int mid = (from + to) >>> 1;
+		mergeSort(xs, ys, inds, auxX, auxY, auxInds, from, mid);
+		mergeSort(xs, ys, inds, auxX, auxY, auxInds, mid, to);
+
+		// check if ranges are already sorted
+		if (compare(xs, ys, mid - 1, mid) <= 0)
+			return;
+
+		// merge the two ranges, using the auxiliary arrays
+		System.arraycopy(xs, from, auxX, 0, n);
+		System.arraycopy(ys, from, auxY, 0, n);
+		System.arraycopy(inds, from, auxInds, 0, n);
+		int i = 0, j = mid - from, k = from;
+		int iMax = mid - from;
+		while (i < iMax && j < n) {
+			if (auxX[j] < auxX[i] || (auxX[j] == auxX[i] && auxY[j] < auxY[i])) {
+				xs[k] = auxX[j];
+				ys[k] = auxY[j];
+				inds[k++] = auxInds[j++];
+			} else {
+				xs[k] = auxX[i];
+				ys[k] = auxY[i];
+				inds[k++] = auxInds[i++];
+			}
+		}
+
+		// remaining elements of the second range are already in place
+		int rem = iMax - i;
+		System.arraycopy(auxX, i, xs, k, rem);
+		System.arraycopy(auxY, i, ys, k, rem);
+		System.arraycopy(auxInds, i, inds, k, rem);
+	}
+
+	/**
+	 * Computes the cross product of the vectors (p1, p2) and (p1, p), where
+	 * points are given by their indices. The result is positive if the three
+	 * points are in counter-clockwise order.
+	 */
+	static double cross(double[] xs, double[] ys, int i1, int i2, int i) {
+		return cross(xs[i1], ys[i1], xs[i2], ys[i2], xs[i], ys[i]);
+	}
+
+	/**
+	 * Computes the cross product of the vectors (p1, p2) and (p1, p). The
+	 * sign of the result is computed with robust predicates.
+	 */
+	static double cross(double x1, double y1, double x2, double y2,
+			double x, double y) {
+		return Predicates2D.orient2d(x1, y1, x2, y2, x, y);
+	}
+}
@@ -0,0 +1,242 @@
+/**
+ * File: 	ParallelConvexHull2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import math.geom2d.Point2D;
+import math.geom2d.point.PointSet2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+
+/**
+ * Computes the convex hull of large sets of points using several threads.
+ * The range of points is recursively split into two halves processed in
+ * parallel by a fork-join pool. The hulls of the chunks of points are
+ * computed with the monotone chain algorithm, and the hulls of two halves
+ * are merged by computing the hull of their vertices.<p>
+ * As the merge steps only process hull vertices, the cost of the
+ * computation is dominated by the processing of the chunks, that is
+ * distributed over the available processors. Points given as coordinate
+ * arrays are not copied, making it possible to process hundreds of
+ * millions of points.<p>
+ * The result is the same as for the <code>MonotoneChain2D</code> class: the
+ * extreme vertices of the hull, in counter-clockwise order, starting from
+ * the point with the lowest x-coordinate (and the lowest y-coordinate for
+ * equal x).
+ *
+ * <pre><code>
+ * ParallelConvexHull2D algo = new ParallelConvexHull2D();
+ * Polygon2D hull = algo.convexHull(xs, ys);
+ * </code></pre>
+ *
+ * @see MonotoneChain2D
+ * @author dlegland
+ */
+public class ParallelConvexHull2D implements ConvexHull2D {
+
+	// ===================================================================
+	// constants
+
+	/** The default number of points processed by each task */
+	public final static int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+	/** The pool used when no pool is specified, created when needed */
+	private static ForkJoinPool defaultPool = null;
+
+	// ===================================================================
+	// class variables
+
+	/** The pool used for running the tasks */
+	private ForkJoinPool pool;
+
+	/** The number of points below which hull is computed sequentially */
+	private int chunkSize;
+
+	// ===================================================================
+	// constructors
+
+	/**
+	 * Creates a new convex hull calculator, using a shared pool with one
+	 * thread per available processor.
+	 */
+	public ParallelConvexHull2D() {
+		this(defaultPool(), DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a new convex hull calculator, using the specified pool.
+	 */
+	public ParallelConvexHull2D(ForkJoinPool pool) {
+		this(pool, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a new convex hull calculator, using the specified pool and
+	 * number of points processed by each task.
+	 */
+	public ParallelConvexHull2D(ForkJoinPool pool, int chunkSize) {
+		if (chunkSize < 1)
+			throw new IllegalArgumentException(
+					"Chunk size must be at least 1");
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns the pool used when no pool is specified. The pool is created
+	 * at first call, with one thread per processor.
+	 */
+	private static synchronized ForkJoinPool defaultPool() {
+		if (defaultPool == null)
+			defaultPool = new ForkJoinPool();
+		return defaultPool;
+	}
+
+	// ===================================================================
+	// methods implementing the ConvexHull2D interface
+
+	/**
+	 * Computes the convex hull of a set of points as a single Polygon2D. The
+	 * vertices of the polygon are the instances of the input collection.
+	 */
+	public Polygon2D convexHull(Collection<? extends Point2D> points) {
+		int n = points.size();
+		Point2D[] array = points.toArray(new Point2D[n]);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = array[i].x();
+			ys[i] = array[i].y();
+		}
+
+		int[] hull = new int[n];
+		int nh = convexHull(xs, ys, n, hull);
+
+		ArrayList<Point2D> vertices = new ArrayList<Point2D>(nh);
+		for (int i = 0; i < nh; i++)
+			vertices.add(array[hull[i]]);
+		return new SimplePolygon2D(vertices);
+	}
+
+	// ===================================================================
+	// other methods
+
+	/**
+	 * Computes the convex hull of a point set, for example a PointArray2D.
+	 * The vertices of the polygon are the instances of the point set.
+	 */
+	public Polygon2D convexHull(PointSet2D points) {
+		ArrayList<Point2D> array = new ArrayList<Point2D>(points.size());
+		for (Point2D point : points)
+			array.add(point);
+		return convexHull(array);
+	}
+
+	/**
+	 * Computes the convex hull of the points given by two coordinate arrays.
+	 */
+	public Polygon2D convexHull(double[] xs, double[] ys) {
+		int[] hull = convexHullIndices(xs, ys, xs.length);
+		return MonotoneChain2D.createPolygon(xs, ys, hull, hull.length);
+	}
+
+	/**
+	 * Computes the convex hull of the n first points given by two coordinate
+	 * arrays. The indices of the hull vertices are stored in the
+	 * <code>hull</code> array, that must contain at least n elements.
+	 *
+	 * @return the number of vertices of the convex hull
+	 */
+	public int convexHull(double[] xs, double[] ys, int n, int[] hull) {
+		if (hull.length < n)
+			throw new IllegalArgumentException(
+					"Hull array must contain at least n elements");
+		int[] res = convexHullIndices(xs, ys, n);
+		System.arraycopy(res, 0, hull, 0, res.length);
+		return res.length;
+	}
+
+	/**
+	 * Returns the indices of the vertices of the convex hull of the n first
+	 * points given by two coordinate arrays.
+	 */
+	public int[] convexHullIndices(double[] xs, double[] ys, int n) {
+		if (xs.length < n || ys.length < n)
+			throw new IllegalArgumentException(
+					"Coordinate arrays must contain at least n elements");
+		if (n == 0)
+			return new int[0];
+		return pool.invoke(new HullTask(xs, ys, 0, n, chunkSize));
+	}
+
+	// ===================================================================
+	// inner class for parallel computation
+
+	/**
+	 * Computes the indices of the hull vertices of a range of points, by
+	 * splitting the range into two halves computed in parallel, and merging
+	 * the results.
+	 */
+	private final static class HullTask extends RecursiveTask<int[]> {
+		private static final long serialVersionUID = 1L;
+
+		final double[] xs, ys;
+		final int from, to;
+		final int chunkSize;
+
+		HullTask(double[] xs, double[] ys, int from, int to, int chunkSize) {
+			this.xs = xs;
+			this.ys = ys;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected int[] compute() {
+			// process small ranges sequentially
+			if (to - from <= chunkSize) {
+				int[] inds = new int[to - from];
+				int nk = MonotoneChain2D.filter(xs, ys, from, to, inds);
+				return hull(inds, nk);
+			}
+
+			// compute hulls of each half in parallel
+			int mid = (from + to) >>> 1;
+			HullTask left = new HullTask(xs, ys, from, mid, chunkSize);
+			left.fork();
+			int[] hull2 = new HullTask(xs, ys, mid, to, chunkSize).compute();
+			int[] hull1 = left.join();
+
+			// merge the vertices of the two hulls
+			int n1 = hull1.length;
+			int n2 = hull2.length;
+			int[] inds = new int[n1 + n2];
+			System.arraycopy(hull1, 0, inds, 0, n1);
+			System.arraycopy(hull2, 0, inds, n1, n2);
+			return hull(inds, n1 + n2);
+		}
+
+		/**
+		 * Computes the hull of the points with the given indices, and
+		 * returns the indices of hull vertices.
+		 */
+		private int[] hull(int[] inds, int nk) {
+			int[] hull = new int[nk];
+			int nh = MonotoneChain2D.convexHull(xs, ys, inds, nk, hull);
+			int[] res = new int[nh];
+			System.arraycopy(hull, 0, res, 0, nh);
+			return res;
+		}
+	}
+}
@@ -292,6 +292,50 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
         return new Polyline2D(points);
 	}
 
+	/**
+	 * Converts this Bezier curve to a polyline whose distance to the curve is
+	 * smaller than the given chord error. The curve is adaptively subdivided,
+	 * so that vertices are concentrated in the high curvature parts.
+	 */
+	@Override
+	public Polyline2D flatten(double maxChordError) {
+		return this.flattenOpen(maxChordError);
+	}
+
+	/**
+	 * Returns an upper bound of the distance between a portion of the curve
+	 * and its chord. The portion is contained in the convex hull of its
+	 * control points, so the distance is bounded by the distance of the two
+	 * inner control points to the chord.
+	 */
+	@Override
+	protected double chordError(double t0, double t1, Point2D p0, Point2D p1) {
+		Point2D c1 = blossom(t0, t0, t1);
+		Point2D c2 = blossom(t0, t1, t1);
+		return Math.max(chordDistance(p0, p1, c1.x(), c1.y()),
+				chordDistance(p0, p1, c2.x(), c2.y()));
+	}
+
+	/**
+	 * Computes the blossom of the curve with the de Casteljau algorithm,
+	 * using a different position at each step. The control points of the
+	 * portion between t0 and t1 are the blossoms (t0,t0,t0), (t0,t0,t1),
+	 * (t0,t1,t1) and (t1,t1,t1).
+	 */
+	private Point2D blossom(double u, double v, double w) {
+		double ax = x1 + (ctrlx1 - x1) * u;
+		double ay = y1 + (ctrly1 - y1) * u;
+		double bx = ctrlx1 + (ctrlx2 - ctrlx1) * u;
+		double by = ctrly1 + (ctrly2 - ctrly1) * u;
+		double cx = ctrlx2 + (x2 - ctrlx2) * u;
+		double cy = ctrly2 + (y2 - ctrly2) * u;
+		double dx = ax + (bx - ax) * v;
+		double dy = ay + (by - ay) * v;
+		double ex = bx + (cx - bx) * v;
+		double ey = by + (cy - by) * v;
+		return new Point2D(dx + (ex - dx) * w, dy + (ey - dy) * w);
+	}
+
 
 	// ===================================================================
     // methods from Curve2D interface
@@ -346,6 +390,23 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
 		return new Point2D(x, y);
     }
 
+    /**
+     * Computes the point at the given position with the coefficients of the
+     * parametric representation, without creating new objects.
+     */
+    @Override
+    public void point(double t, double[] out) {
+		t = Math.min(Math.max(t, 0), 1);
+		double cx1 = 3 * ctrlx1 - 3 * x1;
+		double cx2 = 3 * x1 - 6 * ctrlx1 + 3 * ctrlx2;
+		double cx3 = x2 - 3 * ctrlx2 + 3 * ctrlx1 - x1;
+		double cy1 = 3 * ctrly1 - 3 * y1;
+		double cy2 = 3 * y1 - 6 * ctrly1 + 3 * ctrly2;
+		double cy3 = y2 - 3 * ctrly2 + 3 * ctrly1 - y1;
+		out[0] = x1 + (cx1 + (cx2 + cx3 * t) * t) * t;
+		out[1] = y1 + (cy1 + (cy2 + cy3 * t) * t) * t;
+    }
+
     /**
      * Returns the first point of the curve.
      * 
@@ -367,19 +428,25 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
 
     /**
-     * Computes position by approximating cubic spline with a polyline.
+     * Returns the position of the point on the curve, or Double.NaN if the
+     * point does not belong to the curve.
      */
     public double position(Point2D point) {
-        int N = 100;
-        return this.asPolyline(N).position(point)/(N);
+    	double x = point.x();
+    	double y = point.y();
+    	double t = closestPosition(x, y);
+    	if (squaredDistance(t, x, y) > Shape2D.ACCURACY * Shape2D.ACCURACY)
+    		return Double.NaN;
+        return t;
     }
 
     /**
-     * Computes position by approximating cubic spline with a polyline.
+     * Returns the position of the closest point on the curve.
+     * 
+     * @see #closestPosition(double, double)
      */
     public double project(Point2D point) {
-        int N = 100;
-		return this.asPolyline(N).project(point) / (N);
+		return closestPosition(point.x(), point.y());
     }
 
     /**
@@ -410,11 +477,14 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     // ===================================================================
     // methods from Shape2D interface
 
-	/* (non-Javadoc)
+	/**
+	 * Returns true if the distance of the point to the curve is lower than
+	 * Shape2D.ACCURACY.
+	 * 
 	 * @see math.geom2d.Shape2D#contains(double, double)
 	 */
 	public boolean contains(double x, double y) {
-		return this.asPolyline(180).contains(x, y);
+		return this.distance(x, y) <= Shape2D.ACCURACY;
 	}
 
 	/* (non-Javadoc)
@@ -432,14 +502,178 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
 
     /**
-     * Compute approximated distance, computed on a polyline.
+     * Computes the distance to the closest point of the curve.
      * 
      * @see math.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-    	return this.asPolyline(100).distance(x, y);
+    	return Math.sqrt(squaredDistance(closestPosition(x, y), x, y));
     }
 
+    /**
+     * Computes the position of the point of the curve closest to the point
+     * (x, y). The closest point is either an extremity of the curve, or a
+     * root of the derivative of the squared distance, which is a polynomial
+     * of degree 5. This polynomial is expressed in the Bernstein basis, and
+     * its roots are isolated by recursive subdivision, using the number of
+     * sign changes of the coefficients as an upper bound for the number of
+     * roots. Isolated roots are refined by bisection.
+     */
+	private double closestPosition(double x, double y) {
+		// control points relative to query point
+		double ax0 = x1 - x, ay0 = y1 - y;
+		double ax1 = ctrlx1 - x, ay1 = ctrly1 - y;
+		double ax2 = ctrlx2 - x, ay2 = ctrly2 - y;
+		double ax3 = x2 - x, ay3 = y2 - y;
+
+		// control points of the derivative, up to a factor 3
+		double bx0 = ctrlx1 - x1, by0 = ctrly1 - y1;
+		double bx1 = ctrlx2 - ctrlx1, by1 = ctrly2 - ctrly1;
+		double bx2 = x2 - ctrlx2, by2 = y2 - ctrly2;
+
+		// dot products of control points
+		double a0b0 = ax0 * bx0 + ay0 * by0;
+		double a0b1 = ax0 * bx1 + ay0 * by1;
+		double a0b2 = ax0 * bx2 + ay0 * by2;
+		double a1b0 = ax1 * bx0 + ay1 * by0;
+		double a1b1 = ax1 * bx1 + ay1 * by1;
+		double a1b2 = ax1 * bx2 + ay1 * by2;
+		double a2b0 = ax2 * bx0 + ay2 * by0;
+		double a2b1 = ax2 * bx1 + ay2 * by1;
+		double a2b2 = ax2 * bx2 + ay2 * by2;
+		double a3b1 = ax3 * bx1 + ay3 * by1;
+		double a3b0 = ax3 * bx0 + ay3 * by0;
+		double a3b2 = ax3 * bx2 + ay3 * by2;
+
+		// Bernstein coefficients of the derivative of squared distance
+		double c0 = a0b0;
+		double c1 = (3 * a1b0 + 2 * a0b1) / 5;
+		double c2 = (3 * a2b0 + 6 * a1b1 + a0b2) / 10;
+		double c3 = (a3b0 + 6 * a2b1 + 3 * a1b2) / 10;
+		double c4 = (2 * a3b1 + 3 * a2b2) / 5;
+		double c5 = a3b2;
+
+		// compare extremities
+		double tBest = 0;
+		double dBest = ax0 * ax0 + ay0 * ay0;
+		double d = ax3 * ax3 + ay3 * ay3;
+		if (d < dBest) {
+			tBest = 1;
+			dBest = d;
+		}
+
+		// compare with the best root
+		double t = closestRoot(c0, c1, c2, c3, c4, c5, 0, 1, x, y, 0);
+		if (!Double.isNaN(t) && squaredDistance(t, x, y) < dBest)
+			tBest = t;
+		return tBest;
+	}
+
+	/**
+	 * Returns the root of the polynomial with Bernstein coefficients c0 to c5
+	 * over the interval [t0 t1] that corresponds to the smallest squared 
+	 * distance to the point (x, y), or NaN if there is no root. 
+	 */
+	private double closestRoot(double c0, double c1, double c2, double c3,
+			double c4, double c5, double t0, double t1, double x, double y,
+			int depth) {
+		// the number of sign changes bounds the number of roots
+		int n = signChanges(c0, c1, c2, c3, c4, c5);
+		if (n == 0)
+			return c0 == 0 ? t0 : (c5 == 0 ? t1 : Double.NaN);
+
+		// single root: refine by bisection
+		if (n == 1) {
+			double u0 = 0, u1 = 1;
+			double f0 = c5 != 0 ? -c5 : c0;
+			for (int i = 0; i < 60 && u1 - u0 > 1e-16; i++) {
+				double u = (u0 + u1) / 2;
+				double f = bernstein(c0, c1, c2, c3, c4, c5, u);
+				if (f == 0)
+					return t0 + u * (t1 - t0);
+				if ((f < 0) == (f0 < 0)) {
+					u0 = u;
+					f0 = f;
+				} else {
+					u1 = u;
+				}
+			}
+			return t0 + (u0 + u1) * (t1 - t0) / 2;
+		}
+
+		// multiple root: return middle of interval 
+		double tm = (t0 + t1) / 2;
+		if (depth > 50)
+			return tm;
+
+		// subdivide the polynomial with de Casteljau algorithm
+		double c01 = (c0 + c1) / 2, c12 = (c1 + c2) / 2, c23 = (c2 + c3) / 2;
+		double c34 = (c3 + c4) / 2, c45 = (c4 + c5) / 2;
+		double c02 = (c01 + c12) / 2, c13 = (c12 + c23) / 2;
+		double c24 = (c23 + c34) / 2, c35 = (c34 + c45) / 2;
+		double c03 = (c02 + c13) / 2, c14 = (c13 + c24) / 2;
+		double c25 = (c24 + c35) / 2;
+		double c04 = (c03 + c14) / 2, c15 = (c14 + c25) / 2;
+		double c05 = (c04 + c15) / 2;
+
+		double ta = closestRoot(c0, c01, c02, c03, c04, c05, t0, tm, x, y,
+				depth + 1);
+		double tb = closestRoot(c05, c15, c25, c35, c45, c5, tm, t1, x, y,
+				depth + 1);
+
+		// a root in the middle is not counted by the sign changes
+		if (c05 == 0 && (Double.isNaN(ta) 
+				|| squaredDistance(tm, x, y) < squaredDistance(ta, x, y)))
+			ta = tm;
+		if (Double.isNaN(ta))
+			return tb;
+		if (Double.isNaN(tb))
+			return ta;
+		return squaredDistance(ta, x, y) <= squaredDistance(tb, x, y) ? ta : tb;
+	}
+
+	/**
+	 * Counts the number of sign changes in the sequence of coefficients,
+	 * ignoring zero values.
+	 */
+	private static int signChanges(double c0, double c1, double c2, double c3,
+			double c4, double c5) {
+		int n = 0;
+		double prev = c0;
+		if (c1 != 0) { if (prev * c1 < 0) n++; prev = c1; }
+		if (c2 != 0) { if (prev * c2 < 0) n++; prev = c2; }
+		if (c3 != 0) { if (prev * c3 < 0) n++; prev = c3; }
+		if (c4 != 0) { if (prev * c4 < 0) n++; prev = c4; }
+		if (c5 != 0) { if (prev * c5 < 0) n++; }
+		return n;
+	}
+
+	/**
+	 * Evaluates the polynomial with Bernstein coefficients c0 to c5.
+	 */
+	private static double bernstein(double c0, double c1, double c2,
+			double c3, double c4, double c5, double u) {
+		double s = 1 - u;
+		double s2 = s * s, u2 = u * u;
+		return s2 * s2 * s * c0 + 5 * s2 * s2 * u * c1 + 10 * s2 * s * u2 * c2
+				+ 10 * s2 * u2 * u * c3 + 5 * s * u2 * u2 * c4 + u2 * u2 * u * c5;
+	}
+
+	/**
+	 * Computes the squared distance between the point at position t and the
+	 * point (x, y).
+	 */
+	private double squaredDistance(double t, double x, double y) {
+		double s = 1 - t;
+		double b0 = s * s * s;
+		double b1 = 3 * s * s * t;
+		double b2 = 3 * s * t * t;
+		double b3 = t * t * t;
+		double dx = b0 * x1 + b1 * ctrlx1 + b2 * ctrlx2 + b3 * x2 - x;
+		double dy = b0 * y1 + b1 * ctrly1 + b2 * ctrly2 + b3 * y2 - y;
+		return dx * dx + dy * dy;
+	}
+
     /**
      * Returns true, a cubic Bezier Curve is always bounded.
      */
@@ -482,6 +716,18 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
 		double ymax = Math.max(Math.max(y1, ctrly1), Math.max(ctrly2, y2));		return new Box2D(xmin, xmax, ymin, ymax);
     }
 
+    /**
+     * Computes the bounds of the set of control points, without creating new
+     * objects.
+     */
+    @Override
+    public void boundingBox(double[] bounds) {
+		bounds[0] = Math.min(Math.min(x1, ctrlx1), Math.min(ctrlx2, x2));
+		bounds[1] = Math.max(Math.max(x1, ctrlx1), Math.max(ctrlx2, x2));
+		bounds[2] = Math.min(Math.min(y1, ctrly1), Math.min(ctrly2, y2));
+		bounds[3] = Math.max(Math.max(y1, ctrly1), Math.max(ctrly2, y2));
+    }
+
     /**
      * Returns the Bezier Curve transformed by the given AffineTransform2D. This
      * is simply done by transforming control points of the curve.
@@ -13,6 +13,7 @@ import math.geom2d.*;
 import math.geom2d.curve.*;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.LinearShape2D;
+import math.geom2d.point.PointBuffer2D;
 
 /**
  * @author dlegland
@@ -284,6 +285,12 @@ public class GeneralPath2D implements Curve2D {
 		return curve.point(t2);
 	}
 
+	public void point(double t, double[] out) {
+		Point2D point = this.point(t);
+		out[0] = point.x();
+		out[1] = point.y();
+	}
+
 	/**
 	 * Returns the first point of the curve, or null if this curve is empty.
 	 */
@@ -419,6 +426,14 @@ public class GeneralPath2D implements Curve2D {
 		return pts;
 	}
 
+	public int intersections(LinearShape2D line, PointBuffer2D buffer) {
+		int n = 0;
+		for (SmoothCurve2D curve : this.smoothCurves()) {
+			n += curve.intersections(line, buffer);
+		}
+		return n;
+	}
+
 	public Curve2D reverse() {
 		ArrayList<ContinuousCurve2D> list = splitContinuousCurves();
 		Collections.reverse(list);
@@ -634,6 +649,14 @@ public class GeneralPath2D implements Curve2D {
 		return new Box2D(xmin, xmax, ymin, ymax);
 	}
 
+	public void boundingBox(double[] bounds) {
+		Box2D box = this.boundingBox();
+		bounds[0] = box.getMinX();
+		bounds[1] = box.getMaxX();
+		bounds[2] = box.getMinY();
+		bounds[3] = box.getMaxY();
+	}
+
 	public CurveSet2D<? extends Curve2D> clip(Box2D box) {
 		ArrayList<ContinuousCurve2D> list = splitContinuousCurves();
 		Curve2D curve = new CurveArray2D<ContinuousCurve2D>(list);
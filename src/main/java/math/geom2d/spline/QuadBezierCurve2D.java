@@ -23,7 +23,6 @@
 
 package math.geom2d.spline;
 
-import java.awt.geom.QuadCurve2D;
 import java.util.Collection;
 
 import math.geom2d.*;
@@ -270,6 +269,32 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
         return new Polyline2D(points);
 	}
 
+	/**
+	 * Converts this Bezier curve to a polyline whose distance to the curve is
+	 * smaller than the given chord error. The curve is adaptively subdivided,
+	 * so that vertices are concentrated in the high curvature parts.
+	 */
+	@Override
+	public Polyline2D flatten(double maxChordError) {
+		return this.flattenOpen(maxChordError);
+	}
+
+	/**
+	 * Returns an upper bound of the distance between a portion of the curve
+	 * and its chord. The portion is contained in the triangle formed by its
+	 * control points, so the distance is bounded by the distance of the
+	 * middle control point to the chord. This control point is the blossom
+	 * (t0,t1) of the curve, computed with the de Casteljau algorithm.
+	 */
+	@Override
+	protected double chordError(double t0, double t1, Point2D p0, Point2D p1) {
+		double ax = x1 + (ctrlx - x1) * t0;
+		double ay = y1 + (ctrly - y1) * t0;
+		double bx = ctrlx + (x2 - ctrlx) * t0;
+		double by = ctrly + (y2 - ctrly) * t0;
+		return chordDistance(p0, p1, ax + (bx - ax) * t1, ay + (by - ay) * t1);
+	}
+
     // ===================================================================
     // methods from Curve2D interface
 
@@ -323,6 +348,17 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
 		return new Point2D(x, y);
     }
 
+    /**
+     * Computes the point at the given position with the coefficients of the
+     * parametric representation, without creating new objects.
+     */
+    @Override
+    public void point(double t, double[] out) {
+        t = Math.min(Math.max(t, 0), 1);
+		out[0] = x1 + (2 * ctrlx - 2 * x1 + (x2 - 2 * ctrlx + x1) * t) * t;
+		out[1] = y1 + (2 * ctrly - 2 * y1 + (y2 - 2 * ctrly + y1) * t) * t;
+    }
+
     /**
      * Returns the first point of the curve, that corresponds to the first control point.
      * 
@@ -344,19 +380,23 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
 
     /**
-     * Computes position by approximating cubic spline with a polyline.
+     * Returns the position of the point on the curve, or Double.NaN if the
+     * point does not belong to the curve.
      */
     public double position(Point2D point) {
-		int N = 100;
-		return this.asPolyline(N).position(point) / (N);
+    	double x = point.x();
+    	double y = point.y();
+    	double t = closestPosition(x, y);
+    	if (squaredDistance(t, x, y) > Shape2D.ACCURACY * Shape2D.ACCURACY)
+    		return Double.NaN;
+    	return t;
    }
 
     /**
-     * Computes position by approximating cubic spline with a polyline.
+     * Returns the position of the closest point on the curve.
      */
     public double project(Point2D point) {
-        int N = 100;
-        return this.asPolyline(N).project(point)/(N);
+        return closestPosition(point.x(), point.y());
     }
 
     /**
@@ -396,12 +436,14 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     // ===================================================================
     // methods from Shape2D interface
 
-	/* (non-Javadoc)
+	/**
+	 * Returns true if the distance of the point to the curve is lower than
+	 * Shape2D.ACCURACY.
+	 * 
 	 * @see math.geom2d.Shape2D#contains(double, double)
 	 */
 	public boolean contains(double x, double y) {
-		return new QuadCurve2D.Double(
-				x1, y1, ctrlx, ctrly, x2, y2).contains(x, y);
+		return this.distance(x, y) <= Shape2D.ACCURACY;
 	}
 
 	/* (non-Javadoc)
@@ -419,14 +461,137 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
     }
 
     /**
-     * Computes approximated distance, computed on a polyline.
+     * Computes the distance to the closest point of the curve.
      * 
      * @see math.geom2d.Shape2D#distance(double, double)
      */
     public double distance(double x, double y) {
-        return this.asPolyline(100).distance(x, y);
+        return Math.sqrt(squaredDistance(closestPosition(x, y), x, y));
     }
 
+    /**
+     * Computes the position of the point of the curve closest to the point
+     * (x, y). The closest point is either an extremity of the curve, or a
+     * root of the derivative of the squared distance, which is a polynomial
+     * of degree 3. Roots are isolated by subdivision of the polynomial
+     * expressed in the Bernstein basis, and refined by bisection.
+     */
+	private double closestPosition(double x, double y) {
+		// control points relative to query point
+		double ax0 = x1 - x, ay0 = y1 - y;
+		double ax1 = ctrlx - x, ay1 = ctrly - y;
+		double ax2 = x2 - x, ay2 = y2 - y;
+
+		// control points of the derivative, up to a factor 2
+		double bx0 = ctrlx - x1, by0 = ctrly - y1;
+		double bx1 = x2 - ctrlx, by1 = y2 - ctrly;
+
+		// Bernstein coefficients of the derivative of squared distance
+		double c0 = ax0 * bx0 + ay0 * by0;
+		double c1 = (2 * (ax1 * bx0 + ay1 * by0) + ax0 * bx1 + ay0 * by1) / 3;
+		double c2 = (ax2 * bx0 + ay2 * by0 + 2 * (ax1 * bx1 + ay1 * by1)) / 3;
+		double c3 = ax2 * bx1 + ay2 * by1;
+
+		// compare extremities
+		double tBest = 0;
+		double dBest = ax0 * ax0 + ay0 * ay0;
+		double d = ax2 * ax2 + ay2 * ay2;
+		if (d < dBest) {
+			tBest = 1;
+			dBest = d;
+		}
+
+		// compare with the best root
+		double t = closestRoot(c0, c1, c2, c3, 0, 1, x, y, 0);
+		if (!Double.isNaN(t) && squaredDistance(t, x, y) < dBest)
+			tBest = t;
+		return tBest;
+	}
+
+	/**
+	 * Returns the root of the polynomial with Bernstein coefficients c0 to c3
+	 * over the interval [t0 t1] that corresponds to the smallest squared 
+	 * distance to the point (x, y), or NaN if there is no root. 
+	 */
+	private double closestRoot(double c0, double c1, double c2, double c3,
+			double t0, double t1, double x, double y, int depth) {
+		// the number of sign changes bounds the number of roots
+		int n = signChanges(c0, c1, c2, c3);
+		if (n == 0)
+			return c0 == 0 ? t0 : (c3 == 0 ? t1 : Double.NaN);
+
+		// single root: refine by bisection
+		if (n == 1) {
+			double u0 = 0, u1 = 1;
+			double f0 = c3 != 0 ? -c3 : c0;
+			for (int i = 0; i < 60 && u1 - u0 > 1e-16; i++) {
+				double u = (u0 + u1) / 2;
+				double s = 1 - u;
+				double f = s * s * s * c0 + 3 * s * s * u * c1 
+						+ 3 * s * u * u * c2 + u * u * u * c3;
+				if (f == 0)
+					return t0 + u * (t1 - t0);
+				if ((f < 0) == (f0 < 0)) {
+					u0 = u;
+					f0 = f;
+				} else {
+					u1 = u;
+				}
+			}
+			return t0 + (u0 + u1) * (t1 - t0) / 2;
+		}
+
+		// multiple root: return middle of interval 
+		double tm = (t0 + t1) / 2;
+		if (depth > 50)
+			return tm;
+
+		// subdivide the polynomial with de Casteljau algorithm
+		double c01 = (c0 + c1) / 2, c12 = (c1 + c2) / 2, c23 = (c2 + c3) / 2;
+		double c02 = (c01 + c12) / 2, c13 = (c12 + c23) / 2;
+		double c03 = (c02 + c13) / 2;
+
+		double ta = closestRoot(c0, c01, c02, c03, t0, tm, x, y, depth + 1);
+		double tb = closestRoot(c03, c13, c23, c3, tm, t1, x, y, depth + 1);
+
+		// a root in the middle is not counted by the sign changes
+		if (c03 == 0 && (Double.isNaN(ta) 
+				|| squaredDistance(tm, x, y) < squaredDistance(ta, x, y)))
+			ta = tm;
+		if (Double.isNaN(ta))
+			return tb;
+		if (Double.isNaN(tb))
+			return ta;
+		return squaredDistance(ta, x, y) <= squaredDistance(tb, x, y) ? ta : tb;
+	}
+
+	/**
+	 * Counts the number of sign changes in the sequence of coefficients,
+	 * ignoring zero values.
+	 */
+	private static int signChanges(double c0, double c1, double c2, double c3) {
+		int n = 0;
+		double prev = c0;
+		if (c1 != 0) { if (prev * c1 < 0) n++; prev = c1; }
+		if (c2 != 0) { if (prev * c2 < 0) n++; prev = c2; }
+		if (c3 != 0) { if (prev * c3 < 0) n++; }
+		return n;
+	}
+
+	/**
+	 * Computes the squared distance between the point at position t and the
+	 * point (x, y).
+	 */
+	private double squaredDistance(double t, double x, double y) {
+		double s = 1 - t;
+		double b0 = s * s;
+		double b1 = 2 * s * t;
+		double b2 = t * t;
+		double dx = b0 * x1 + b1 * ctrlx + b2 * x2 - x;
+		double dy = b0 * y1 + b1 * ctrly + b2 * y2 - y;
+		return dx * dx + dy * dy;
+	}
+
     /**
      * Returns true, a cubic Bezier Curve is always bounded.
      */
@@ -475,6 +640,18 @@ implements SmoothCurve2D, ContinuousOrientedCurve2D, Cloneable {
         return new Box2D(xmin, xmax, ymin, ymax);
     }
 
+    /**
+     * Computes the bounds of the set of control points, without creating new
+     * objects.
+     */
+    @Override
+    public void boundingBox(double[] bounds) {
+        bounds[0] = Math.min(Math.min(x1, ctrlx), x2);
+        bounds[1] = Math.max(Math.max(x1, ctrlx), x2);
+        bounds[2] = Math.min(Math.min(y1, ctrly), y2);
+        bounds[3] = Math.max(Math.max(y1, ctrly), y2);
+    }
+
     /**
      * Returns the Bezier Curve transformed by the given AffineTransform2D. This
      * is simply done by transforming control points of the curve.
@@ -124,11 +124,6 @@ public class CircleInversion2D implements Bijection2D {
         if (dst==null)
             dst = new Point2D[src.length];
 
-        // create instances of Points if necessary
-        if (dst[0]==null)
-            for (int i = 0; i<dst.length; i++)
-                dst[i] = new Point2D();
-
         xc = center.x();
         yc = center.y();
         r  = radius;
@@ -138,9 +133,33 @@ public class CircleInversion2D implements Bijection2D {
             d = Point2D.distance(src[i].x(), src[i].y(), xc, yc);
             d = r*r/d;
             theta = Math.atan2(src[i].y()-yc, src[i].x()-xc);
-            dst[i] = new Point2D(d*Math.cos(theta), d*Math.sin(theta));
+            dst[i] = new Point2D(xc + d*Math.cos(theta), yc + d*Math.sin(theta));
         }
 
         return dst;
     }
+
+    /**
+     * Transforms n points whose coordinates are stored in the array xy, in
+     * the order x0, y0, x1, y1..., starting at index off. The coordinates of
+     * the transformed points are stored in the array out, starting at index
+     * outOff. The input and output arrays can be the same.
+     */
+    public void transform(double[] xy, int off, double[] out, int outOff,
+    		int n) {
+        double xc = center.x();
+        double yc = center.y();
+        double r2 = radius * radius;
+
+        // overlapping ranges are processed backwards
+        boolean backwards = xy == out && outOff > off;
+        for (int k = 0; k < n; k++) {
+        	int i = backwards ? 2 * (n - 1 - k) : 2 * k;
+        	double dx = xy[off + i] - xc;
+        	double dy = xy[off + i + 1] - yc;
+        	double f = r2 / (dx * dx + dy * dy);
+        	out[outOff + i] = xc + f * dx;
+        	out[outOff + i + 1] = yc + f * dy;
+        }
+    }
 }
\ No newline at end of file
@@ -58,4 +58,13 @@ public interface Transform2D {
 
     public abstract Point2D[] transform(Point2D[] src, Point2D[] dst);
 
+    /**
+     * Transforms n points whose coordinates are stored in the array xy, in
+     * the order x0, y0, x1, y1..., starting at index off. The coordinates of
+     * the transformed points are stored in the array out, starting at index
+     * outOff. The input and output arrays can be the same.
+     */
+    public abstract void transform(double[] xy, int off, double[] out,
+    		int outOff, int n);
+
 }
\ No newline at end of file
@@ -304,6 +304,65 @@ public class AffineTransform3D implements Bijection3D {
         return dst;
     }
 
+    /**
+     * Transforms n points whose coordinates are stored in the array xyz, in
+     * the order x0, y0, z0, x1, y1, z1..., starting at index off. The
+     * coordinates of the transformed points are stored in the array out,
+     * starting at index outOff. The input and output arrays can be the same,
+     * even with overlapping ranges.
+     */
+    public void transformPoints(double[] xyz, int off, double[] out,
+    		int outOff, int n) {
+    	// copy coefficients in local variables, to help the JIT compiler
+    	double m00 = this.m00, m01 = this.m01, m02 = this.m02, m03 = this.m03;
+    	double m10 = this.m10, m11 = this.m11, m12 = this.m12, m13 = this.m13;
+    	double m20 = this.m20, m21 = this.m21, m22 = this.m22, m23 = this.m23;
+
+    	// overlapping ranges are processed backwards
+    	if (xyz == out && outOff > off) {
+    		for (int i = 3 * (n - 1); i >= 0; i -= 3) {
+    			double x = xyz[off + i];
+    			double y = xyz[off + i + 1];
+    			double z = xyz[off + i + 2];
+    			out[outOff + i] = x * m00 + y * m01 + z * m02 + m03;
+    			out[outOff + i + 1] = x * m10 + y * m11 + z * m12 + m13;
+    			out[outOff + i + 2] = x * m20 + y * m21 + z * m22 + m23;
+    		}
+    		return;
+    	}
+
+    	for (int i = 0; i < 3 * n; i += 3) {
+    		double x = xyz[off + i];
+    		double y = xyz[off + i + 1];
+    		double z = xyz[off + i + 2];
+    		out[outOff + i] = x * m00 + y * m01 + z * m02 + m03;
+    		out[outOff + i + 1] = x * m10 + y * m11 + z * m12 + m13;
+    		out[outOff + i + 2] = x * m20 + y * m21 + z * m22 + m23;
+    	}
+    }
+
+    /**
+     * Transforms the n first points whose coordinates are stored in the
+     * arrays xs, ys and zs, and stores the result in the arrays xsOut, ysOut
+     * and zsOut. The input and output arrays can be the same.
+     */
+    public void transformPoints(double[] xs, double[] ys, double[] zs,
+    		double[] xsOut, double[] ysOut, double[] zsOut, int n) {
+    	// copy coefficients in local variables, to help the JIT compiler
+    	double m00 = this.m00, m01 = this.m01, m02 = this.m02, m03 = this.m03;
+    	double m10 = this.m10, m11 = this.m11, m12 = this.m12, m13 = this.m13;
+    	double m20 = this.m20, m21 = this.m21, m22 = this.m22, m23 = this.m23;
+
+    	for (int i = 0; i < n; i++) {
+    		double x = xs[i];
+    		double y = ys[i];
+    		double z = zs[i];
+    		xsOut[i] = x * m00 + y * m01 + z * m02 + m03;
+    		ysOut[i] = x * m10 + y * m11 + z * m12 + m13;
+    		zsOut[i] = x * m20 + y * m21 + z * m22 + m23;
+    	}
+    }
+
     /**
      * Transforms the input point.
      */
@@ -555,4 +555,41 @@ public class AffineTransform2DTest extends TestCase {
 		AffineTransform2D trans  = new AffineTransform2D(1, 2, 3, 4, 5, 6);
 		assertTrue(trans.equals(trans));
 	}
+
+	public void testTransform_Array() {
+		AffineTransform2D trans = AffineTransform2D.createRotation(10, 20, .3);
+		double[] xy = new double[]{1, 2, 3, 4, 5, 6, 7, 8};
+		double[] out = new double[10];
+		trans.transform(xy, 2, out, 1, 3);
+		for (int i = 0; i < 3; i++) {
+			Point2D p = trans.transform(new Point2D(xy[2 + 2 * i], xy[3 + 2 * i]));
+			assertEquals(p.x(), out[1 + 2 * i], 1e-14);
+			assertEquals(p.y(), out[2 + 2 * i], 1e-14);
+		}
+
+		// in place, with overlapping ranges
+		double[] xy2 = xy.clone();
+		trans.transform(xy2, 0, xy2, 2, 3);
+		double[] xy3 = xy.clone();
+		trans.transform(xy3, 2, xy3, 0, 3);
+		for (int i = 0; i < 3; i++) {
+			Point2D p = trans.transform(new Point2D(xy[2 * i], xy[2 * i + 1]));
+			assertEquals(p.x(), xy2[2 + 2 * i], 1e-14);
+			assertEquals(p.y(), xy2[3 + 2 * i], 1e-14);
+			p = trans.transform(new Point2D(xy[2 + 2 * i], xy[3 + 2 * i]));
+			assertEquals(p.x(), xy3[2 * i], 1e-14);
+			assertEquals(p.y(), xy3[2 * i + 1], 1e-14);
+		}
+	}
+
+	public void testTransform_Arrays() {
+		AffineTransform2D trans = new AffineTransform2D(1, 2, 3, 4, 5, 6);
+		double[] xs = new double[]{1, 2, 3};
+		double[] ys = new double[]{4, 5, 6};
+		trans.transform(xs, ys, xs, ys, 3);
+		assertEquals(1 + 8 + 3, xs[0], 1e-14);
+		assertEquals(4 + 20 + 6, ys[0], 1e-14);
+		assertEquals(3 + 12 + 3, xs[2], 1e-14);
+		assertEquals(12 + 30 + 6, ys[2], 1e-14);
+	}
 }
@@ -41,6 +41,8 @@ public class AllTests {
         suite.addTest(new TestSuite(Angle2DTest.class));
 		suite.addTest(new TestSuite(Box2DTest.class));
 		suite.addTest(new TestSuite(Point2DTest.class));
+		suite.addTest(new TestSuite(PackedRTree2DTest.class));
+		suite.addTest(new TestSuite(Predicates2DTest.class));
 		suite.addTest(new TestSuite(ShapeArray2DTest.class));
 		suite.addTest(new TestSuite(Vector2DTest.class));
 		//$JUnit-END$
@@ -0,0 +1,112 @@
+/**
+ * File: 	PackedRTree2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import math.geom2d.conic.Circle2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.line.StraightLine2D;
+import junit.framework.TestCase;
+
+public class PackedRTree2DTest extends TestCase {
+
+	/**
+	 * Creates a collection of random line segments and circles.
+	 */
+	private static ArrayList<Shape2D> createShapes(int n, long seed) {
+		Random random = new Random(seed);
+		ArrayList<Shape2D> shapes = new ArrayList<Shape2D>(n);
+		for (int i = 0; i < n; i++) {
+			double x = random.nextDouble() * 1000;
+			double y = random.nextDouble() * 1000;
+			if (i % 2 == 0)
+				shapes.add(new LineSegment2D(x, y, 
+						x + random.nextDouble() * 20 - 10, 
+						y + random.nextDouble() * 20 - 10));
+			else
+				shapes.add(new Circle2D(x, y, random.nextDouble() * 10 + 1));
+		}
+		return shapes;
+	}
+
+	public void testWindowQuery() {
+		ArrayList<Shape2D> shapes = createShapes(1000, 1);
+		PackedRTree2D<Shape2D> tree = PackedRTree2D.create(shapes);
+		assertEquals(1000, tree.size());
+		
+		Box2D window = new Box2D(200, 400, 300, 350);
+		Collection<Shape2D> result = tree.windowQuery(window);
+		
+		int expected = 0;
+		for (Shape2D shape : shapes) {
+			Box2D box = shape.boundingBox();
+			double xmin = Math.min(box.getMinX(), box.getMaxX());
+			double xmax = Math.max(box.getMinX(), box.getMaxX());
+			double ymin = Math.min(box.getMinY(), box.getMaxY());
+			double ymax = Math.max(box.getMinY(), box.getMaxY());
+			if (xmin <= 400 && xmax >= 200 && ymin <= 350 && ymax >= 300) {
+				expected++;
+				assertTrue(result.contains(shape));
+			}
+		}
+		assertEquals(expected, result.size());
+	}
+
+	public void testDistance() {
+		ArrayList<Shape2D> shapes = createShapes(500, 2);
+		ShapeArray2D<Shape2D> array = ShapeArray2D.create(shapes);
+		PackedRTree2D<Shape2D> tree = PackedRTree2D.create(shapes);
+		
+		Random random = new Random(3);
+		for (int i = 0; i < 100; i++) {
+			Point2D point = new Point2D(
+					random.nextDouble() * 1200 - 100, 
+					random.nextDouble() * 1200 - 100);
+			assertEquals(array.distance(point), tree.distance(point), 1e-10);
+		}
+	}
+	
+	public void testContains() {
+		ArrayList<Shape2D> shapes = new ArrayList<Shape2D>();
+		shapes.add(new Circle2D(10, 10, 5));
+		shapes.add(new LineSegment2D(0, 0, 100, 0));
+		shapes.add(new Point2D(50, 50));
+		PackedRTree2D<Shape2D> tree = PackedRTree2D.create(shapes);
+		
+		assertTrue(tree.contains(new Point2D(15, 10)));
+		assertTrue(tree.contains(new Point2D(50, 0)));
+		assertTrue(tree.contains(new Point2D(50, 50)));
+		assertFalse(tree.contains(new Point2D(10, 10)));
+		assertEquals(1, tree.containingShapes(new Point2D(50, 50)).size());
+	}
+	
+	public void testNearestShape_Modified() {
+		ArrayList<Shape2D> shapes = createShapes(100, 4);
+		PackedRTree2D<Shape2D> tree = PackedRTree2D.create(shapes);
+		
+		Point2D point = new Point2D(2000, 2000);
+		Point2D far = new Point2D(1990, 1990);
+		assertFalse(far.equals(tree.nearestShape(point)));
+		
+		// the tree is updated after modification
+		tree.add(far);
+		assertEquals(far, tree.nearestShape(point));
+		tree.remove(far);
+		assertFalse(far.equals(tree.nearestShape(point)));
+		
+		// unbounded shapes are also considered
+		StraightLine2D line = new StraightLine2D(2000, 0, 0, 1);
+		tree.add(line);
+		assertEquals(line, tree.nearestShape(point));
+		assertEquals(0, tree.distance(point), 1e-12);
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * File: 	Predicates2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class Predicates2DTest extends TestCase {
+
+	public void testOrient2d() {
+		assertTrue(Predicates2D.orient2d(0, 0, 1, 0, 0, 1) > 0);
+		assertTrue(Predicates2D.orient2d(0, 0, 0, 1, 1, 0) < 0);
+		assertEquals(0, Predicates2D.orient2d(0, 0, 1, 1, 3, 3), 0);
+		assertEquals(1, Predicates2D.orient2d(new Point2D(0, 0),
+				new Point2D(1, 0), new Point2D(0, 1)), 1e-14);
+	}
+
+	public void testOrient2d_NearlyColinear() {
+		// points close to the line y = x, shifted by a few ulps
+		double ulp = Math.ulp(.5);
+		for (int i = 0; i < 64; i++) {
+			for (int j = 0; j < 64; j++) {
+				double x = .5 + i * ulp;
+				double y = .5 + j * ulp;
+				double orient = Predicates2D.orient2d(x, y, 12, 12, 24, 24);
+				assertEquals(Math.signum(j - i), Math.signum(orient), 0);
+			}
+		}
+	}
+
+	public void testOrient2d_Random() {
+		Random random = new Random(1);
+		for (int k = 0; k < 1000; k++) {
+			// a point close to the segment joining two random points
+			double ax = random.nextDouble() * 100;
+			double ay = random.nextDouble() * 100;
+			double bx = random.nextDouble() * 100;
+			double by = random.nextDouble() * 100;
+			double t = random.nextDouble();
+			double cx = ax + t * (bx - ax);
+			double cy = ay + t * (by - ay);
+
+			double orient = Predicates2D.orient2d(ax, ay, bx, by, cx, cy);
+			BigDecimal exact = big(ax).subtract(big(cx))
+					.multiply(big(by).subtract(big(cy)))
+					.subtract(big(ay).subtract(big(cy))
+							.multiply(big(bx).subtract(big(cx))));
+			assertEquals(exact.signum(), (int) Math.signum(orient));
+		}
+	}
+
+	public void testIncircle() {
+		// the three points are in counter-clockwise order
+		double ax = 1, ay = 0, bx = 0, by = 1, cx = -1, cy = 0;
+		assertTrue(Predicates2D.incircle(ax, ay, bx, by, cx, cy, 0, 0) > 0);
+		assertTrue(Predicates2D.incircle(ax, ay, bx, by, cx, cy, 2, 2) < 0);
+		assertEquals(0, Predicates2D.incircle(ax, ay, bx, by, cx, cy, 0, -1), 0);
+
+		// clockwise order reverses the sign
+		assertTrue(Predicates2D.incircle(cx, cy, bx, by, ax, ay, 0, 0) < 0);
+		assertTrue(Predicates2D.incircle(new Point2D(ax, ay),
+				new Point2D(bx, by), new Point2D(cx, cy), new Point2D(.5, 0)) > 0);
+	}
+
+	public void testIncircle_NearlyCocircular() {
+		// points close to the circle with center (0,0) and radius 5
+		double ulp = Math.ulp(3.);
+		for (int i = -8; i <= 8; i++) {
+			for (int j = -8; j <= 8; j++) {
+				double dx = 3 + i * ulp;
+				double dy = -4 + j * ulp;
+				double det = Predicates2D.incircle(5, 0, 0, 5, -5, 0, dx, dy);
+				BigDecimal r2 = big(dx).pow(2).add(big(dy).pow(2));
+				int expected = big(25).compareTo(r2);
+				assertEquals(expected, (int) Math.signum(det));
+			}
+		}
+	}
+
+	public void testIncircle_Random() {
+		Random random = new Random(1);
+		for (int k = 0; k < 200; k++) {
+			double[] coords = new double[8];
+			for (int i = 0; i < 6; i++)
+				coords[i] = random.nextDouble() * 10;
+
+			// the last point is close to one of the first three points
+			int i0 = random.nextInt(3);
+			coords[6] = coords[2 * i0] + (random.nextInt(5) - 2) * 1e-15;
+			coords[7] = coords[2 * i0 + 1] + (random.nextInt(5) - 2) * 1e-15;
+
+			double det = Predicates2D.incircle(coords[0], coords[1], coords[2],
+					coords[3], coords[4], coords[5], coords[6], coords[7]);
+			assertEquals(exactIncircle(coords).signum(), (int) Math.signum(det));
+		}
+	}
+
+	public void testPoint2DCcw() {
+		Point2D p0 = new Point2D(.5, .5);
+		Point2D p1 = new Point2D(12, 12);
+		Point2D p2 = new Point2D(24, 24);
+		Point2D p3 = new Point2D(.5, .5 + Math.ulp(.5));
+		assertEquals(1, Point2D.ccw(p3, p1, p2));
+		assertEquals(-1, Point2D.ccw(p1, p3, p2));
+		assertEquals(1, Point2D.ccw(p0, p1, p2));
+	}
+
+	private static BigDecimal big(double value) {
+		return new BigDecimal(value);
+	}
+
+	/**
+	 * Computes the in circle determinant from the coordinates relative to
+	 * the last point, with exact arithmetic.
+	 */
+	private static BigDecimal exactIncircle(double[] c) {
+		BigDecimal[] dx = new BigDecimal[3];
+		BigDecimal[] dy = new BigDecimal[3];
+		BigDecimal[] lift = new BigDecimal[3];
+		for (int i = 0; i < 3; i++) {
+			dx[i] = big(c[2 * i]).subtract(big(c[6]));
+			dy[i] = big(c[2 * i + 1]).subtract(big(c[7]));
+			lift[i] = dx[i].pow(2).add(dy[i].pow(2));
+		}
+		BigDecimal det = BigDecimal.ZERO;
+		for (int i = 0; i < 3; i++) {
+			int j = (i + 1) % 3;
+			int k = (i + 2) % 3;
+			det = det.add(lift[i].multiply(
+					dx[j].multiply(dy[k]).subtract(dx[k].multiply(dy[j]))));
+		}
+		return det;
+	}
+}
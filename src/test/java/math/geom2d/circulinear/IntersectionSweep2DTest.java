@@ -0,0 +1,108 @@
+/* file : IntersectionSweep2DTest.java
+ * 
+ * Project : geometry
+ *
+ * ===========================================
+ * 
+ * This library is free software; you can redistribute it and/or modify it 
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or (at
+ * your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but 
+ * WITHOUT ANY WARRANTY, without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.
+ *
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library. if not, write to :
+ * The Free Software Foundation, Inc., 59 Temple Place, Suite 330,
+ * Boston, MA 02111-1307, USA.
+ * 
+ * Created on 17 oct. 2026
+ *
+ */
+package math.geom2d.circulinear;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+import math.geom2d.Vector2D;
+import math.geom2d.conic.CircleArc2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.line.StraightLine2D;
+import math.geom2d.polygon.Polyline2D;
+
+public class IntersectionSweep2DTest extends TestCase {
+
+	public void testFindCandidatePairs_TwoLists() {
+		ArrayList<CirculinearElement2D> list1 = new ArrayList<CirculinearElement2D>();
+		list1.add(new LineSegment2D(new Point2D(0, 0), new Point2D(10, 10)));
+		list1.add(new LineSegment2D(new Point2D(20, 0), new Point2D(30, 10)));
+
+		ArrayList<CirculinearElement2D> list2 = new ArrayList<CirculinearElement2D>();
+		list2.add(new LineSegment2D(new Point2D(0, 10), new Point2D(10, 0)));
+		list2.add(new CircleArc2D(new Point2D(25, 5), 2, 0, Math.PI));
+		list2.add(new LineSegment2D(new Point2D(100, 0), new Point2D(110, 0)));
+
+		int[][] pairs = IntersectionSweep2D.findCandidatePairs(list1, list2);
+		assertEquals(2, pairs.length);
+		assertEquals(0, pairs[0][0]);
+		assertEquals(0, pairs[0][1]);
+		assertEquals(1, pairs[1][0]);
+		assertEquals(1, pairs[1][1]);
+	}
+
+	public void testFindCandidatePairs_Touching() {
+		ArrayList<CirculinearElement2D> list = new ArrayList<CirculinearElement2D>();
+		list.add(new LineSegment2D(new Point2D(0, 0), new Point2D(10, 0)));
+		list.add(new LineSegment2D(new Point2D(10, 0), new Point2D(10, 10)));
+		list.add(new LineSegment2D(new Point2D(10, 10), new Point2D(20, 10)));
+
+		int[][] pairs = IntersectionSweep2D.findCandidatePairs(list);
+		assertEquals(2, pairs.length);
+		assertEquals(0, pairs[0][0]);
+		assertEquals(1, pairs[0][1]);
+		assertEquals(1, pairs[1][0]);
+		assertEquals(2, pairs[1][1]);
+	}
+
+	public void testFindCandidatePairs_Unbounded() {
+		ArrayList<CirculinearElement2D> list = new ArrayList<CirculinearElement2D>();
+		list.add(new LineSegment2D(new Point2D(0, 0), new Point2D(10, 0)));
+		list.add(new StraightLine2D(new Point2D(50, 50), new Vector2D(1, 0)));
+		list.add(new LineSegment2D(new Point2D(100, 100), new Point2D(110, 100)));
+
+		int[][] pairs = IntersectionSweep2D.findCandidatePairs(list);
+		assertEquals(2, pairs.length);
+		assertEquals(0, pairs[0][0]);
+		assertEquals(1, pairs[0][1]);
+		assertEquals(1, pairs[1][0]);
+		assertEquals(2, pairs[1][1]);
+	}
+
+	/**
+	 * Compares the intersections computed with the sweep with a count 
+	 * obtained by an exhaustive search on a zigzag curve.
+	 */
+	public void testFindIntersections_Zigzag() {
+		int n = 50;
+		Polyline2D zigzag = new Polyline2D();
+		for (int i = 0; i < n; i++)
+			zigzag.addVertex(new Point2D(i * 10, (i % 2) * 10));
+		StraightLine2D line = new StraightLine2D(
+				new Point2D(0, 5), new Vector2D(1, 0));
+		Polyline2D horizontal = new Polyline2D(new Point2D[] {
+				new Point2D(-10, 5), new Point2D(n * 10, 5) });
+
+		Collection<Point2D> points = 
+			CirculinearCurves2D.findIntersections(zigzag, horizontal);
+		assertEquals(n - 1, points.size());
+		
+		points = CirculinearCurves2D.findIntersections(zigzag, line);
+		assertEquals(n - 1, points.size());
+	}
+}
@@ -41,6 +41,7 @@ public class AllTests {
 		suite.addTest(new TestSuite(ButtCapFactoryTest.class));
 		suite.addTest(new TestSuite(BevelJoinFactoryTest.class));
 		suite.addTest(new TestSuite(MiterJoinFactoryTest.class));
+		suite.addTest(new TestSuite(PointSetBuffer2DTest.class));
 		suite.addTest(new TestSuite(RoundCapFactoryTest.class));
 		suite.addTest(new TestSuite(RoundJoinFactoryTest.class));
 		suite.addTest(new TestSuite(SquareCapFactoryTest.class));
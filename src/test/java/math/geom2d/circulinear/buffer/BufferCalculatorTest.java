@@ -2,7 +2,17 @@ package math.geom2d.circulinear.buffer;
 
 import static java.lang.Math.PI;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import junit.framework.TestCase;
 import math.geom2d.Point2D;
@@ -15,8 +25,10 @@ import math.geom2d.line.InvertedRay2D;
 import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.Ray2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.PointArray2D;
 import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.polygon.Polyline2D;
+import math.geom2d.polygon.SimplePolygon2D;
 
 /**
  * Test computation of buffer and parallel on a variety of
@@ -503,4 +515,182 @@ public class BufferCalculatorTest extends TestCase {
 
 		assertEquals(2, buffer.contours().size());
 	}
+
+	public void testComputeBuffers() {
+		// a collection of curves and other shapes
+		ArrayList<CirculinearShape2D> shapes = new ArrayList<CirculinearShape2D>();
+		shapes.add(new LineSegment2D(new Point2D(0, 0), new Point2D(100, 0)));
+		shapes.add(new Polyline2D(new Point2D[]{
+				new Point2D(0, 0), new Point2D(50, 40), new Point2D(100, 0),
+				new Point2D(100, 100), new Point2D(60, 20)}));
+		shapes.add(new Point2D(10, 20));
+		shapes.add(new LinearRing2D(new Point2D[]{
+				new Point2D(0, 0), new Point2D(100, 0), new Point2D(100, 100), 
+				new Point2D(50, 10), new Point2D(0, 100)}));
+		shapes.add(new Circle2D(50, 50, 30));
+		shapes.add(new PointArray2D(new Point2D[]{
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(100, 0)}));
+		shapes.add(CirculinearCurveArray2D.create(new LineSegment2D[]{
+				new LineSegment2D(new Point2D(0, 0), new Point2D(100, 100)),
+				new LineSegment2D(new Point2D(0, 100), new Point2D(100, 0))}));
+		double dist = 8;
+
+		// reference buffers computed sequentially
+		BufferCalculator bc = new BufferCalculator();
+		ArrayList<CirculinearDomain2D> refs = new ArrayList<CirculinearDomain2D>();
+		for (CirculinearShape2D shape : shapes) {
+			if (shape instanceof CirculinearCurve2D)
+				refs.add(bc.computeBuffer((CirculinearCurve2D) shape, dist));
+			else
+				refs.add(shape.buffer(dist));
+		}
+
+		// compute with default executor, a fork-join pool, and a fixed pool
+		ExecutorService pool1 = new ForkJoinPool(3);
+		ExecutorService pool2 = Executors.newFixedThreadPool(2);
+		BufferCalculator[] calculators = new BufferCalculator[]{
+				BufferCalculator.getDefaultInstance(),
+				new BufferCalculator(pool1),
+				new BufferCalculator(new RoundJoinFactory(),
+						new RoundCapFactory(), pool2)};
+
+		for (BufferCalculator calc : calculators) {
+			List<CirculinearDomain2D> buffers = calc.computeBuffers(shapes, dist);
+			assertEquals(shapes.size(), buffers.size());
+			for (int i = 0; i < shapes.size(); i++) {
+				CirculinearDomain2D ref = refs.get(i);
+				CirculinearDomain2D buffer = buffers.get(i);
+				assertEquals(ref.contours().size(), buffer.contours().size());
+				assertEquals(ref.boundary().length(), 
+						buffer.boundary().length(), 1e-10);
+			}
+		}
+
+		// single buffers are also computed with the executor
+		CirculinearCurve2D curve = (CirculinearCurve2D) shapes.get(3);
+		CirculinearDomain2D buffer = calculators[2].computeBuffer(curve, dist);
+		assertEquals(refs.get(3).contours().size(), buffer.contours().size());
+
+		pool1.shutdown();
+		pool2.shutdown();
+	}
+
+	public void testComputeBuffer_PointSet() {
+		// random points, with some multiple points
+		Random random = new Random(1);
+		PointArray2D set = new PointArray2D();
+		for (int i = 0; i < 300; i++)
+			set.add(new Point2D(random.nextDouble() * 100, random.nextDouble() * 100));
+		for (int i = 0; i < 10; i++)
+			set.add(set.get(i));
+		double dist = 4;
+
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+		CirculinearDomain2D buffer = bc.computeBuffer(set, dist);
+		assertFalse(buffer.isEmpty());
+
+		// each contour is composed of arcs, at the buffer distance from the
+		// points
+		for (CirculinearContour2D contour : buffer.contours()) {
+			assertTrue(contour.isClosed());
+			for (CirculinearElement2D arc : contour.smoothPieces()) {
+				Point2D p = arc.point((arc.t0() + arc.t1()) / 2);
+				assertEquals(dist, set.distance(p), 1e-10);
+			}
+		}
+
+		// compare containment of random points with distance to point set
+		for (int i = 0; i < 2000; i++) {
+			Point2D p = new Point2D(random.nextDouble() * 120 - 10,
+					random.nextDouble() * 120 - 10);
+			double d = set.distance(p);
+			if (Math.abs(d - dist) < 1e-6)
+				continue;
+			assertEquals(d < dist, buffer.contains(p));
+		}
+
+		// negative distance gives the complementary domain
+		CirculinearDomain2D buffer2 = bc.computeBuffer(set, -dist);
+		assertEquals(buffer.contours().size(), buffer2.contours().size());
+		for (int i = 0; i < 200; i++) {
+			Point2D p = new Point2D(random.nextDouble() * 120 - 10,
+					random.nextDouble() * 120 - 10);
+			if (Math.abs(set.distance(p) - dist) < 1e-6)
+				continue;
+			assertEquals(!buffer.contains(p), buffer2.contains(p));
+		}
+	}
+
+	public void testComputeBuffer_LargePointSet() {
+		// a large number of overlapping disks
+		Random random = new Random(1);
+		int n = 20000;
+		PointArray2D set = new PointArray2D(n);
+		for (int i = 0; i < n; i++)
+			set.add(new Point2D(random.nextDouble() * 1000, random.nextDouble() * 1000));
+
+		CirculinearDomain2D buffer = new BufferCalculator().computeBuffer(set, 5);
+		assertFalse(buffer.isEmpty());
+		assertTrue(buffer.contains(set.get(0)));
+	}
+
+	public void testComputeBuffers_Factories() {
+		// polygons are not curves, but their buffers use the factories
+		SimplePolygon2D square = new SimplePolygon2D(new Point2D[]{
+				new Point2D(0, 0), new Point2D(100, 0), 
+				new Point2D(100, 100), new Point2D(0, 100)});
+		ArrayList<CirculinearShape2D> shapes = new ArrayList<CirculinearShape2D>();
+		shapes.add(square);
+		double dist = 10;
+
+		BufferCalculator bc = new BufferCalculator(new BevelJoinFactory(),
+				new ButtCapFactory());
+		CirculinearDomain2D ref = bc.computeBuffer(square.boundary(), dist);
+		CirculinearDomain2D buffer = bc.computeBuffers(shapes, dist).get(0);
+		assertEquals(ref.contours().size(), buffer.contours().size());
+		assertEquals(ref.boundary().length(), buffer.boundary().length(), 1e-10);
+
+		// bevel joins give a shorter boundary than the default round joins
+		CirculinearDomain2D round = BufferCalculator.getDefaultInstance()
+				.computeBuffer(square.boundary(), dist);
+		assertTrue(buffer.boundary().length() < round.boundary().length() - 1);
+	}
+
+	public void testComputeBuffers_FixedPoolPolygons() throws Exception {
+		// more polygons than threads, with a pool that does not steal tasks
+		ArrayList<CirculinearShape2D> shapes = new ArrayList<CirculinearShape2D>();
+		for (int i = 0; i < 4; i++)
+			shapes.add(new SimplePolygon2D(new Point2D[]{
+					new Point2D(i * 20, 0), new Point2D(i * 20 + 10, 0), 
+					new Point2D(i * 20 + 10, 10), new Point2D(i * 20, 10)}));
+		final double dist = 1;
+
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		final BufferCalculator calc = new BufferCalculator(pool);
+		final Collection<CirculinearShape2D> input = shapes;
+		ExecutorService caller = Executors.newSingleThreadExecutor();
+		Future<List<CirculinearDomain2D>> future = caller.submit(
+				new Callable<List<CirculinearDomain2D>>() {
+					public List<CirculinearDomain2D> call() {
+						return calc.computeBuffers(input, dist);
+					}
+				});
+
+		try {
+			List<CirculinearDomain2D> buffers = future.get(60, TimeUnit.SECONDS);
+			assertEquals(4, buffers.size());
+			CirculinearDomain2D ref = BufferCalculator.getDefaultInstance()
+					.computeBuffer(((SimplePolygon2D) shapes.get(0)).boundary(), dist);
+			for (CirculinearDomain2D buffer : buffers) {
+				assertEquals(ref.contours().size(), buffer.contours().size());
+				assertEquals(ref.boundary().length(), 
+						buffer.boundary().length(), 1e-10);
+			}
+		} catch (TimeoutException ex) {
+			fail("buffer computation is blocked on a fixed thread pool");
+		} finally {
+			caller.shutdownNow();
+			pool.shutdownNow();
+		}
+	}
 }
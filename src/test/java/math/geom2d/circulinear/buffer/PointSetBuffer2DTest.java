@@ -0,0 +1,65 @@
+/**
+ * File: 	PointSetBuffer2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear.buffer;
+
+import java.util.ArrayList;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+import math.geom2d.circulinear.CirculinearDomain2D;
+
+/**
+ * @author dlegland
+ *
+ */
+public class PointSetBuffer2DTest extends TestCase {
+
+	public void testCreate_OverlappingDisks() {
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(0, 0));
+		points.add(new Point2D(10, 0));
+		points.add(new Point2D(40, 0));
+
+		CirculinearDomain2D buffer = PointSetBuffer2D.create(points, 10);
+		assertEquals(2, buffer.contours().size());
+		assertTrue(buffer.contains(new Point2D(5, 8)));
+		assertFalse(buffer.contains(new Point2D(25, 0)));
+	}
+
+	public void testCreate_TangentDisks() {
+		// the disks centered on (3,4) and (3,6) touch at (3,5), which is on
+		// the circle centered on (4,5)
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(4, 5));
+		points.add(new Point2D(3, 4));
+		points.add(new Point2D(3, 6));
+
+		CirculinearDomain2D buffer = PointSetBuffer2D.create(points, 1);
+		assertEquals(1, buffer.contours().size());
+		assertTrue(buffer.contains(new Point2D(3.0123, 4.6071)));
+		assertTrue(buffer.contains(new Point2D(3.5, 5)));
+		assertFalse(buffer.contains(new Point2D(2.9, 5)));
+	}
+
+	public void testCreate_TangentDisksDiagonal() {
+		// the disks centered on (4,2) and (3,1) touch at (3.5,1.5), which is
+		// on the circle centered on (4,1)
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		points.add(new Point2D(4, 2));
+		points.add(new Point2D(4, 1));
+		points.add(new Point2D(3, 1));
+
+		CirculinearDomain2D buffer = PointSetBuffer2D.create(points,
+				Math.sqrt(2) / 2);
+		assertEquals(1, buffer.contours().size());
+		assertTrue(buffer.contains(new Point2D(3.55, 1.45)));
+		assertTrue(buffer.contains(new Point2D(3.7, 1.6)));
+		assertFalse(buffer.contains(new Point2D(3.45, 1.55)));
+	}
+}
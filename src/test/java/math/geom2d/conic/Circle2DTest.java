@@ -38,7 +38,9 @@ import math.geom2d.curve.SmoothCurve2D;
 import math.geom2d.domain.ContinuousOrientedCurve2D;
 import math.geom2d.domain.Domain2D;
 import math.geom2d.line.LineSegment2D;
+import math.geom2d.line.LinearShape2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.transform.CircleInversion2D;
 
 /**
@@ -544,4 +546,59 @@ public class Circle2DTest extends TestCase {
 		assertTrue(curves.size() == 1);
 	}
 	
+
+	public void testPoint_Array() {
+		Circle2D circle = new Circle2D(10, 20, 5, false);
+		double[] out = new double[2];
+		for (int i = 0; i < 12; i++) {
+			double t = i * Math.PI / 6;
+			circle.point(t, out);
+			Point2D point = circle.point(t);
+			assertEquals(point.x(), out[0], 1e-12);
+			assertEquals(point.y(), out[1], 1e-12);
+		}
+	}
+
+	public void testIntersections_Buffer() {
+		Circle2D circle = new Circle2D(10, 20, 5);
+		CircleArc2D arc = new CircleArc2D(10, 20, 5, 0, Math.PI);
+		LinearShape2D[] lines = new LinearShape2D[] {
+				new StraightLine2D(0, 20, 1, 0),
+				new StraightLine2D(0, 23, 1, 1),
+				new StraightLine2D(5, 0, 0, 1),
+				new LineSegment2D(10, 20, 30, 20),
+				new LineSegment2D(10, 24, 12, 30),
+				new StraightLine2D(0, 30, 1, 0) };
+
+		PointBuffer2D buffer = new PointBuffer2D(1);
+		for (LinearShape2D line : lines) {
+			for (CircularShape2D shape : new CircularShape2D[] { circle, arc }) {
+				Collection<Point2D> expected = shape.intersections(line);
+				buffer.clear();
+				assertEquals(expected.size(), shape.intersections(line, buffer));
+				assertEquals(expected.size(), buffer.size());
+				int i = 0;
+				for (Point2D point : expected) {
+					assertEquals(point.x(), buffer.x(i), 1e-10);
+					assertEquals(point.y(), buffer.y(i), 1e-10);
+					i++;
+				}
+			}
+		}
+	}
+
+	public void testBoundingBox_Array() {
+		double[] bounds = new double[4];
+		new CircleArc2D(10, 20, 5, 0, Math.PI / 2).boundingBox(bounds);
+		assertEquals(10, bounds[0], 1e-12);
+		assertEquals(15, bounds[1], 1e-12);
+		assertEquals(20, bounds[2], 1e-12);
+		assertEquals(25, bounds[3], 1e-12);
+
+		new Circle2D(10, 20, 5).boundingBox(bounds);
+		assertEquals(5, bounds[0], 0);
+		assertEquals(15, bounds[1], 0);
+		assertEquals(15, bounds[2], 0);
+		assertEquals(25, bounds[3], 0);
+	}
 }
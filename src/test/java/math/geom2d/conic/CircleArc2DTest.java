@@ -38,6 +38,7 @@ import math.geom2d.Vector2D;
 import math.geom2d.circulinear.CirculinearCurve2D;
 import math.geom2d.curve.Curve2D;
 import math.geom2d.curve.CurveSet2D;
+import math.geom2d.curve.FlatteningAsserts;
 import math.geom2d.domain.Boundary2D;
 import math.geom2d.domain.Domain2D;
 import math.geom2d.line.LineSegment2D;
@@ -675,5 +676,31 @@ public class CircleArc2DTest extends TestCase {
 		assertEquals(arc1.project(new Point2D(x0+r/2, y0+r*.8)), 0, eps);
 		assertEquals(arc1.project(new Point2D(x0+r*.8, y0+r/2)), theta2-theta1, eps);
 	}
-	
+
+	public void testFlatten() {
+		CircleArc2D arc = new CircleArc2D(10, 20, 30, Math.PI / 4, -3 * Math.PI / 2);
+		FlatteningAsserts.assertFlattening(arc);
+	}
+
+	public void testFlatten_WrappedAngles() {
+		// an arc crossing the zero angle, from 7*pi/4 to pi/4
+		CircleArc2D arc = new CircleArc2D(0, 0, 10, 7 * Math.PI / 4, Math.PI / 2);
+		Polyline2D poly = arc.flatten(.01);
+		FlatteningAsserts.assertFlattening(arc, poly, .01);
+
+		// vertices stay on the arc, and do not go round the other side
+		for (Point2D vertex : poly.vertices()) {
+			assertEquals(10, vertex.distance(0, 0), 1e-10);
+			assertTrue(vertex.x() > 7);
+		}
+	}
+
+	public void testFlatten_LargeError() {
+		CircleArc2D arc = new CircleArc2D(0, 0, 10, 0, Math.PI / 2);
+		assertEquals(2, arc.flatten(20).vertexNumber());
+		
+		// the sagitta of a quarter of circle is r * (1 - cos(pi/4))
+		assertEquals(2, arc.flatten(10 * (1 - Math.cos(Math.PI / 4)) + 1e-12).vertexNumber());
+		assertEquals(3, arc.flatten(10 * (1 - Math.cos(Math.PI / 4)) - 1e-12).vertexNumber());
+	}
 }
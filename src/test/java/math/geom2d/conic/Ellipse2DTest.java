@@ -35,7 +35,9 @@ import math.geom2d.AffineTransform2D;
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.Vector2D;
+import math.geom2d.curve.FlatteningAsserts;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.polygon.LinearRing2D;
 
 /**
  * @author Legland
@@ -260,6 +262,58 @@ public class Ellipse2DTest extends TestCase {
 		assertEquals(d, dist, 1e-6);
 	}
 	
+	public void testSignedDistance_Inside(){
+		Ellipse2D el1 = new Ellipse2D(0, 0, 20, 10);
+		assertEquals(-5, el1.signedDistance(new Point2D(15, 0)), 1e-12);
+		assertEquals(-5, el1.signedDistance(new Point2D(0, 5)), 1e-12);
+		assertEquals(-10, el1.signedDistance(new Point2D(0, 0)), 1e-12);
+
+		Ellipse2D el1i = new Ellipse2D(0, 0, 20, 10, 0, false);
+		assertEquals(5, el1i.signedDistance(new Point2D(15, 0)), 1e-12);
+		assertEquals(-5, el1i.signedDistance(new Point2D(25, 0)), 1e-12);
+	}
+
+	/**
+	 * Compare distance and projection with a dense sampling of the ellipse,
+	 * for points inside and outside the ellipse.
+	 */
+	public void testDistance_Sampling(){
+		Ellipse2D ellipse = new Ellipse2D(10, 20, 30, 8, Math.PI/5);
+		int n = 20000;
+		java.util.Random random = new java.util.Random(1);
+		for (int i = 0; i < 100; i++) {
+			Point2D point = new Point2D(random.nextDouble() * 80 - 30, 
+					random.nextDouble() * 80 - 20);
+			
+			double minDist = Double.POSITIVE_INFINITY;
+			for (int k = 0; k < n; k++)
+				minDist = Math.min(minDist, 
+						ellipse.point(k * 2 * Math.PI / n).distance(point));
+			
+			double dist = ellipse.distance(point);
+			assertTrue(dist <= minDist + 1e-12);
+			assertEquals(minDist, dist, 1e-4);
+			
+			Point2D proj = ellipse.projectedPoint(point);
+			assertEquals(dist, proj.distance(point), 1e-10);
+			assertEquals(dist, 
+					ellipse.point(ellipse.project(point)).distance(point), 1e-10);
+		}
+	}
+	
+	public void testDistance_Normal(){
+		Ellipse2D el1 = new Ellipse2D(10, 5, 20, 10, Math.PI/3, false);
+		for (double pos = .1; pos < 6.2; pos += .3) {
+			Point2D p0 = el1.point(pos);
+			Vector2D v0 = el1.normal(pos).normalize();
+			for (double d = -4; d <= 4; d += 2) {
+				Point2D p1 = p0.plus(v0.times(d));
+				assertEquals(Math.abs(d), el1.distance(p1), 1e-10);
+				assertEquals(pos, el1.project(p1), 1e-10);
+			}
+		}
+	}
+	
 	/**
 	 * check that for a given position, computing the point on the curve, 
 	 * then computing position of the point, gives the initial position.
@@ -405,5 +459,28 @@ public class Ellipse2DTest extends TestCase {
 		EllipseShape2D ell3 = ellipse.transform(aff3);
 		assertTrue(ell3.almostEquals(ellipse, Shape2D.ACCURACY));
 	}
-	
+
+	public void testFlatten() {
+		Ellipse2D ellipse = new Ellipse2D(10, 20, 30, 5, Math.PI / 3);
+		FlatteningAsserts.assertFlattening(ellipse);
+	}
+
+	public void testFlatten_Eccentric() {
+		// a very flat and rotated ellipse
+		Ellipse2D ellipse = new Ellipse2D(10, 20, 100, .5, Math.PI / 7);
+		LinearRing2D ring = ellipse.flatten(.01);
+		FlatteningAsserts.assertFlattening(ellipse, ring, .01);
+		assertTrue(ring.area() > 0);
+	}
+
+	public void testFlatten_Adaptive() {
+		// vertices are concentrated near the ends of the major axis
+		Ellipse2D ellipse = new Ellipse2D(0, 0, 30, 2);
+		LinearRing2D ring = ellipse.flatten(.01);
+		int nEnds = 0;
+		for (Point2D vertex : ring.vertices())
+			if (Math.abs(vertex.x()) > 15)
+				nEnds++;
+		assertTrue(nEnds > ring.vertexNumber() / 2);
+	}
 }
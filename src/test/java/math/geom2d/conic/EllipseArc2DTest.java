@@ -28,9 +28,12 @@ package math.geom2d.conic;
 import static java.lang.Math.PI;
 import junit.framework.TestCase;
 import math.geom2d.AffineTransform2D;
+import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
 import math.geom2d.Vector2D;
+import math.geom2d.curve.FlatteningAsserts;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.polygon.LinearRing2D;
 import math.geom2d.polygon.Polyline2D;
 
 public class EllipseArc2DTest extends TestCase {
@@ -159,6 +162,38 @@ public class EllipseArc2DTest extends TestCase {
 		
 	}
 	
+	/**
+	 * Compare distance and projection with a dense sampling of the arc. 
+	 */
+	public void testDistance_Sampling() {
+		Ellipse2D ellipse = new Ellipse2D(0, 0, 50, 10, PI/6);
+		EllipseArc2D[] arcs = new EllipseArc2D[] {
+				new EllipseArc2D(ellipse, 0, 2 * PI / 3),
+				new EllipseArc2D(ellipse, PI / 4, -PI / 2),
+				new EllipseArc2D(ellipse, 5 * PI / 4, PI / 2) };
+		
+		int n = 20000;
+		java.util.Random random = new java.util.Random(1);
+		for (EllipseArc2D arc : arcs) {
+			double extent = Math.abs(arc.getAngleExtent());
+			for (int i = 0; i < 50; i++) {
+				Point2D point = new Point2D(random.nextDouble() * 120 - 60, 
+						random.nextDouble() * 120 - 60);
+				
+				double minDist = Double.POSITIVE_INFINITY;
+				for (int k = 0; k <= n; k++)
+					minDist = Math.min(minDist, 
+							arc.point(k * extent / n).distance(point));
+				
+				double dist = arc.distance(point);
+				assertTrue(dist <= minDist + 1e-12);
+				assertEquals(minDist, dist, 1e-3);
+				assertEquals(dist, 
+						arc.point(arc.project(point)).distance(point), 1e-10);
+			}
+		}
+	}
+	
     public void testClone() {
         Ellipse2D ellipse = new Ellipse2D(10, 20, 30, 40, Math.PI/3);
         EllipseArc2D arc = new EllipseArc2D(ellipse, Math.PI/2, Math.PI);
@@ -171,4 +206,20 @@ public class EllipseArc2DTest extends TestCase {
 	private void assertAlmostEquals(Vector2D v1, Vector2D v2, double eps) {
 		assertTrue(v1.almostEquals(v2, eps));
 	}
+
+	public void testFlatten() {
+		EllipseArc2D arc = new EllipseArc2D(
+				new Ellipse2D(10, 20, 30, 10, Math.PI / 6), Math.PI / 4, 3 * Math.PI / 2);
+		FlatteningAsserts.assertFlattening(arc);
+	}
+
+	public void testFlatten_NegativeExtent() {
+		EllipseArc2D arc = new EllipseArc2D(
+				new Ellipse2D(10, 20, 30, 10, Math.PI / 6), Math.PI / 4, -3 * Math.PI / 2);
+		FlatteningAsserts.assertFlattening(arc);
+
+		// vertices are ordered clockwise
+		Polyline2D poly = arc.flatten(.1);
+		assertTrue(new LinearRing2D(poly.vertices()).area() < 0);
+	}
 }
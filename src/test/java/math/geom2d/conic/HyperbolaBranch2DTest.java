@@ -6,7 +6,9 @@ import math.geom2d.Vector2D;
 import math.geom2d.curve.Curve2D;
 import math.geom2d.curve.CurveSet2D;
 import math.geom2d.curve.Curves2D;
+import math.geom2d.curve.FlatteningAsserts;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.polygon.Polyline2D;
 import junit.framework.TestCase;
 
 public class HyperbolaBranch2DTest extends TestCase {
@@ -103,4 +105,27 @@ public class HyperbolaBranch2DTest extends TestCase {
 
 	}
 
+	public void testFlattenArc() {
+		HyperbolaBranch2D branch = new HyperbolaBranch2D(
+				new Hyperbola2D(10, 20, 3, 2, Math.PI / 5), true);
+		HyperbolaBranchArc2D arc = new HyperbolaBranchArc2D(branch, -2, 3);
+		FlatteningAsserts.assertFlattening(arc);
+
+		// the vertex of the branch is within the chord error
+		Polyline2D poly = arc.flatten(.01);
+		assertTrue(poly.distance(arc.point(0)) <= .01 + 1e-10);
+	}
+
+	public void testFlattenArc_OneSide() {
+		// an arc far from the vertex, close to the asymptote
+		HyperbolaBranch2D branch = new HyperbolaBranch2D(
+				new Hyperbola2D(10, 20, 3, 2, Math.PI / 5), true);
+		HyperbolaBranchArc2D arc = new HyperbolaBranchArc2D(branch, 1, 4);
+		Polyline2D poly = arc.flatten(.01);
+		FlatteningAsserts.assertFlattening(arc, poly, .01);
+
+		// the initial edges are subdivided according to the chord error
+		assertTrue(poly.vertexNumber() > 5);
+		assertTrue(poly.vertexNumber() < arc.flatten(.0001).vertexNumber());
+	}
 }
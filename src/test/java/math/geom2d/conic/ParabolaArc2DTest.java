@@ -34,8 +34,10 @@ import math.geom2d.Shape2D;
 import math.geom2d.curve.Curve2D;
 import math.geom2d.curve.Curves2D;
 import math.geom2d.curve.CurveSet2D;
+import math.geom2d.curve.FlatteningAsserts;
 import math.geom2d.line.StraightLine2D;
 import math.geom2d.polygon.LinearCurve2D;
+import math.geom2d.polygon.Polyline2D;
 
 public class ParabolaArc2DTest extends TestCase {
 
@@ -308,5 +310,28 @@ public class ParabolaArc2DTest extends TestCase {
 		pt = new Point2D(2, 1);
 		assertEquals(arc.windingAngle(pt), Math.PI/2, eps);		
 	}
-	
+
+	public void testFlatten() {
+		ParabolaArc2D arc = new ParabolaArc2D(
+				new Parabola2D(10, 20, .5, Math.PI / 5), -8, 10);
+		FlatteningAsserts.assertFlattening(arc);
+	}
+
+	public void testFlatten_AsymmetricRange() {
+		// the vertex of the parabola is close to the first end of the arc
+		Parabola2D parabola = new Parabola2D(10, 20, .5, Math.PI / 5);
+		ParabolaArc2D arc = new ParabolaArc2D(parabola, -1, 30);
+		Polyline2D poly = arc.flatten(.01);
+		FlatteningAsserts.assertFlattening(arc, poly, .01);
+
+		// vertices are concentrated near the vertex of the parabola
+		int nNear = 0;
+		for (Point2D vertex : poly.vertices())
+			if (vertex.distance(10, 20) < 5)
+				nNear++;
+		assertTrue(nNear > poly.vertexNumber() / 4);
+
+		// an arc that does not contain the vertex
+		FlatteningAsserts.assertFlattening(new ParabolaArc2D(parabola, 2, 30));
+	}
 }
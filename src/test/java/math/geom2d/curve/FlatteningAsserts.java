@@ -0,0 +1,75 @@
+/**
+ * File: 	FlatteningAsserts.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.curve;
+
+import junit.framework.Assert;
+import math.geom2d.Point2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.polygon.LinearCurve2D;
+
+/**
+ * Checks shared by the tests of the flatten(double) method of smooth curves.
+ * @author dlegland
+ *
+ */
+public class FlatteningAsserts {
+
+	/**
+	 * Flattens the curve with decreasing chord errors, and checks that the
+	 * number of vertices increases, that open curves keep their end points,
+	 * and that the curve stays within the chord error of the polyline.
+	 */
+	public static void assertFlattening(AbstractSmoothCurve2D curve) {
+		int nv = 0;
+		for (double eps : new double[]{1, .1, .01}) {
+			LinearCurve2D poly = curve.flatten(eps);
+			Assert.assertTrue(poly.vertexNumber() > nv);
+			nv = poly.vertexNumber();
+			assertFlattening(curve, poly, eps);
+		}
+	}
+
+	/**
+	 * Checks that the polyline obtained by flattening the curve keeps the
+	 * end points of open curves, and that the curve stays within the chord
+	 * error of the polyline.
+	 */
+	public static void assertFlattening(AbstractSmoothCurve2D curve,
+			LinearCurve2D poly, double eps) {
+		if (!curve.isClosed()) {
+			Assert.assertTrue(poly.firstPoint().almostEquals(
+					curve.firstPoint(), 1e-12));
+			Assert.assertTrue(poly.lastPoint().almostEquals(
+					curve.lastPoint(), 1e-12));
+		}
+		double t0 = curve.t0(), t1 = curve.t1();
+		for (int i = 0; i <= 1000; i++) {
+			Point2D point = curve.point(t0 + (t1 - t0) * i / 1000);
+			Assert.assertTrue(poly.distance(point) <= eps + 1e-10);
+		}
+	}
+
+	/**
+	 * Checks that each edge of the polyline obtained by flattening the curve
+	 * is within the chord error of the corresponding portion of curve, by
+	 * sampling the portion densely. The portions are found by projecting the
+	 * vertices on the curve, so the curve must not intersect itself.
+	 */
+	public static void assertChordError(AbstractSmoothCurve2D curve,
+			LinearCurve2D poly, double eps) {
+		for (LineSegment2D edge : poly.edges()) {
+			double ta = curve.project(edge.firstPoint());
+			double tb = curve.project(edge.lastPoint());
+			for (int i = 1; i < 100; i++) {
+				Point2D point = curve.point(ta + (tb - ta) * i / 100);
+				Assert.assertTrue(edge.distance(point) <= eps + 1e-10);
+			}
+		}
+	}
+}
@@ -28,6 +28,7 @@ package math.geom2d.curve;
 import junit.framework.TestCase;
 import math.geom2d.Box2D;
 import math.geom2d.conic.CircleArc2D;
+import math.geom2d.spline.CubicBezierCurve2D;
 
 public class PolyCurve2DTest extends TestCase {
 
@@ -69,4 +70,41 @@ public class PolyCurve2DTest extends TestCase {
 		assertTrue(curve1 instanceof ContinuousCurve2D);
 	}
 
+	public void testLength() {
+		double r = 10;
+		PolyCurve2D<CircleArc2D> set = new PolyCurve2D<CircleArc2D>();
+		for (int i = 0; i < 10; i++)
+			set.add(new CircleArc2D(2 * r * i, 0, r, Math.PI, -Math.PI));
+		double arcLength = Math.PI * r;
+		assertEquals(10 * arcLength, set.length(), 1e-10);
+		assertEquals(2.5 * arcLength, set.length(4.5), 1e-10);
+		assertEquals(4.5, set.position(2.5 * arcLength), 1e-10);
+		assertEquals(19, set.position(20 * arcLength), 1e-10);
+
+		for (int i = 0; i <= 100; i++) {
+			double length = set.length() * i / 100;
+			assertEquals(length, set.length(set.position(length)), 1e-10);
+		}
+
+		// length is updated after modification of the curve set
+		set.remove(9);
+		assertEquals(9 * arcLength, set.length(), 1e-10);
+		set.add(new CircleArc2D(180, 0, r, Math.PI, -Math.PI / 2));
+		assertEquals(9.5 * arcLength, set.length(), 1e-10);
+		set.clear();
+		assertEquals(0, set.length(), 1e-10);
+	}
+
+	public void testLength_Bezier() {
+		PolyCurve2D<CubicBezierCurve2D> set = 
+			new PolyCurve2D<CubicBezierCurve2D>();
+		set.add(new CubicBezierCurve2D(0, 0, 10, 10, 20, 10, 30, 0));
+		set.add(new CubicBezierCurve2D(30, 0, 40, -10, 50, -10, 60, 0));
+		double length = set.asPolyline(10000).length();
+		assertEquals(length, set.length(), 1e-2);
+		assertEquals(length / 2, set.length(1), 1e-2);
+		assertEquals(.5, set.position(length / 4), 1e-2);
+		assertEquals(2.5, set.position(length * 3 / 4), 1e-2);
+	}
+
 }
@@ -29,6 +29,7 @@ package math.geom2d.line;
 import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Shape2D;
+import math.geom2d.point.PointBuffer2D;
 import junit.framework.TestCase;
 
 /**
@@ -281,4 +282,21 @@ public class Line2DTest extends TestCase {
         Line2D copy = new Line2D(line);
         assertTrue(line.equals(copy));
     }
+
+    public void testIntersections_Buffer() {
+        Line2D edge = new Line2D(0, 0, 10, 10);
+        PointBuffer2D buffer = new PointBuffer2D();
+
+        assertEquals(1, edge.intersections(new StraightLine2D(0, 4, 1, 0), buffer));
+        assertEquals(1, edge.intersections(new Line2D(0, 10, 10, 0), buffer));
+        assertEquals(2, buffer.size());
+        assertEquals(new Point2D(4, 4), buffer.point(0));
+        assertEquals(new Point2D(5, 5), buffer.point(1));
+
+        // parallel lines and lines outside the edge
+        assertEquals(0, edge.intersections(new StraightLine2D(0, 1, 1, 1), buffer));
+        assertEquals(0, edge.intersections(new Line2D(0, 30, 30, 0), buffer));
+        assertEquals(0, edge.intersections(new Ray2D(0, 4, -1, 0), buffer));
+        assertEquals(2, buffer.size());
+    }
 }
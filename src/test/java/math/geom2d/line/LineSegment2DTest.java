@@ -38,6 +38,7 @@ import math.geom2d.conic.CircleArc2D;
 import math.geom2d.curve.SmoothCurve2D;
 import math.geom2d.domain.Boundary2D;
 import math.geom2d.domain.Domain2D;
+import math.geom2d.point.PointBuffer2D;
 import math.geom2d.transform.CircleInversion2D;
 
 /**
@@ -502,4 +503,42 @@ public class LineSegment2DTest extends TestCase {
 
 		assertEquals(dist, dist2, 1e-5);
 	}
+
+	public void testPoint_Array() {
+		LineSegment2D edge = new LineSegment2D(10, 20, 30, 10);
+		double[] out = new double[2];
+		for (double t = -.5; t <= 1.5; t += .25) {
+			edge.point(t, out);
+			Point2D point = edge.point(t);
+			assertEquals(point.x(), out[0], 1e-12);
+			assertEquals(point.y(), out[1], 1e-12);
+		}
+	}
+
+	public void testIntersections_Buffer() {
+		LineSegment2D edge = new LineSegment2D(0, 0, 10, 10);
+		PointBuffer2D buffer = new PointBuffer2D();
+
+		assertEquals(1, edge.intersections(new StraightLine2D(0, 4, 1, 0), buffer));
+		assertEquals(1, edge.intersections(new LineSegment2D(0, 10, 10, 0), buffer));
+		assertEquals(2, buffer.size());
+		assertEquals(new Point2D(4, 4), buffer.point(0));
+		assertEquals(new Point2D(5, 5), buffer.point(1));
+
+		// parallel lines and lines outside the segment
+		assertEquals(0, edge.intersections(new StraightLine2D(0, 1, 1, 1), buffer));
+		assertEquals(0, edge.intersections(new LineSegment2D(0, 30, 30, 0), buffer));
+		assertEquals(0, edge.intersections(new Ray2D(0, 4, -1, 0), buffer));
+		assertEquals(2, buffer.size());
+	}
+
+	public void testBoundingBox_Array() {
+		LineSegment2D edge = new LineSegment2D(30, 10, 10, 20);
+		double[] bounds = new double[4];
+		edge.boundingBox(bounds);
+		assertEquals(10, bounds[0], 0);
+		assertEquals(30, bounds[1], 0);
+		assertEquals(10, bounds[2], 0);
+		assertEquals(20, bounds[3], 0);
+	}
 }
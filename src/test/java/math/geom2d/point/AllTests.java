@@ -23,7 +23,10 @@ public class AllTests {
         //$JUnit-BEGIN$
         suite.addTest(new TestSuite(KDTree2DTest.class));
         suite.addTest(new TestSuite(PointArray2DTest.class));
+        suite.addTest(new TestSuite(PackedKDTree2DTest.class));
         suite.addTest(new TestSuite(PointSets2DTest.class));
+        suite.addTest(new TestSuite(PointBuffer2DTest.class));
+        suite.addTest(new TestSuite(DirectPointArray2DTest.class));
         //$JUnit-END$
         return suite;
     }
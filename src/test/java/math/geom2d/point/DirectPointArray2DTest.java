@@ -0,0 +1,135 @@
+/**
+ * File: 	DirectPointArray2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
+import math.geom2d.Point2D;
+
+public class DirectPointArray2DTest extends TestCase {
+
+	public void testAddAll_Growth() {
+		DirectPointArray2D set = new DirectPointArray2D(2);
+		double[] xs = new double[] {1, 2, 3, 4, 5};
+		double[] ys = new double[] {10, 20, 30, 40, 50};
+		set.addAll(xs, ys, 5);
+		set.addAll(new double[] {0, 6, 60, 7, 70}, 1, 2);
+		set.add(8, 80);
+
+		assertEquals(8, set.size());
+		assertEquals(3, set.x(2), 0);
+		assertEquals(30, set.y(2), 0);
+		assertEquals(new Point2D(7, 70), set.get(6));
+		assertEquals(new Point2D(8, 80), set.get(7));
+	}
+
+	public void testAddRemove() {
+		DirectPointArray2D set = new DirectPointArray2D();
+		set.add(new Point2D(0, 0));
+		set.add(new Point2D(20, 0));
+		set.add(1, new Point2D(10, 0));
+		assertEquals(1, set.indexOf(new Point2D(10, 0)));
+		assertEquals(new Point2D(20, 0), set.get(2));
+
+		assertEquals(new Point2D(0, 0), set.remove(0));
+		assertTrue(set.remove(new Point2D(20, 0)));
+		assertFalse(set.remove(new Point2D(30, 0)));
+		assertEquals(1, set.size());
+		assertEquals(new Point2D(10, 0), set.get(0));
+
+		try {
+			set.x(1);
+			fail("Should throw an IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException ex) {
+		}
+	}
+
+	public void testBoundingBox() {
+		DirectPointArray2D set = new DirectPointArray2D(new Point2D[] {
+				new Point2D(-10, 20), new Point2D(30, -5), new Point2D(5, 5) });
+		Box2D box = set.boundingBox();
+		assertEquals(-10, box.getMinX(), 0);
+		assertEquals(30, box.getMaxX(), 0);
+		assertEquals(-5, box.getMinY(), 0);
+		assertEquals(20, box.getMaxY(), 0);
+	}
+
+	public void testDistance() {
+		DirectPointArray2D set = new DirectPointArray2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0),
+				new Point2D(0, 10), new Point2D(10, 10) });
+		assertEquals(0, set.distance(10, 0), 1e-14);
+		assertEquals(5, set.distance(new Point2D(15, 10)), 1e-14);
+		assertTrue(set.contains(0, 10));
+		assertFalse(set.contains(5, 5));
+		assertTrue(Double.isNaN(new DirectPointArray2D().distance(0, 0)));
+	}
+
+	public void testClip() {
+		DirectPointArray2D set = new DirectPointArray2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0),
+				new Point2D(0, 10), new Point2D(10, 10) });
+		DirectPointArray2D clipped = set.clip(new Box2D(5, 15, -5, 20));
+		assertEquals(2, clipped.size());
+		assertEquals(new Point2D(10, 0), clipped.get(0));
+		assertEquals(new Point2D(10, 10), clipped.get(1));
+	}
+
+	public void testTransform() {
+		DirectPointArray2D set = new DirectPointArray2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(0, 10) });
+		AffineTransform2D rot = AffineTransform2D.createRotation(.3);
+		DirectPointArray2D res = set.transform(rot);
+		assertEquals(3, res.size());
+
+		Iterator<Point2D> iter = res.iterator();
+		for (Point2D point : set)
+			assertTrue(point.transform(rot).almostEquals(iter.next(), 1e-12));
+
+		// the result can be compared with other point sets
+		PointArray2D array = new PointArray2D(set).transform(rot);
+		assertTrue(res.almostEquals(array, 1e-12));
+		assertTrue(array.almostEquals(res, 1e-12));
+	}
+
+	public void testPackedKDTree() {
+		Random random = new Random(1);
+		DirectPointArray2D set = new DirectPointArray2D(0);
+		ArrayList<Point2D> points = new ArrayList<Point2D>();
+		for (int i = 0; i < 1000; i++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			set.add(x, y);
+			points.add(new Point2D(x, y));
+		}
+
+		PackedKDTree2D tree = new PackedKDTree2D(set);
+		PackedKDTree2D tree2 = new PackedKDTree2D(points);
+		for (int i = 0; i < 100; i++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			int index = tree.nearest(x, y);
+			assertEquals(tree2.nearest(x, y), index);
+			assertEquals(set.distance(x, y), set.get(index).distance(x, y), 1e-12);
+		}
+	}
+
+	public void testAddAll_OwnView() {
+		DirectPointArray2D set = new DirectPointArray2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0) });
+		set.addAll(set.points());
+		assertEquals(4, set.size());
+		assertEquals(new Point2D(10, 0), set.get(3));
+	}
+}
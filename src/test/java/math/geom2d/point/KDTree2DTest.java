@@ -72,6 +72,24 @@ public class KDTree2DTest extends TestCase {
         assertTrue(tree.contains(point));
     }
     
+    public void testAddPoint2D_Many() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(10);
+        for (int i = 0; i < 10; i++)
+            points.add(new Point2D(i, 10 - i));
+        KDTree2D tree = new KDTree2D(points);
+        
+        // add enough points to rebuild the inner tree
+        for (int i = 0; i < 50; i++)
+            tree.add(new Point2D(20 + i, i));
+        
+        for (int i = 0; i < 50; i++)
+            assertTrue(tree.contains(new Point2D(20 + i, i)));
+        assertEquals(new Point2D(45, 25), 
+                tree.nearestNeighbor(new Point2D(45.2, 24.9)));
+        assertNotNull(tree.getNode(new Point2D(69, 49)));
+        assertEquals(10, tree.rangeSearch(new Box2D(19.5, 29.5, -1, 100)).size());
+    }
+    
     public void testNearestNeighborPoint2D() {
         ArrayList<Point2D> points = new ArrayList<Point2D>(3);
         points.add(new Point2D(12, 10));
@@ -117,4 +135,25 @@ public class KDTree2DTest extends TestCase {
         assertTrue(result.contains(new Point2D(-5, -5)));
         assertTrue(result.contains(new Point2D(5, -5)));
    }
+
+    public void testNearestNeighbor_Array() {
+        ArrayList<Point2D> points = new ArrayList<Point2D>(3);
+        points.add(new Point2D(12, 10));
+        points.add(new Point2D(7, 6));
+        points.add(new Point2D(15, 16));
+        KDTree2D tree = new KDTree2D(points);
+        tree.add(new Point2D(11, 12));
+
+        double[] out = new double[2];
+        assertTrue(tree.nearestNeighbor(11, 11, out));
+        assertEquals(11, out[0], 0);
+        assertEquals(12, out[1], 0);
+        assertTrue(tree.nearestNeighbor(8, 5, out));
+        assertEquals(7, out[0], 0);
+        assertEquals(6, out[1], 0);
+
+        KDTree2D empty = new KDTree2D(new ArrayList<Point2D>());
+        assertFalse(empty.nearestNeighbor(8, 5, out));
+        assertEquals(7, out[0], 0);
+    }
 }
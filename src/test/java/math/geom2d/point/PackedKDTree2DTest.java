@@ -0,0 +1,141 @@
+/**
+ * File: 	PackedKDTree2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+
+/**
+ * @author dlegland
+ *
+ */
+public class PackedKDTree2DTest extends TestCase {
+
+    /**
+     * Creates a set of random points, with some duplicate coordinates.
+     */
+    private static double[][] createPoints(int n, long seed) {
+        Random random = new Random(seed);
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(50);
+            ys[i] = random.nextDouble() * 50;
+        }
+        return new double[][]{xs, ys};
+    }
+    
+    public void testContains() {
+        double[] xs = new double[]{5, 10, 20, 8, 12};
+        double[] ys = new double[]{5, 10, 20, 12, 8};
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        assertEquals(5, tree.size());
+        assertTrue(tree.contains(10, 10));
+        assertTrue(tree.contains(8, 12));
+        assertFalse(tree.contains(12, 12));
+        assertEquals(3, tree.indexOf(8, 12));
+        assertEquals(8, tree.x(3), 0);
+        assertEquals(12, tree.y(3), 0);
+    }
+    
+    public void testNearest() {
+        double[][] coords = createPoints(500, 12);
+        double[] xs = coords[0];
+        double[] ys = coords[1];
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        Random random = new Random(34);
+        for (int k = 0; k < 100; k++) {
+            double x = random.nextDouble() * 60 - 5;
+            double y = random.nextDouble() * 60 - 5;
+            
+            double minDist = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < xs.length; i++)
+                minDist = Math.min(minDist, Math.hypot(xs[i] - x, ys[i] - y));
+            
+            int index = tree.nearest(x, y);
+            assertEquals(minDist, Math.hypot(xs[index] - x, ys[index] - y), 1e-12);
+        }
+    }
+    
+    public void testNearest_K() {
+        double[][] coords = createPoints(500, 56);
+        double[] xs = coords[0];
+        double[] ys = coords[1];
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        int k = 10;
+        int[] indices = new int[k];
+        double[] dists = new double[k];
+        double[] expected = new double[xs.length];
+        
+        Random random = new Random(78);
+        for (int q = 0; q < 50; q++) {
+            double x = random.nextDouble() * 50;
+            double y = random.nextDouble() * 50;
+            for (int i = 0; i < xs.length; i++)
+                expected[i] = Math.hypot(xs[i] - x, ys[i] - y);
+            Arrays.sort(expected);
+            
+            assertEquals(k, tree.nearest(x, y, k, indices, dists));
+            for (int i = 0; i < k; i++) {
+                assertEquals(expected[i], dists[i], 1e-12);
+                int ind = indices[i];
+                assertEquals(dists[i], Math.hypot(xs[ind] - x, ys[ind] - y), 1e-12);
+            }
+        }
+        
+        // more neighbors than points
+        tree = new PackedKDTree2D(new double[]{1, 2}, new double[]{1, 2});
+        assertEquals(2, tree.nearest(0, 0, k, indices, dists));
+        assertEquals(0, indices[0]);
+        assertEquals(1, indices[1]);
+    }
+    
+    public void testRadiusSearch() {
+        double[][] coords = createPoints(500, 90);
+        double[] xs = coords[0];
+        double[] ys = coords[1];
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        double x = 25, y = 20, r = 8;
+        int expected = 0;
+        for (int i = 0; i < xs.length; i++)
+            if (Math.hypot(xs[i] - x, ys[i] - y) <= r)
+                expected++;
+        
+        int[] indices = new int[xs.length];
+        int n = tree.radiusSearch(x, y, r, indices);
+        assertEquals(expected, n);
+        for (int i = 0; i < n; i++)
+            assertTrue(Math.hypot(xs[indices[i]] - x, ys[indices[i]] - y) <= r);
+        
+        // too small buffer returns the total count
+        assertEquals(expected, tree.radiusSearch(x, y, r, new int[2]));
+    }
+    
+    public void testRangeSearch() {
+        double[][] coords = createPoints(500, 91);
+        double[] xs = coords[0];
+        double[] ys = coords[1];
+        PackedKDTree2D tree = new PackedKDTree2D(xs, ys);
+        
+        int expected = 0;
+        for (int i = 0; i < xs.length; i++)
+            if (xs[i] >= 10 && xs[i] <= 20 && ys[i] >= 5 && ys[i] <= 30)
+                expected++;
+        
+        int[] indices = new int[xs.length];
+        assertEquals(expected, tree.rangeSearch(10, 20, 5, 30, indices));
+    }
+}
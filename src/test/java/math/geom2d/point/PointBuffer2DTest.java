@@ -0,0 +1,51 @@
+/**
+ * File: 	PointBuffer2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.point;
+
+import math.geom2d.Point2D;
+import junit.framework.TestCase;
+
+public class PointBuffer2DTest extends TestCase {
+
+	public void testAdd_Growth() {
+		PointBuffer2D buffer = new PointBuffer2D(1);
+		for (int i = 0; i < 100; i++)
+			buffer.add(i, 2 * i);
+
+		assertEquals(100, buffer.size());
+		assertEquals(42, buffer.x(42), 0);
+		assertEquals(84, buffer.y(42), 0);
+		assertEquals(new Point2D(99, 198), buffer.point(99));
+		assertEquals(99, buffer.coordinates()[198], 0);
+	}
+
+	public void testClear() {
+		PointBuffer2D buffer = new PointBuffer2D();
+		buffer.add(1, 2);
+		buffer.add(3, 4);
+		double[] coords = buffer.coordinates();
+
+		buffer.clear();
+		assertEquals(0, buffer.size());
+		buffer.add(5, 6);
+		assertEquals(1, buffer.size());
+		assertSame(coords, buffer.coordinates());
+		assertEquals(new Point2D(5, 6), buffer.point(0));
+	}
+
+	public void testX_OutOfBounds() {
+		PointBuffer2D buffer = new PointBuffer2D();
+		buffer.add(1, 2);
+		try {
+			buffer.x(1);
+			fail("Should throw an IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException ex) {
+		}
+	}
+}
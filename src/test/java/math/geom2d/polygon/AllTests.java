@@ -38,11 +38,15 @@ public class AllTests {
 		TestSuite suite = new TestSuite("Test for math.geom2d.polygon");
 		//$JUnit-BEGIN$
 		suite.addTest(new TestSuite(LinearRing2DTest.class));
+		suite.addTest(new TestSuite(MartinezRueda2DTest.class));
         suite.addTest(new TestSuite(MultiPolygon2DTest.class));
 		suite.addTest(new TestSuite(Polyline2DTest.class));
+		suite.addTest(new TestSuite(PolylineSimplifier2DTest.class));
 		suite.addTest(new TestSuite(Polygons2DTest.class));
+		suite.addTest(new TestSuite(PreparedPolygon2DTest.class));
 		suite.addTest(new TestSuite(Rectangle2DTest.class));
 		suite.addTest(new TestSuite(SimplePolygon2DTest.class));
+		suite.addTest(new TestSuite(StreamingSimplifier2DTest.class));
         //$JUnit-END$
 		return suite;
 	}
@@ -42,6 +42,7 @@ import math.geom2d.curve.CurveSet2D;
 import math.geom2d.curve.SmoothCurve2D;
 import math.geom2d.domain.Boundary2D;
 import math.geom2d.domain.Domain2D;
+import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.StraightLine2D;
 
 
@@ -182,6 +183,26 @@ public class LinearRing2DTest extends TestCase {
 		assertEquals(line.length(), 40, Shape2D.ACCURACY);
 	}
 
+	public void testLength_Position() {
+		LinearRing2D ring = new LinearRing2D(new Point2D[]{
+				new Point2D(0, 0),
+				new Point2D(10, 0),
+				new Point2D(10, 10),
+				new Point2D(0, 10) });
+		
+		// positions on the closing edge
+		assertEquals(35, ring.length(3.5), Shape2D.ACCURACY);
+		assertEquals(40, ring.length(4), Shape2D.ACCURACY);
+		assertEquals(3.5, ring.position(35), Shape2D.ACCURACY);
+		assertEquals(4, ring.position(40), Shape2D.ACCURACY);
+		
+		// length is updated after modification of vertices
+		ring.setVertex(2, new Point2D(10, 20));
+		ring.setVertex(3, new Point2D(0, 20));
+		assertEquals(60, ring.length(), Shape2D.ACCURACY);
+		assertEquals(2.5, ring.position(35), Shape2D.ACCURACY);
+	}
+
 	public void testAddVertex() {
 		Point2D[] points = new Point2D[4];
 		points[0] = new Point2D(0, 0);
@@ -501,4 +522,76 @@ public class LinearRing2DTest extends TestCase {
         LinearRing2D copy = new LinearRing2D(ring);
         assertTrue(ring.equals(copy));
     }	
+
+	public void testClipBox2D_MultipleParts() {
+		// a ring starting inside the box, and crossing it four times
+		LinearRing2D ring = new LinearRing2D(new Point2D[] {
+				new Point2D(5, 5), new Point2D(5, -5), new Point2D(15, -5),
+				new Point2D(15, 5), new Point2D(25, 5), new Point2D(25, 15),
+				new Point2D(5, 15) });
+		Box2D box = new Box2D(0, 20, 0, 10);
+
+		CurveSet2D<? extends LinearCurve2D> clipped = ring.clip(box);
+		assertEquals(2, clipped.size());
+
+		// the first part contains the first vertex of the ring
+		Polyline2D part = new Polyline2D(new Point2D[] {
+				new Point2D(5, 10), new Point2D(5, 5), new Point2D(5, 0) });
+		assertTrue(clipped.lastCurve().almostEquals(part, 1e-12));
+		part = new Polyline2D(new Point2D[] {
+				new Point2D(15, 0), new Point2D(15, 5), new Point2D(20, 5) });
+		assertTrue(clipped.firstCurve().almostEquals(part, 1e-12));
+	}
+
+	public void testEdges_View() {
+		LinearRing2D ring = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10) });
+		Collection<LineSegment2D> edges = ring.edges();
+		assertEquals(3, edges.size());
+
+		// the closing edge is updated with the vertices
+		ring.addVertex(new Point2D(0, 10));
+		assertEquals(4, edges.size());
+		LineSegment2D last = null;
+		for (LineSegment2D edge : edges)
+			last = edge;
+		assertEquals(new LineSegment2D(new Point2D(0, 10), new Point2D(0, 0)),
+				last);
+		assertEquals(100, ring.area(), 1e-12);
+
+		// a closing vertex equal to the first one is not duplicated
+		ring.addVertex(new Point2D(0, 0));
+		assertEquals(4, edges.size());
+	}
+
+	public void testArea_CacheInvalidation() {
+		LinearRing2D ring = new LinearRing2D(new Point2D(0, 0),
+				new Point2D(10, 0), new Point2D(10, 10), new Point2D(0, 10));
+		assertEquals(100, ring.area(), 1e-12);
+		assertEquals(new Box2D(0, 10, 0, 10), ring.boundingBox());
+		
+		ring.setVertex(2, new Point2D(20, 10));
+		assertEquals(150, ring.area(), 1e-12);
+		assertEquals(new Box2D(0, 20, 0, 10), ring.boundingBox());
+		
+		ring.removeVertex(3);
+		assertEquals(50, ring.area(), 1e-12);
+		ring.insertVertex(3, new Point2D(0, 10));
+		assertEquals(150, ring.area(), 1e-12);
+		assertTrue(ring.vertices().remove(new Point2D(0, 10)));
+		assertEquals(50, ring.area(), 1e-12);
+		
+		// the area of multi-polygons is updated with the rings
+		MultiPolygon2D polygon = new MultiPolygon2D(ring);
+		assertEquals(50, polygon.area(), 1e-12);
+		ring.addVertex(new Point2D(0, 10));
+		assertEquals(150, polygon.area(), 1e-12);
+		
+		ring.clearVertices();
+		ring.addVertex(new Point2D(0, 0));
+		ring.addVertex(new Point2D(1, 0));
+		ring.addVertex(new Point2D(0, 1));
+		assertEquals(.5, ring.area(), 1e-12);
+		assertEquals(new Box2D(0, 1, 0, 1), ring.boundingBox());
+	}
 }
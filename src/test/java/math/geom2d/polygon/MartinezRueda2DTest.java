@@ -0,0 +1,250 @@
+/**
+ * File: 	MartinezRueda2DTest.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+
+public class MartinezRueda2DTest extends TestCase {
+
+	public void testUnion_ShiftedSquares() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 10, 10);
+		Polygon2D poly2 = Polygons2D.createRectangle(5, 5, 15, 15);
+
+		Polygon2D union = MartinezRueda2D.union(poly1, poly2);
+		assertTrue(union instanceof SimplePolygon2D);
+		assertEquals(8, union.vertexNumber());
+		assertEquals(175, union.area(), 1e-10);
+	}
+
+	public void testUnion_AdjacentSquares() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 10, 10);
+		Polygon2D poly2 = Polygons2D.createRectangle(10, 0, 20, 10);
+
+		// the common edge and collinear vertices are removed
+		Polygon2D union = MartinezRueda2D.union(poly1, poly2);
+		assertEquals(4, union.vertexNumber());
+		assertEquals(200, union.area(), 1e-10);
+	}
+
+	public void testUnion_ClockwiseInput() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 10, 10);
+		Polygon2D poly2 = Polygons2D.createRectangle(5, 5, 15, 15)
+				.complement();
+
+		// result is always oriented counter-clockwise
+		Polygon2D union = MartinezRueda2D.union(poly1, poly2);
+		assertEquals(175, union.area(), 1e-10);
+	}
+
+	public void testIntersection_ShiftedSquares() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 10, 10);
+		Polygon2D poly2 = Polygons2D.createRectangle(5, 5, 15, 15);
+
+		Polygon2D inter = MartinezRueda2D.intersection(poly1, poly2);
+		assertEquals(4, inter.vertexNumber());
+		assertEquals(25, inter.area(), 1e-10);
+		assertTrue(inter.vertices().contains(new Point2D(5, 5)));
+		assertTrue(inter.vertices().contains(new Point2D(10, 10)));
+	}
+
+	public void testDifference_Holes() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 30, 30);
+		Polygon2D poly2 = MultiPolygon2D.create(
+				Polygons2D.createRectangle(5, 5, 10, 10).getRing(),
+				Polygons2D.createRectangle(15, 15, 25, 25).getRing());
+
+		// the result has one outer ring and two holes
+		Polygon2D diff = MartinezRueda2D.difference(poly1, poly2);
+		assertEquals(3, diff.contours().size());
+		assertEquals(900 - 25 - 100, diff.area(), 1e-10);
+	}
+
+	public void testExclusiveOr_CrossingRectangles() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 10, 30, 20);
+		Polygon2D poly2 = Polygons2D.createRectangle(10, 0, 20, 30);
+
+		Polygon2D xor = MartinezRueda2D.exclusiveOr(poly1, poly2);
+		assertEquals(4 * 100, xor.area(), 1e-10);
+	}
+
+	public void testCompute_Triangles() {
+		Polygon2D poly1 = SimplePolygon2D.create(new Point2D(0, 0),
+				new Point2D(10, 0), new Point2D(5, 10));
+		Polygon2D poly2 = SimplePolygon2D.create(new Point2D(0, 5),
+				new Point2D(5, -5), new Point2D(10, 5));
+
+		double a1 = poly1.area();
+		double a2 = poly2.area();
+		double inter = MartinezRueda2D.intersection(poly1, poly2).area();
+		double union = MartinezRueda2D.union(poly1, poly2).area();
+		double diff = MartinezRueda2D.difference(poly1, poly2).area();
+		double xor = MartinezRueda2D.exclusiveOr(poly1, poly2).area();
+
+		assertTrue(inter > 0);
+		assertEquals(a1 + a2, union + inter, 1e-10);
+		assertEquals(a1, diff + inter, 1e-10);
+		assertEquals(union, xor + inter, 1e-10);
+	}
+
+	public void testUnionCollection_Grid() {
+		// a grid of adjacent squares
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < 10; i++)
+			for (int j = 0; j < 10; j++)
+				polygons.add(Polygons2D.createRectangle(i * 10, j * 10,
+						i * 10 + 10, j * 10 + 10));
+
+		Polygon2D union = MartinezRueda2D.union(polygons);
+		assertTrue(union instanceof SimplePolygon2D);
+		assertEquals(4, union.vertexNumber());
+		assertEquals(10000, union.area(), 1e-8);
+	}
+
+	public void testUnionCollection_OverlappingSquares() {
+		Random random = new Random(1);
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < 200; i++) {
+			double x = random.nextDouble() * 100;
+			double y = random.nextDouble() * 100;
+			polygons.add(Polygons2D.createRectangle(x, y, x + 8, y + 8));
+		}
+
+		Polygon2D union = MartinezRueda2D.union(polygons);
+
+		// compare with a sequential union
+		Polygon2D expected = polygons.get(0);
+		for (int i = 1; i < polygons.size(); i++)
+			expected = MartinezRueda2D.union(expected, polygons.get(i));
+		assertEquals(expected.area(), union.area(), 1e-6);
+
+		// check with random points
+		for (int k = 0; k < 200; k++) {
+			Point2D p = new Point2D(random.nextDouble() * 110,
+					random.nextDouble() * 110);
+			boolean inside = false;
+			for (Polygon2D poly : polygons)
+				inside = inside || poly.contains(p);
+			assertEquals(inside, union.contains(p));
+		}
+	}
+
+	public void testUnionCollection_Empty() {
+		Polygon2D union = MartinezRueda2D.union(new ArrayList<Polygon2D>());
+		assertEquals(0, union.vertexNumber());
+	}
+
+	public void testUnion_DisjointClockwise() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 1, 1).complement();
+		Polygon2D poly2 = Polygons2D.createRectangle(5, 0, 6, 1).complement();
+
+		Polygon2D union = MartinezRueda2D.union(poly1, poly2);
+		assertEquals(2, union.area(), 1e-10);
+		for (LinearRing2D ring : union.contours())
+			assertTrue(ring.area() > 0);
+	}
+
+	public void testDifference_DisjointClockwise() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 1, 1).complement();
+		Polygon2D poly2 = Polygons2D.createRectangle(5, 0, 6, 1).complement();
+
+		Polygon2D diff = MartinezRueda2D.difference(poly1, poly2);
+		assertEquals(1, diff.area(), 1e-10);
+
+		// the empty polygon as second operand
+		diff = MartinezRueda2D.difference(poly1, new MultiPolygon2D());
+		assertEquals(1, diff.area(), 1e-10);
+	}
+
+	public void testExclusiveOr_DisjointClockwise() {
+		Polygon2D poly1 = Polygons2D.createRectangle(0, 0, 1, 1).complement();
+		Polygon2D poly2 = Polygons2D.createRectangle(5, 0, 6, 1).complement();
+
+		Polygon2D xor = MartinezRueda2D.exclusiveOr(poly1, poly2);
+		assertEquals(2, xor.area(), 1e-10);
+	}
+
+	public void testDifference_DisjointHoleOrientation() {
+		// outer ring and hole both given counter-clockwise
+		MultiPolygon2D poly1 = new MultiPolygon2D(new LinearRing2D[] {
+				new LinearRing2D(new Point2D[] { new Point2D(0, 0),
+						new Point2D(10, 0), new Point2D(10, 10),
+						new Point2D(0, 10) }),
+				new LinearRing2D(new Point2D[] { new Point2D(2, 2),
+						new Point2D(8, 2), new Point2D(8, 8),
+						new Point2D(2, 8) }) });
+		Polygon2D poly2 = Polygons2D.createRectangle(20, 0, 30, 10);
+
+		Polygon2D diff = MartinezRueda2D.difference(poly1, poly2);
+		assertEquals(64, diff.area(), 1e-10);
+		assertFalse(diff.contains(new Point2D(5, 5)));
+		assertTrue(diff.contains(new Point2D(1, 5)));
+	}
+
+	public void testUnionCollection_DisjointClockwise() {
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < 10; i++)
+			polygons.add(Polygons2D.createRectangle(i * 10, 0, i * 10 + 1, 1)
+					.complement());
+
+		assertEquals(10, MartinezRueda2D.union(polygons).area(), 1e-10);
+		assertEquals(10, Polygons2D.unionAll(polygons).area(), 1e-10);
+	}
+
+	public void testCompute_VertexOnEdge() {
+		// vertices (8,1) and (8,4) of the second polygon lie on an edge of
+		// the first one
+		Polygon2D poly1 = new SimplePolygon2D(
+				new double[] {8, 6, 10},
+				new double[] {9, 3, -1});
+		Polygon2D poly2 = new SimplePolygon2D(
+				new double[] {9, 8, 8, 5, 10},
+				new double[] {1, 1, 4, 4, -8});
+
+		double inter = MartinezRueda2D.intersection(poly1, poly2).area();
+		double diff = MartinezRueda2D.difference(poly1, poly2).area();
+		assertEquals(211. / 48, inter, 1e-10);
+		assertEquals(557. / 48, diff, 1e-10);
+	}
+
+	public void testCompute_VertexOnEdgeAndCrossings() {
+		Polygon2D poly1 = new SimplePolygon2D(
+				new double[] {8, 6, 10},
+				new double[] {9, 3, -1});
+		Polygon2D poly2 = new SimplePolygon2D(
+				new double[] {11, 9, 8, 8, 5, 5, 10, 12},
+				new double[] {0, 1, 1, 4, 5, 4, -8, -3});
+
+		double inter = MartinezRueda2D.intersection(poly1, poly2).area();
+		double diff = MartinezRueda2D.difference(poly1, poly2).area();
+		assertEquals(5.75, inter, 1e-10);
+		assertEquals(10.25, diff, 1e-10);
+	}
+
+	public void testCompute_VertexOnSplitEdge() {
+		// vertex (0,4) of the second polygon lies on an edge of the first
+		// one, that is already split by an intersection
+		Polygon2D poly1 = new SimplePolygon2D(
+				new double[] {9, 3, 3, 2, 1, -1, -2, 2, 5, 9},
+				new double[] {6, 5, 12, 9, 10, 8, 7, 1, -1, 3});
+		Polygon2D poly2 = new SimplePolygon2D(
+				new double[] {8, 1, -1, -7, -5, -2, -1, 0},
+				new double[] {13, 13, 12, 10, 8, 9, 0, 4});
+
+		double inter = MartinezRueda2D.intersection(poly1, poly2).area();
+		double union = MartinezRueda2D.union(poly1, poly2).area();
+		double xor = MartinezRueda2D.exclusiveOr(poly1, poly2).area();
+		assertEquals(4169. / 240, inter, 1e-10);
+		assertEquals(21062. / 240, xor, 1e-10);
+		assertEquals(union, xor + inter, 1e-10);
+	}
+}
@@ -8,8 +8,12 @@
  */
 package math.geom2d.polygon;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Random;
 
+import math.geom2d.AffineTransform2D;
+import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.domain.Boundary2D;
 import math.geom2d.domain.Domain2D;
@@ -191,6 +195,95 @@ public class Polygons2DTest extends TestCase {
         assertEquals(4, union.contours().size());
     }
 
+    /**
+     * Test method for {@link math.geom2d.polygon.Polygons2D#unionAll(java.util.Collection)}.
+     */
+    public void testUnionAll_Grid() {
+    	// a grid of overlapping squares, with a missing square in the middle
+    	ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+    	for (int i = 0; i < 30; i++) {
+    		for (int j = 0; j < 30; j++) {
+    			if (i == 15 && j == 15)
+    				continue;
+    			polygons.add(Polygons2D.createRectangle(i * 10, j * 10, 
+    					i * 10 + 12, j * 10 + 12));
+    		}
+    	}
+    	
+    	Polygon2D union = Polygons2D.unionAll(polygons);
+    	assertNotNull(union);
+    	assertEquals(2, union.contours().size());
+    	assertEquals(302 * 302 - 8 * 8, union.area(), 1e-6);
+    	assertFalse(union.contains(new Point2D(156, 156)));
+    	assertTrue(union.contains(new Point2D(151, 156)));
+    }
+
+    /**
+     * Test method for {@link math.geom2d.polygon.Polygons2D#unionAll(java.util.Collection)}.
+     */
+    public void testUnionAll_BrickWall() {
+    	// a tiling of staggered bricks: the corners of each brick lie on the
+    	// edges of the bricks in the neighbor rows
+    	ArrayList<Polygon2D> polygons = createBrickWall();
+    	
+    	Polygon2D union = Polygons2D.unionAll(polygons);
+    	assertEquals(1, union.contours().size());
+    	assertEquals(4, union.vertexNumber());
+    	assertEquals(100 * 100, union.area(), 1e-6);
+    }
+
+    /**
+     * Test method for {@link math.geom2d.polygon.Polygons2D#unionAll(java.util.Collection)}.
+     */
+    public void testUnionAll_RotatedBrickWall() {
+    	// after rotation, the corners of the bricks are not exactly on the 
+    	// edges of the neighbor bricks
+    	AffineTransform2D rot = AffineTransform2D.createRotation(.3);
+    	ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+    	for (Polygon2D brick : createBrickWall())
+    		polygons.add(brick.transform(rot));
+    	
+    	Polygon2D union = Polygons2D.unionAll(polygons);
+    	assertEquals(1, union.contours().size());
+    	assertEquals(4, union.vertexNumber());
+    	assertEquals(100 * 100, union.area(), 1e-6);
+    }
+
+    private static ArrayList<Polygon2D> createBrickWall() {
+    	ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+    	for (int j = 0; j < 10; j++) {
+    		double x0 = j % 2 == 0 ? 0 : -10;
+    		for (int i = 0; i < 6; i++) {
+    			double xmin = Math.max(x0 + i * 20, 0);
+    			double xmax = Math.min(x0 + i * 20 + 20, 100);
+    			if (xmin < xmax)
+    				polygons.add(Polygons2D.createRectangle(xmin, j * 10, 
+    						xmax, j * 10 + 10));
+    		}
+    	}
+    	return polygons;
+    }
+
+    /**
+     * Test method for {@link math.geom2d.polygon.Polygons2D#unionAll(java.util.Collection)}.
+     */
+    public void testUnionAll_VertexOnDiagonal() {
+    	// a square split into three triangles, the vertex (5,5) lies on the
+    	// diagonal of the first triangle
+    	ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+    	polygons.add(new SimplePolygon2D(new Point2D[]{
+    			new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10)}));
+    	polygons.add(new SimplePolygon2D(new Point2D[]{
+    			new Point2D(0, 0), new Point2D(5, 5), new Point2D(0, 10)}));
+    	polygons.add(new SimplePolygon2D(new Point2D[]{
+    			new Point2D(5, 5), new Point2D(10, 10), new Point2D(0, 10)}));
+    	
+    	Polygon2D union = Polygons2D.unionAll(polygons);
+    	assertEquals(1, union.contours().size());
+    	assertEquals(4, union.vertexNumber());
+    	assertEquals(100, union.area(), 1e-10);
+    }
+
     /**
      * Test method for {@link math.geom2d.polygon.Polygons2D#union(math.geom2d.polygon.Polygon2D, math.geom2d.polygon.Polygon2D)}.
      */
@@ -490,4 +583,67 @@ public class Polygons2DTest extends TestCase {
     	assertEquals(1, boundary.continuousCurves().size());
     }
     	
+
+	public void testClipPolygon_Box2D() {
+		// a comb polygon, whose teeth are separated by the clipping box
+		Polygon2D polygon = SimplePolygon2D.create(new Point2D[] {
+				new Point2D(0, 0), new Point2D(50, 0), new Point2D(50, 30),
+				new Point2D(40, 30), new Point2D(40, 10), new Point2D(30, 10),
+				new Point2D(30, 30), new Point2D(20, 30), new Point2D(20, 10),
+				new Point2D(10, 10), new Point2D(10, 30), new Point2D(0, 30) });
+		Box2D box = new Box2D(-10, 60, 20, 40);
+		
+		Polygon2D clipped = Polygons2D.clipPolygon(polygon, box);
+		assertEquals(3, clipped.contours().size());
+		assertEquals(3 * 100, clipped.area(), 1e-10);
+	}
+
+	public void testClipPolygon_BoxInsideHole() {
+		Polygon2D polygon = MultiPolygon2D.create(
+				Polygons2D.createRectangle(0, 0, 100, 100).getRing(),
+				Polygons2D.createRectangle(40, 40, 60, 60).getRing()
+				.reverse());
+
+		// the box surrounds the hole 
+		Polygon2D clipped = Polygons2D.clipPolygon(polygon, 
+				new Box2D(20, 80, 20, 80));
+		assertEquals(2, clipped.contours().size());
+		assertEquals(3600 - 400, clipped.area(), 1e-10);
+
+		// the box crosses the hole
+		clipped = Polygons2D.clipPolygon(polygon, new Box2D(50, 80, 20, 80));
+		assertEquals(1, clipped.contours().size());
+		assertEquals(1800 - 200, clipped.area(), 1e-10);
+
+		// the box is inside the hole
+		clipped = Polygons2D.clipPolygon(polygon, new Box2D(45, 55, 45, 55));
+		assertEquals(0, clipped.contours().size());
+	}
+
+	/**
+	 * Compare with the intersection of the polygon with the box rectangle. 
+	 */
+	public void testClipPolygon_RandomStars() {
+		Random random = new Random(1);
+		for (int i = 0; i < 50; i++) {
+			int n = 20;
+			Point2D[] vertices = new Point2D[n];
+			for (int k = 0; k < n; k++) {
+				double t = k * 2 * Math.PI / n;
+				double r = 10 + random.nextDouble() * 40;
+				vertices[k] = new Point2D(r * Math.cos(t), r * Math.sin(t));
+			}
+			Polygon2D polygon = SimplePolygon2D.create(vertices);
+			
+			double x0 = random.nextDouble() * 60 - 50;
+			double y0 = random.nextDouble() * 60 - 50;
+			Box2D box = new Box2D(x0, x0 + 40, y0, y0 + 40);
+			
+			Polygon2D clipped = Polygons2D.clipPolygon(polygon, box);
+			Polygon2D inter = Polygons2D.intersection(polygon, 
+					Polygons2D.createRectangle(x0, y0, x0 + 40, y0 + 40));
+			assertEquals(inter.area(), clipped.area(), 1e-8);
+			assertEquals(inter.contours().size(), clipped.contours().size());
+		}
+	}
 }
@@ -32,14 +32,18 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import junit.framework.TestCase;
+import math.geom2d.Box2D;
 import math.geom2d.Point2D;
 import math.geom2d.Vector2D;
 import math.geom2d.circulinear.CirculinearContinuousCurve2D;
 import math.geom2d.circulinear.buffer.BufferCalculator;
 import math.geom2d.conic.CircleArc2D;
+import math.geom2d.curve.CurveSet2D;
 import math.geom2d.domain.Boundary2D;
 import math.geom2d.domain.Domain2D;
+import math.geom2d.line.LineSegment2D;
 import math.geom2d.line.StraightLine2D;
+import math.geom2d.point.PointBuffer2D;
 
 /**
  * @author Legland
@@ -96,6 +100,41 @@ public class Polyline2DTest extends TestCase {
 		assertEquals(polyline.position(30), 3, 1e-14);
 	}
 
+	public void testLength_ModifiedVertices() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] { new Point2D(0, 0),
+				new Point2D(10, 0), new Point2D(10, 10), new Point2D(20, 10) });
+		assertEquals(30, polyline.length(), 1e-14);
+
+		polyline.setVertex(3, new Point2D(30, 10));
+		assertEquals(40, polyline.length(), 1e-14);
+		assertEquals(30, polyline.length(2.5), 1e-14);
+		assertEquals(2.5, polyline.position(30), 1e-14);
+
+		polyline.addVertex(new Point2D(30, 0));
+		assertEquals(50, polyline.length(), 1e-14);
+		assertEquals(3.5, polyline.position(45), 1e-14);
+
+		polyline.removeVertex(0);
+		assertEquals(40, polyline.length(), 1e-14);
+
+		polyline.insertVertex(0, new Point2D(0, 0));
+		assertEquals(50, polyline.length(), 1e-14);
+
+		polyline.clearVertices();
+		assertEquals(0, polyline.length(), 1e-14);
+	}
+
+	public void testPosition_Length() {
+		CircleArc2D arc = new CircleArc2D(0, 0, 10, 0, Math.PI);
+		Polyline2D polyline = arc.asPolyline(1000);
+		double length = polyline.length();
+		for (int i = 0; i <= 100; i++) {
+			double pos = polyline.position(length * i / 100);
+			assertEquals(length * i / 100, polyline.length(pos), 1e-10);
+		}
+		assertEquals(1000, polyline.position(2 * length), 1e-14);
+	}
+
 	public void testGetBufferDouble() {
 		Polyline2D polyline = new Polyline2D(new Point2D[] {
 				new Point2D(50, 50), new Point2D(100, 50),
@@ -354,4 +393,130 @@ public class Polyline2DTest extends TestCase {
 		Polyline2D copy = new Polyline2D(polyline);
 		assertTrue(polyline.equals(copy));
 	}
+
+	public void testClip_Box2D() {
+		// a zig-zag polyline crossing the upper side of the box twice
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 5), new Point2D(10, 15),
+				new Point2D(20, 5), new Point2D(30, 15) });
+		Box2D box = new Box2D(-5, 35, 0, 10);
+
+		CurveSet2D<? extends Polyline2D> clipped = polyline.clip(box);
+		assertEquals(2, clipped.size());
+		
+		Iterator<? extends Polyline2D> iter = clipped.iterator();
+		Polyline2D part1 = iter.next();
+		assertEquals(2, part1.vertexNumber());
+		assertTrue(part1.lastPoint().almostEquals(new Point2D(5, 10), 1e-12));
+		Polyline2D part2 = iter.next();
+		assertEquals(3, part2.vertexNumber());
+		assertTrue(part2.firstPoint().almostEquals(new Point2D(15, 10), 1e-12));
+		assertTrue(part2.lastPoint().almostEquals(new Point2D(25, 10), 1e-12));
+	}
+
+	public void testClip_Box2D_Inside() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10) });
+
+		// polyline totally inside, with vertices on the boundary
+		CurveSet2D<? extends Polyline2D> clipped = 
+			polyline.clip(new Box2D(0, 10, 0, 10));
+		assertEquals(1, clipped.size());
+		assertTrue(clipped.firstCurve() == polyline);
+
+		// polyline totally outside, touching a corner
+		clipped = polyline.clip(new Box2D(10, 20, -10, 0));
+		assertEquals(0, clipped.size());
+	}
+
+	public void testVertices_View() {
+		Polyline2D polyline = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 10) });
+		Collection<Point2D> vertices = polyline.vertices();
+		Collection<LineSegment2D> edges = polyline.edges();
+		assertEquals(3, vertices.size());
+		assertEquals(2, edges.size());
+
+		// the views reflect the modifications of the polyline
+		polyline.addVertex(new Point2D(0, 10));
+		assertEquals(4, vertices.size());
+		assertEquals(3, edges.size());
+		assertTrue(vertices.contains(new Point2D(0, 10)));
+
+		polyline.setVertex(1, new Point2D(20, 0));
+		assertEquals(new Point2D(20, 0), polyline.vertex(1));
+		assertEquals(new LineSegment2D(new Point2D(0, 0), new Point2D(20, 0)),
+				edges.iterator().next());
+
+		polyline.removeVertex(0);
+		assertEquals(3, vertices.size());
+		assertEquals(new Point2D(20, 0), vertices.iterator().next());
+
+		// the polyline is modified through the view
+		vertices.clear();
+		assertEquals(0, polyline.vertexNumber());
+		assertEquals(0, edges.size());
+	}
+
+	public void testInsertVertex_Growth() {
+		Polyline2D polyline = new Polyline2D(1);
+		for (int i = 0; i < 100; i++)
+			polyline.insertVertex(0, new Point2D(i, 0));
+		assertEquals(100, polyline.vertexNumber());
+		assertEquals(new Point2D(99, 0), polyline.firstPoint());
+		assertEquals(new Point2D(0, 0), polyline.lastPoint());
+		assertEquals(99, polyline.length(), 1e-12);
+	}
+
+	public void testPoint_Array() {
+		Polyline2D poly = new Polyline2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(10, 20) });
+		LinearRing2D ring = new LinearRing2D(poly.vertices());
+		double[] out = new double[2];
+		for (LinearCurve2D curve : new LinearCurve2D[] { poly, ring }) {
+			for (double t = -.5; t <= 3.5; t += .25) {
+				curve.point(t, out);
+				Point2D point = curve.point(t);
+				assertEquals(point.x(), out[0], 1e-12);
+				assertEquals(point.y(), out[1], 1e-12);
+			}
+		}
+	}
+
+	public void testIntersections_Buffer() {
+		Polyline2D poly = new Polyline2D(new Point2D[] {
+				new Point2D(0, -5), new Point2D(10, 5), new Point2D(20, -5) });
+		PointBuffer2D buffer = new PointBuffer2D();
+
+		assertEquals(2, poly.intersections(new StraightLine2D(0, 0, 1, 0), buffer));
+		assertEquals(new Point2D(5, 0), buffer.point(0));
+		assertEquals(new Point2D(15, 0), buffer.point(1));
+
+		// the common vertex of two edges is added only once
+		buffer.clear();
+		assertEquals(1, poly.intersections(new StraightLine2D(0, 5, 1, 0), buffer));
+		assertEquals(new Point2D(10, 5), buffer.point(0));
+
+		// compare with the collection returned by intersections(line)
+		LinearRing2D ring = new LinearRing2D(poly.vertices());
+		StraightLine2D line = new StraightLine2D(2, -10, 1, 2);
+		Collection<Point2D> expected = ring.intersections(line);
+		buffer.clear();
+		assertEquals(expected.size(), ring.intersections(line, buffer));
+		int i = 0;
+		for (Point2D point : expected)
+			assertTrue(point.almostEquals(buffer.point(i++), 1e-12));
+	}
+
+	public void testBoundingBox_Array() {
+		Polyline2D poly = new Polyline2D(new Point2D[] {
+				new Point2D(0, -5), new Point2D(10, 5), new Point2D(20, -5) });
+		double[] bounds = new double[4];
+		poly.boundingBox(bounds);
+		Box2D box = poly.boundingBox();
+		assertEquals(box.getMinX(), bounds[0], 0);
+		assertEquals(box.getMaxX(), bounds[1], 0);
+		assertEquals(box.getMinY(), bounds[2], 0);
+		assertEquals(box.getMaxY(), bounds[3], 0);
+	}
 }
@@ -0,0 +1,175 @@
+package math.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.line.LineSegment2D;
+import math.geom2d.polygon.LinearCurve2D.Simplification;
+import junit.framework.TestCase;
+
+public class PolylineSimplifier2DTest extends TestCase {
+
+	private static final double[] XS = {0, 1, 2, 3, 4};
+	private static final double[] YS = {0, 1, 0, .1, 0};
+
+	public void testDouglasPeucker() {
+		int[] inds = PolylineSimplifier2D.douglasPeucker(XS, YS, 5, false, .5);
+		assertEquals(4, inds.length);
+		assertEquals(0, inds[0]);
+		assertEquals(1, inds[1]);
+		assertEquals(2, inds[2]);
+		assertEquals(4, inds[3]);
+
+		inds = PolylineSimplifier2D.douglasPeucker(XS, YS, 5, false, .05);
+		assertEquals(5, inds.length);
+		inds = PolylineSimplifier2D.douglasPeucker(XS, YS, 5, false, 2);
+		assertEquals(2, inds.length);
+	}
+
+	public void testDouglasPeucker_Random() {
+		Random random = new Random(1);
+		for (int k = 0; k < 20; k++) {
+			int n = 2 + random.nextInt(200);
+			double[] xs = new double[n];
+			double[] ys = new double[n];
+			for (int i = 0; i < n; i++) {
+				xs[i] = random.nextDouble() * 100;
+				ys[i] = random.nextDouble() * 100;
+			}
+			double tol = random.nextDouble() * 20;
+
+			// compare with a recursive implementation
+			ArrayList<Integer> expected = new ArrayList<Integer>();
+			expected.add(0);
+			recurseSimplify(xs, ys, 0, n - 1, tol, expected);
+			expected.add(n - 1);
+
+			int[] inds = PolylineSimplifier2D.douglasPeucker(xs, ys, n, false, tol);
+			assertEquals(expected.size(), inds.length);
+			for (int i = 0; i < inds.length; i++)
+				assertEquals((int) expected.get(i), inds[i]);
+		}
+	}
+
+	private static void recurseSimplify(double[] xs, double[] ys, int first,
+			int last, double tol, ArrayList<Integer> inds) {
+		if (last - first < 2)
+			return;
+		LineSegment2D seg = new LineSegment2D(xs[first], ys[first], xs[last],
+				ys[last]);
+		int indMax = first + 1;
+		double maxDist = -1;
+		for (int i = first + 1; i < last; i++) {
+			double dist = seg.distance(xs[i], ys[i]);
+			if (dist > maxDist) {
+				maxDist = dist;
+				indMax = i;
+			}
+		}
+		if (maxDist < tol)
+			return;
+		recurseSimplify(xs, ys, first, indMax, tol, inds);
+		inds.add(indMax);
+		recurseSimplify(xs, ys, indMax, last, tol, inds);
+	}
+
+	public void testDouglasPeucker_LargeSpiral() {
+		// a dense spiral, with many levels of subdivision
+		int n = 1000000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			double t = i * 1e-4;
+			xs[i] = t * Math.cos(t);
+			ys[i] = t * Math.sin(t);
+		}
+		int[] inds = PolylineSimplifier2D.douglasPeucker(xs, ys, n, false, 1e-6);
+		assertTrue(inds.length > 1000);
+		assertEquals(0, inds[0]);
+		assertEquals(n - 1, inds[inds.length - 1]);
+		for (int i = 1; i < inds.length; i++)
+			assertTrue(inds[i] > inds[i - 1]);
+	}
+
+	public void testDouglasPeuckerToVertexNumber() {
+		int[] inds = PolylineSimplifier2D.douglasPeuckerToVertexNumber(
+				XS, YS, 5, false, 3);
+		assertEquals(3, inds.length);
+		assertEquals(0, inds[0]);
+		assertEquals(1, inds[1]);
+		assertEquals(4, inds[2]);
+
+		inds = PolylineSimplifier2D.douglasPeuckerToVertexNumber(
+				XS, YS, 5, false, 10);
+		assertEquals(5, inds.length);
+	}
+
+	public void testVisvalingamWhyatt() {
+		int[] inds = PolylineSimplifier2D.visvalingamWhyatt(XS, YS, 5, false,
+				.5, 0);
+		assertEquals(4, inds.length);
+		assertEquals(0, inds[0]);
+		assertEquals(1, inds[1]);
+		assertEquals(2, inds[2]);
+		assertEquals(4, inds[3]);
+
+		inds = PolylineSimplifier2D.visvalingamWhyatt(XS, YS, 5, false,
+				Double.POSITIVE_INFINITY, 3);
+		assertEquals(3, inds.length);
+		assertEquals(0, inds[0]);
+		assertEquals(4, inds[2]);
+	}
+
+	public void testVisvalingamWhyatt_Closed() {
+		// a square with vertices in the middle of edges
+		double[] xs = {0, 1, 2, 2, 2, 1, 0, 0};
+		double[] ys = {0, 0, 0, 1, 2, 2, 2, 1};
+		int[] inds = PolylineSimplifier2D.visvalingamWhyatt(xs, ys, 8, true,
+				1e-12, 0);
+		assertEquals(4, inds.length);
+		assertEquals(0, inds[0]);
+		assertEquals(2, inds[1]);
+		assertEquals(4, inds[2]);
+		assertEquals(6, inds[3]);
+
+		// a closed curve keeps at least three vertices
+		inds = PolylineSimplifier2D.visvalingamWhyatt(xs, ys, 8, true,
+				Double.POSITIVE_INFINITY, 0);
+		assertEquals(3, inds.length);
+	}
+
+	public void testSimplify_Polyline() {
+		Random random = new Random(1);
+		Polyline2D polyline = new Polyline2D(1000);
+		for (int i = 0; i < 1000; i++)
+			polyline.addVertex(new Point2D(i, random.nextGaussian()));
+
+		for (Simplification method : Simplification.values()) {
+			Polyline2D simple = polyline.simplifyToVertexNumber(method, 50);
+			assertEquals(50, simple.vertexNumber());
+			assertEquals(polyline.firstPoint(), simple.firstPoint());
+			assertEquals(polyline.lastPoint(), simple.lastPoint());
+		}
+
+		Polyline2D simple = polyline.simplify(Simplification.DOUGLAS_PEUCKER, 1);
+		assertEquals(polyline.simplify(1).vertexNumber(), simple.vertexNumber());
+		simple = polyline.simplify(Simplification.VISVALINGAM_WHYATT, 1);
+		assertTrue(simple.vertexNumber() < 1000);
+	}
+
+	public void testSimplify_LinearRing() {
+		LinearRing2D ring = new LinearRing2D(1000);
+		for (int i = 0; i < 1000; i++) {
+			double t = i * 2 * Math.PI / 1000;
+			ring.addVertex(new Point2D(10 * Math.cos(t), 10 * Math.sin(t)));
+		}
+		for (Simplification method : Simplification.values()) {
+			LinearRing2D simple = ring.simplifyToVertexNumber(method, 12);
+			assertEquals(12, simple.vertexNumber());
+			assertEquals(ring.vertex(0), simple.vertex(0));
+			// the area of the regular dodecagon is 300
+			assertEquals(300, simple.area(), 10);
+		}
+	}
+}
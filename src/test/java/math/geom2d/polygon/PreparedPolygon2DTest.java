@@ -0,0 +1,112 @@
+/**
+ * File: 	PreparedPolygon2DTest.java
+ * Project: javaGeom
+ * 
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import junit.framework.TestCase;
+import math.geom2d.Point2D;
+
+public class PreparedPolygon2DTest extends TestCase {
+
+	/**
+	 * Creates a non convex polygon with a comb shape.
+	 */
+	private static SimplePolygon2D createComb() {
+		SimplePolygon2D poly = new SimplePolygon2D();
+		poly.addVertex(new Point2D(0, 0));
+		poly.addVertex(new Point2D(100, 0));
+		for (int i = 0; i < 5; i++) {
+			double x = 100 - i * 20;
+			poly.addVertex(new Point2D(x, 50));
+			poly.addVertex(new Point2D(x - 10, 50));
+			poly.addVertex(new Point2D(x - 10, 10));
+			poly.addVertex(new Point2D(x - 20, 10));
+		}
+		return poly;
+	}
+
+	public void testContains_Comb() {
+		SimplePolygon2D poly = createComb();
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		assertTrue(prepared.isCounterClockwise());
+		assertEquals(poly.area(), prepared.area(), 1e-12);
+
+		for (int i = -10; i <= 110; i += 3) {
+			for (int j = -10; j <= 60; j += 3) {
+				Point2D point = new Point2D(i + .5, j + .25);
+				assertEquals(poly.contains(point), prepared.contains(point));
+			}
+		}
+
+		// points on boundary
+		assertTrue(prepared.contains(new Point2D(50, 0)));
+		assertTrue(prepared.contains(new Point2D(100, 50)));
+	}
+
+	public void testContains_Clockwise() {
+		SimplePolygon2D poly = createComb().complement();
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		assertFalse(prepared.isCounterClockwise());
+		assertFalse(prepared.contains(new Point2D(50, 5)));
+		assertTrue(prepared.contains(new Point2D(50, 30)));
+		assertTrue(prepared.contains(new Point2D(500, 30)));
+	}
+
+	public void testDistance_Comb() {
+		SimplePolygon2D poly = createComb();
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		for (int i = -50; i <= 150; i += 7) {
+			for (int j = -50; j <= 100; j += 7) {
+				Point2D point = new Point2D(i + .5, j + .25);
+				assertEquals(poly.distance(point), prepared.distance(point), 1e-10);
+			}
+		}
+	}
+
+	public void testContains_MultiPolygon() {
+		LinearRing2D outer = new LinearRing2D(new Point2D[] {
+				new Point2D(0, 0), new Point2D(100, 0), 
+				new Point2D(100, 100), new Point2D(0, 100) });
+		LinearRing2D hole = new LinearRing2D(new Point2D[] {
+				new Point2D(20, 20), new Point2D(20, 80), 
+				new Point2D(80, 80), new Point2D(80, 20) });
+		MultiPolygon2D poly = new MultiPolygon2D(outer, hole);
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		assertEquals(poly.area(), prepared.area(), 1e-12);
+		assertTrue(prepared.contains(new Point2D(10, 50)));
+		assertFalse(prepared.contains(new Point2D(50, 50)));
+		assertFalse(prepared.contains(new Point2D(150, 50)));
+		assertEquals(20, prepared.distance(new Point2D(50, 40)), 1e-12);
+		assertEquals(0, prepared.distance(new Point2D(10, 40)), 1e-12);
+		assertEquals(30, prepared.distance(new Point2D(50, 130)), 1e-12);
+	}
+
+	public void testContains_TallEdges() {
+		// a saw-tooth polygon whose edges cover the whole height
+		SimplePolygon2D poly = new SimplePolygon2D();
+		poly.addVertex(new Point2D(0, -10));
+		poly.addVertex(new Point2D(100, -10));
+		for (int i = 0; i < 50; i++) {
+			poly.addVertex(new Point2D(100 - i * 2, 100));
+			poly.addVertex(new Point2D(99 - i * 2, 0));
+		}
+		PreparedPolygon2D prepared = new PreparedPolygon2D(poly);
+
+		for (int i = -10; i <= 110; i += 3) {
+			for (int j = -20; j <= 110; j += 3) {
+				Point2D point = new Point2D(i + .3, j + .25);
+				assertEquals(poly.contains(point), prepared.contains(point));
+				assertEquals(poly.distance(point), prepared.distance(point), 1e-10);
+			}
+		}
+	}
+}
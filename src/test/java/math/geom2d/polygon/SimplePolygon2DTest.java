@@ -445,4 +445,41 @@ public class SimplePolygon2DTest extends TestCase {
         SimplePolygon2D copy = new SimplePolygon2D(polygon);
         assertTrue(polygon.equals(copy));
     }
+
+	public void testArea_CacheInvalidation() {
+		SimplePolygon2D polygon = new SimplePolygon2D(new Point2D(0, 0),
+				new Point2D(10, 0), new Point2D(10, 10), new Point2D(0, 10));
+		assertEquals(100, polygon.area(), 1e-12);
+		assertEquals(new Point2D(5, 5), polygon.centroid());
+		assertEquals(new Box2D(0, 10, 0, 10), polygon.boundingBox());
+		
+		polygon.setVertex(2, new Point2D(20, 10));
+		assertEquals(150, polygon.area(), 1e-12);
+		assertEquals(new Box2D(0, 20, 0, 10), polygon.boundingBox());
+		
+		polygon.insertVertex(2, new Point2D(20, 0));
+		assertEquals(200, polygon.area(), 1e-12);
+		
+		polygon.removeVertex(2);
+		assertEquals(150, polygon.area(), 1e-12);
+		
+		polygon.addVertex(new Point2D(-10, 10));
+		assertEquals(200, polygon.area(), 1e-12);
+		assertTrue(polygon.removeVertex(new Point2D(-10, 10)));
+		assertTrue(polygon.removeVertex(new Point2D(0, 10)));
+		assertEquals(50, polygon.area(), 1e-12);
+		
+		// modifications of the vertex view also clear the computed values
+		polygon.vertices().add(new Point2D(0, 10));
+		assertEquals(150, polygon.area(), 1e-12);
+		assertFalse(polygon.contains(-1, 5));
+		
+		polygon.clearVertices();
+		assertTrue(polygon.isEmpty());
+		polygon.addVertex(new Point2D(0, 0));
+		polygon.addVertex(new Point2D(-5, 0));
+		polygon.addVertex(new Point2D(0, 5));
+		assertEquals(-12.5, polygon.area(), 1e-12);
+		assertEquals(new Box2D(-5, 0, 0, 5), polygon.boundingBox());
+	}
 }
@@ -0,0 +1,96 @@
+package math.geom2d.polygon;
+
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import junit.framework.TestCase;
+
+public class StreamingSimplifier2DTest extends TestCase {
+
+	public void testAdd_Line() {
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(.1);
+		for (int i = 0; i <= 10; i++)
+			simplifier.add(i, 0);
+		simplifier.add(10, 10);
+		simplifier.flush();
+
+		Polyline2D track = simplifier.sink();
+		assertEquals(3, track.vertexNumber());
+		assertEquals(new Point2D(0, 0), track.vertex(0));
+		assertEquals(new Point2D(10, 0), track.vertex(1));
+		assertEquals(new Point2D(10, 10), track.vertex(2));
+		assertEquals(0, simplifier.bufferedVertexNumber());
+	}
+
+	public void testAdd_RandomWalk() {
+		Random random = new Random(1);
+		int n = 20000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		double x = 0, y = 0, theta = 0;
+		for (int i = 0; i < n; i++) {
+			xs[i] = x;
+			ys[i] = y;
+			theta += random.nextGaussian() * .2;
+			x += Math.cos(theta);
+			y += Math.sin(theta);
+		}
+
+		double distMax = 2;
+		int window = 64;
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(distMax,
+				window, new Polyline2D());
+		for (int i = 0; i < n; i++) {
+			simplifier.add(new Point2D(xs[i], ys[i]));
+			assertTrue(simplifier.bufferedVertexNumber() <= window);
+		}
+		simplifier.flush();
+
+		Polyline2D track = simplifier.sink();
+		assertTrue(track.vertexNumber() < n / 5);
+		assertEquals(new Point2D(xs[0], ys[0]), track.firstPoint());
+		assertEquals(new Point2D(xs[n - 1], ys[n - 1]), track.lastPoint());
+		for (int i = 0; i < n; i++)
+			assertTrue(track.distance(xs[i], ys[i]) <= distMax + 1e-10);
+
+		// adding by chunks gives the same result
+		StreamingSimplifier2D simplifier2 = new StreamingSimplifier2D(distMax,
+				window, new Polyline2D());
+		for (int i = 0; i < n; i += 1000) {
+			double[] cx = new double[1000];
+			double[] cy = new double[1000];
+			System.arraycopy(xs, i, cx, 0, 1000);
+			System.arraycopy(ys, i, cy, 0, 1000);
+			simplifier2.addAll(cx, cy, 1000);
+		}
+		simplifier2.flush();
+		assertEquals(track.vertexNumber(), simplifier2.sink().vertexNumber());
+	}
+
+	public void testAdd_WindowSize() {
+		// collinear vertices are emitted when the window is full
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(1, 10,
+				new Polyline2D());
+		for (int i = 0; i <= 100; i++)
+			simplifier.add(i, 0);
+		simplifier.flush();
+		assertEquals(11, simplifier.sink().vertexNumber());
+	}
+
+	public void testSink_Clear() {
+		StreamingSimplifier2D simplifier = new StreamingSimplifier2D(.1);
+		simplifier.add(0, 0);
+		simplifier.add(10, 0);
+		simplifier.add(10, 10);
+		assertEquals(2, simplifier.sink().vertexNumber());
+
+		// the sink can be emptied, the track continues
+		simplifier.sink().clearVertices();
+		simplifier.add(0, 10);
+		simplifier.flush();
+		Polyline2D track = simplifier.sink();
+		assertEquals(2, track.vertexNumber());
+		assertEquals(new Point2D(10, 10), track.vertex(0));
+		assertEquals(new Point2D(0, 10), track.vertex(1));
+	}
+}
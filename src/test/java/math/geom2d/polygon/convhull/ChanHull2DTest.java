@@ -0,0 +1,132 @@
+package math.geom2d.polygon.convhull;
+
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.point.PointArray2D;
+import math.geom2d.polygon.Polygon2D;
+import junit.framework.TestCase;
+
+public class ChanHull2DTest extends TestCase {
+
+	public void testConvexHull_Lozenge() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(1, 0),
+				new Point2D(2, 1),
+				new Point2D(1, 2),
+				new Point2D(0, 1)});
+
+		Polygon2D hull = new ChanHull2D().convexHull(pointSet.points());
+
+		assertTrue(hull!=null);
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(2, hull.area(), 1e-12);
+	}
+
+	public void testConvexHull_Square() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(0, 0),
+				new Point2D(1, 0),
+				new Point2D(.2, .2),
+				new Point2D(.7, .7),
+				new Point2D(.2, .7),
+				new Point2D(.7, .2),
+				new Point2D(.5, .5),
+				new Point2D(1, 1),
+				new Point2D(0, 1)});
+
+		Polygon2D hull = new ChanHull2D().convexHull(pointSet.points());
+
+		assertTrue(hull!=null);
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(new Point2D(0, 0), hull.vertex(0));
+		assertEquals(new Point2D(1, 0), hull.vertex(1));
+		assertEquals(new Point2D(1, 1), hull.vertex(2));
+		assertEquals(new Point2D(0, 1), hull.vertex(3));
+	}
+
+	public void testConvexHull_CollinearAndMultiple() {
+		// a 5x5 grid of points, each point being present twice
+		double[] xs = new double[50];
+		double[] ys = new double[50];
+		for (int i = 0; i < 25; i++) {
+			xs[i] = xs[i + 25] = i % 5;
+			ys[i] = ys[i + 25] = i / 5;
+		}
+
+		int[] hull = new int[50];
+		int nh = new ChanHull2D().convexHull(xs, ys, 50, hull);
+		assertEquals(4, nh);
+		assertEquals(0, xs[hull[0]], 0);
+		assertEquals(0, ys[hull[0]], 0);
+		assertEquals(4, xs[hull[1]], 0);
+		assertEquals(0, ys[hull[1]], 0);
+		assertEquals(4, xs[hull[2]], 0);
+		assertEquals(4, ys[hull[2]], 0);
+		assertEquals(0, xs[hull[3]], 0);
+		assertEquals(4, ys[hull[3]], 0);
+	}
+
+	public void testConvexHull_Degenerate() {
+		ChanHull2D algo = new ChanHull2D();
+		int[] hull = new int[4];
+
+		// points on a line
+		double[] xs = new double[] {2, 0, 3, 1};
+		double[] ys = new double[] {4, 0, 6, 2};
+		assertEquals(2, algo.convexHull(xs, ys, 4, hull));
+		assertEquals(1, hull[0]);
+		assertEquals(2, hull[1]);
+
+		// multiple points
+		xs = new double[] {1, 1, 1, 1};
+		ys = new double[] {2, 2, 2, 2};
+		assertEquals(1, algo.convexHull(xs, ys, 4, hull));
+
+		// no point
+		assertEquals(0, algo.convexHull(xs, ys, 0, hull));
+	}
+
+	public void testConvexHull_Random() {
+		Random random = new Random(1);
+		int n = 10000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextGaussian();
+			ys[i] = random.nextGaussian();
+		}
+
+		Polygon2D hull = new ChanHull2D().convexHull(xs, ys);
+		Polygon2D hull2 = new MonotoneChain2D().convexHull(xs, ys);
+		assertEquals(hull2.vertexNumber(), hull.vertexNumber());
+		assertEquals(hull2.vertices(), hull.vertices());
+	}
+
+	public void testConvexHull_RandomCircleGrid() {
+		// many collinear and multiple points, and hulls with more vertices
+		// than the size of the first groups
+		Random random = new Random(1);
+		ChanHull2D chan = new ChanHull2D();
+		MonotoneChain2D chain = new MonotoneChain2D();
+		for (int k = 0; k < 100; k++) {
+			int n = 10 + random.nextInt(1000);
+			double[] xs = new double[n];
+			double[] ys = new double[n];
+			for (int i = 0; i < n; i++) {
+				double t = random.nextInt(64) * Math.PI / 32;
+				xs[i] = Math.round(20 * Math.cos(t)) + random.nextInt(2);
+				ys[i] = Math.round(20 * Math.sin(t));
+			}
+
+			int[] hull = new int[n];
+			int[] hull2 = new int[n];
+			int nh = chan.convexHull(xs, ys, n, hull);
+			assertEquals(chain.convexHull(xs, ys, n, hull2), nh);
+			for (int i = 0; i < nh; i++) {
+				assertEquals(xs[hull2[i]], xs[hull[i]], 0);
+				assertEquals(ys[hull2[i]], ys[hull[i]], 0);
+			}
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package math.geom2d.polygon.convhull;
+
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.polygon.Polygon2D;
+import math.geom2d.polygon.SimplePolygon2D;
+import junit.framework.TestCase;
+
+public class IncrementalConvexHull2DTest extends TestCase {
+
+	public void testAdd_Square() {
+		IncrementalConvexHull2D hull = new IncrementalConvexHull2D();
+		assertTrue(hull.isEmpty());
+		assertTrue(hull.add(new Point2D(.5, .5)));
+		assertTrue(hull.add(new Point2D(0, 0)));
+		assertTrue(hull.add(new Point2D(1, 0)));
+		assertTrue(hull.add(new Point2D(1, 1)));
+		assertTrue(hull.add(new Point2D(0, 1)));
+		assertFalse(hull.add(new Point2D(.2, .7)));
+		assertFalse(hull.add(new Point2D(.5, 0)));
+		assertFalse(hull.add(new Point2D(1, 1)));
+
+		SimplePolygon2D polygon = hull.convexHull();
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(4, polygon.vertexNumber());
+		assertEquals(new Point2D(0, 0), polygon.vertex(0));
+		assertEquals(new Point2D(1, 0), polygon.vertex(1));
+		assertEquals(new Point2D(1, 1), polygon.vertex(2));
+		assertEquals(new Point2D(0, 1), polygon.vertex(3));
+	}
+
+	public void testAdd_Degenerate() {
+		IncrementalConvexHull2D hull = new IncrementalConvexHull2D();
+		assertEquals(0, hull.vertexNumber());
+		assertEquals(0, hull.convexHull().vertexNumber());
+
+		// single point
+		hull.add(1, 2);
+		hull.add(1, 2);
+		assertEquals(1, hull.vertexNumber());
+		assertEquals(1, hull.convexHull().vertexNumber());
+
+		// points on a line
+		hull.add(3, 6);
+		hull.add(2, 4);
+		hull.add(0, 0);
+		assertEquals(2, hull.vertexNumber());
+		SimplePolygon2D polygon = hull.convexHull();
+		assertEquals(2, polygon.vertexNumber());
+		assertEquals(new Point2D(0, 0), polygon.vertex(0));
+		assertEquals(new Point2D(3, 6), polygon.vertex(1));
+
+		// vertical edge
+		hull.clear();
+		hull.add(0, 0);
+		hull.add(0, 1);
+		hull.add(2, 0);
+		assertEquals(3, hull.vertexNumber());
+		polygon = hull.convexHull();
+		assertEquals(new Point2D(0, 0), polygon.vertex(0));
+		assertEquals(new Point2D(2, 0), polygon.vertex(1));
+		assertEquals(new Point2D(0, 1), polygon.vertex(2));
+	}
+
+	public void testContains() {
+		IncrementalConvexHull2D hull = new IncrementalConvexHull2D();
+		assertFalse(hull.contains(0, 0));
+
+		hull.add(0, 0);
+		hull.add(4, 0);
+		hull.add(4, 2);
+		hull.add(0, 2);
+		assertTrue(hull.contains(2, 1));
+		assertTrue(hull.contains(0, 0));
+		assertTrue(hull.contains(4, 1));
+		assertTrue(hull.contains(2, 2));
+		assertFalse(hull.contains(-1, 1));
+		assertFalse(hull.contains(5, 1));
+		assertFalse(hull.contains(2, 3));
+		assertFalse(hull.contains(2, -1));
+	}
+
+	public void testAdd_Random() {
+		Random random = new Random(1);
+		int n = 2000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		int[] inds = new int[n];
+		MonotoneChain2D algo = new MonotoneChain2D();
+
+		IncrementalConvexHull2D hull = new IncrementalConvexHull2D();
+		for (int i = 0; i < n; i++) {
+			// use a coarse grid to obtain collinear and multiple points
+			xs[i] = Math.floor(random.nextGaussian() * 20);
+			ys[i] = Math.floor(random.nextGaussian() * 20);
+			hull.add(xs[i], ys[i]);
+
+			// compare with the hull computed from scratch
+			if (i % 50 == 0 || i == n - 1) {
+				int nh = algo.convexHull(xs, ys, i + 1, inds);
+				Polygon2D polygon = hull.convexHull();
+				assertEquals(nh, hull.vertexNumber());
+				assertEquals(nh, polygon.vertexNumber());
+				for (int k = 0; k < nh; k++) {
+					assertEquals(xs[inds[k]], polygon.vertex(k).x(), 0);
+					assertEquals(ys[inds[k]], polygon.vertex(k).y(), 0);
+				}
+			}
+		}
+
+		// all points are within the hull, and other points are not
+		for (int i = 0; i < n; i++)
+			assertTrue(hull.contains(xs[i], ys[i]));
+		Polygon2D polygon = hull.convexHull();
+		for (int i = 0; i < 1000; i++) {
+			double x = random.nextGaussian() * 40;
+			double y = random.nextGaussian() * 40;
+			assertEquals(polygon.contains(x, y), hull.contains(x, y));
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package math.geom2d.polygon.convhull;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.point.PointArray2D;
+import math.geom2d.polygon.Polygon2D;
+import junit.framework.TestCase;
+
+public class MonotoneChain2DTest extends TestCase {
+
+	public void testConvexHull_Lozenge() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(1, 0),
+				new Point2D(2, 1),
+				new Point2D(1, 2),
+				new Point2D(0, 1)});
+
+		Polygon2D hull = new MonotoneChain2D().convexHull(pointSet.points());
+
+		assertTrue(hull!=null);
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(2, hull.area(), 1e-12);
+	}
+
+	public void testConvexHull_Square() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(0, 0),
+				new Point2D(1, 0),
+				new Point2D(.2, .2),
+				new Point2D(.7, .7),
+				new Point2D(.2, .7),
+				new Point2D(.7, .2),
+				new Point2D(.5, .5),
+				new Point2D(1, 1),
+				new Point2D(0, 1)});
+
+		Polygon2D hull = new MonotoneChain2D().convexHull(pointSet.points());
+
+		assertTrue(hull!=null);
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(new Point2D(0, 0), hull.vertex(0));
+		assertEquals(new Point2D(1, 0), hull.vertex(1));
+		assertEquals(new Point2D(1, 1), hull.vertex(2));
+		assertEquals(new Point2D(0, 1), hull.vertex(3));
+	}
+
+	public void testConvexHull_CollinearAndMultiple() {
+		// a 5x5 grid of points, each point being present twice
+		double[] xs = new double[50];
+		double[] ys = new double[50];
+		for (int i = 0; i < 25; i++) {
+			xs[i] = xs[i + 25] = i % 5;
+			ys[i] = ys[i + 25] = i / 5;
+		}
+
+		int[] hull = new int[50];
+		int nh = new MonotoneChain2D().convexHull(xs, ys, 50, hull);
+		assertEquals(4, nh);
+		assertEquals(0, xs[hull[0]], 0);
+		assertEquals(0, ys[hull[0]], 0);
+		assertEquals(4, xs[hull[1]], 0);
+		assertEquals(0, ys[hull[1]], 0);
+		assertEquals(4, xs[hull[2]], 0);
+		assertEquals(4, ys[hull[2]], 0);
+		assertEquals(0, xs[hull[3]], 0);
+		assertEquals(4, ys[hull[3]], 0);
+	}
+
+	public void testConvexHull_Degenerate() {
+		MonotoneChain2D algo = new MonotoneChain2D();
+		int[] hull = new int[4];
+
+		// points on a line
+		double[] xs = new double[] {2, 0, 3, 1};
+		double[] ys = new double[] {4, 0, 6, 2};
+		assertEquals(2, algo.convexHull(xs, ys, 4, hull));
+		assertEquals(1, hull[0]);
+		assertEquals(2, hull[1]);
+
+		// multiple points
+		xs = new double[] {1, 1, 1, 1};
+		ys = new double[] {2, 2, 2, 2};
+		assertEquals(1, algo.convexHull(xs, ys, 4, hull));
+
+		// no point
+		assertEquals(0, algo.convexHull(xs, ys, 0, hull));
+	}
+
+	public void testConvexHull_Random() {
+		Random random = new Random(1);
+		int n = 10000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextGaussian();
+			ys[i] = random.nextGaussian();
+		}
+
+		Polygon2D hull = new MonotoneChain2D().convexHull(xs, ys);
+		assertTrue(hull.area() > 0);
+
+		// all points are inside the hull, and the hull is strictly convex
+		int nh = hull.vertexNumber();
+		for (int i = 0; i < nh; i++) {
+			Point2D p1 = hull.vertex(i);
+			Point2D p2 = hull.vertex((i + 1) % nh);
+			Point2D p3 = hull.vertex((i + 2) % nh);
+			assertEquals(1, Point2D.ccw(p1, p2, p3));
+			for (int j = 0; j < n; j++) {
+				double cross = (p2.x() - p1.x()) * (ys[j] - p1.y())
+						- (p2.y() - p1.y()) * (xs[j] - p1.x());
+				assertTrue(cross >= 0);
+			}
+		}
+
+		// compare with gift wrapping
+		ArrayList<Point2D> points = new ArrayList<Point2D>(n);
+		for (int i = 0; i < n; i++)
+			points.add(new Point2D(xs[i], ys[i]));
+		Polygon2D hull2 = new JarvisMarch2D().convexHull(points);
+		assertEquals(hull2.area(), hull.area(), 1e-12);
+	}
+}
@@ -0,0 +1,89 @@
+package math.geom2d.polygon.convhull;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import math.geom2d.Point2D;
+import math.geom2d.point.PointArray2D;
+import math.geom2d.polygon.Polygon2D;
+import junit.framework.TestCase;
+
+public class ParallelConvexHull2DTest extends TestCase {
+
+	public void testConvexHull_Square() {
+	    PointArray2D pointSet = new PointArray2D(new Point2D[]{
+				new Point2D(0, 0),
+				new Point2D(1, 0),
+				new Point2D(.2, .2),
+				new Point2D(.7, .7),
+				new Point2D(.2, .7),
+				new Point2D(.7, .2),
+				new Point2D(.5, .5),
+				new Point2D(1, 1),
+				new Point2D(0, 1)});
+
+		ParallelConvexHull2D algo =
+			new ParallelConvexHull2D(new ForkJoinPool(2), 2);
+		Polygon2D hull = algo.convexHull(pointSet);
+
+		assertTrue(hull!=null);
+		assertEquals(4, hull.vertexNumber());
+		assertEquals(new Point2D(0, 0), hull.vertex(0));
+		assertEquals(new Point2D(1, 0), hull.vertex(1));
+		assertEquals(new Point2D(1, 1), hull.vertex(2));
+		assertEquals(new Point2D(0, 1), hull.vertex(3));
+	}
+
+	public void testConvexHull_Degenerate() {
+		ParallelConvexHull2D algo =
+			new ParallelConvexHull2D(new ForkJoinPool(2), 2);
+		int[] hull = new int[6];
+
+		// points on a line
+		double[] xs = new double[] {2, 0, 3, 1, 5, 4};
+		double[] ys = new double[] {4, 0, 6, 2, 10, 8};
+		assertEquals(2, algo.convexHull(xs, ys, 6, hull));
+		assertEquals(1, hull[0]);
+		assertEquals(4, hull[1]);
+
+		// multiple points
+		xs = new double[] {1, 1, 1, 1, 1, 1};
+		ys = new double[] {2, 2, 2, 2, 2, 2};
+		assertEquals(1, algo.convexHull(xs, ys, 6, hull));
+
+		// no point
+		assertEquals(0, algo.convexHull(xs, ys, 0, hull));
+	}
+
+	public void testConvexHull_Random() {
+		Random random = new Random(1);
+		int n = 200000;
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextGaussian();
+			ys[i] = random.nextGaussian();
+		}
+		// add points on a circle, to obtain large partial hulls
+		for (int i = 0; i < n; i += 10) {
+			double theta = random.nextDouble() * Math.PI * 2;
+			xs[i] = 4 * Math.cos(theta);
+			ys[i] = 4 * Math.sin(theta);
+		}
+
+		int[] hull = new int[n];
+		int nh = new MonotoneChain2D().convexHull(xs, ys, n, hull);
+
+		ParallelConvexHull2D algo =
+			new ParallelConvexHull2D(new ForkJoinPool(4), 1000);
+		int[] hull2 = new int[n];
+		int nh2 = algo.convexHull(xs, ys, n, hull2);
+
+		// the same vertices are found, in the same order
+		assertEquals(nh, nh2);
+		for (int i = 0; i < nh; i++) {
+			assertEquals(xs[hull[i]], xs[hull2[i]], 0);
+			assertEquals(ys[hull[i]], ys[hull2[i]], 0);
+		}
+	}
+}
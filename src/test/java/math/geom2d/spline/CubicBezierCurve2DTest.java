@@ -26,8 +26,11 @@
 
 package math.geom2d.spline;
 
+import java.util.Random;
+
 import math.geom2d.Point2D;
 import math.geom2d.Vector2D;
+import math.geom2d.curve.FlatteningAsserts;
 import math.geom2d.polygon.Polyline2D;
 import junit.framework.TestCase;
 
@@ -165,4 +168,125 @@ public class CubicBezierCurve2DTest extends TestCase {
 		assertEquals(bezier1.distance(p4), 0, 1e-10);
 	}
 
+	/**
+	 * Compare distance and projection with a dense sampling of the curve.
+	 */
+	public void testDistance_Sampling(){
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				0, 0, 150, 100, -50, 100, 100, 0);
+		
+		int n = 20000;
+		java.util.Random random = new java.util.Random(1);
+		for (int i = 0; i < 100; i++) {
+			Point2D point = new Point2D(random.nextDouble() * 140 - 20, 
+					random.nextDouble() * 140 - 20);
+			
+			double minDist = Double.POSITIVE_INFINITY;
+			for (int k = 0; k <= n; k++)
+				minDist = Math.min(minDist, bezier.point((double) k / n)
+						.distance(point));
+			
+			double dist = bezier.distance(point);
+			assertTrue(dist <= minDist + 1e-12);
+			assertEquals(minDist, dist, 1e-3);
+			
+			double t = bezier.project(point);
+			assertEquals(dist, bezier.point(t).distance(point), 1e-12);
+		}
+	}
+	
+	public void testProject_OnCurve(){
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				0, 0, 150, 100, -50, 100, 100, 0);
+		
+		for (int i = 1; i < 20; i++) {
+			double t = i / 20.0;
+			Point2D point = bezier.point(t);
+			assertEquals(t, bezier.project(point), 1e-10);
+			assertEquals(t, bezier.position(point), 1e-10);
+			assertTrue(bezier.contains(point));
+		}
+		assertTrue(Double.isNaN(bezier.position(new Point2D(200, 200))));
+		assertFalse(bezier.contains(new Point2D(200, 200)));
+	}
+
+	public void testProject_RootInMiddle() {
+		// the derivative of the squared distance vanishes at t = 0.5, where
+		// the polynomial is subdivided
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				57.85459710556405, 67.56822409751926, 
+				97.1198266488636, 91.49201949987633, 
+				40.31414697576533, 15.985794746954184, 
+				38.3320174670545, 29.830090659508933);
+		Point2D point = bezier.point(.5);
+		assertEquals(.5, bezier.project(point), 1e-10);
+		assertEquals(0, bezier.distance(point), 1e-10);
+	}
+
+	public void testFlatten() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(100, 100), 
+				new Point2D(-50, 100), new Point2D(50, 0));
+		FlatteningAsserts.assertFlattening(bezier);
+	}
+
+	public void testFlatten_Inflection() {
+		// a symmetric S-shaped curve, whose inflection point is the middle
+		// of the chord
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(20, 30), 
+				new Point2D(10, -30), new Point2D(30, 0));
+		FlatteningAsserts.assertFlattening(bezier);
+
+		// the inflection point is a vertex of the polyline
+		Polyline2D poly = bezier.flatten(.01);
+		assertTrue(poly.vertices().contains(bezier.point(.5)));
+	}
+
+	public void testFlatten_RandomCurves() {
+		// the chord error is checked on each edge, by sampling the curve
+		Random random = new Random(1);
+		for (int i = 0; i < 600; i++) {
+			CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+					random.nextDouble() * 100, random.nextDouble() * 100,
+					random.nextDouble() * 100, random.nextDouble() * 100,
+					random.nextDouble() * 100, random.nextDouble() * 100,
+					random.nextDouble() * 100, random.nextDouble() * 100);
+			for (double eps : new double[]{1, .1}) {
+				Polyline2D poly = bezier.flatten(eps);
+				FlatteningAsserts.assertChordError(bezier, poly, eps);
+			}
+		}
+	}
+
+	public void testFlatten_Invalid() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(10, 10), 
+				new Point2D(20, 10), new Point2D(30, 0));
+		try {
+			bezier.flatten(0);
+			fail();
+		} catch (IllegalArgumentException ex) {
+		}
+	}
+
+	public void testPoint_Array() {
+		CubicBezierCurve2D bezier = new CubicBezierCurve2D(
+				new Point2D(0, 0), new Point2D(10, 30), 
+				new Point2D(30, -10), new Point2D(40, 20));
+		double[] out = new double[2];
+		for (double t = -.2; t <= 1.2; t += .1) {
+			bezier.point(t, out);
+			Point2D point = bezier.point(t);
+			assertEquals(point.x(), out[0], 1e-12);
+			assertEquals(point.y(), out[1], 1e-12);
+		}
+
+		double[] bounds = new double[4];
+		bezier.boundingBox(bounds);
+		assertEquals(0, bounds[0], 0);
+		assertEquals(40, bounds[1], 0);
+		assertEquals(-10, bounds[2], 0);
+		assertEquals(30, bounds[3], 0);
+	}
 }
@@ -26,8 +26,11 @@
 
 package math.geom2d.spline;
 
+import java.util.Random;
+
 import junit.framework.TestCase;
 import math.geom2d.Point2D;
+import math.geom2d.curve.FlatteningAsserts;
 import math.geom2d.polygon.Polyline2D;
 
 /**
@@ -115,4 +118,83 @@ public class QuadBezierCurve2DTest extends TestCase {
 		assertEquals(bezier1.distance(p3), 0, 1e-10);
 	}
 
+	/**
+	 * Compare distance and projection with a dense sampling of the curve.
+	 */
+	public void testDistance_Sampling(){
+		QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+				0, 0, 50, 150, 100, 0);
+		
+		int n = 20000;
+		java.util.Random random = new java.util.Random(1);
+		for (int i = 0; i < 100; i++) {
+			Point2D point = new Point2D(random.nextDouble() * 140 - 20, 
+					random.nextDouble() * 140 - 20);
+			
+			double minDist = Double.POSITIVE_INFINITY;
+			for (int k = 0; k <= n; k++)
+				minDist = Math.min(minDist, bezier.point((double) k / n)
+						.distance(point));
+			
+			double dist = bezier.distance(point);
+			assertTrue(dist <= minDist + 1e-12);
+			assertEquals(minDist, dist, 1e-3);
+			
+			double t = bezier.project(point);
+			assertEquals(dist, bezier.point(t).distance(point), 1e-12);
+		}
+	}
+	
+	public void testProject_OnCurve(){
+		QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+				0, 0, 50, 150, 100, 0);
+		
+		for (int i = 1; i < 20; i++) {
+			double t = i / 20.0;
+			Point2D point = bezier.point(t);
+			assertEquals(t, bezier.project(point), 1e-10);
+			assertEquals(t, bezier.position(point), 1e-10);
+			assertTrue(bezier.contains(point));
+		}
+		assertTrue(Double.isNaN(bezier.position(new Point2D(200, 200))));
+		assertFalse(bezier.contains(new Point2D(200, 200)));
+	}
+
+	public void testFlatten() {
+		QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+				new Point2D(0, 0), new Point2D(100, 200), new Point2D(50, -20));
+		FlatteningAsserts.assertFlattening(bezier);
+	}
+
+	public void testFlatten_RandomCurves() {
+		// the chord error is checked on each edge, by sampling the curve
+		Random random = new Random(1);
+		for (int i = 0; i < 600; i++) {
+			QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+					random.nextDouble() * 100, random.nextDouble() * 100,
+					random.nextDouble() * 100, random.nextDouble() * 100,
+					random.nextDouble() * 100, random.nextDouble() * 100);
+			for (double eps : new double[]{1, .1}) {
+				Polyline2D poly = bezier.flatten(eps);
+				FlatteningAsserts.assertChordError(bezier, poly, eps);
+			}
+		}
+	}
+
+	public void testFlatten_Collinear() {
+		// collinear control points, with a straight curve
+		QuadBezierCurve2D bezier = new QuadBezierCurve2D(
+				new Point2D(0, 0), new Point2D(10, 0), new Point2D(20, 0));
+		Polyline2D poly = bezier.flatten(.01);
+		FlatteningAsserts.assertFlattening(bezier, poly, .01);
+		for (Point2D vertex : poly.vertices())
+			assertEquals(0, vertex.y(), 0);
+
+		// the curve goes back along the line, up to x = 18
+		bezier = new QuadBezierCurve2D(
+				new Point2D(0, 0), new Point2D(30, 0), new Point2D(10, 0));
+		poly = bezier.flatten(.01);
+		FlatteningAsserts.assertFlattening(bezier, poly, .01);
+		assertEquals(18, poly.boundingBox().getMaxX(), .01);
+	}
 }
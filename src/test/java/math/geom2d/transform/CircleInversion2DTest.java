@@ -56,4 +56,31 @@ public class CircleInversion2DTest extends TestCase {
 		Point2D r1 = new Point2D(xc+16, yc);
 		assertEquals(r1, inv.transform(p1));
 	}
+
+	public void testTransform_Array() {
+		double xc = 10;
+		double yc = 20;
+		double r = 12;
+		CircleInversion2D inv = new CircleInversion2D(xc, yc, r);
+		
+		Point2D[] pts = new Point2D[]{
+				new Point2D(xc + 9, yc),
+				new Point2D(xc, yc - 16),
+				new Point2D(xc + 3, yc + 4) };
+		Point2D[] res = inv.transform(pts, null);
+		double[] xy = new double[6];
+		for (int i = 0; i < 3; i++) {
+			xy[2 * i] = pts[i].x();
+			xy[2 * i + 1] = pts[i].y();
+		}
+		inv.transform(xy, 0, xy, 0, 3);
+		
+		for (int i = 0; i < 3; i++) {
+			Point2D p = inv.transform(pts[i]);
+			assertEquals(p.x(), res[i].x(), 1e-12);
+			assertEquals(p.y(), res[i].y(), 1e-12);
+			assertEquals(p.x(), xy[2 * i], 1e-12);
+			assertEquals(p.y(), xy[2 * i + 1], 1e-12);
+		}
+	}
 }
@@ -100,4 +100,30 @@ public class AffineTransform3DTest extends TestCase {
 		assertTrue(res[0].equals(new Point3D(13, 14, 15)));
 		assertTrue(res[1].equals(new Point3D(13, 24, 35)));	
 	}
+
+	public void testTransformPoints_CoordinateArray() {
+		AffineTransform3D trans = AffineTransform3D.createRotationOz(.3)
+				.concatenate(AffineTransform3D.createTranslation(3, 4, 5));
+		double[] xyz = new double[]{10, 10, 10, 10, 20, 30, -1, 2, 7};
+		double[] out = new double[9];
+		trans.transformPoints(xyz, 0, out, 0, 3);
+		for (int i = 0; i < 3; i++) {
+			Point3D p = trans.transformPoint(new Point3D(xyz[3 * i],
+					xyz[3 * i + 1], xyz[3 * i + 2]));
+			assertEquals(p.getX(), out[3 * i], 1e-12);
+			assertEquals(p.getY(), out[3 * i + 1], 1e-12);
+			assertEquals(p.getZ(), out[3 * i + 2], 1e-12);
+		}
+
+		// separate coordinate arrays
+		double[] xs = {10, 10, -1};
+		double[] ys = {10, 20, 2};
+		double[] zs = {10, 30, 7};
+		trans.transformPoints(xs, ys, zs, xs, ys, zs, 3);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(out[3 * i], xs[i], 1e-12);
+			assertEquals(out[3 * i + 1], ys[i], 1e-12);
+			assertEquals(out[3 * i + 2], zs[i], 1e-12);
+		}
+	}
 }
@@ -0,0 +1,31 @@
+/**
+ * File: 	TuneThreads.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d;
+
+import java.util.ArrayList;
+
+/**
+ * Utility for the tuning of parallel algorithms.
+ * @author dlegland
+ *
+ */
+public class TuneThreads {
+
+	/**
+	 * Returns the numbers of threads to test: the powers of two smaller than
+	 * the number of cores, followed by the number of cores.
+	 */
+	public final static ArrayList<Integer> threadCounts(int nCores) {
+		ArrayList<Integer> counts = new ArrayList<Integer>();
+		for (int n = 1; n < nCores; n *= 2)
+			counts.add(n);
+		counts.add(nCores);
+		return counts;
+	}
+}
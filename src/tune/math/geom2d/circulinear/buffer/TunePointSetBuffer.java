@@ -0,0 +1,47 @@
+/**
+ * File: 	TunePointSetBuffer.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.circulinear.buffer;
+
+import java.util.Random;
+
+import math.geom2d.Point2D;
+import math.geom2d.circulinear.CirculinearDomain2D;
+import math.geom2d.point.PointArray2D;
+
+/**
+ * Check computation time of the buffer of sets of random points with
+ * increasing size. The buffer distance is chosen such that each disk
+ * overlaps a few neighbor disks.
+ * @author dlegland
+ *
+ */
+public class TunePointSetBuffer {
+
+	public final static void main(String[] args) {
+		System.out.println("Tune buffer of point sets");
+
+		BufferCalculator bc = BufferCalculator.getDefaultInstance();
+		Random random = new Random(1);
+		for (int n = 1000; n <= 100000; n *= 10) {
+			PointArray2D set = new PointArray2D(n);
+			for (int i = 0; i < n; i++)
+				set.add(new Point2D(random.nextDouble() * 1000,
+						random.nextDouble() * 1000));
+			double dist = 1000 / Math.sqrt(n);
+
+			long t0 = System.currentTimeMillis();
+			CirculinearDomain2D buffer = bc.computeBuffer(set, dist);
+			long t1 = System.currentTimeMillis();
+
+			System.out.println(String.format(
+					"Points: %6d  Contours: %5d  Time: %6dms",
+					n, buffer.contours().size(), t1 - t0));
+		}
+	}
+}
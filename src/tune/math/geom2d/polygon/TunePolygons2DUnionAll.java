@@ -0,0 +1,80 @@
+/**
+ * File: 	TunePolygons2DUnionAll.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import math.geom2d.Point2D;
+import math.geom2d.TuneThreads;
+
+/**
+ * Check computation time of the union of a grid of 40000 overlapping random
+ * hexagons, using an increasing number of threads, and reports the speedup
+ * with respect to a single thread.
+ * @author dlegland
+ *
+ */
+public class TunePolygons2DUnionAll {
+
+	private final static int gridSize = 200;
+
+	private final static int nIter = 5;
+
+	public final static void main(String[] args) {
+		System.out.println("Tune union of polygon collections");
+
+		// Generate polygons
+		Random random = new Random(1);
+		ArrayList<Polygon2D> polygons = new ArrayList<Polygon2D>();
+		for (int i = 0; i < gridSize; i++) {
+			for (int j = 0; j < gridSize; j++) {
+				double xc = i * 10 + random.nextDouble();
+				double yc = j * 10 + random.nextDouble();
+				Point2D[] vertices = new Point2D[6];
+				for (int k = 0; k < 6; k++) {
+					double t = k * Math.PI / 3 + random.nextDouble() * .3;
+					double r = 6 + random.nextDouble() * 2;
+					vertices[k] = new Point2D(xc + r * Math.cos(t),
+							yc + r * Math.sin(t));
+				}
+				polygons.add(SimplePolygon2D.create(vertices));
+			}
+		}
+		System.out.println("Number of polygons: " + polygons.size());
+
+		// warm up
+		Polygons2D.unionAll(polygons);
+
+		int nCores = Runtime.getRuntime().availableProcessors();
+		System.out.println("Available processors: " + nCores);
+
+		double refTime = 0;
+		for (int nThreads : TuneThreads.threadCounts(nCores)) {
+			ForkJoinPool pool = new ForkJoinPool(nThreads);
+
+			double total = 0;
+			for (int i = 0; i < nIter; i++) {
+				long t0 = System.currentTimeMillis();
+				Polygons2D.unionAll(polygons, pool);
+				long t1 = System.currentTimeMillis();
+				total += t1 - t0;
+			}
+			pool.shutdown();
+
+			double time = total / nIter;
+			if (nThreads == 1)
+				refTime = time;
+			System.out.println(String.format(
+					"Threads: %2d  Average time: %8.1fms  Speedup: %5.2f",
+					nThreads, time, refTime / time));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/**
+ * File: 	TuneParallelConvexHull2D.java
+ * Project: javaGeom
+ *
+ * Distributed under the LGPL License.
+ *
+ * Created: 17 oct. 2026
+ */
+package math.geom2d.polygon.convhull;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import math.geom2d.TuneThreads;
+
+/**
+ * Check computation time of the convex hull of a large number of random
+ * points, using an increasing number of threads, and reports the speedup
+ * with respect to a single thread. The number of points can be given as
+ * argument, for example 100000000 (requires about 2Gb of memory).
+ * @author dlegland
+ *
+ */
+public class TuneParallelConvexHull2D {
+
+	private final static int nIter = 5;
+
+	public final static void main(String[] args) {
+		System.out.println("Tune parallel convex hull");
+
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+
+		// Generate points
+		Random random = new Random(1);
+		double[] xs = new double[n];
+		double[] ys = new double[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = random.nextGaussian();
+			ys[i] = random.nextGaussian();
+		}
+		System.out.println("Number of points: " + n);
+
+		// reference sequential computation
+		int[] hull = new int[n];
+		long t0 = System.currentTimeMillis();
+		int nh = new MonotoneChain2D().convexHull(xs, ys, n, hull);
+		long t1 = System.currentTimeMillis();
+		System.out.println(String.format(
+				"Monotone chain: %d vertices, %dms", nh, t1 - t0));
+
+		int nCores = Runtime.getRuntime().availableProcessors();
+		System.out.println("Available processors: " + nCores);
+
+		double refTime = 0;
+		for (int nThreads : TuneThreads.threadCounts(nCores)) {
+			ForkJoinPool pool = new ForkJoinPool(nThreads);
+			ParallelConvexHull2D algo = new ParallelConvexHull2D(pool);
+
+			// warm up
+			algo.convexHull(xs, ys, n, hull);
+
+			double total = 0;
+			for (int i = 0; i < nIter; i++) {
+				t0 = System.currentTimeMillis();
+				algo.convexHull(xs, ys, n, hull);
+				t1 = System.currentTimeMillis();
+				total += t1 - t0;
+			}
+			pool.shutdown();
+
+			double time = total / nIter;
+			if (nThreads == 1)
+				refTime = time;
+			System.out.println(String.format(
+					"Threads: %2d  Average time: %8.1fms  Speedup: %5.2f",
+					nThreads, time, refTime / time));
+		}
+	}
+}